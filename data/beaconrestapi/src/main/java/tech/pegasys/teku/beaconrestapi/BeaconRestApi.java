@@ -118,7 +118,8 @@ public class BeaconRestApi {
     addExceptionHandlers();
     // standard api endpoint inclusion
     addV1BeaconHandlers(dataProvider);
-    addEventHandler(dataProvider, eventChannels, asyncRunner);
+    addEventHandler(
+        dataProvider, eventChannels, asyncRunner, configuration.getRestApiMaxPendingEvents());
     addV1NodeHandlers(dataProvider);
     addV1ValidatorHandlers(dataProvider);
     addV1ConfigHandlers(dataProvider, configuration.getEth1DepositContractAddress());
@@ -338,8 +339,11 @@ public class BeaconRestApi {
   private void addEventHandler(
       final DataProvider dataProvider,
       final EventChannels eventChannels,
-      final AsyncRunner asyncRunner) {
-    app.get(GetEvents.ROUTE, new GetEvents(dataProvider, jsonProvider, eventChannels, asyncRunner));
+      final AsyncRunner asyncRunner,
+      final int maxPendingEvents) {
+    app.get(
+        GetEvents.ROUTE,
+        new GetEvents(dataProvider, jsonProvider, eventChannels, asyncRunner, maxPendingEvents));
   }
 
   public void stop() {
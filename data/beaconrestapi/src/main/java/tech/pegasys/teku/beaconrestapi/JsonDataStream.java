@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * An {@link InputStream} of a {@code {"data": [...]}} JSON response which serializes the items of
+ * the data array as the stream is read.
+ *
+ * <p>Only around {@link #CHUNK_SIZE} bytes of JSON are held at a time, so large responses can be
+ * written to the client without rendering the whole response or even creating every item first.
+ */
+public class JsonDataStream extends InputStream {
+  static final int CHUNK_SIZE = 8192;
+
+  private final ObjectMapper objectMapper;
+  private final Stream<?> items;
+  private final Iterator<?> iterator;
+  private final ChunkBuffer buffer = new ChunkBuffer();
+  private final JsonGenerator generator;
+  private boolean complete = false;
+
+  public JsonDataStream(final ObjectMapper objectMapper, final Stream<?> items)
+      throws IOException {
+    this.objectMapper = objectMapper;
+    this.items = items;
+    this.iterator = items.iterator();
+    this.generator = objectMapper.getFactory().createGenerator(buffer);
+    generator.writeStartObject();
+    generator.writeFieldName("data");
+    generator.writeStartArray();
+    generator.flush();
+  }
+
+  @Override
+  public int read() throws IOException {
+    return fill() ? buffer.read() : -1;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    return fill() ? buffer.read(b, off, len) : -1;
+  }
+
+  @Override
+  public int available() {
+    return buffer.available();
+  }
+
+  @Override
+  public void close() throws IOException {
+    complete = true;
+    items.close();
+    generator.close();
+  }
+
+  /** Serializes further items until there is output to read, returning false if there is none */
+  private boolean fill() throws IOException {
+    while (buffer.available() == 0) {
+      if (complete) {
+        return false;
+      }
+      buffer.reset();
+      while (buffer.size() < CHUNK_SIZE && iterator.hasNext()) {
+        objectMapper.writeValue(generator, iterator.next());
+        generator.flush();
+      }
+      if (!iterator.hasNext()) {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+        complete = true;
+      }
+    }
+    return true;
+  }
+
+  private static class ChunkBuffer extends ByteArrayOutputStream {
+    private int readPosition = 0;
+
+    private ChunkBuffer() {
+      super(CHUNK_SIZE * 2);
+    }
+
+    private synchronized int available() {
+      return count - readPosition;
+    }
+
+    private synchronized int read() {
+      return buf[readPosition++] & 0xFF;
+    }
+
+    private synchronized int read(final byte[] b, final int off, final int len) {
+      final int length = Math.min(len, available());
+      System.arraycopy(buf, readPosition, b, off, length);
+      readPosition += length;
+      return length;
+    }
+
+    @Override
+    public synchronized void reset() {
+      super.reset();
+      readPosition = 0;
+    }
+  }
+}
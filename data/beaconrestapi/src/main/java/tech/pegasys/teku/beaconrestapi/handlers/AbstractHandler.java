@@ -16,6 +16,8 @@ package tech.pegasys.teku.beaconrestapi.handlers;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import java.util.Optional;
+import java.util.stream.Stream;
+import tech.pegasys.teku.beaconrestapi.JsonDataStream;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
@@ -93,6 +95,25 @@ public abstract class AbstractHandler implements Handler {
             }));
   }
 
+  /**
+   * Responds with the items of the stream as the data array of the response. Items are serialized
+   * while the response is written, so they should be cheap to create and must not fail.
+   */
+  protected <T> void handleOptionalStreamResult(
+      final Context ctx, SafeFuture<Optional<Stream<T>>> future, final int missingStatus) {
+    ctx.result(
+        future.thenApplyChecked(
+            result -> {
+              if (result.isPresent()) {
+                return new JsonDataStream(jsonProvider.getObjectMapper(), result.get());
+              } else {
+                ctx.status(missingStatus);
+                ctx.result(BadRequest.serialize(jsonProvider, missingStatus, "Not found"));
+                return null;
+              }
+            }));
+  }
+
   @FunctionalInterface
   public interface ResultProcessor<T> {
     // Process result, returning an optional serialized response
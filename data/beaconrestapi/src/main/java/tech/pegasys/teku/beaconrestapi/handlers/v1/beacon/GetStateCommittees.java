@@ -28,7 +28,6 @@ import static tech.pegasys.teku.beaconrestapi.RestApiConstants.SLOT_QUERY_DESCRI
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_V1_BEACON;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -39,6 +38,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -96,15 +96,10 @@ public class GetStateCommittees extends AbstractHandler implements Handler {
     final Optional<UInt64> slot =
         SingleQueryParameterUtils.getParameterValueAsUInt64IfPresent(queryParameters, SLOT);
 
-    SafeFuture<Optional<List<EpochCommitteeResponse>>> future =
+    SafeFuture<Optional<Stream<EpochCommitteeResponse>>> future =
         chainDataProvider.getStateCommittees(
             pathParams.get(PARAM_STATE_ID), epoch, committeeIndex, slot);
 
-    handleOptionalResult(ctx, future, this::handleResult, SC_NOT_FOUND);
-  }
-
-  private Optional<String> handleResult(Context ctx, final List<EpochCommitteeResponse> response)
-      throws JsonProcessingException {
-    return Optional.of(jsonProvider.objectToJSON(new GetStateCommitteesResponse(response)));
+    handleOptionalStreamResult(ctx, future, SC_NOT_FOUND);
   }
 }
@@ -27,7 +27,6 @@ import static tech.pegasys.teku.beaconrestapi.RestApiConstants.STATUS;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_V1_BEACON;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
 import io.javalin.plugin.openapi.annotations.OpenApi;
@@ -39,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -114,15 +114,10 @@ public class GetStateValidators extends AbstractHandler {
 
     final Set<ValidatorStatus> statusFilter = stateValidatorsUtil.parseStatusFilter(queryParamMap);
 
-    SafeFuture<Optional<List<ValidatorResponse>>> future =
+    SafeFuture<Optional<Stream<ValidatorResponse>>> future =
         chainDataProvider.getStateValidators(
             pathParamMap.getOrDefault(PARAM_STATE_ID, "head"), validators, statusFilter);
 
-    handleOptionalResult(ctx, future, this::handleResult, SC_NOT_FOUND);
-  }
-
-  private Optional<String> handleResult(Context ctx, final List<ValidatorResponse> response)
-      throws JsonProcessingException {
-    return Optional.of(jsonProvider.objectToJSON(new GetStateValidatorsResponse(response)));
+    handleOptionalStreamResult(ctx, future, SC_NOT_FOUND);
   }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Optional;
+
+/**
+ * A ring buffer of the most recent serialized events, shared by all event subscribers.
+ *
+ * <p>Each event is given a sequence number as it is appended and subscribers read through the
+ * buffer with their own cursor, so an event is held once no matter how many clients it is sent to.
+ * Once the buffer is full the oldest event is overwritten.
+ */
+public class EventBuffer {
+  private final QueuedEvent[] events;
+  private long nextSequence = 0;
+
+  public EventBuffer(final int capacity) {
+    checkArgument(capacity > 0, "Event buffer capacity must be positive");
+    this.events = new QueuedEvent[capacity];
+  }
+
+  /** Appends the event, returning its sequence number */
+  public synchronized long append(final QueuedEvent event) {
+    events[index(nextSequence)] = event;
+    return nextSequence++;
+  }
+
+  /** Returns the sequence number the next appended event will be given */
+  public synchronized long getNextSequence() {
+    return nextSequence;
+  }
+
+  /** Returns the event with the given sequence number, or empty if it has been overwritten */
+  public synchronized Optional<QueuedEvent> get(final long sequence) {
+    checkArgument(sequence < nextSequence, "Event %s has not been appended yet", sequence);
+    if (nextSequence - sequence > events.length) {
+      return Optional.empty();
+    }
+    return Optional.of(events[index(sequence)]);
+  }
+
+  private int index(final long sequence) {
+    return (int) (sequence % events.length);
+  }
+}
@@ -15,49 +15,71 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
 import io.javalin.http.sse.SseClient;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 
+/**
+ * Sends the events a client subscribed to, reading them from the shared {@link EventBuffer}.
+ *
+ * <p>The subscriber keeps a cursor into the buffer rather than its own queue of events. If more
+ * than the maximum number of subscribed events are waiting to be sent, or an event is overwritten
+ * before it is sent, the client is disconnected.
+ */
 public class EventSubscriber {
   private static final Logger LOG = LogManager.getLogger();
-  static final int MAX_PENDING_EVENTS = 10;
   private final List<EventType> eventTypes;
   private final SseClient sseClient;
-  private final Queue<QueuedEvent> queuedEvents;
+  private final EventBuffer eventBuffer;
   private final Runnable closeCallback;
-  private final AtomicBoolean processingQueue;
+  private final int maxPendingEvents;
   final AsyncRunner asyncRunner;
+  // Sequence number of the next event to check and the end of the events notified so far
+  private long cursor;
+  private long limit;
+  private int pendingEvents = 0;
+  private boolean processingQueue = false;
+  private boolean closed = false;
 
   public EventSubscriber(
       final List<String> eventTypes,
       final SseClient sseClient,
+      final EventBuffer eventBuffer,
       final Runnable closeCallback,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final int maxPendingEvents) {
     this.eventTypes = EventType.getTopics(eventTypes);
     this.sseClient = sseClient;
+    this.eventBuffer = eventBuffer;
     this.closeCallback = closeCallback;
-    this.queuedEvents = new ConcurrentLinkedQueue<>();
-    this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
+    this.maxPendingEvents = maxPendingEvents;
+    this.cursor = eventBuffer.getNextSequence();
+    this.limit = cursor;
     this.sseClient.onClose(closeCallback);
   }
 
-  public void onEvent(final EventType eventType, final String message) {
+  /**
+   * Notifies the subscriber that an event has been appended to the buffer. Events must be notified
+   * in the order of their sequence numbers.
+   */
+  public synchronized void onEvent(final long sequence, final EventType eventType) {
+    limit = sequence + 1;
     if (!eventTypes.contains(eventType)) {
+      if (cursor == sequence) {
+        // Nothing is waiting to be sent, so skip the event without processing the queue
+        cursor = limit;
+      }
       return;
     }
-    if (queuedEvents.size() < MAX_PENDING_EVENTS) {
-      queuedEvents.add(QueuedEvent.of(eventType, message));
+    if (pendingEvents < maxPendingEvents) {
+      pendingEvents++;
       processEventQueue();
     } else {
       LOG.trace("Closing client connection due to exceeding the pending message limit");
-      sseClient.ctx.req.getAsyncContext().complete();
-      closeCallback.run();
+      close();
     }
   }
 
@@ -66,33 +88,58 @@ public class EventSubscriber {
   }
 
   private void processEventQueue() {
-    if (!processingQueue.compareAndSet(false, true)) {
-      // any queue processing in progress will clear the queue, no need to run another instance
+    if (processingQueue) {
+      // any queue processing in progress will send all pending events, no need to run another
       return;
     }
+    processingQueue = true;
     asyncRunner
-        .runAsync(
-            () -> {
-              LOG.trace(
-                  "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
-                  sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
-              while (event != null) {
-                sseClient.sendEvent(event.getEventType().name(), event.getMessageData());
-                event = queuedEvents.poll();
-              }
-            })
-        .alwaysRun(
-            () -> {
-              processingQueue.set(false);
-              if (queuedEvents.size() > 0) {
-                processEventQueue();
-              }
-            })
+        .runAsync(this::sendPendingEvents)
         .finish(
-            error ->
-                LOG.error(
-                    "Failed to process event queue for client " + sseClient.hashCode(), error));
+            error -> {
+              LOG.error("Failed to process event queue for client " + sseClient.hashCode(), error);
+              onProcessingFailed();
+            });
+  }
+
+  private void sendPendingEvents() {
+    LOG.trace("Processing event queue for event client {}", sseClient.hashCode());
+    Optional<QueuedEvent> event = pollNextEvent();
+    while (event.isPresent()) {
+      sseClient.sendEvent(event.get().getEventType().name(), event.get().getMessageData());
+      event = pollNextEvent();
+    }
+  }
+
+  /** Returns the next event to send, or empty once the queue has been processed */
+  private synchronized Optional<QueuedEvent> pollNextEvent() {
+    while (!closed && cursor < limit) {
+      final Optional<QueuedEvent> event = eventBuffer.get(cursor);
+      if (event.isEmpty()) {
+        LOG.trace("Closing client connection as pending events were dropped from the buffer");
+        close();
+        break;
+      }
+      cursor++;
+      if (eventTypes.contains(event.get().getEventType())) {
+        pendingEvents--;
+        return event;
+      }
+    }
+    processingQueue = false;
+    return Optional.empty();
+  }
+
+  private synchronized void onProcessingFailed() {
+    processingQueue = false;
+  }
+
+  private void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    sseClient.ctx.req.getAsyncContext().complete();
+    closeCallback.run();
   }
 }
@@ -42,10 +42,14 @@ import tech.pegasys.teku.storage.api.ReorgContext;
 
 public class EventSubscriptionManager implements ChainHeadChannel, FinalizedCheckpointChannel {
   private static final Logger LOG = LogManager.getLogger();
+  static final int EVENT_BUFFER_SIZE = 1024;
 
   private final JsonProvider jsonProvider;
   private final ChainDataProvider provider;
   private final AsyncRunner asyncRunner;
+  private final int maxPendingEvents;
+  // serialized events, shared by all subscribers
+  private final EventBuffer eventBuffer;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
 
@@ -53,16 +57,19 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
       final ChainDataProvider provider,
       final JsonProvider jsonProvider,
       final AsyncRunner asyncRunner,
-      final EventChannels eventChannels) {
+      final EventChannels eventChannels,
+      final int maxPendingEvents) {
     this.provider = provider;
     this.jsonProvider = jsonProvider;
     this.asyncRunner = asyncRunner;
+    this.maxPendingEvents = maxPendingEvents;
+    this.eventBuffer = new EventBuffer(Math.max(EVENT_BUFFER_SIZE, maxPendingEvents));
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
     eventChannels.subscribe(ChainHeadChannel.class, this);
     eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
   }
 
-  public void registerClient(final SseClient sseClient) {
+  public synchronized void registerClient(final SseClient sseClient) {
     LOG.trace("connected " + sseClient.hashCode());
     final List<String> allTopicsInContext =
         ListQueryParameterUtils.getParameterAsStringList(sseClient.ctx.queryParamMap(), TOPICS);
@@ -70,11 +77,13 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
         new EventSubscriber(
             allTopicsInContext,
             sseClient,
+            eventBuffer,
             () -> {
               eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
               LOG.trace("disconnected " + sseClient.hashCode());
             },
-            asyncRunner);
+            asyncRunner,
+            maxPendingEvents);
     eventSubscribers.add(subscriber);
   }
 
@@ -137,7 +146,10 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
     }
   }
 
-  private void notifySubscribersOfEvent(final EventType eventType, final String eventString) {
-    eventSubscribers.forEach(subscriber -> subscriber.onEvent(eventType, eventString));
+  // Synchronized so subscribers are notified of events in the order they are appended
+  private synchronized void notifySubscribersOfEvent(
+      final EventType eventType, final String eventString) {
+    final long sequence = eventBuffer.append(QueuedEvent.of(eventType, eventString));
+    eventSubscribers.forEach(subscriber -> subscriber.onEvent(sequence, eventType));
   }
 }
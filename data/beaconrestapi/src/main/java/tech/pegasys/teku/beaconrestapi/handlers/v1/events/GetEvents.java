@@ -51,18 +51,26 @@ public class GetEvents implements Handler {
       final DataProvider dataProvider,
       final JsonProvider jsonProvider,
       final EventChannels eventChannels,
-      final AsyncRunner asyncRunner) {
-    this(dataProvider.getChainDataProvider(), jsonProvider, eventChannels, asyncRunner);
+      final AsyncRunner asyncRunner,
+      final int maxPendingEvents) {
+    this(
+        dataProvider.getChainDataProvider(),
+        jsonProvider,
+        eventChannels,
+        asyncRunner,
+        maxPendingEvents);
   }
 
   GetEvents(
       final ChainDataProvider provider,
       final JsonProvider jsonProvider,
       final EventChannels eventChannels,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final int maxPendingEvents) {
     this.jsonProvider = jsonProvider;
     eventSubscriptionManager =
-        new EventSubscriptionManager(provider, jsonProvider, asyncRunner, eventChannels);
+        new EventSubscriptionManager(
+            provider, jsonProvider, asyncRunner, eventChannels, maxPendingEvents);
   }
 
   @OpenApi(
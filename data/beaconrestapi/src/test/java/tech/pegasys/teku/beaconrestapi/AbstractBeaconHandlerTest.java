@@ -20,6 +20,8 @@ import static org.mockito.Mockito.verify;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.core.util.Header;
 import io.javalin.http.Context;
+import java.io.IOException;
+import java.io.InputStream;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.NetworkDataProvider;
@@ -48,6 +50,10 @@ public abstract class AbstractBeaconHandlerTest {
   @SuppressWarnings("unchecked")
   private final ArgumentCaptor<SafeFuture<String>> args = ArgumentCaptor.forClass(SafeFuture.class);
 
+  @SuppressWarnings("unchecked")
+  private final ArgumentCaptor<SafeFuture<InputStream>> streamArgs =
+      ArgumentCaptor.forClass(SafeFuture.class);
+
   protected final ChainDataProvider chainDataProvider = mock(ChainDataProvider.class);
   protected final ValidatorDataProvider validatorDataProvider = mock(ValidatorDataProvider.class);
 
@@ -73,6 +79,15 @@ public abstract class AbstractBeaconHandlerTest {
     return jsonProvider.jsonToObject(data, clazz);
   }
 
+  protected <T> T getResponseFromStreamFuture(Class<T> clazz) throws IOException {
+    verify(context).result(streamArgs.capture());
+    SafeFuture<InputStream> future = streamArgs.getValue();
+    assertThat(future).isCompleted();
+    try (InputStream data = future.join()) {
+      return jsonProvider.getObjectMapper().readValue(data, clazz);
+    }
+  }
+
   protected BadRequest getBadRequestFromFuture() throws JsonProcessingException {
     verify(context).result(args.capture());
     SafeFuture<String> future = args.getValue();
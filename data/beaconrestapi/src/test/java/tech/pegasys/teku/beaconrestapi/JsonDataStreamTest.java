@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.api.response.v1.beacon.EpochCommitteeResponse;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.provider.JsonProvider;
+
+public class JsonDataStreamTest {
+  private final JsonProvider jsonProvider = new JsonProvider();
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 1000})
+  public void shouldProduceSameJsonAsObjectMapper(final int itemCount) throws Exception {
+    final List<EpochCommitteeResponse> items = createItems(itemCount).collect(toList());
+    final String expected = jsonProvider.objectToJSON(Map.of("data", items));
+
+    try (JsonDataStream stream =
+        new JsonDataStream(jsonProvider.getObjectMapper(), items.stream())) {
+      assertThat(new String(stream.readAllBytes(), UTF_8)).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 1000})
+  public void shouldProduceSameJsonWhenReadByteByByte(final int itemCount) throws Exception {
+    final List<EpochCommitteeResponse> items = createItems(itemCount).collect(toList());
+    final String expected = jsonProvider.objectToJSON(Map.of("data", items));
+
+    final StringBuilder actual = new StringBuilder();
+    try (JsonDataStream stream =
+        new JsonDataStream(jsonProvider.getObjectMapper(), items.stream())) {
+      for (int b = stream.read(); b != -1; b = stream.read()) {
+        actual.append((char) b);
+      }
+    }
+    assertThat(actual.toString()).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldOnlyCreateItemsAsTheyAreRead() throws IOException {
+    final int itemCount = 1000;
+    final AtomicInteger createdItems = new AtomicInteger();
+    try (JsonDataStream stream =
+        new JsonDataStream(
+            jsonProvider.getObjectMapper(),
+            createItems(itemCount).peek(__ -> createdItems.incrementAndGet()))) {
+      assertThat(createdItems).hasValue(0);
+
+      stream.read(new byte[1]);
+      assertThat(createdItems.get()).isGreaterThan(0).isLessThan(itemCount);
+      assertThat(stream.available()).isLessThanOrEqualTo(JsonDataStream.CHUNK_SIZE * 2);
+    }
+  }
+
+  private Stream<EpochCommitteeResponse> createItems(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                new EpochCommitteeResponse(
+                    UInt64.valueOf(i),
+                    UInt64.ONE,
+                    List.of(UInt64.valueOf(i), UInt64.valueOf(i + 1), UInt64.valueOf(i + 2))));
+  }
+}
@@ -56,9 +56,10 @@ public class GetStateCommitteesTest extends AbstractBeaconHandlerTest {
                 "epoch", List.of(epoch.toString())));
     when(chainDataProvider.getStateCommittees(
             "head", Optional.of(epoch), Optional.of(UInt64.ONE), Optional.of(slot)))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(List.of(epochCommitteeResponse))));
+        .thenReturn(SafeFuture.completedFuture(Optional.of(Stream.of(epochCommitteeResponse))));
     handler.handle(context);
-    GetStateCommitteesResponse response = getResponseFromFuture(GetStateCommitteesResponse.class);
+    GetStateCommitteesResponse response =
+        getResponseFromStreamFuture(GetStateCommitteesResponse.class);
     assertThat(response.data).isEqualTo(List.of(epochCommitteeResponse));
   }
 
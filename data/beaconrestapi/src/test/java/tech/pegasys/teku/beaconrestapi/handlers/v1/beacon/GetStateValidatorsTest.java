@@ -25,6 +25,7 @@ import static tech.pegasys.teku.util.config.Constants.FAR_FUTURE_EPOCH;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
@@ -60,9 +61,10 @@ public class GetStateValidatorsTest extends AbstractBeaconHandlerTest {
     when(context.pathParamMap()).thenReturn(Map.of("state_id", "head"));
     when(context.queryParamMap()).thenReturn(Map.of("id", List.of("1", "2", "3,4")));
     when(chainDataProvider.getStateValidators("head", List.of("1", "2", "3", "4"), emptySet()))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(List.of(validatorResponse))));
+        .thenReturn(SafeFuture.completedFuture(Optional.of(Stream.of(validatorResponse))));
     handler.handle(context);
-    GetStateValidatorsResponse response = getResponseFromFuture(GetStateValidatorsResponse.class);
+    GetStateValidatorsResponse response =
+        getResponseFromStreamFuture(GetStateValidatorsResponse.class);
     assertThat(response.data).containsExactly(validatorResponse);
   }
 
@@ -20,7 +20,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriber.MAX_PENDING_EVENTS;
+import static tech.pegasys.teku.cli.options.BeaconRestApiOptions.DEFAULT_REST_API_MAX_PENDING_EVENTS;
 
 import io.javalin.http.Context;
 import io.javalin.http.sse.SseClient;
@@ -42,6 +42,7 @@ import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 
 public class EventSubscriberTest {
+  private static final int BUFFER_SIZE = 32;
   private final AsyncContext asyncContext = mock(AsyncContext.class);
   private final HttpServletRequest req = mock(HttpServletRequest.class);
   private final HttpServletResponse res = mock(HttpServletResponse.class);
@@ -51,6 +52,7 @@ public class EventSubscriberTest {
 
   private final Context context = new Context(req, res, Collections.emptyMap());
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final EventBuffer eventBuffer = new EventBuffer(BUFFER_SIZE);
   private final List<EventType> allEventTypes =
       Arrays.stream(EventType.values()).collect(Collectors.toList());
 
@@ -66,19 +68,17 @@ public class EventSubscriberTest {
 
   @Test
   void shouldGetSseClient() {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(List.of("head"), sseClient, onCloseCallback, asyncRunner);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
     assertThat(eventSubscriber.getSseClient()).isEqualTo(sseClient);
   }
 
   @Test
   void shouldDisconnectAfterTooManyRequestsAreLogged() {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(List.of("head"), sseClient, onCloseCallback, asyncRunner);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
 
-    for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
+    for (int i = 0; i < DEFAULT_REST_API_MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, "test");
+      publish(eventSubscriber, EventType.head);
     }
     verify(onCloseCallback).run();
   }
@@ -86,12 +86,8 @@ public class EventSubscriberTest {
   @Test
   void shouldSubscribeToMultipleEventsSuccessfully() throws IOException {
     EventSubscriber eventSubscriber =
-        new EventSubscriber(
-            allEventTypes.stream().map(EventType::name).collect(Collectors.toList()),
-            sseClient,
-            onCloseCallback,
-            asyncRunner);
-    allEventTypes.forEach(eventType -> eventSubscriber.onEvent(eventType, "test"));
+        createSubscriber(allEventTypes.stream().map(EventType::name).collect(Collectors.toList()));
+    allEventTypes.forEach(eventType -> publish(eventSubscriber, eventType));
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
     asyncRunner.executeQueuedActions();
     verify(outputStream, times(allEventTypes.size())).print(anyString());
@@ -99,17 +95,16 @@ public class EventSubscriberTest {
 
   @Test
   void shouldNotDisconnectIfQueueProcessingCatchesUp() throws IOException {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(List.of("head"), sseClient, onCloseCallback, asyncRunner);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
 
-    for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, "test");
+    for (int i = 0; i < DEFAULT_REST_API_MAX_PENDING_EVENTS; i++) {
+      publish(eventSubscriber, EventType.head);
     }
     asyncRunner.executeQueuedActions();
-    verify(outputStream, times(10)).print(anyString());
+    verify(outputStream, times(DEFAULT_REST_API_MAX_PENDING_EVENTS)).print(anyString());
 
-    for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, "test");
+    for (int i = 0; i < DEFAULT_REST_API_MAX_PENDING_EVENTS; i++) {
+      publish(eventSubscriber, EventType.head);
     }
 
     verify(onCloseCallback, never()).run();
@@ -118,24 +113,67 @@ public class EventSubscriberTest {
   @ParameterizedTest
   @EnumSource(EventType.class)
   void shouldNotSendEventsIfNotSubscribed(final EventType eventType) {
-    EventSubscriber subscriber =
-        new EventSubscriber(List.of(eventType.name()), sseClient, onCloseCallback, asyncRunner);
+    EventSubscriber subscriber = createSubscriber(List.of(eventType.name()));
     allEventTypes.stream()
         .filter(val -> val.compareTo(eventType) != 0)
-        .forEach(value -> subscriber.onEvent(value, "test"));
+        .forEach(value -> publish(subscriber, value));
     assertThat(asyncRunner.hasDelayedActions()).isFalse();
   }
 
   @ParameterizedTest
   @EnumSource(EventType.class)
   void shouldSendEventsIfSubscribed(final EventType eventType) throws IOException {
-    EventSubscriber subscriber =
-        new EventSubscriber(List.of(eventType.name()), sseClient, onCloseCallback, asyncRunner);
+    EventSubscriber subscriber = createSubscriber(List.of(eventType.name()));
 
-    subscriber.onEvent(eventType, "test");
+    publish(subscriber, eventType);
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
     asyncRunner.executeQueuedActions();
     verify(outputStream).print(anyString());
   }
+
+  @Test
+  void shouldDisconnectIfPendingEventIsOverwritten() {
+    EventSubscriber eventSubscriber =
+        new EventSubscriber(
+            List.of("head"), sseClient, eventBuffer, onCloseCallback, asyncRunner, BUFFER_SIZE * 2);
+
+    for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+      publish(eventSubscriber, EventType.head);
+    }
+    verify(onCloseCallback, never()).run();
+
+    asyncRunner.executeQueuedActions();
+    verify(onCloseCallback).run();
+    verify(outputStream, never()).print(anyString());
+  }
+
+  @Test
+  void shouldSkipUnsubscribedEventsWhileIdle() throws IOException {
+    EventSubscriber eventSubscriber = createSubscriber(List.of("finalized_checkpoint"));
+
+    for (int i = 0; i < BUFFER_SIZE * 2; i++) {
+      publish(eventSubscriber, EventType.head);
+    }
+    publish(eventSubscriber, EventType.finalized_checkpoint);
+    asyncRunner.executeQueuedActions();
+
+    verify(onCloseCallback, never()).run();
+    verify(outputStream).print(anyString());
+  }
+
+  private EventSubscriber createSubscriber(final List<String> eventTypes) {
+    return new EventSubscriber(
+        eventTypes,
+        sseClient,
+        eventBuffer,
+        onCloseCallback,
+        asyncRunner,
+        DEFAULT_REST_API_MAX_PENDING_EVENTS);
+  }
+
+  private void publish(final EventSubscriber subscriber, final EventType eventType) {
+    final long sequence = eventBuffer.append(QueuedEvent.of(eventType, "test"));
+    subscriber.onEvent(sequence, eventType);
+  }
 }
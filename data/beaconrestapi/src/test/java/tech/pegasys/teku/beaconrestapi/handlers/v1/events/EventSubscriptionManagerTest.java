@@ -20,6 +20,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.cli.options.BeaconRestApiOptions.DEFAULT_REST_API_MAX_PENDING_EVENTS;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 
 import io.javalin.http.Context;
@@ -97,7 +98,13 @@ public class EventSubscriptionManagerTest {
     when(req.getAsyncContext()).thenReturn(async);
     when(async.getResponse()).thenReturn(srvResponse);
     when(srvResponse.getOutputStream()).thenReturn(outputStream);
-    manager = new EventSubscriptionManager(chainDataProvider, jsonProvider, asyncRunner, channels);
+    manager =
+        new EventSubscriptionManager(
+            chainDataProvider,
+            jsonProvider,
+            asyncRunner,
+            channels,
+            DEFAULT_REST_API_MAX_PENDING_EVENTS);
     client1 = new SseClient(ctx);
   }
 
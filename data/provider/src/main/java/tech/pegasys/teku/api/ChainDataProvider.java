@@ -30,6 +30,7 @@ import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.blockselector.BlockSelectorFactory;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
@@ -293,7 +294,11 @@ public class ChainDataProvider {
                 blockList.stream().map(block -> new BlockHeader(block, true)).collect(toList()));
   }
 
-  public SafeFuture<Optional<List<ValidatorResponse>>> getStateValidators(
+  /**
+   * Returns the matching validators of the state as a lazy stream, so that responses can be
+   * written out as they are read from the state rather than held in memory all at once.
+   */
+  public SafeFuture<Optional<Stream<ValidatorResponse>>> getStateValidators(
       final String stateIdParam,
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
@@ -302,19 +307,18 @@ public class ChainDataProvider {
         .getState()
         .thenApply(
             maybeState ->
-                maybeState.map(state -> getFilteredValidatorList(state, validators, statusFilter)));
+                maybeState.map(state -> getFilteredValidators(state, validators, statusFilter)));
   }
 
   @VisibleForTesting
-  List<ValidatorResponse> getFilteredValidatorList(
+  Stream<ValidatorResponse> getFilteredValidators(
       final tech.pegasys.teku.datastructures.state.BeaconState state,
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     return getValidatorSelector(state, validators)
         .filter(getStatusPredicate(state, statusFilter))
         .mapToObj(index -> ValidatorResponse.fromState(state, index))
-        .flatMap(Optional::stream)
-        .collect(toList());
+        .flatMap(Optional::stream);
   }
 
   public SafeFuture<Optional<ValidatorResponse>> getStateValidator(
@@ -336,7 +340,7 @@ public class ChainDataProvider {
         .orElseThrow(() -> new BadRequestException("Validator not found: " + validatorIdParam));
   }
 
-  public SafeFuture<Optional<List<EpochCommitteeResponse>>> getStateCommittees(
+  public SafeFuture<Optional<Stream<EpochCommitteeResponse>>> getStateCommittees(
       final String stateIdParameter,
       final Optional<UInt64> epoch,
       final Optional<UInt64> committeeIndex,
@@ -350,7 +354,7 @@ public class ChainDataProvider {
                     state -> getCommitteesFromState(state, epoch, committeeIndex, slot)));
   }
 
-  List<EpochCommitteeResponse> getCommitteesFromState(
+  Stream<EpochCommitteeResponse> getCommitteesFromState(
       final tech.pegasys.teku.datastructures.state.BeaconState state,
       final Optional<UInt64> epoch,
       final Optional<UInt64> committeeIndex,
@@ -375,8 +379,7 @@ public class ChainDataProvider {
     return combinedChainDataClient.getCommitteesFromState(state, epoch.orElse(stateEpoch)).stream()
         .filter(slotFilter)
         .filter(committeeFilter)
-        .map(EpochCommitteeResponse::new)
-        .collect(toList());
+        .map(EpochCommitteeResponse::new);
   }
 
   private IntPredicate getStatusPredicate(
@@ -390,12 +393,17 @@ public class ChainDataProvider {
   private IntStream getValidatorSelector(
       final tech.pegasys.teku.datastructures.state.BeaconState state,
       final List<String> validators) {
-    return validators.isEmpty()
-        ? IntStream.range(0, state.getValidators().size())
-        : validators.stream()
+    if (validators.isEmpty()) {
+      return IntStream.range(0, state.getValidators().size());
+    }
+    // Resolve the requested validators up front so invalid IDs fail the request before any of
+    // the response is written
+    return IntStream.of(
+        validators.stream()
             .flatMapToInt(
                 validatorParameter ->
-                    validatorParameterToIndex(state, validatorParameter).stream().mapToInt(a -> a));
+                    validatorParameterToIndex(state, validatorParameter).stream().mapToInt(a -> a))
+            .toArray());
   }
 
   public SafeFuture<Optional<List<ChainHead>>> getChainHeads() {
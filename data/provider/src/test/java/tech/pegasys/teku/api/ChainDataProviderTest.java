@@ -305,7 +305,7 @@ public class ChainDataProviderTest {
     final ChainDataProvider provider =
         new ChainDataProvider(recentChainData, combinedChainDataClient);
     List<Integer> indexes =
-        provider.getFilteredValidatorList(internalState, List.of("1", "33"), emptySet()).stream()
+        provider.getFilteredValidators(internalState, List.of("1", "33"), emptySet())
             .map(v -> v.index.intValue())
             .collect(toList());
     assertThat(indexes).containsExactly(1, 33);
@@ -320,8 +320,7 @@ public class ChainDataProviderTest {
     final String key = internalState.getValidators().get(12).getPubkey().toString();
     final String missingKey = data.randomPublicKey().toString();
     List<String> pubkeys =
-        provider.getFilteredValidatorList(internalState, List.of(key, missingKey), emptySet())
-            .stream()
+        provider.getFilteredValidators(internalState, List.of(key, missingKey), emptySet())
             .map(v -> v.validator.pubkey.toHexString())
             .collect(toList());
     assertThat(pubkeys).containsExactly(key);
@@ -358,11 +357,11 @@ public class ChainDataProviderTest {
         new ChainDataProvider(recentChainData, combinedChainDataClient);
 
     assertThat(
-            provider.getFilteredValidatorList(
+            provider.getFilteredValidators(
                 internalState, emptyList(), Set.of(ValidatorStatus.pending_initialized)))
         .hasSize(11);
     assertThat(
-            provider.getFilteredValidatorList(
+            provider.getFilteredValidators(
                 internalState, emptyList(), Set.of(ValidatorStatus.active_ongoing)))
         .hasSize(0);
   }
@@ -394,7 +393,7 @@ public class ChainDataProviderTest {
             provider
                 .getCommitteesFromState(
                     internalState, Optional.empty(), Optional.empty(), Optional.empty())
-                .size())
+                .count())
         .isEqualTo(SLOTS_PER_EPOCH);
   }
 
@@ -412,7 +411,7 @@ public class ChainDataProviderTest {
                     Optional.empty(),
                     Optional.empty(),
                     Optional.of(internalState.getSlot()))
-                .size())
+                .count())
         .isEqualTo(1);
   }
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.core.operationvalidators.AttestationDataStateTransitionValidator;
+import tech.pegasys.teku.core.operationvalidators.OperationInvalidReason;
+import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.datastructures.operations.Attestation;
+import tech.pegasys.teku.datastructures.operations.AttestationData;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
+import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
+import tech.pegasys.teku.statetransition.attestation.AttestationForkChecker;
+import tech.pegasys.teku.util.config.Constants;
+
+/**
+ * Replays a mainnet sized stream of unaggregated attestations into the pool from several gossip
+ * threads while another thread repeatedly produces blocks. Throughput mode reports the add rate,
+ * sample time mode reports the block production latency while under that load.
+ */
+@Fork(1)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Group)
+public class AggregatingAttestationPoolBenchmark {
+  private static final int SLOT_COUNT = 4;
+  private static final int COMMITTEES_PER_SLOT = 64;
+  private static final int VALIDATORS_PER_COMMITTEE = 128;
+
+  private final List<ValidateableAttestation> attestations = new ArrayList<>();
+  private final AtomicInteger nextAttestation = new AtomicInteger();
+  private final AttestationDataStateTransitionValidator attestationDataValidator =
+      new AttestationDataStateTransitionValidator() {
+        @Override
+        public Optional<OperationInvalidReason> validate(
+            final BeaconState state, final AttestationData data) {
+          // Validation is not under test so consider all attestations valid
+          return Optional.empty();
+        }
+      };
+
+  private BeaconState state;
+  private AttestationForkChecker forkChecker;
+  private AggregatingAttestationPool pool;
+
+  public AggregatingAttestationPoolBenchmark() {
+    Constants.setConstants("mainnet");
+  }
+
+  @Setup(Level.Trial)
+  public void createAttestations() {
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+    final UInt64 firstSlot = UInt64.valueOf(10L * Constants.SLOTS_PER_EPOCH);
+    state = dataStructureUtil.randomBeaconState(firstSlot.plus(SLOT_COUNT));
+    forkChecker = new AttestationForkChecker(state);
+    // Signatures are aggregated but never verified so one is enough
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+
+    for (int slot = 0; slot < SLOT_COUNT; slot++) {
+      for (int committee = 0; committee < COMMITTEES_PER_SLOT; committee++) {
+        final AttestationData data =
+            dataStructureUtil.randomAttestationData(firstSlot.plus(slot));
+        for (int validator = 0; validator < VALIDATORS_PER_COMMITTEE; validator++) {
+          final Bitlist aggregationBits =
+              new Bitlist(VALIDATORS_PER_COMMITTEE, Constants.MAX_VALIDATORS_PER_COMMITTEE);
+          aggregationBits.setBit(validator);
+          final ValidateableAttestation attestation =
+              ValidateableAttestation.from(new Attestation(aggregationBits, data, signature));
+          attestation.saveCommitteeShufflingSeed(state);
+          attestations.add(attestation);
+        }
+      }
+    }
+    // Gossip arrives interleaved across all subnets
+    Collections.shuffle(attestations, new Random(1));
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPool() {
+    pool =
+        new AggregatingAttestationPool(
+            attestationDataValidator, new NoOpMetricsSystem(), new SystemTimeProvider());
+    nextAttestation.set(0);
+  }
+
+  @Benchmark
+  @Group("gossipAndProduceBlocks")
+  @GroupThreads(7)
+  @Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  public void addAttestation() {
+    // Once the stream is exhausted the replayed attestations are rejected as duplicates
+    final int index = Math.floorMod(nextAttestation.getAndIncrement(), attestations.size());
+    pool.add(attestations.get(index));
+  }
+
+  @Benchmark
+  @Group("gossipAndProduceBlocks")
+  @GroupThreads(1)
+  @Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  public void getAttestationsForBlock(final Blackhole bh) {
+    bh.consume(pool.getAttestationsForBlock(state, forkChecker));
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.benchmarks;
 import com.google.common.collect.Streams;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -28,10 +29,12 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.core.blockvalidator.BatchSignatureVerifier;
 
 @Fork(1)
 @State(Scope.Thread)
@@ -51,6 +54,15 @@ public class BLSBenchmark {
               (keyPair, msg) -> BLS.sign(keyPair.getSecretKey(), msg))
           .collect(Collectors.toList());
 
+  ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+  ForkJoinPool allCoresPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+  @TearDown
+  public void tearDown() {
+    singleThreadPool.shutdown();
+    allCoresPool.shutdown();
+  }
+
   @Benchmark
   @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
   @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -128,4 +140,29 @@ public class BLSBenchmark {
             true);
     if (!res) throw new IllegalStateException();
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void verifySignatureBatchVerifierSingleThread() {
+    verifyWithBatchSignatureVerifier(singleThreadPool);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void verifySignatureBatchVerifierAllCores() {
+    verifyWithBatchSignatureVerifier(allCoresPool);
+  }
+
+  private void verifyWithBatchSignatureVerifier(final ForkJoinPool pool) {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier(pool);
+    for (int i = 0; i < sigCnt; i++) {
+      verifier.verify(
+          Collections.singletonList(keyPairs.get(i).getPublicKey()),
+          messages.get(i),
+          signatures.get(i));
+    }
+    if (!verifier.batchVerify()) throw new IllegalStateException();
+  }
 }
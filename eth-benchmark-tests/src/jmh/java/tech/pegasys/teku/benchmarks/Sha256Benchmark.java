@@ -24,6 +24,8 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.ssz.backing.hash.MessageDigestPairHasher;
+import tech.pegasys.teku.ssz.backing.hash.PairHasher;
 
 @State(Scope.Thread)
 public class Sha256Benchmark {
@@ -32,6 +34,13 @@ public class Sha256Benchmark {
   private byte[] dataArray = new byte[33];
   private int cnt = 0;
 
+  private static final int PAIR_COUNT = 1024;
+  private final Bytes32 left = Bytes32.random();
+  private final Bytes32 right = Bytes32.random();
+  private final byte[] pairs = Bytes.random(PAIR_COUNT * 64).toArrayUnsafe();
+  private final byte[] pairHashes = new byte[PAIR_COUNT * 32];
+  private final PairHasher messageDigestHasher = new MessageDigestPairHasher();
+
   @Benchmark
   @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
   @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
@@ -51,4 +60,19 @@ public class Sha256Benchmark {
     byte[] hash = Hash.sha2_256(dataArray);
     bh.consume(hash);
   }
+
+  @Benchmark
+  @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  public void sha256ofPairConcatenated(Blackhole bh) {
+    bh.consume(Hash.sha2_256(Bytes.concatenate(left, right)));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  public void sha256of1024PairsMessageDigest(Blackhole bh) {
+    messageDigestHasher.hashPairs(pairs, 0, pairHashes, 0, PAIR_COUNT);
+    bh.consume(pairHashes);
+  }
 }
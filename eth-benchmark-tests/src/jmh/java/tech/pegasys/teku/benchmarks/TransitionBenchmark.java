@@ -30,12 +30,15 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.benchmarks.gen.BlockIO;
 import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.epoch.EpochProcessor;
 import tech.pegasys.teku.core.results.BlockImportResult;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
@@ -163,4 +166,27 @@ public abstract class TransitionBenchmark {
       importNextBlock();
     }
   }
+
+  /**
+   * Measures epoch processing alone, without the block transition, by processing the post state of
+   * each epoch's last block
+   */
+  public static class EpochProcessing extends TransitionBenchmark {
+    BeaconState preEpochState;
+
+    @Setup(Level.Iteration)
+    public void importToEndOfEpoch() throws Exception {
+      do {
+        importNextBlock();
+      } while ((lastResult.getBlock().getSlot().longValue() + 1) % Constants.SLOTS_PER_EPOCH != 0);
+      preEpochState = lastResult.getBlockProcessingRecord().orElseThrow().getPostState();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void processEpoch(Blackhole bh) throws Exception {
+      bh.consume(EpochProcessor.processEpoch(preEpochState));
+    }
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.ssz.backing.ListViewRead;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode;
+
+/**
+ * Compares serializing the validator list element by element, as done for vectors and lists of
+ * fixed-size containers, with copying the raw data of every leaf in the list, which is how such
+ * lists were serialized before trees could be restored from stored node roots.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ValidatorListSerializationBenchmark {
+
+  @Param({"16384", "65536"})
+  int validatorCount;
+
+  private ListViewRead<?> validators;
+  private TreeNode validatorsVectorNode;
+  private int validatorsSszSize;
+
+  @Setup
+  public void setup() {
+    final BeaconState state = new DataStructureUtil().randomBeaconState(validatorCount);
+    validators = state.getAny(BeaconState.VALIDATORS_FIELD.getIndex());
+    validatorsVectorNode = ((BranchNode) validators.getBackingNode()).left();
+    validatorsSszSize = validators.sszSerialize().size();
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  public void serializeByElement(Blackhole bh) {
+    bh.consume(validators.sszSerialize());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  public void copyLeafDataBaseline(Blackhole bh) {
+    final byte[] buf = new byte[validatorsSszSize];
+    final int[] offset = new int[1];
+    validatorsVectorNode.iterateAll(
+        node -> {
+          if (node instanceof LeafNode && offset[0] < buf.length) {
+            final Bytes data = ((LeafNode) node).getData();
+            final int length = Math.min(data.size(), buf.length - offset[0]);
+            data.slice(0, length).copyTo(buf, offset[0]);
+            offset[0] += length;
+          }
+        });
+    bh.consume(buf);
+  }
+}
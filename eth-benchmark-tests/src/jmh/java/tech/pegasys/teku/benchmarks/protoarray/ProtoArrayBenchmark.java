@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.protoarray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.protoarray.ProtoArray;
+
+/**
+ * Measures the fork choice hot paths over block trees of increasing size, as seen during long
+ * periods of non-finality. Run against the previous commit to compare with the object-per-node
+ * layout.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ProtoArrayBenchmark {
+  private static final UInt64 JUSTIFIED_EPOCH = UInt64.ONE;
+  private static final UInt64 FINALIZED_EPOCH = UInt64.ZERO;
+  // Create a fork off the canonical chain every FORK_INTERVAL blocks
+  private static final int FORK_INTERVAL = 8;
+
+  @Param({"1000", "10000", "100000"})
+  int nodeCount;
+
+  private ProtoArray protoArray;
+  private Bytes32[] roots;
+  private long[] votes;
+  private long[] deltas;
+  private boolean addVotes = true;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    roots = new Bytes32[nodeCount];
+    final Random random = new Random(1);
+    for (int i = 0; i < nodeCount; i++) {
+      roots[i] = Bytes32.random(random);
+    }
+    protoArray = createProtoArray();
+
+    votes = new long[nodeCount];
+    for (int i = 0; i < nodeCount; i += 3) {
+      votes[i] = 32_000_000_000L;
+    }
+    deltas = new long[nodeCount];
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  public void applyScoreChangesAndFindHead(Blackhole bh) {
+    // Alternate between adding and removing the same votes so weights stay bounded
+    final long sign = addVotes ? 1 : -1;
+    addVotes = !addVotes;
+    for (int i = 0; i < nodeCount; i++) {
+      deltas[i] = sign * votes[i];
+    }
+    protoArray.applyScoreChanges(deltas, JUSTIFIED_EPOCH, FINALIZED_EPOCH);
+    bh.consume(protoArray.findHead(roots[0]));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  public void findHead(Blackhole bh) {
+    bh.consume(protoArray.findHead(roots[0]));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+  public void maybePrune(PruneState pruneState, Blackhole bh) {
+    pruneState.protoArray.maybePrune(roots[nodeCount / 2]);
+    bh.consume(pruneState.protoArray);
+  }
+
+  @State(Scope.Thread)
+  public static class PruneState {
+    private ProtoArray protoArray;
+
+    // Pruning is destructive so each invocation needs a freshly built array
+    @Setup(Level.Invocation)
+    public void setUp(final ProtoArrayBenchmark benchmark) {
+      protoArray = benchmark.createProtoArray();
+    }
+  }
+
+  ProtoArray createProtoArray() {
+    final ProtoArray array = new ProtoArray(0, JUSTIFIED_EPOCH, FINALIZED_EPOCH, UInt64.ZERO);
+    array.onBlock(
+        UInt64.ZERO, roots[0], Bytes32.ZERO, Bytes32.ZERO, JUSTIFIED_EPOCH, FINALIZED_EPOCH);
+    for (int i = 1; i < nodeCount; i++) {
+      // Mostly extend the previous block but periodically fork from an earlier one
+      final int parent = i % FORK_INTERVAL == 0 ? Math.max(0, i - FORK_INTERVAL) : i - 1;
+      array.onBlock(
+          UInt64.valueOf(i), roots[i], roots[parent], Bytes32.ZERO, JUSTIFIED_EPOCH, FINALIZED_EPOCH);
+    }
+    return array;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.rocksdb.RocksDbConfiguration;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbInstanceFactory;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.RocksDbFinalizedDao;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.RocksDbFinalizedDao.FinalizedUpdater;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.V4FinalizedRocksDbDao;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.V7FinalizedRocksDbDao;
+import tech.pegasys.teku.storage.server.rocksdb.schema.SchemaFinalized;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V4SchemaFinalized;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V6SchemaFinalized;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V7SchemaFinalized;
+import tech.pegasys.teku.util.config.Constants;
+
+/**
+ * Compares the finalized state storage of each database version when a state is stored every
+ * epoch. The on-disk size of the finalized database is printed once the states are stored and the
+ * benchmark measures how long it takes to load a stored state.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FinalizedStateStorageBenchmark {
+  private static final int VALIDATOR_COUNT = 16 * 1024;
+  private static final int EPOCH_COUNT = 64;
+
+  @Param({"5", "6", "7"})
+  String databaseVersion;
+
+  private Path databaseDir;
+  private RocksDbFinalizedDao finalizedDao;
+  private int nextEpoch;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    Constants.setConstants("mainnet");
+    databaseDir = Files.createTempDirectory("finalized-storage-benchmark");
+    final BLSPublicKey pubkey = BLSPublicKey.random(0);
+    final DataStructureUtil dataStructureUtil =
+        new DataStructureUtil(0).withPubKeyGenerator(() -> pubkey);
+    final Random random = new Random(1);
+
+    finalizedDao = createFinalizedDao();
+    BeaconState state = dataStructureUtil.randomBeaconState(VALIDATOR_COUNT);
+    for (int epoch = 0; epoch < EPOCH_COUNT; epoch++) {
+      state = processEpoch(state, epoch, random);
+      try (final FinalizedUpdater updater = finalizedDao.finalizedUpdater()) {
+        updater.addFinalizedState(dataStructureUtil.randomBytes32(), state);
+        updater.commit();
+      }
+    }
+    // Reopen so the size includes everything flushed to disk
+    finalizedDao.close();
+    System.out.printf(
+        "%nV%s finalized database size for %d states of %d validators: %d bytes%n",
+        databaseVersion, EPOCH_COUNT, VALIDATOR_COUNT, getDirectorySize(databaseDir));
+    finalizedDao = createFinalizedDao();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    finalizedDao.close();
+    try (Stream<Path> files = Files.walk(databaseDir)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(file -> file.delete());
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  public void loadFinalizedState(Blackhole bh) {
+    final UInt64 slot = getEpochSlot(nextEpoch++ % EPOCH_COUNT);
+    bh.consume(finalizedDao.getLatestAvailableFinalizedState(slot).orElseThrow());
+  }
+
+  private RocksDbFinalizedDao createFinalizedDao() {
+    final long stateStorageFrequency = Constants.SLOTS_PER_EPOCH;
+    switch (databaseVersion) {
+      case "5":
+        return new V4FinalizedRocksDbDao(
+            openDatabase(V4SchemaFinalized.INSTANCE),
+            V4SchemaFinalized.INSTANCE,
+            stateStorageFrequency);
+      case "6":
+        return new V4FinalizedRocksDbDao(
+            openDatabase(V6SchemaFinalized.INSTANCE),
+            V6SchemaFinalized.INSTANCE,
+            stateStorageFrequency);
+      case "7":
+        return new V7FinalizedRocksDbDao(
+            openDatabase(V7SchemaFinalized.INSTANCE),
+            V7SchemaFinalized.INSTANCE,
+            stateStorageFrequency);
+      default:
+        throw new IllegalArgumentException("Unsupported database version " + databaseVersion);
+    }
+  }
+
+  private RocksDbAccessor openDatabase(final SchemaFinalized schema) {
+    return RocksDbInstanceFactory.create(
+        new NoOpMetricsSystem(),
+        TekuMetricCategory.STORAGE_FINALIZED_DB,
+        RocksDbConfiguration.v5ArchiveDefaults().withDatabaseDir(databaseDir),
+        schema.getAllColumns());
+  }
+
+  /** Applies the changes a typical epoch makes: all balances and a few historical roots */
+  private static BeaconState processEpoch(
+      final BeaconState state, final int epoch, final Random random) {
+    return state.updated(
+        mutableState -> {
+          mutableState.setSlot(getEpochSlot(epoch));
+          for (int i = 0; i < mutableState.getBalances().size(); i++) {
+            mutableState
+                .getBalances()
+                .set(i, mutableState.getBalances().get(i).plus(UInt64.valueOf(random.nextInt(10))));
+          }
+          for (int i = 0; i < Constants.SLOTS_PER_EPOCH; i++) {
+            final int slot = epoch * Constants.SLOTS_PER_EPOCH + i;
+            mutableState
+                .getBlock_roots()
+                .set(slot % Constants.SLOTS_PER_HISTORICAL_ROOT, Bytes32.random(random));
+            mutableState
+                .getState_roots()
+                .set(slot % Constants.SLOTS_PER_HISTORICAL_ROOT, Bytes32.random(random));
+          }
+          mutableState
+              .getRandao_mixes()
+              .set(epoch % Constants.EPOCHS_PER_HISTORICAL_VECTOR, Bytes32.random(random));
+        });
+  }
+
+  private static UInt64 getEpochSlot(final int epoch) {
+    return UInt64.valueOf((long) epoch * Constants.SLOTS_PER_EPOCH);
+  }
+
+  private static long getDirectorySize(final Path dir) throws IOException {
+    try (Stream<Path> files = Files.walk(dir)) {
+      return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+    }
+  }
+}
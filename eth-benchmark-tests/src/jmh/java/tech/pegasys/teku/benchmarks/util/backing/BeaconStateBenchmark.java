@@ -86,4 +86,21 @@ public class BeaconStateBenchmark {
             });
     bh.consume(stateW.hashTreeRoot());
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void updateValidatorsAndHash(Blackhole bh) {
+    BeaconState stateW =
+        beaconState.updated(
+            state -> {
+              int size = state.getValidators().size();
+              UInt64 effectiveBalance = UInt64.valueOf(777);
+              for (int i = 0; i < size; i++) {
+                Validator validator = state.getValidators().get(i);
+                state.getValidators().set(i, validator.withEffective_balance(effectiveBalance));
+              }
+            });
+    bh.consume(stateW.hashTreeRoot());
+  }
 }
@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.reference.phase0.rewards;
 
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.reference.phase0.TestDataUtils.loadStateFromSsz;
 import static tech.pegasys.teku.reference.phase0.TestDataUtils.loadYaml;
@@ -28,7 +27,6 @@ import tech.pegasys.teku.core.epoch.MatchingAttestations;
 import tech.pegasys.teku.core.epoch.RewardsAndPenaltiesCalculator;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.ethtests.finder.TestDefinition;
-import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.reference.phase0.TestExecutor;
 
 public class RewardsTestExecutor implements TestExecutor {
@@ -61,9 +59,7 @@ public class RewardsTestExecutor implements TestExecutor {
     final Deltas expectedDeltas =
         loadYaml(testDefinition, expectedResultsFileName, DeltaYaml.class).getDeltas();
     final Deltas actualDeltas = function.get();
-    assertThat(actualDeltas)
-        .describedAs(expectedResultsFileName)
-        .isEqualToComparingFieldByField(expectedDeltas);
+    assertThat(actualDeltas).describedAs(expectedResultsFileName).isEqualTo(expectedDeltas);
   }
 
   private static class DeltaYaml {
@@ -76,8 +72,8 @@ public class RewardsTestExecutor implements TestExecutor {
 
     public Deltas getDeltas() {
       return new Deltas(
-          rewards.stream().map(UInt64::fromLongBits).collect(toList()),
-          penalties.stream().map(UInt64::fromLongBits).collect(toList()));
+          rewards.stream().mapToLong(Long::longValue).toArray(),
+          penalties.stream().mapToLong(Long::longValue).toArray());
     }
   }
 }
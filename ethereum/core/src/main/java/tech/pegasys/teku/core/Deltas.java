@@ -13,23 +13,70 @@
 
 package tech.pegasys.teku.core;
 
-import java.util.List;
+import com.google.common.base.MoreObjects;
+import java.util.Arrays;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/** Rewards and penalties for each validator, stored as the bits of unsigned longs. */
 public class Deltas {
-  private final List<UInt64> rewards;
-  private final List<UInt64> penalties;
+  private final long[] rewards;
+  private final long[] penalties;
 
-  public Deltas(final List<UInt64> rewards, final List<UInt64> penalties) {
+  public Deltas(final int validatorCount) {
+    this(new long[validatorCount], new long[validatorCount]);
+  }
+
+  public Deltas(final long[] rewards, final long[] penalties) {
     this.rewards = rewards;
     this.penalties = penalties;
   }
 
   public UInt64 getReward(final int validatorIndex) {
-    return rewards.get(validatorIndex);
+    return UInt64.fromLongBits(rewards[validatorIndex]);
   }
 
   public UInt64 getPenalty(final int validatorIndex) {
-    return penalties.get(validatorIndex);
+    return UInt64.fromLongBits(penalties[validatorIndex]);
+  }
+
+  public long getRewardLong(final int validatorIndex) {
+    return rewards[validatorIndex];
+  }
+
+  public long getPenaltyLong(final int validatorIndex) {
+    return penalties[validatorIndex];
+  }
+
+  public void addReward(final int validatorIndex, final long amount) {
+    rewards[validatorIndex] = Math.addExact(rewards[validatorIndex], amount);
+  }
+
+  public void addPenalty(final int validatorIndex, final long amount) {
+    penalties[validatorIndex] = Math.addExact(penalties[validatorIndex], amount);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final Deltas deltas = (Deltas) o;
+    return Arrays.equals(rewards, deltas.rewards) && Arrays.equals(penalties, deltas.penalties);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(rewards) + Arrays.hashCode(penalties);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("rewards", Arrays.toString(rewards))
+        .add("penalties", Arrays.toString(penalties))
+        .toString();
   }
 }
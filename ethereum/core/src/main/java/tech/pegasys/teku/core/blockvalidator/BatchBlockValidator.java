@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.core.blockvalidator;
 
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import tech.pegasys.teku.core.lookup.IndexedAttestationProvider;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.state.BeaconState;
@@ -24,12 +26,24 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
  */
 public class BatchBlockValidator implements BlockValidator {
 
+  private final Optional<ForkJoinPool> verificationPool;
+
+  public BatchBlockValidator() {
+    this.verificationPool = Optional.empty();
+  }
+
+  /** @param verificationPool the pool to verify signatures on instead of the shared pool */
+  public BatchBlockValidator(final ForkJoinPool verificationPool) {
+    this.verificationPool = Optional.of(verificationPool);
+  }
+
   @Override
   public SafeFuture<BlockValidationResult> validatePreState(
       BeaconState preState,
       SignedBeaconBlock block,
       IndexedAttestationProvider indexedAttestationProvider) {
-    BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    BatchSignatureVerifier signatureVerifier =
+        verificationPool.map(BatchSignatureVerifier::new).orElseGet(BatchSignatureVerifier::new);
     SimpleBlockValidator blockValidator =
         new SimpleBlockValidator(true, true, true, signatureVerifier);
     SafeFuture<BlockValidationResult> noBLSValidationResultFut =
@@ -16,13 +16,16 @@ package tech.pegasys.teku.core.blockvalidator;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 /**
  * Implementation which doesn't perform any actual validations on {@link #verify(List, Bytes,
@@ -32,10 +35,19 @@ import tech.pegasys.teku.bls.BatchSemiAggregate;
  * <p>Every instance of this class is disposable, i.e. it is intended for just a single batch and a
  * single {@link #batchVerify()} call.
  *
+ * <p>Preparing each signature (hashing the message to G2 and the Miller loop) dominates the cost of
+ * the batch, so signatures are prepared in pairs as separate tasks on a {@link ForkJoinPool}. Only
+ * the cheap final multiplication of the partial results and the final exponentiation run on the
+ * calling thread.
+ *
  * <p>This is thread-safe class.
  */
 public class BatchSignatureVerifier implements BLSSignatureVerifier {
 
+  private static final ForkJoinPool DEFAULT_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  private static final int JOBS_PER_TASK = 2;
+
   private static class Job {
     final int idx;
     final List<BLSPublicKey> publicKeys;
@@ -51,8 +63,20 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
   }
 
   @VisibleForTesting final List<Job> toVerify = new ArrayList<>();
+  private final ForkJoinPool pool;
   private boolean complete = false;
 
+  public BatchSignatureVerifier() {
+    this(DEFAULT_POOL);
+  }
+
+  /**
+   * @param pool the pool signatures are prepared on, which determines the verification parallelism
+   */
+  public BatchSignatureVerifier(final ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
   @Override
   public synchronized boolean verify(
       List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
@@ -70,12 +94,71 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
    */
   public synchronized boolean batchVerify() {
     if (complete) throw new IllegalStateException("Reuse of disposable instance");
-    List<BatchSemiAggregate> batchSemiAggregates =
-        toVerify.stream()
-            .parallel()
-            .map(job -> BLS.prepareBatchVerify(job.idx, job.publicKeys, job.message, job.signature))
-            .collect(Collectors.toList());
+    final PrepareTask prepareTask = new PrepareTask(0, toVerify.size());
+    final List<BatchSemiAggregate> batchSemiAggregates =
+        toVerify.size() <= JOBS_PER_TASK ? prepareTask.compute() : pool.invoke(prepareTask);
     complete = true;
     return BLS.completeBatchVerify(batchSemiAggregates);
   }
+
+  /**
+   * Performs {@link #batchVerify()} on the verification pool rather than the calling thread, so
+   * that the caller can continue with other work while the signatures are verified.
+   *
+   * @return a future completed with the result of {@link #batchVerify()}
+   */
+  public SafeFuture<Boolean> batchVerifyAsync() {
+    return SafeFuture.of(CompletableFuture.supplyAsync(this::batchVerify, pool));
+  }
+
+  /** Recursively splits the jobs in half until each task prepares a single pair of signatures. */
+  private class PrepareTask extends RecursiveTask<List<BatchSemiAggregate>> {
+    private final int fromIndex;
+    private final int toIndex;
+
+    private PrepareTask(final int fromIndex, final int toIndex) {
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected List<BatchSemiAggregate> compute() {
+      final int jobCount = toIndex - fromIndex;
+      if (jobCount <= JOBS_PER_TASK) {
+        return prepare();
+      }
+      // Keep the split point even so jobs are always paired in the same way
+      final int midIndex = fromIndex + ((jobCount / 2 + 1) & ~1);
+      final PrepareTask left = new PrepareTask(fromIndex, midIndex);
+      final PrepareTask right = new PrepareTask(midIndex, toIndex);
+      left.fork();
+      final List<BatchSemiAggregate> rightResult = right.compute();
+      final List<BatchSemiAggregate> result = new ArrayList<>(left.join());
+      result.addAll(rightResult);
+      return result;
+    }
+
+    private List<BatchSemiAggregate> prepare() {
+      final List<BatchSemiAggregate> result = new ArrayList<>(JOBS_PER_TASK);
+      int i = fromIndex;
+      for (; i + 1 < toIndex; i += 2) {
+        final Job job1 = toVerify.get(i);
+        final Job job2 = toVerify.get(i + 1);
+        result.add(
+            BLS.prepareBatchVerify2(
+                job1.idx,
+                job1.publicKeys,
+                job1.message,
+                job1.signature,
+                job2.publicKeys,
+                job2.message,
+                job2.signature));
+      }
+      if (i < toIndex) {
+        final Job job = toVerify.get(i);
+        result.add(BLS.prepareBatchVerify(job.idx, job.publicKeys, job.message, job.signature));
+      }
+      return result;
+    }
+  }
 }
@@ -28,12 +28,13 @@ public class EpochProcessor {
       throws EpochProcessingException {
     return preState.updated(
         state -> {
-          final MatchingAttestations matchingAttestations = new MatchingAttestations(state);
-          EpochProcessorUtil.process_justification_and_finalization(state, matchingAttestations);
-          EpochProcessorUtil.process_rewards_and_penalties(state, matchingAttestations);
-          EpochProcessorUtil.process_registry_updates(state);
-          EpochProcessorUtil.process_slashings(state);
-          EpochProcessorUtil.process_final_updates(state);
+          final ValidatorStatuses validatorStatuses =
+              new ValidatorStatuses(state, new MatchingAttestations(state));
+          EpochProcessorUtil.process_justification_and_finalization(state, validatorStatuses);
+          EpochProcessorUtil.process_rewards_and_penalties(state, validatorStatuses);
+          EpochProcessorUtil.process_registry_updates(state, validatorStatuses);
+          EpochProcessorUtil.process_slashings(state, validatorStatuses);
+          EpochProcessorUtil.process_final_updates(state, validatorStatuses);
         });
   }
 }
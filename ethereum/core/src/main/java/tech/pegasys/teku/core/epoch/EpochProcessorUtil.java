@@ -21,19 +21,16 @@ import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_current_
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_previous_epoch;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_randao_mix;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_total_active_balance;
-import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_total_balance;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_validator_churn_limit;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.initiate_validator_exit;
 import static tech.pegasys.teku.datastructures.util.ValidatorsUtil.decrease_balance;
 import static tech.pegasys.teku.datastructures.util.ValidatorsUtil.increase_balance;
-import static tech.pegasys.teku.datastructures.util.ValidatorsUtil.is_active_validator;
-import static tech.pegasys.teku.datastructures.util.ValidatorsUtil.is_eligible_for_activation;
-import static tech.pegasys.teku.datastructures.util.ValidatorsUtil.is_eligible_for_activation_queue;
 import static tech.pegasys.teku.util.config.Constants.EFFECTIVE_BALANCE_INCREMENT;
 import static tech.pegasys.teku.util.config.Constants.EJECTION_BALANCE;
 import static tech.pegasys.teku.util.config.Constants.EPOCHS_PER_ETH1_VOTING_PERIOD;
 import static tech.pegasys.teku.util.config.Constants.EPOCHS_PER_HISTORICAL_VECTOR;
 import static tech.pegasys.teku.util.config.Constants.EPOCHS_PER_SLASHINGS_VECTOR;
+import static tech.pegasys.teku.util.config.Constants.FAR_FUTURE_EPOCH;
 import static tech.pegasys.teku.util.config.Constants.GENESIS_EPOCH;
 import static tech.pegasys.teku.util.config.Constants.HYSTERESIS_DOWNWARD_MULTIPLIER;
 import static tech.pegasys.teku.util.config.Constants.HYSTERESIS_QUOTIENT;
@@ -62,6 +59,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
 import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZUInt64List;
 import tech.pegasys.teku.util.config.Constants;
 
 public final class EpochProcessorUtil {
@@ -98,30 +96,28 @@ public final class EpochProcessorUtil {
   }
 
   /**
-   * Returns the combined effective balance of the set of unslashed validators participating in
-   * attestations. Note: get_total_balance returns EFFECTIVE_BALANCE_INCREMENT Gwei minimum to avoid
-   * divisions by zero. attestations
+   * Processes justification and finalization
    *
    * @param state
-   * @param attestations
-   * @return
-   * @see
-   *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#helper-functions-1</a>
+   * @param matchingAttestations
+   * @throws EpochProcessingException
    */
-  private static UInt64 get_attesting_balance(
-      BeaconState state, SSZList<PendingAttestation> attestations) {
-    return get_total_balance(state, get_unslashed_attesting_indices(state, attestations));
+  public static void process_justification_and_finalization(
+      MutableBeaconState state, MatchingAttestations matchingAttestations)
+      throws EpochProcessingException {
+    process_justification_and_finalization(
+        state, new ValidatorStatuses(state, matchingAttestations));
   }
 
   /**
-   * Processes justification and finalization
+   * Processes justification and finalization using attesting balances from validator statuses
    *
    * @param state
-   * @param matchingAttestations
+   * @param validatorStatuses
    * @throws EpochProcessingException
    */
   public static void process_justification_and_finalization(
-      MutableBeaconState state, MatchingAttestations matchingAttestations)
+      MutableBeaconState state, ValidatorStatuses validatorStatuses)
       throws EpochProcessingException {
     try {
       if (get_current_epoch(state)
@@ -138,9 +134,8 @@ public final class EpochProcessorUtil {
       state.setPrevious_justified_checkpoint(state.getCurrent_justified_checkpoint());
       Bitvector justificationBits = state.getJustification_bits().rightShift(1);
 
-      SSZList<PendingAttestation> matching_target_attestations =
-          matchingAttestations.getMatchingTargetAttestations(previous_epoch);
-      if (get_attesting_balance(state, matching_target_attestations)
+      if (validatorStatuses
+          .getPreviousEpochTargetAttestingBalance()
           .times(3)
           .isGreaterThanOrEqualTo(get_total_active_balance(state).times(2))) {
         Checkpoint newCheckpoint =
@@ -148,9 +143,8 @@ public final class EpochProcessorUtil {
         state.setCurrent_justified_checkpoint(newCheckpoint);
         justificationBits.setBit(1);
       }
-      matching_target_attestations =
-          matchingAttestations.getMatchingTargetAttestations(current_epoch);
-      if (get_attesting_balance(state, matching_target_attestations)
+      if (validatorStatuses
+          .getCurrentEpochTargetAttestingBalance()
           .times(3)
           .isGreaterThanOrEqualTo(get_total_active_balance(state).times(2))) {
         Checkpoint newCheckpoint =
@@ -199,17 +193,30 @@ public final class EpochProcessorUtil {
   public static void process_rewards_and_penalties(
       MutableBeaconState state, MatchingAttestations matchingAttestations)
       throws EpochProcessingException {
+    process_rewards_and_penalties(state, new ValidatorStatuses(state, matchingAttestations));
+  }
+
+  /**
+   * Processes rewards and penalties using validator statuses
+   *
+   * @param state
+   * @param validatorStatuses
+   * @throws EpochProcessingException
+   */
+  public static void process_rewards_and_penalties(
+      MutableBeaconState state, ValidatorStatuses validatorStatuses)
+      throws EpochProcessingException {
     try {
       if (get_current_epoch(state).equals(UInt64.valueOf(GENESIS_EPOCH))) {
         return;
       }
 
       Deltas attestation_deltas =
-          new RewardsAndPenaltiesCalculator(state, matchingAttestations).getAttestationDeltas();
+          new RewardsAndPenaltiesCalculator(state, validatorStatuses).getAttestationDeltas();
 
-      for (int i = 0; i < state.getValidators().size(); i++) {
-        increase_balance(state, i, attestation_deltas.getReward(i));
-        decrease_balance(state, i, attestation_deltas.getPenalty(i));
+      for (int i = 0; i < validatorStatuses.getValidatorCount(); i++) {
+        increase_balance(state, i, attestation_deltas.getRewardLong(i));
+        decrease_balance(state, i, attestation_deltas.getPenaltyLong(i));
       }
     } catch (IllegalArgumentException e) {
       throw new EpochProcessingException(e);
@@ -226,50 +233,63 @@ public final class EpochProcessorUtil {
    */
   public static void process_registry_updates(MutableBeaconState state)
       throws EpochProcessingException {
+    process_registry_updates(state, new ValidatorStatuses(state, new MatchingAttestations(state)));
+  }
+
+  /**
+   * Processes validator registry updates using validator statuses
+   *
+   * @param state
+   * @param validatorStatuses
+   * @throws EpochProcessingException
+   */
+  public static void process_registry_updates(
+      MutableBeaconState state, ValidatorStatuses validatorStatuses)
+      throws EpochProcessingException {
     try {
+      final long currentEpoch = get_current_epoch(state).longValue();
+      final long farFutureEpoch = FAR_FUTURE_EPOCH.longValue();
 
       // Process activation eligibility and ejections
       SSZMutableList<Validator> validators = state.getValidators();
-      for (int index = 0; index < validators.size(); index++) {
-        Validator validator = validators.get(index);
-
-        if (is_eligible_for_activation_queue(validator)) {
-          validators.set(
-              index,
-              validator.withActivation_eligibility_epoch(
-                  get_current_epoch(state).plus(UInt64.ONE)));
+      for (int index = 0; index < validatorStatuses.getValidatorCount(); index++) {
+        final long effectiveBalance = validatorStatuses.getEffectiveBalance(index);
+
+        if (validatorStatuses.getActivationEligibilityEpoch(index) == farFutureEpoch
+            && effectiveBalance == MAX_EFFECTIVE_BALANCE) {
+          final Validator validator =
+              validators
+                  .get(index)
+                  .withActivation_eligibility_epoch(UInt64.fromLongBits(currentEpoch + 1));
+          validators.set(index, validator);
+          validatorStatuses.updateValidator(index, validator);
         }
 
-        if (is_active_validator(validator, get_current_epoch(state))
-            && validator
-                .getEffective_balance()
-                .isLessThanOrEqualTo(UInt64.valueOf(EJECTION_BALANCE))) {
+        if (validatorStatuses.isActive(index, currentEpoch)
+            && Long.compareUnsigned(effectiveBalance, EJECTION_BALANCE) <= 0) {
           initiate_validator_exit(state, index);
+          validatorStatuses.updateValidator(index, validators.get(index));
         }
       }
 
       // Queue validators eligible for activation and not yet dequeued for activation
+      final long finalizedEpoch = state.getFinalized_checkpoint().getEpoch().longValue();
       List<Integer> activation_queue =
-          IntStream.range(0, state.getValidators().size())
-              .sequential()
+          IntStream.range(0, validatorStatuses.getValidatorCount())
               .filter(
-                  index -> {
-                    Validator validator = state.getValidators().get(index);
-                    return is_eligible_for_activation(state, validator);
-                  })
+                  index ->
+                      Long.compareUnsigned(
+                                  validatorStatuses.getActivationEligibilityEpoch(index),
+                                  finalizedEpoch)
+                              <= 0
+                          && validatorStatuses.getActivationEpoch(index) == farFutureEpoch)
               .boxed()
               .sorted(
                   (index1, index2) -> {
                     int comparisonResult =
-                        state
-                            .getValidators()
-                            .get(index1)
-                            .getActivation_eligibility_epoch()
-                            .compareTo(
-                                state
-                                    .getValidators()
-                                    .get(index2)
-                                    .getActivation_eligibility_epoch());
+                        Long.compareUnsigned(
+                            validatorStatuses.getActivationEligibilityEpoch(index1),
+                            validatorStatuses.getActivationEligibilityEpoch(index2));
                     if (comparisonResult == 0) {
                       return index1.compareTo(index2);
                     } else {
@@ -281,14 +301,11 @@ public final class EpochProcessorUtil {
       // Dequeued validators for activation up to churn limit (without resetting activation epoch)
       int churn_limit = get_validator_churn_limit(state).intValue();
       int sublist_size = Math.min(churn_limit, activation_queue.size());
+      final UInt64 activation_epoch = compute_activation_exit_epoch(get_current_epoch(state));
       for (Integer index : activation_queue.subList(0, sublist_size)) {
-        state
-            .getValidators()
-            .update(
-                index,
-                validator ->
-                    validator.withActivation_epoch(
-                        compute_activation_exit_epoch(get_current_epoch(state))));
+        final Validator validator = validators.get(index).withActivation_epoch(activation_epoch);
+        validators.set(index, validator);
+        validatorStatuses.updateValidator(index, validator);
       }
     } catch (IllegalArgumentException e) {
       throw new EpochProcessingException(e);
@@ -303,6 +320,17 @@ public final class EpochProcessorUtil {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#slashings</a>
    */
   public static void process_slashings(MutableBeaconState state) {
+    process_slashings(state, new ValidatorStatuses(state, new MatchingAttestations(state)));
+  }
+
+  /**
+   * Processes slashings using validator statuses
+   *
+   * @param state
+   * @param validatorStatuses
+   */
+  public static void process_slashings(
+      MutableBeaconState state, ValidatorStatuses validatorStatuses) {
     UInt64 epoch = get_current_epoch(state);
     UInt64 total_balance = get_total_active_balance(state);
     UInt64 adjusted_total_slashing_balance =
@@ -311,17 +339,13 @@ public final class EpochProcessorUtil {
             .times(Constants.PROPORTIONAL_SLASHING_MULTIPLIER)
             .min(total_balance);
 
-    SSZList<Validator> validators = state.getValidators();
-    for (int index = 0; index < validators.size(); index++) {
-      Validator validator = validators.get(index);
-      if (validator.isSlashed()
-          && epoch
-              .plus(EPOCHS_PER_SLASHINGS_VECTOR / 2)
-              .equals(validator.getWithdrawable_epoch())) {
+    final long withdrawableEpoch = epoch.plus(EPOCHS_PER_SLASHINGS_VECTOR / 2).longValue();
+    for (int index = 0; index < validatorStatuses.getValidatorCount(); index++) {
+      if (validatorStatuses.isSlashed(index)
+          && validatorStatuses.getWithdrawableEpoch(index) == withdrawableEpoch) {
         UInt64 increment = EFFECTIVE_BALANCE_INCREMENT;
         UInt64 penalty_numerator =
-            validator
-                .getEffective_balance()
+            UInt64.fromLongBits(validatorStatuses.getEffectiveBalance(index))
                 .dividedBy(increment)
                 .times(adjusted_total_slashing_balance);
         UInt64 penalty = penalty_numerator.dividedBy(total_balance).times(increment);
@@ -338,6 +362,17 @@ public final class EpochProcessorUtil {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#final-updates</a>
    */
   public static void process_final_updates(MutableBeaconState state) {
+    process_final_updates(state, new ValidatorStatuses(state, new MatchingAttestations(state)));
+  }
+
+  /**
+   * Processes final updates using validator statuses
+   *
+   * @param state
+   * @param validatorStatuses
+   */
+  public static void process_final_updates(
+      MutableBeaconState state, ValidatorStatuses validatorStatuses) {
     UInt64 current_epoch = get_current_epoch(state);
     UInt64 next_epoch = current_epoch.plus(UInt64.ONE);
 
@@ -348,25 +383,30 @@ public final class EpochProcessorUtil {
 
     // Update effective balances with hysteresis
     SSZMutableList<Validator> validators = state.getValidators();
-    SSZList<UInt64> balances = state.getBalances();
-    for (int index = 0; index < validators.size(); index++) {
-      Validator validator = validators.get(index);
-      UInt64 balance = balances.get(index);
-
-      final UInt64 hysteresis_increment =
-          EFFECTIVE_BALANCE_INCREMENT.dividedBy(HYSTERESIS_QUOTIENT);
-      final UInt64 downward_threshold = hysteresis_increment.times(HYSTERESIS_DOWNWARD_MULTIPLIER);
-      final UInt64 upward_threshold = hysteresis_increment.times(HYSTERESIS_UPWARD_MULTIPLIER);
-      if (balance.plus(downward_threshold).isLessThan(validator.getEffective_balance())
-          || validator.getEffective_balance().plus(upward_threshold).isLessThan(balance)) {
-        state
-            .getValidators()
-            .set(
-                index,
-                validator.withEffective_balance(
-                    balance
-                        .minus(balance.mod(EFFECTIVE_BALANCE_INCREMENT))
-                        .min(UInt64.valueOf(MAX_EFFECTIVE_BALANCE))));
+    SSZUInt64List balances = state.getBalances();
+    final long increment = EFFECTIVE_BALANCE_INCREMENT.longValue();
+    final long hysteresis_increment = increment / HYSTERESIS_QUOTIENT.longValue();
+    final long downward_threshold =
+        hysteresis_increment * HYSTERESIS_DOWNWARD_MULTIPLIER.longValue();
+    final long upward_threshold = hysteresis_increment * HYSTERESIS_UPWARD_MULTIPLIER.longValue();
+    for (int index = 0; index < validatorStatuses.getValidatorCount(); index++) {
+      final long balance = balances.getLong(index);
+      final long effective_balance = validatorStatuses.getEffectiveBalance(index);
+
+      // Balances are uint64 so are compared as unsigned values
+      if (Long.compareUnsigned(plusUnsigned(balance, downward_threshold), effective_balance) < 0
+          || Long.compareUnsigned(plusUnsigned(effective_balance, upward_threshold), balance) < 0) {
+        final long rounded_balance = balance - Long.remainderUnsigned(balance, increment);
+        final Validator validator =
+            validators
+                .get(index)
+                .withEffective_balance(
+                    UInt64.fromLongBits(
+                        Long.compareUnsigned(rounded_balance, MAX_EFFECTIVE_BALANCE) < 0
+                            ? rounded_balance
+                            : MAX_EFFECTIVE_BALANCE));
+        validators.set(index, validator);
+        validatorStatuses.updateValidator(index, validator);
       }
     }
 
@@ -392,4 +432,13 @@ public final class EpochProcessorUtil {
         .setAll(
             SSZList.createMutable(PendingAttestation.class, MAX_ATTESTATIONS * SLOTS_PER_EPOCH));
   }
+
+  /** Adds two uint64 values held as longs, failing on overflow as {@link UInt64#plus} does. */
+  private static long plusUnsigned(final long a, final long b) {
+    final long sum = a + b;
+    if (Long.compareUnsigned(sum, a) < 0) {
+      throw new ArithmeticException("uint64 overflow");
+    }
+    return sum;
+  }
 }
@@ -13,14 +13,8 @@
 
 package tech.pegasys.teku.core.epoch;
 
-import static java.lang.Math.toIntExact;
-import static java.util.stream.Collectors.toMap;
-import static tech.pegasys.teku.core.epoch.EpochProcessorUtil.get_unslashed_attesting_indices;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_previous_epoch;
-import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_total_active_balance;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_total_active_balance_with_root;
-import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_total_balance;
-import static tech.pegasys.teku.datastructures.util.ValidatorsUtil.is_active_validator;
 import static tech.pegasys.teku.util.config.Constants.BASE_REWARDS_PER_EPOCH;
 import static tech.pegasys.teku.util.config.Constants.BASE_REWARD_FACTOR;
 import static tech.pegasys.teku.util.config.Constants.EFFECTIVE_BALANCE_INCREMENT;
@@ -28,88 +22,66 @@ import static tech.pegasys.teku.util.config.Constants.INACTIVITY_PENALTY_QUOTIEN
 import static tech.pegasys.teku.util.config.Constants.MIN_EPOCHS_TO_INACTIVITY_PENALTY;
 import static tech.pegasys.teku.util.config.Constants.PROPOSER_REWARD_QUOTIENT;
 
-import com.google.common.base.Suppliers;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.IntPredicate;
 import org.apache.commons.lang3.tuple.Pair;
 import tech.pegasys.teku.core.Deltas;
 import tech.pegasys.teku.datastructures.state.BeaconState;
-import tech.pegasys.teku.datastructures.state.PendingAttestation;
-import tech.pegasys.teku.datastructures.state.Validator;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
-import tech.pegasys.teku.ssz.SSZTypes.SSZList;
 
+/**
+ * Calculates attestation rewards and penalties from the primitive {@link ValidatorStatuses} so no
+ * per-validator objects are created.
+ */
 public class RewardsAndPenaltiesCalculator {
 
   private final BeaconState state;
-  private final MatchingAttestations matchingAttestations;
-  private final List<UInt64> noValues;
-  private final Supplier<Map<Integer, UInt64>> eligibleValidatorBaseRewards;
+  private final ValidatorStatuses validatorStatuses;
+  private final long previousEpoch;
+  private final long totalBalance;
+  private final long[] baseRewards;
   private final boolean isInInactivityLeak;
 
   public RewardsAndPenaltiesCalculator(
       final BeaconState state, final MatchingAttestations matchingAttestations) {
-    this.state = state;
-    this.matchingAttestations = matchingAttestations;
-    noValues = Collections.nCopies(state.getValidators().size(), UInt64.ZERO);
-    eligibleValidatorBaseRewards = Suppliers.memoize(this::calculateEligibleValidatorBaseRewards);
-    isInInactivityLeak = getFinalityDelay().compareTo(MIN_EPOCHS_TO_INACTIVITY_PENALTY) > 0;
+    this(state, new ValidatorStatuses(state, matchingAttestations));
   }
 
-  private Map<Integer, UInt64> getEligibleValidatorBaseRewards() {
-    return eligibleValidatorBaseRewards.get();
+  public RewardsAndPenaltiesCalculator(
+      final BeaconState state, final ValidatorStatuses validatorStatuses) {
+    this.state = state;
+    this.validatorStatuses = validatorStatuses;
+    this.previousEpoch = get_previous_epoch(state).longValue();
+    final Pair<UInt64, UInt64> totalActiveBalanceWithRoot =
+        get_total_active_balance_with_root(state);
+    this.totalBalance = totalActiveBalanceWithRoot.getLeft().longValue();
+    this.baseRewards = calculateBaseRewards(totalActiveBalanceWithRoot.getRight().longValue());
+    isInInactivityLeak = getFinalityDelay().compareTo(MIN_EPOCHS_TO_INACTIVITY_PENALTY) > 0;
   }
 
   /**
-   * Returns the base reward specific to the validator with the given index
+   * Returns the base reward of every validator, indexed by validator index
    *
-   * @param index
+   * @param totalBalanceSquareRoot the square root of the total active balance
    * @return
    */
-  private UInt64 getBaseReward(int index) {
-    final UInt64 baseReward = getEligibleValidatorBaseRewards().get(index);
-    return baseReward != null ? baseReward : calculateBaseReward(index);
-  }
-
-  private UInt64 calculateBaseReward(int index) {
-    UInt64 totalBalanceSquareRoot = get_total_active_balance_with_root(state).getRight();
-    UInt64 effectiveBalance = state.getValidators().get(index).getEffective_balance();
-    return effectiveBalance
-        .times(BASE_REWARD_FACTOR)
-        .dividedBy(totalBalanceSquareRoot)
-        .dividedBy(BASE_REWARDS_PER_EPOCH);
-  }
-
-  private Map<Integer, UInt64> calculateEligibleValidatorBaseRewards() {
-    final UInt64 previousEpoch = get_previous_epoch(state);
-    final UInt64 previousEpochPlusOne = previousEpoch.plus(UInt64.ONE);
-    return IntStream.range(0, state.getValidators().size())
-        .filter(
-            index -> {
-              final Validator v = state.getValidators().get(index);
-              return is_active_validator(v, previousEpoch)
-                  || (v.isSlashed()
-                      && previousEpochPlusOne.compareTo(v.getWithdrawable_epoch()) < 0);
-            })
-        .boxed()
-        .collect(toMap(i -> i, this::calculateBaseReward));
+  private long[] calculateBaseRewards(final long totalBalanceSquareRoot) {
+    final int validatorCount = validatorStatuses.getValidatorCount();
+    final long[] result = new long[validatorCount];
+    for (int index = 0; index < validatorCount; index++) {
+      result[index] =
+          Math.multiplyExact(validatorStatuses.getEffectiveBalance(index), BASE_REWARD_FACTOR)
+              / totalBalanceSquareRoot
+              / BASE_REWARDS_PER_EPOCH.longValue();
+    }
+    return result;
   }
 
-  private Collection<Integer> getEligibleValidatorIndices() {
-    return getEligibleValidatorBaseRewards().keySet();
+  private long getProposerReward(int attestingIndex) {
+    return baseRewards[attestingIndex] / PROPOSER_REWARD_QUOTIENT.longValue();
   }
 
-  private UInt64 getProposerReward(int attestingIndex) {
-    return getBaseReward(attestingIndex).dividedBy(PROPOSER_REWARD_QUOTIENT);
+  private boolean isEligible(int index) {
+    return validatorStatuses.isEligibleForRewards(index, previousEpoch);
   }
 
   private UInt64 getFinalityDelay() {
@@ -119,40 +91,91 @@ public class RewardsAndPenaltiesCalculator {
   /**
    * Helper with shared logic for use by get source, target and head deltas functions
    *
-   * @param attestations
-   * @return
+   * @param deltas the deltas to add to
+   * @param isUnslashedAttester whether a validator is an unslashed attester of the component
+   * @param attestingBalance the total balance of the unslashed attesters
    */
-  private Deltas getAttestationComponentDeltas(SSZList<PendingAttestation> attestations) {
-    int validatorCount = state.getValidators().size();
-    List<UInt64> rewards = new ArrayList<>(validatorCount);
-    List<UInt64> penalties = new ArrayList<>(validatorCount);
-    for (int i = 0; i < validatorCount; i++) {
-      rewards.add(UInt64.ZERO);
-      penalties.add(UInt64.ZERO);
-    }
-    UInt64 totalBalance = get_total_active_balance(state);
-    Set<Integer> unslashedAttestingIndices =
-        get_unslashed_attesting_indices(state, attestations, HashSet::new);
-    UInt64 attestingBalance = get_total_balance(state, unslashedAttestingIndices);
-
-    for (int index : getEligibleValidatorIndices()) {
-      if (unslashedAttestingIndices.contains(index)) {
-        UInt64 increment = EFFECTIVE_BALANCE_INCREMENT;
-
+  private void addAttestationComponentDeltas(
+      final Deltas deltas, final IntPredicate isUnslashedAttester, final UInt64 attestingBalance) {
+    final long increment = EFFECTIVE_BALANCE_INCREMENT.longValue();
+    final long attestingBalanceIncrements = attestingBalance.longValue() / increment;
+    final long totalBalanceIncrements = totalBalance / increment;
+
+    for (int index = 0; index < baseRewards.length; index++) {
+      if (!isEligible(index)) {
+        continue;
+      }
+      if (isUnslashedAttester.test(index)) {
         if (isInInactivityLeak) {
           // Since full base reward will be canceled out by inactivity penalty deltas,
           // optimal participation receives full base reward compensation here.
-          add(rewards, index, getBaseReward(index));
+          deltas.addReward(index, baseRewards[index]);
         } else {
-          UInt64 rewardNumerator =
-              getBaseReward(index).times(attestingBalance.dividedBy(increment));
-          add(rewards, index, rewardNumerator.dividedBy(totalBalance.dividedBy(increment)));
+          long rewardNumerator = Math.multiplyExact(baseRewards[index], attestingBalanceIncrements);
+          deltas.addReward(index, rewardNumerator / totalBalanceIncrements);
         }
       } else {
-        add(penalties, index, getBaseReward(index));
+        deltas.addPenalty(index, baseRewards[index]);
+      }
+    }
+  }
+
+  private void addSourceDeltas(final Deltas deltas) {
+    addAttestationComponentDeltas(
+        deltas,
+        validatorStatuses::isPreviousEpochSourceAttester,
+        validatorStatuses.getPreviousEpochSourceAttestingBalance());
+  }
+
+  private void addTargetDeltas(final Deltas deltas) {
+    addAttestationComponentDeltas(
+        deltas,
+        validatorStatuses::isPreviousEpochTargetAttester,
+        validatorStatuses.getPreviousEpochTargetAttestingBalance());
+  }
+
+  private void addHeadDeltas(final Deltas deltas) {
+    addAttestationComponentDeltas(
+        deltas,
+        validatorStatuses::isPreviousEpochHeadAttester,
+        validatorStatuses.getPreviousEpochHeadAttestingBalance());
+  }
+
+  private void addInclusionDelayDeltas(final Deltas deltas) {
+    for (int index = 0; index < baseRewards.length; index++) {
+      if (!validatorStatuses.isPreviousEpochSourceAttester(index)) {
+        continue;
+      }
+      final long proposerReward = getProposerReward(index);
+      deltas.addReward(validatorStatuses.getInclusionProposer(index), proposerReward);
+
+      final long maxAttesterReward = baseRewards[index] - proposerReward;
+      deltas.addReward(index, maxAttesterReward / validatorStatuses.getInclusionDelay(index));
+    }
+  }
+
+  private void addInactivityPenaltyDeltas(final Deltas deltas) {
+    if (!isInInactivityLeak) {
+      return;
+    }
+    final long finalityDelay = getFinalityDelay().longValue();
+    for (int index = 0; index < baseRewards.length; index++) {
+      if (!isEligible(index)) {
+        continue;
+      }
+      // If validator is performing optimally this cancels all rewards for a neutral balance
+      deltas.addPenalty(
+          index,
+          Math.multiplyExact(BASE_REWARDS_PER_EPOCH.longValue(), baseRewards[index])
+              - getProposerReward(index));
+      if (!validatorStatuses.isPreviousEpochTargetAttester(index)) {
+        final long effectiveBalance = validatorStatuses.getEffectiveBalance(index);
+        deltas.addPenalty(
+            index,
+            Math.multiplyExact(effectiveBalance, finalityDelay)
+                / INACTIVITY_PENALTY_QUOTIENT.longValue());
       }
     }
-    return new Deltas(rewards, penalties);
   }
 
   /**
@@ -161,9 +184,9 @@ public class RewardsAndPenaltiesCalculator {
    * @return
    */
   public Deltas getSourceDeltas() {
-    final SSZList<PendingAttestation> matchingSourceAttestations =
-        matchingAttestations.getMatchingSourceAttestations(get_previous_epoch(state));
-    return getAttestationComponentDeltas(matchingSourceAttestations);
+    final Deltas deltas = new Deltas(baseRewards.length);
+    addSourceDeltas(deltas);
+    return deltas;
   }
 
   /**
@@ -172,9 +195,9 @@ public class RewardsAndPenaltiesCalculator {
    * @return
    */
   public Deltas getTargetDeltas() {
-    final SSZList<PendingAttestation> matchingTargetAttestations =
-        matchingAttestations.getMatchingTargetAttestations(get_previous_epoch(state));
-    return getAttestationComponentDeltas(matchingTargetAttestations);
+    final Deltas deltas = new Deltas(baseRewards.length);
+    addTargetDeltas(deltas);
+    return deltas;
   }
 
   /**
@@ -183,50 +206,17 @@ public class RewardsAndPenaltiesCalculator {
    * @return
    */
   public Deltas getHeadDeltas() {
-    final SSZList<PendingAttestation> matchingHeadAttestations =
-        matchingAttestations.getMatchingHeadAttestations(get_previous_epoch(state));
-    return getAttestationComponentDeltas(matchingHeadAttestations);
+    final Deltas deltas = new Deltas(baseRewards.length);
+    addHeadDeltas(deltas);
+    return deltas;
   }
 
   /** Return proposer and inclusion delay micro-rewards/penalties for each validator */
   public Deltas getInclusionDelayDeltas() {
-    int validatorCount = state.getValidators().size();
-    List<UInt64> rewards = new ArrayList<>(validatorCount);
-    for (int i = 0; i < validatorCount; i++) {
-      rewards.add(UInt64.ZERO);
-    }
-    SSZList<PendingAttestation> matchingSourceAttestations =
-        matchingAttestations.getMatchingSourceAttestations(get_previous_epoch(state));
-
-    // map (unslashed attester index) -> (list of source attestations)
-    Map<Integer, List<PendingAttestation>> validator_source_attestations =
-        matchingSourceAttestations.stream()
-            .flatMap(
-                a ->
-                    get_unslashed_attesting_indices(state, SSZList.singleton(a)).stream()
-                        .map(i -> Pair.of(i, a)))
-            .collect(
-                Collectors.groupingBy(
-                    Pair::getLeft, Collectors.mapping(Pair::getRight, Collectors.toList())));
-
-    validator_source_attestations.forEach(
-        (index, attestations) ->
-            attestations.stream()
-                .min(Comparator.comparing(PendingAttestation::getInclusion_delay))
-                .ifPresent(
-                    a -> {
-                      add(
-                          rewards,
-                          toIntExact(a.getProposer_index().longValue()),
-                          getProposerReward(index));
-
-                      UInt64 maxAttesterReward =
-                          getBaseReward(index).minus(getProposerReward(index));
-                      add(rewards, index, maxAttesterReward.dividedBy(a.getInclusion_delay()));
-                    }));
-
     // No penalties associtated with inclusion delay
-    return new Deltas(rewards, noValues);
+    final Deltas deltas = new Deltas(baseRewards.length);
+    addInclusionDelayDeltas(deltas);
+    return deltas;
   }
 
   /**
@@ -235,36 +225,10 @@ public class RewardsAndPenaltiesCalculator {
    * @return
    */
   public Deltas getInactivityPenaltyDeltas() {
-    int validatorCount = state.getValidators().size();
-    List<UInt64> penalties = new ArrayList<>(validatorCount);
-    for (int i = 0; i < validatorCount; i++) {
-      penalties.add(UInt64.ZERO);
-    }
-
-    if (isInInactivityLeak) {
-      SSZList<PendingAttestation> matchingTargetAttestations =
-          matchingAttestations.getMatchingTargetAttestations(get_previous_epoch(state));
-      Set<Integer> matchingTargetAttestingIndices =
-          get_unslashed_attesting_indices(state, matchingTargetAttestations, HashSet::new);
-      for (int index : getEligibleValidatorIndices()) {
-        // If validator is performing optimally this cancels all rewards for a neutral balance
-        UInt64 baseReward = getBaseReward(index);
-        add(
-            penalties,
-            index,
-            BASE_REWARDS_PER_EPOCH.times(baseReward).minus(getProposerReward(index)));
-        if (!matchingTargetAttestingIndices.contains(index)) {
-          final UInt64 effectiveBalance = state.getValidators().get(index).getEffective_balance();
-          add(
-              penalties,
-              index,
-              effectiveBalance.times(getFinalityDelay()).dividedBy(INACTIVITY_PENALTY_QUOTIENT));
-        }
-      }
-    }
-
     // No rewards associated with inactivity penalties
-    return new Deltas(noValues, penalties);
+    final Deltas deltas = new Deltas(baseRewards.length);
+    addInactivityPenaltyDeltas(deltas);
+    return deltas;
   }
 
   /**
@@ -274,33 +238,12 @@ public class RewardsAndPenaltiesCalculator {
    * @throws IllegalArgumentException
    */
   public Deltas getAttestationDeltas() throws IllegalArgumentException {
-    Deltas sourceDeltas = getSourceDeltas();
-    Deltas targetDeltas = getTargetDeltas();
-    Deltas headDeltas = getHeadDeltas();
-    Deltas inclusionDelayDeltas = getInclusionDelayDeltas();
-    Deltas inactivityDeltas = getInactivityPenaltyDeltas();
-
-    List<UInt64> rewards = new ArrayList<>();
-    List<UInt64> penalties = new ArrayList<>();
-    for (int i = 0; i < state.getValidators().size(); i++) {
-      rewards.add(
-          sourceDeltas
-              .getReward(i)
-              .plus(targetDeltas.getReward(i))
-              .plus(headDeltas.getReward(i))
-              .plus(inclusionDelayDeltas.getReward(i)));
-      penalties.add(
-          sourceDeltas
-              .getPenalty(i)
-              .plus(targetDeltas.getPenalty(i))
-              .plus(headDeltas.getPenalty(i))
-              .plus(inactivityDeltas.getPenalty(i)));
-    }
-    return new Deltas(rewards, penalties);
-  }
-
-  private void add(final List<UInt64> list, int index, UInt64 amount) {
-    final UInt64 current = list.get(index);
-    list.set(index, current.plus(amount));
+    final Deltas deltas = new Deltas(baseRewards.length);
+    addSourceDeltas(deltas);
+    addTargetDeltas(deltas);
+    addHeadDeltas(deltas);
+    addInclusionDelayDeltas(deltas);
+    addInactivityPenaltyDeltas(deltas);
+    return deltas;
   }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.epoch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_current_epoch;
+import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.get_previous_epoch;
+import static tech.pegasys.teku.datastructures.util.CommitteeUtil.get_beacon_committee;
+import static tech.pegasys.teku.util.config.Constants.EFFECTIVE_BALANCE_INCREMENT;
+
+import com.google.common.base.Suppliers;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import tech.pegasys.teku.datastructures.operations.AttestationData;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.state.PendingAttestation;
+import tech.pegasys.teku.datastructures.state.Validator;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
+import tech.pegasys.teku.ssz.SSZTypes.SSZList;
+
+/**
+ * The fields of every validator needed for epoch processing, read from the state once and kept in
+ * primitive arrays indexed by validator index.
+ *
+ * <p>Epochs and balances are stored as the bits of unsigned longs. Attestation participation is
+ * only calculated when first requested as it requires the committees of the previous and current
+ * epochs.
+ */
+public class ValidatorStatuses {
+  private static final int PREVIOUS_EPOCH_SOURCE_ATTESTER = 1;
+  private static final int PREVIOUS_EPOCH_TARGET_ATTESTER = 1 << 1;
+  private static final int PREVIOUS_EPOCH_HEAD_ATTESTER = 1 << 2;
+  private static final int CURRENT_EPOCH_TARGET_ATTESTER = 1 << 3;
+
+  private final BeaconState state;
+  private final MatchingAttestations matchingAttestations;
+  private final int validatorCount;
+  private final long[] effectiveBalances;
+  private final long[] activationEligibilityEpochs;
+  private final long[] activationEpochs;
+  private final long[] exitEpochs;
+  private final long[] withdrawableEpochs;
+  private final boolean[] slashed;
+  private final Supplier<Participation> participation;
+
+  public ValidatorStatuses(
+      final BeaconState state, final MatchingAttestations matchingAttestations) {
+    this.state = state;
+    this.matchingAttestations = matchingAttestations;
+    final SSZList<Validator> validators = state.getValidators();
+    this.validatorCount = validators.size();
+    this.effectiveBalances = new long[validatorCount];
+    this.activationEligibilityEpochs = new long[validatorCount];
+    this.activationEpochs = new long[validatorCount];
+    this.exitEpochs = new long[validatorCount];
+    this.withdrawableEpochs = new long[validatorCount];
+    this.slashed = new boolean[validatorCount];
+    for (int index = 0; index < validatorCount; index++) {
+      updateValidator(index, validators.get(index));
+    }
+    this.participation = Suppliers.memoize(this::calculateParticipation);
+  }
+
+  /**
+   * Re-reads the fields of a validator after it has been modified in the state.
+   *
+   * @param index the validator index
+   * @param validator the updated validator
+   */
+  void updateValidator(final int index, final Validator validator) {
+    effectiveBalances[index] = validator.getEffective_balance().longValue();
+    activationEligibilityEpochs[index] = validator.getActivation_eligibility_epoch().longValue();
+    activationEpochs[index] = validator.getActivation_epoch().longValue();
+    exitEpochs[index] = validator.getExit_epoch().longValue();
+    withdrawableEpochs[index] = validator.getWithdrawable_epoch().longValue();
+    slashed[index] = validator.isSlashed();
+  }
+
+  public int getValidatorCount() {
+    return validatorCount;
+  }
+
+  public long getEffectiveBalance(final int index) {
+    return effectiveBalances[index];
+  }
+
+  public long getActivationEligibilityEpoch(final int index) {
+    return activationEligibilityEpochs[index];
+  }
+
+  public long getActivationEpoch(final int index) {
+    return activationEpochs[index];
+  }
+
+  public long getWithdrawableEpoch(final int index) {
+    return withdrawableEpochs[index];
+  }
+
+  public boolean isSlashed(final int index) {
+    return slashed[index];
+  }
+
+  public boolean isActive(final int index, final long epoch) {
+    return Long.compareUnsigned(activationEpochs[index], epoch) <= 0
+        && Long.compareUnsigned(epoch, exitEpochs[index]) < 0;
+  }
+
+  /**
+   * Returns true if the validator is eligible for attestation rewards and penalties in the
+   * previous epoch: either active or slashed but not yet withdrawable.
+   */
+  public boolean isEligibleForRewards(final int index, final long previousEpoch) {
+    return isActive(index, previousEpoch)
+        || (slashed[index]
+            && Long.compareUnsigned(previousEpoch + 1, withdrawableEpochs[index]) < 0);
+  }
+
+  public boolean isPreviousEpochSourceAttester(final int index) {
+    return hasFlag(index, PREVIOUS_EPOCH_SOURCE_ATTESTER);
+  }
+
+  public boolean isPreviousEpochTargetAttester(final int index) {
+    return hasFlag(index, PREVIOUS_EPOCH_TARGET_ATTESTER);
+  }
+
+  public boolean isPreviousEpochHeadAttester(final int index) {
+    return hasFlag(index, PREVIOUS_EPOCH_HEAD_ATTESTER);
+  }
+
+  /**
+   * Returns the inclusion delay of the earliest included previous epoch source attestation of the
+   * validator. Only valid if {@link #isPreviousEpochSourceAttester(int)}.
+   */
+  public long getInclusionDelay(final int index) {
+    return participation.get().inclusionDelays[index];
+  }
+
+  /**
+   * Returns the proposer which included the earliest previous epoch source attestation of the
+   * validator. Only valid if {@link #isPreviousEpochSourceAttester(int)}.
+   */
+  public int getInclusionProposer(final int index) {
+    return participation.get().inclusionProposers[index];
+  }
+
+  public UInt64 getPreviousEpochSourceAttestingBalance() {
+    return getAttestingBalance(PREVIOUS_EPOCH_SOURCE_ATTESTER);
+  }
+
+  public UInt64 getPreviousEpochTargetAttestingBalance() {
+    return getAttestingBalance(PREVIOUS_EPOCH_TARGET_ATTESTER);
+  }
+
+  public UInt64 getPreviousEpochHeadAttestingBalance() {
+    return getAttestingBalance(PREVIOUS_EPOCH_HEAD_ATTESTER);
+  }
+
+  public UInt64 getCurrentEpochTargetAttestingBalance() {
+    return getAttestingBalance(CURRENT_EPOCH_TARGET_ATTESTER);
+  }
+
+  private boolean hasFlag(final int index, final int flag) {
+    return (participation.get().flags[index] & flag) != 0;
+  }
+
+  /**
+   * Returns the combined effective balance of the unslashed validators with the given
+   * participation flag, with the same EFFECTIVE_BALANCE_INCREMENT minimum as get_total_balance.
+   */
+  private UInt64 getAttestingBalance(final int flag) {
+    final byte[] flags = participation.get().flags;
+    long sum = 0;
+    for (int index = 0; index < validatorCount; index++) {
+      if ((flags[index] & flag) != 0) {
+        sum = Math.addExact(sum, effectiveBalances[index]);
+      }
+    }
+    return UInt64.fromLongBits(sum).max(EFFECTIVE_BALANCE_INCREMENT);
+  }
+
+  private Participation calculateParticipation() {
+    final Participation result = new Participation(validatorCount);
+    final UInt64 previousEpoch = get_previous_epoch(state);
+    for (PendingAttestation attestation :
+        matchingAttestations.getMatchingSourceAttestations(previousEpoch)) {
+      final long inclusionDelay = attestation.getInclusion_delay().longValue();
+      final int proposerIndex = Math.toIntExact(attestation.getProposer_index().longValue());
+      forEachUnslashedAttester(
+          attestation,
+          index -> {
+            // Keep the first attestation with the smallest inclusion delay
+            if ((result.flags[index] & PREVIOUS_EPOCH_SOURCE_ATTESTER) == 0
+                || Long.compareUnsigned(inclusionDelay, result.inclusionDelays[index]) < 0) {
+              result.inclusionDelays[index] = inclusionDelay;
+              result.inclusionProposers[index] = proposerIndex;
+            }
+            result.flags[index] |= PREVIOUS_EPOCH_SOURCE_ATTESTER;
+          });
+    }
+    setFlag(
+        result,
+        matchingAttestations.getMatchingTargetAttestations(previousEpoch),
+        PREVIOUS_EPOCH_TARGET_ATTESTER);
+    setFlag(
+        result,
+        matchingAttestations.getMatchingHeadAttestations(previousEpoch),
+        PREVIOUS_EPOCH_HEAD_ATTESTER);
+    setFlag(
+        result,
+        matchingAttestations.getMatchingTargetAttestations(get_current_epoch(state)),
+        CURRENT_EPOCH_TARGET_ATTESTER);
+    return result;
+  }
+
+  private void setFlag(
+      final Participation participation,
+      final SSZList<PendingAttestation> attestations,
+      final int flag) {
+    for (PendingAttestation attestation : attestations) {
+      forEachUnslashedAttester(attestation, index -> participation.flags[index] |= flag);
+    }
+  }
+
+  private void forEachUnslashedAttester(
+      final PendingAttestation attestation, final IntConsumer consumer) {
+    final AttestationData data = attestation.getData();
+    final Bitlist bits = attestation.getAggregation_bits();
+    final List<Integer> committee = get_beacon_committee(state, data.getSlot(), data.getIndex());
+    checkArgument(
+        bits.getCurrentSize() == committee.size(),
+        "Aggregation bitlist size (%s) does not match committee size (%s)",
+        bits.getCurrentSize(),
+        committee.size());
+    for (int i = 0; i < committee.size(); i++) {
+      if (bits.getBit(i)) {
+        final int index = committee.get(i);
+        if (!slashed[index]) {
+          consumer.accept(index);
+        }
+      }
+    }
+  }
+
+  private static class Participation {
+    private final byte[] flags;
+    private final long[] inclusionDelays;
+    private final int[] inclusionProposers;
+
+    private Participation(final int validatorCount) {
+      flags = new byte[validatorCount];
+      inclusionDelays = new long[validatorCount];
+      inclusionProposers = new int[validatorCount];
+    }
+  }
+}
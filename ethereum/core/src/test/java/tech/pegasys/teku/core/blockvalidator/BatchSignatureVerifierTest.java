@@ -21,11 +21,15 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 
@@ -67,4 +71,66 @@ public class BatchSignatureVerifierTest {
     assertThat(verifier.toVerify.size()).isEqualTo(nThreads * iterations);
     assertThat(verifier.toVerify).doesNotContainNull();
   }
+
+  @Test
+  public void batchVerify_shouldSucceedWhenAllSignaturesValid() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final BatchSignatureVerifier verifier = new BatchSignatureVerifier(pool);
+      // Odd count so one signature is prepared without a pair
+      for (int i = 0; i < 11; i++) {
+        addSignature(verifier, i, true);
+      }
+      assertThat(verifier.batchVerify()).isTrue();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void batchVerify_shouldFailWhenAnySignatureInvalid() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final BatchSignatureVerifier verifier = new BatchSignatureVerifier(pool);
+      for (int i = 0; i < 11; i++) {
+        addSignature(verifier, i, i != 7);
+      }
+      assertThat(verifier.batchVerify()).isFalse();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void batchVerify_shouldVerifySingleSignature() {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    addSignature(verifier, 1, true);
+    assertThat(verifier.batchVerify()).isTrue();
+  }
+
+  @Test
+  public void batchVerifyAsync_shouldReportResultFromPool() throws Exception {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final BatchSignatureVerifier validVerifier = new BatchSignatureVerifier(pool);
+      final BatchSignatureVerifier invalidVerifier = new BatchSignatureVerifier(pool);
+      for (int i = 0; i < 5; i++) {
+        addSignature(validVerifier, i, true);
+        addSignature(invalidVerifier, i, i != 3);
+      }
+      assertThat(validVerifier.batchVerifyAsync().get(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(invalidVerifier.batchVerifyAsync().get(10, TimeUnit.SECONDS)).isFalse();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void addSignature(
+      final BatchSignatureVerifier verifier, final int seed, final boolean valid) {
+    final BLSKeyPair keyPair = BLSKeyPair.random(seed);
+    final Bytes message = Bytes.ofUnsignedInt(seed);
+    final BLSSignature signature =
+        BLS.sign(keyPair.getSecretKey(), valid ? message : Bytes.ofUnsignedInt(seed + 1));
+    verifier.verify(Collections.singletonList(keyPair.getPublicKey()), message, signature);
+  }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.datastructures.forkchoice;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Holds the latest vote for every validator, addressed directly by validator index.
+ *
+ * <p>Rather than keeping a {@link VoteTracker} per validator, the votes are stored in primitive
+ * columns with the block roots replaced by ids into a shared root dictionary. Validators almost
+ * always vote for one of a handful of recent blocks so the dictionary stays small, while each vote
+ * costs 16 bytes and no allocations. {@link VoteTracker} instances are only materialised on read.
+ *
+ * <p>This class is not thread safe.
+ */
+public class VoteTable {
+  private static final int NO_VOTE = -1;
+  private static final int DEFAULT_CAPACITY = 1024;
+  // Don't bother compacting the root dictionary until it has at least this many entries
+  private static final int MIN_COMPACTION_THRESHOLD = 1024;
+
+  private Bytes32[] roots;
+  private int rootCount;
+  private Map<Bytes32, Integer> rootIds;
+  private int compactionThreshold = MIN_COMPACTION_THRESHOLD;
+
+  private int[] currentRootIds;
+  private int[] nextRootIds;
+  private long[] nextEpochs;
+  // One past the highest validator index that has a vote
+  private int length;
+  private int voteCount;
+
+  public VoteTable() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public VoteTable(final int expectedValidatorCount) {
+    final int capacity = Math.max(expectedValidatorCount, 1);
+    this.roots = new Bytes32[DEFAULT_CAPACITY];
+    this.rootIds = new HashMap<>();
+    this.currentRootIds = new int[capacity];
+    this.nextRootIds = new int[capacity];
+    this.nextEpochs = new long[capacity];
+    Arrays.fill(currentRootIds, NO_VOTE);
+  }
+
+  public int size() {
+    return voteCount;
+  }
+
+  public boolean isEmpty() {
+    return voteCount == 0;
+  }
+
+  public boolean containsVote(final UInt64 validatorIndex) {
+    return containsVote(validatorIndex.intValue());
+  }
+
+  private boolean containsVote(final int index) {
+    return index < length && currentRootIds[index] != NO_VOTE;
+  }
+
+  public Optional<VoteTracker> getVote(final UInt64 validatorIndex) {
+    final int index = validatorIndex.intValue();
+    if (!containsVote(index)) {
+      return Optional.empty();
+    }
+    return Optional.of(createVoteTracker(index));
+  }
+
+  public void setVote(final UInt64 validatorIndex, final VoteTracker vote) {
+    final int index = validatorIndex.intValue();
+    ensureCapacity(index + 1);
+    if (currentRootIds[index] == NO_VOTE) {
+      voteCount++;
+    }
+    currentRootIds[index] = getOrCreateRootId(vote.getCurrentRoot());
+    nextRootIds[index] = getOrCreateRootId(vote.getNextRoot());
+    nextEpochs[index] = vote.getNextEpoch().longValue();
+    length = Math.max(length, index + 1);
+    if (rootCount > compactionThreshold) {
+      compactRoots();
+    }
+  }
+
+  @VisibleForTesting
+  int getRootCount() {
+    return rootCount;
+  }
+
+  public Set<UInt64> getVotedValidatorIndices() {
+    final Set<UInt64> indices = new HashSet<>(voteCount);
+    for (int i = 0; i < length; i++) {
+      if (currentRootIds[i] != NO_VOTE) {
+        indices.add(UInt64.valueOf(i));
+      }
+    }
+    return indices;
+  }
+
+  public Map<UInt64, VoteTracker> toMap() {
+    final Map<UInt64, VoteTracker> votes = new HashMap<>(voteCount);
+    for (int i = 0; i < length; i++) {
+      if (currentRootIds[i] != NO_VOTE) {
+        votes.put(UInt64.valueOf(i), createVoteTracker(i));
+      }
+    }
+    return votes;
+  }
+
+  private VoteTracker createVoteTracker(final int index) {
+    return new VoteTracker(
+        roots[currentRootIds[index]],
+        roots[nextRootIds[index]],
+        UInt64.fromLongBits(nextEpochs[index]));
+  }
+
+  private int getOrCreateRootId(final Bytes32 root) {
+    final Integer existingId = rootIds.get(root);
+    if (existingId != null) {
+      return existingId;
+    }
+    if (rootCount == roots.length) {
+      roots = Arrays.copyOf(roots, roots.length * 2);
+    }
+    final int id = rootCount++;
+    roots[id] = root;
+    rootIds.put(root, id);
+    return id;
+  }
+
+  private void ensureCapacity(final int requiredCapacity) {
+    final int capacity = currentRootIds.length;
+    if (requiredCapacity <= capacity) {
+      return;
+    }
+    final int newCapacity = Math.max(requiredCapacity, capacity + (capacity >> 1));
+    currentRootIds = Arrays.copyOf(currentRootIds, newCapacity);
+    Arrays.fill(currentRootIds, capacity, newCapacity, NO_VOTE);
+    nextRootIds = Arrays.copyOf(nextRootIds, newCapacity);
+    nextEpochs = Arrays.copyOf(nextEpochs, newCapacity);
+  }
+
+  /** Drops roots from the dictionary which are no longer referenced by any vote. */
+  private void compactRoots() {
+    final int[] newIds = new int[rootCount];
+    Arrays.fill(newIds, NO_VOTE);
+    final Bytes32[] oldRoots = roots;
+    roots = new Bytes32[oldRoots.length];
+    rootIds = new HashMap<>();
+    rootCount = 0;
+    for (int i = 0; i < length; i++) {
+      if (currentRootIds[i] == NO_VOTE) {
+        continue;
+      }
+      currentRootIds[i] = remapRootId(currentRootIds[i], newIds, oldRoots);
+      nextRootIds[i] = remapRootId(nextRootIds[i], newIds, oldRoots);
+    }
+    compactionThreshold = Math.max(MIN_COMPACTION_THRESHOLD, rootCount * 2);
+  }
+
+  private int remapRootId(final int oldId, final int[] newIds, final Bytes32[] oldRoots) {
+    if (newIds[oldId] == NO_VOTE) {
+      newIds[oldId] = getOrCreateRootId(oldRoots[oldId]);
+    }
+    return newIds[oldId];
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof VoteTable)) {
+      return false;
+    }
+    final VoteTable that = (VoteTable) o;
+    return toMap().equals(that.toMap());
+  }
+
+  @Override
+  public int hashCode() {
+    return toMap().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "VoteTable{" + "voteCount=" + voteCount + ", rootCount=" + rootCount + '}';
+  }
+}
@@ -22,9 +22,11 @@ import tech.pegasys.teku.datastructures.util.Merkleizable;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZBackingList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZBackingUInt64List;
 import tech.pegasys.teku.ssz.SSZTypes.SSZBackingVector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZContainer;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZUInt64List;
 import tech.pegasys.teku.ssz.SSZTypes.SSZVector;
 import tech.pegasys.teku.ssz.backing.ContainerViewRead;
 import tech.pegasys.teku.ssz.backing.ViewWrite;
@@ -264,9 +266,8 @@ public interface BeaconState
         Function.identity());
   }
 
-  default SSZList<UInt64> getBalances() {
-    return new SSZBackingList<>(
-        UInt64.class, getAny(BALANCES_FIELD.getIndex()), UInt64View::new, AbstractBasicView::get);
+  default SSZUInt64List getBalances() {
+    return new SSZBackingUInt64List(getAny(BALANCES_FIELD.getIndex()));
   }
 
   default SSZVector<Bytes32> getRandao_mixes() {
@@ -20,8 +20,10 @@ import tech.pegasys.teku.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZBackingList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZBackingUInt64List;
 import tech.pegasys.teku.ssz.SSZTypes.SSZBackingVector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZMutableUInt64List;
 import tech.pegasys.teku.ssz.SSZTypes.SSZMutableVector;
 import tech.pegasys.teku.ssz.backing.ContainerViewWriteRef;
 import tech.pegasys.teku.ssz.backing.view.AbstractBasicView;
@@ -99,9 +101,8 @@ public interface MutableBeaconState extends BeaconState, ContainerViewWriteRef {
   }
 
   @Override
-  default SSZMutableList<UInt64> getBalances() {
-    return new SSZBackingList<>(
-        UInt64.class, getAnyByRef(12), UInt64View::new, AbstractBasicView::get);
+  default SSZMutableUInt64List getBalances() {
+    return new SSZBackingUInt64List(getAnyByRef(12));
   }
 
   @Override
@@ -16,8 +16,8 @@ package tech.pegasys.teku.datastructures.state;
 import jdk.jfr.Label;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.datastructures.blocks.Eth1Data;
-import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZMutableUInt64List;
 import tech.pegasys.teku.ssz.SSZTypes.SSZMutableVector;
 import tech.pegasys.teku.ssz.backing.ViewRead;
 import tech.pegasys.teku.ssz.backing.cache.IntCache;
@@ -38,7 +38,7 @@ class MutableBeaconStateImpl extends ContainerViewWriteImpl
   private final boolean builder;
 
   private SSZMutableList<Validator> validators;
-  private SSZMutableList<UInt64> balances;
+  private SSZMutableUInt64List balances;
   private SSZMutableVector<Bytes32> blockRoots;
   private SSZMutableVector<Bytes32> stateRoots;
   private SSZMutableList<Bytes32> historicalRoots;
@@ -105,7 +105,7 @@ class MutableBeaconStateImpl extends ContainerViewWriteImpl
   }
 
   @Override
-  public SSZMutableList<UInt64> getBalances() {
+  public SSZMutableUInt64List getBalances() {
     return balances != null ? balances : (balances = MutableBeaconState.super.getBalances());
   }
 
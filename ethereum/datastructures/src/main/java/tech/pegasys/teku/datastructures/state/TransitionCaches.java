@@ -15,7 +15,6 @@ package tech.pegasys.teku.datastructures.state;
 
 import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
@@ -29,7 +28,6 @@ public class TransitionCaches {
   private static int MAX_BEACON_PROPOSER_INDEX_CACHE = 1;
   private static int MAX_BEACON_COMMITTEE_CACHE = 64 * 64;
   private static int MAX_TOTAL_ACTIVE_BALANCE_CACHE = 1;
-  private static int MAX_COMMITTEE_SHUFFLE_CACHE = 2;
 
   private static final TransitionCaches NO_OP_INSTANCE =
       new TransitionCaches(
@@ -38,8 +36,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ValidatorIndexCache.NO_OP_INSTANCE,
-          NoOpCache.getNoOpCache()) {
+          ValidatorIndexCache.NO_OP_INSTANCE) {
 
         @Override
         public TransitionCaches copy() {
@@ -63,7 +60,6 @@ public class TransitionCaches {
   private final Cache<UInt64, Pair<UInt64, UInt64>> totalActiveBalance;
   private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
   private final ValidatorIndexCache validatorIndexCache;
-  private final Cache<Bytes32, List<Integer>> committeeShuffle;
 
   private TransitionCaches() {
     activeValidators = new LRUCache<>(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -72,7 +68,6 @@ public class TransitionCaches {
     totalActiveBalance = new LRUCache<>(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
     validatorsPubKeys = new LRUCache<>(Integer.MAX_VALUE - 1);
     validatorIndexCache = new ValidatorIndexCache();
-    committeeShuffle = new LRUCache<>(MAX_COMMITTEE_SHUFFLE_CACHE);
   }
 
   private TransitionCaches(
@@ -81,15 +76,13 @@ public class TransitionCaches {
       Cache<Pair<UInt64, UInt64>, List<Integer>> beaconCommittee,
       Cache<UInt64, Pair<UInt64, UInt64>> totalActiveBalance,
       Cache<UInt64, BLSPublicKey> validatorsPubKeys,
-      ValidatorIndexCache validatorIndexCache,
-      Cache<Bytes32, List<Integer>> committeeShuffle) {
+      ValidatorIndexCache validatorIndexCache) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
     this.totalActiveBalance = totalActiveBalance;
     this.validatorsPubKeys = validatorsPubKeys;
     this.validatorIndexCache = validatorIndexCache;
-    this.committeeShuffle = committeeShuffle;
   }
 
   /** (epoch) -> (active validators) cache */
@@ -128,18 +121,12 @@ public class TransitionCaches {
     return validatorIndexCache;
   }
 
-  /** (epoch committee seed) -> (validators shuffle for epoch) cache */
-  public Cache<Bytes32, List<Integer>> getCommitteeShuffle() {
-    return committeeShuffle;
-  }
-
   public void invalidate() {
     activeValidators.clear();
     beaconProposerIndex.clear();
     beaconCommittee.clear();
     totalActiveBalance.clear();
     validatorsPubKeys.clear();
-    committeeShuffle.clear();
   }
 
   /**
@@ -153,7 +140,6 @@ public class TransitionCaches {
         beaconCommittee.copy(),
         totalActiveBalance.copy(),
         validatorsPubKeys,
-        validatorIndexCache,
-        committeeShuffle.copy());
+        validatorIndexCache);
   }
 }
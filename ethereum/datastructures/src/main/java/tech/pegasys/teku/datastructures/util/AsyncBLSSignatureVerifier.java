@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.datastructures.util;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * Asynchronous variant of {@link BLSSignatureVerifier} allowing implementations to defer and batch
+ * verification rather than verifying on the calling thread.
+ */
+public interface AsyncBLSSignatureVerifier {
+
+  /**
+   * Adapts a synchronous verifier. Verification happens on the calling thread and the returned
+   * future is already complete.
+   */
+  static AsyncBLSSignatureVerifier wrap(final BLSSignatureVerifier verifier) {
+    return (publicKeys, message, signature) ->
+        SafeFuture.completedFuture(verifier.verify(publicKeys, message, signature));
+  }
+
+  /**
+   * Verifies an aggregate BLS signature against a message using the list of public keys.
+   *
+   * @param publicKeys The list of public keys, not null
+   * @param message The message data to verify, not null
+   * @param signature The aggregate signature, not null
+   * @return a future completed with true if the verification is successful, false otherwise
+   * @see BLSSignatureVerifier#verify(List, Bytes, BLSSignature)
+   */
+  SafeFuture<Boolean> verify(List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature);
+
+  /** Shortcut to {@link #verify(List, Bytes, BLSSignature)} for non-aggregate case */
+  default SafeFuture<Boolean> verify(
+      final BLSPublicKey publicKey, final Bytes message, final BLSSignature signature) {
+    return verify(Collections.singletonList(publicKey), message, signature);
+  }
+}
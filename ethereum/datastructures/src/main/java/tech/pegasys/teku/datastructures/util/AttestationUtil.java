@@ -43,6 +43,7 @@ import tech.pegasys.teku.datastructures.operations.AttestationData;
 import tech.pegasys.teku.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
@@ -130,23 +131,38 @@ public class AttestationUtil {
 
   public static AttestationProcessingResult is_valid_indexed_attestation(
       BeaconState state, ValidateableAttestation attestation) {
+    return is_valid_indexed_attestation(
+            state, attestation, AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE))
+        .join();
+  }
+
+  /**
+   * Verify validity of the attestation, deferring the signature check to {@code
+   * signatureVerifier}. The attestation is only marked as valid once the signature is verified.
+   */
+  public static SafeFuture<AttestationProcessingResult> is_valid_indexed_attestation(
+      BeaconState state,
+      ValidateableAttestation attestation,
+      AsyncBLSSignatureVerifier signatureVerifier) {
     if (attestation.isValidIndexedAttestation()) {
-      return AttestationProcessingResult.SUCCESSFUL;
+      return SafeFuture.completedFuture(AttestationProcessingResult.SUCCESSFUL);
     } else {
       try {
         IndexedAttestation indexedAttestation =
             get_indexed_attestation(state, attestation.getAttestation());
         attestation.setIndexedAttestation(indexedAttestation);
-        AttestationProcessingResult result =
-            is_valid_indexed_attestation(state, indexedAttestation, BLSSignatureVerifier.SIMPLE);
-        if (result.isSuccessful()) {
-          attestation.saveCommitteeShufflingSeed(state);
-          attestation.setValidIndexedAttestation();
-        }
-        return result;
+        return is_valid_indexed_attestation(state, indexedAttestation, signatureVerifier)
+            .thenApply(
+                result -> {
+                  if (result.isSuccessful()) {
+                    attestation.saveCommitteeShufflingSeed(state);
+                    attestation.setValidIndexedAttestation();
+                  }
+                  return result;
+                });
       } catch (IllegalArgumentException e) {
         LOG.debug("on_attestation: Attestation is not valid: ", e);
-        return AttestationProcessingResult.invalid(e.getMessage());
+        return SafeFuture.completedFuture(AttestationProcessingResult.invalid(e.getMessage()));
       }
     }
   }
@@ -168,18 +184,28 @@ public class AttestationUtil {
       BeaconState state,
       IndexedAttestation indexed_attestation,
       BLSSignatureVerifier signatureVerifier) {
+    return is_valid_indexed_attestation(
+            state, indexed_attestation, AsyncBLSSignatureVerifier.wrap(signatureVerifier))
+        .join();
+  }
+
+  public static SafeFuture<AttestationProcessingResult> is_valid_indexed_attestation(
+      BeaconState state,
+      IndexedAttestation indexed_attestation,
+      AsyncBLSSignatureVerifier signatureVerifier) {
     SSZList<UInt64> indices = indexed_attestation.getAttesting_indices();
 
     List<UInt64> bit_0_indices_sorted = indices.stream().sorted().distinct().collect(toList());
     if (indices.isEmpty() || !indices.equals(bit_0_indices_sorted)) {
-      return AttestationProcessingResult.invalid("Attesting indices are not sorted");
+      return SafeFuture.completedFuture(
+          AttestationProcessingResult.invalid("Attesting indices are not sorted"));
     }
 
     List<BLSPublicKey> pubkeys =
         indices.stream().flatMap(i -> getValidatorPubKey(state, i).stream()).collect(toList());
     if (pubkeys.size() < indices.size()) {
-      return AttestationProcessingResult.invalid(
-          "Attesting indices include non-existent validator");
+      return SafeFuture.completedFuture(
+          AttestationProcessingResult.invalid("Attesting indices include non-existent validator"));
     }
 
     BLSSignature signature = indexed_attestation.getSignature();
@@ -188,11 +214,17 @@ public class AttestationUtil {
             state, DOMAIN_BEACON_ATTESTER, indexed_attestation.getData().getTarget().getEpoch());
     Bytes signing_root = compute_signing_root(indexed_attestation.getData(), domain);
 
-    if (!signatureVerifier.verify(pubkeys, signing_root, signature)) {
-      LOG.debug("AttestationUtil.is_valid_indexed_attestation: Verify aggregate signature");
-      return AttestationProcessingResult.invalid("Signature is invalid");
-    }
-    return AttestationProcessingResult.SUCCESSFUL;
+    return signatureVerifier
+        .verify(pubkeys, signing_root, signature)
+        .thenApply(
+            isValid -> {
+              if (!isValid) {
+                LOG.debug(
+                    "AttestationUtil.is_valid_indexed_attestation: Verify aggregate signature");
+                return AttestationProcessingResult.invalid("Signature is invalid");
+              }
+              return AttestationProcessingResult.SUCCESSFUL;
+            });
   }
 
   // Set bits of the newAttestation on the oldBitlist
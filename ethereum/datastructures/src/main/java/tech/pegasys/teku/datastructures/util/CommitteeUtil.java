@@ -30,9 +30,7 @@ import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 import static tech.pegasys.teku.util.config.Constants.TARGET_AGGREGATORS_PER_COMMITTEE;
 
 import com.google.common.primitives.UnsignedBytes;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -87,12 +85,6 @@ public class CommitteeUtil {
     return indexRet;
   }
 
-  private static List<Integer> shuffle_list(List<Integer> input, Bytes32 seed) {
-    int[] indexes = input.stream().mapToInt(i -> i).toArray();
-    shuffle_list(indexes, seed);
-    return Arrays.stream(indexes).boxed().collect(Collectors.toList());
-  }
-
   /**
    * Shuffles a list of integers in-place with ``seed`` as entropy.
    *
@@ -186,15 +178,19 @@ public class CommitteeUtil {
   }
 
   private static List<Integer> compute_committee_shuffle(
-      BeaconState state, List<Integer> indices, Bytes32 seed, int fromIndex, int toIndex) {
+      BeaconState state,
+      List<Integer> indices,
+      Bytes32 seed,
+      UInt64 epoch,
+      int fromIndex,
+      int toIndex) {
     if (fromIndex < toIndex) {
       int index_count = indices.size();
       checkArgument(fromIndex < index_count, "CommitteeUtil.get_shuffled_index1");
       checkArgument(toIndex <= index_count, "CommitteeUtil.get_shuffled_index1");
     }
-    return BeaconStateCache.getTransitionCaches(state)
-        .getCommitteeShuffle()
-        .get(seed, s -> shuffle_list(indices, s))
+    return ShufflingCache.getInstance()
+        .getShuffling(epoch, indices, seed)
         .subList(fromIndex, toIndex);
   }
 
@@ -203,6 +199,7 @@ public class CommitteeUtil {
    *
    * @param indices
    * @param seed
+   * @param epoch the epoch the indices and seed belong to, used to key the shuffling cache
    * @param index
    * @param count
    * @return
@@ -210,10 +207,15 @@ public class CommitteeUtil {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#is_valid_merkle_branch</a>
    */
   public static List<Integer> compute_committee(
-      BeaconState state, List<Integer> indices, Bytes32 seed, int index, int count) {
+      BeaconState state,
+      List<Integer> indices,
+      Bytes32 seed,
+      UInt64 epoch,
+      int index,
+      int count) {
     int start = Math.floorDiv(indices.size() * index, count);
     int end = Math.floorDiv(indices.size() * (index + 1), count);
-    return compute_committee_shuffle(state, indices, seed, start, end);
+    return compute_committee_shuffle(state, indices, seed, epoch, start, end);
   }
 
   /**
@@ -242,6 +244,7 @@ public class CommitteeUtil {
                   state,
                   get_active_validator_indices(state, epoch),
                   get_seed(state, epoch, DOMAIN_BEACON_ATTESTER),
+                  epoch,
                   committeeIndex,
                   count);
             });
@@ -24,7 +24,6 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.crypto.Hash;
 import org.apache.tuweni.ssz.SSZ;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -33,6 +32,7 @@ import tech.pegasys.teku.ssz.SSZTypes.Bitvector;
 import tech.pegasys.teku.ssz.SSZTypes.SSZImmutableCollection;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
 import tech.pegasys.teku.ssz.SSZTypes.SSZVector;
+import tech.pegasys.teku.ssz.backing.hash.PairHashers;
 
 /** This class is a collection of tree hash root convenience methods */
 public final class HashTreeUtil {
@@ -67,9 +67,7 @@ public final class HashTreeUtil {
     IntStream.range(1, 100)
         .forEach(
             i ->
-                zerohashes.add(
-                    Hash.sha2_256(
-                        Bytes.concatenate(zerohashes.get(i - 1), zerohashes.get(i - 1)))));
+                zerohashes.add(PairHashers.hashPair(zerohashes.get(i - 1), zerohashes.get(i - 1))));
     return zerohashes;
   }
 
@@ -184,10 +182,9 @@ public final class HashTreeUtil {
         inlineTreeIndex--) {
       mutableSSZChunks.set(
           inlineTreeIndex,
-          Hash.sha2_256(
-              Bytes.concatenate(
-                  mutableSSZChunks.get(inlineTreeIndex * 2),
-                  mutableSSZChunks.get(inlineTreeIndex * 2 + 1))));
+          PairHashers.hashPair(
+              mutableSSZChunks.get(inlineTreeIndex * 2),
+              mutableSSZChunks.get(inlineTreeIndex * 2 + 1)));
     }
 
     // Return the root element, which is at index 1. The math is easier this way.
@@ -211,7 +208,7 @@ public final class HashTreeUtil {
 
     IntStream.range(depth, max_depth)
         .forEach(
-            j -> tmp.set(j + 1, Hash.sha2_256(Bytes.concatenate(tmp.get(j), zerohashes.get(j)))));
+            j -> tmp.set(j + 1, PairHashers.hashPair(tmp.get(j), zerohashes.get(j))));
 
     return tmp.get(max_depth);
   }
@@ -221,12 +218,12 @@ public final class HashTreeUtil {
     while (true) {
       if ((i & (1 << j)) == 0) {
         if (i == count && j < depth) {
-          h = Hash.sha2_256(Bytes.concatenate(h, zerohashes.get(j)));
+          h = PairHashers.hashPair(h, zerohashes.get(j));
         } else {
           break;
         }
       } else {
-        h = Hash.sha2_256(Bytes.concatenate(tmp.get(j), h));
+        h = PairHashers.hashPair(tmp.get(j), h);
       }
       j += 1;
     }
@@ -448,9 +445,8 @@ public final class HashTreeUtil {
 
   private static Bytes32 mix_in_length(Bytes32 merkle_root, int length) {
     // Append the little-endian length mixin to the given merkle root, and return its hash.
-    return Hash.sha2_256(
-        Bytes.concatenate(
-            merkle_root, Bytes.ofUnsignedLong(length, LITTLE_ENDIAN), Bytes.wrap(new byte[24])));
+    return PairHashers.hashPair(
+        merkle_root, Bytes32.rightPad(Bytes.ofUnsignedLong(length, LITTLE_ENDIAN)));
   }
 
   @VisibleForTesting
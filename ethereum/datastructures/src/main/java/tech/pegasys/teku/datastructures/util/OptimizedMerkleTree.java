@@ -17,9 +17,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.crypto.Hash;
+import tech.pegasys.teku.ssz.backing.hash.PairHashers;
 
 public class OptimizedMerkleTree extends MerkleTree {
 
@@ -47,10 +46,9 @@ public class OptimizedMerkleTree extends MerkleTree {
         List<Bytes32> previousStage = tree.get(h - 1);
         int previousStageSize = previousStage.size();
         stage.add(
-            Hash.sha2_256(
-                Bytes.concatenate(
-                    previousStage.get(previousStageSize - 2),
-                    previousStage.get(previousStageSize - 1))));
+            PairHashers.hashPair(
+                previousStage.get(previousStageSize - 2),
+                previousStage.get(previousStageSize - 1)));
       }
       if (stage.size() % 2 == 1 && h != treeDepth) {
         stage.add(zeroHashes.get(h));
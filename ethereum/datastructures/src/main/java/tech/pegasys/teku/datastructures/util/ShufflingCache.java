@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.datastructures.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Node-wide cache of committee shufflings shared by every state.
+ *
+ * <p>Shufflings are keyed by epoch, seed and a 128-bit hash of the active validator indices, so
+ * states on different forks only share a shuffling when they agree on all three.
+ *
+ * <p>Each entry holds one int per active validator, so the number of entries is kept small.
+ */
+public class ShufflingCache {
+  // Enough for the previous, current and next epoch across a couple of forks
+  static final int DEFAULT_CAPACITY = 8;
+
+  private static final ShufflingCache INSTANCE = new ShufflingCache(DEFAULT_CAPACITY);
+
+  private final Cache<ShufflingKey, int[]> shufflings;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  ShufflingCache(final int capacity) {
+    this.shufflings = new LRUCache<>(capacity);
+  }
+
+  public static ShufflingCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the active validator indices shuffled with the given seed, computing and caching the
+   * shuffling if required.
+   *
+   * @param epoch the shuffling epoch
+   * @param activeValidatorIndices the active validator indices for the shuffling epoch
+   * @param seed the seed for the shuffling epoch
+   * @return an unmodifiable list of the shuffled validator indices
+   */
+  public List<Integer> getShuffling(
+      final UInt64 epoch, final List<Integer> activeValidatorIndices, final Bytes32 seed) {
+    final ShufflingKey key = new ShufflingKey(epoch, seed, activeValidatorIndices);
+    final Optional<int[]> cached = shufflings.getCached(key);
+    if (cached.isPresent()) {
+      hits.increment();
+      return asList(cached.get());
+    }
+
+    misses.increment();
+    final int[] shuffled = Ints.toArray(activeValidatorIndices);
+    CommitteeUtil.shuffle_list(shuffled, seed);
+    shufflings.invalidateWithNewValue(key, shuffled);
+    return asList(shuffled);
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public int size() {
+    return shufflings.size();
+  }
+
+  private static List<Integer> asList(final int[] shuffled) {
+    return Collections.unmodifiableList(Ints.asList(shuffled));
+  }
+
+  private static class ShufflingKey {
+    private final UInt64 epoch;
+    private final Bytes32 seed;
+    private final HashCode activeValidatorsHash;
+
+    private ShufflingKey(
+        final UInt64 epoch, final Bytes32 seed, final List<Integer> activeValidatorIndices) {
+      this.epoch = epoch;
+      this.seed = seed;
+      this.activeValidatorsHash = hashIndices(activeValidatorIndices);
+    }
+
+    private static HashCode hashIndices(final List<Integer> indices) {
+      final Hasher hasher = Hashing.murmur3_128().newHasher();
+      hasher.putInt(indices.size());
+      for (int index : indices) {
+        hasher.putInt(index);
+      }
+      return hasher.hash();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final ShufflingKey that = (ShufflingKey) o;
+      return Objects.equals(epoch, that.epoch)
+          && Objects.equals(seed, that.seed)
+          && Objects.equals(activeValidatorsHash, that.activeValidatorsHash);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(epoch, seed, activeValidatorsHash);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("epoch", epoch)
+          .add("seed", seed)
+          .add("activeValidatorsHash", activeValidatorsHash)
+          .toString();
+    }
+  }
+}
@@ -20,7 +20,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +28,7 @@ import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
+import org.apache.tuweni.bytes.MutableBytes;
 import org.apache.tuweni.ssz.SSZ;
 import org.apache.tuweni.ssz.SSZReader;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -59,6 +59,7 @@ import tech.pegasys.teku.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.datastructures.operations.VoluntaryExit;
+import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.BeaconStateImpl;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.datastructures.state.Fork;
@@ -142,72 +143,71 @@ public class SimpleOffsetSerializer {
       return ((ViewRead) value).sszSerialize();
     }
 
-    List<UInt64> variable_offsets = new ArrayList<>();
-    List<Bytes> interleaved_values = new ArrayList<>();
-    UInt64 fixedLengthSum = UInt64.ZERO;
-    UInt64 varLengthSum = UInt64.ZERO;
-
-    for (Bytes fixedPart : value.get_fixed_parts()) {
-      UInt64 fixedPartSize = UInt64.valueOf(fixedPart.size());
-      if (fixedPartSize.equals(UInt64.ZERO)) {
-        fixedPartSize = UInt64.valueOf(4L);
-      }
-      fixedLengthSum = fixedLengthSum.plus(fixedPartSize);
+    // Empty fixed parts are placeholders for the offsets of the variable parts at the same index
+    final List<Bytes> fixedParts = value.get_fixed_parts();
+    final List<Bytes> variableParts = value.get_variable_parts();
+    int fixedLengthSum = 0;
+    for (Bytes fixedPart : fixedParts) {
+      fixedLengthSum += fixedPart.isEmpty() ? BYTES_PER_LENGTH_OFFSET.intValue() : fixedPart.size();
     }
-
-    variable_offsets.add(fixedLengthSum);
-    for (Bytes varPart : value.get_variable_parts()) {
-      UInt64 varPartSize = UInt64.valueOf(varPart.size());
-      varLengthSum = varLengthSum.plus(varPartSize);
-      variable_offsets.add(fixedLengthSum.plus(varLengthSum));
+    int totalSize = fixedLengthSum;
+    for (Bytes variablePart : variableParts) {
+      totalSize += variablePart.size();
     }
 
-    int interleavingIndex = 0;
-    for (Bytes element : value.get_fixed_parts()) {
-      if (!element.equals(Bytes.EMPTY)) {
-        interleaved_values.add(element);
-      } else {
-        interleaved_values.add(
-            SSZ.encodeUInt32(variable_offsets.get(interleavingIndex).longValue()));
+    final MutableBytes result = MutableBytes.create(totalSize);
+    int position = 0;
+    int variableOffset = fixedLengthSum;
+    for (int i = 0; i < fixedParts.size(); i++) {
+      final Bytes fixedPart = fixedParts.get(i);
+      final Bytes element = fixedPart.isEmpty() ? SSZ.encodeUInt32(variableOffset) : fixedPart;
+      element.copyTo(result, position);
+      position += element.size();
+      if (i < variableParts.size()) {
+        variableOffset += variableParts.get(i).size();
       }
-      ++interleavingIndex;
     }
-
-    return Bytes.wrap(
-        Bytes.concatenate(interleaved_values.toArray(new Bytes[0])),
-        Bytes.concatenate(value.get_variable_parts().toArray(new Bytes[0])));
+    for (Bytes variablePart : variableParts) {
+      variablePart.copyTo(result, position);
+      position += variablePart.size();
+    }
+    return result;
   }
 
   public static Bytes serializeFixedCompositeList(
       SSZList<? extends SimpleOffsetSerializable> values) {
-    return Bytes.fromHexString(
-        values.stream()
-            .map(item -> serialize(item).toHexString().substring(2))
-            .collect(Collectors.joining()));
+    return Bytes.concatenate(
+        values.stream().map(SimpleOffsetSerializer::serialize).toArray(Bytes[]::new));
   }
 
   public static Bytes serializeVariableCompositeList(
       SSZList<? extends SimpleOffsetSerializable> values) {
-    List<Bytes> parts =
+    final List<Bytes> parts =
         values.stream().map(SimpleOffsetSerializer::serialize).collect(Collectors.toList());
-    List<UInt64> fixed_lengths = Collections.nCopies(values.size(), BYTES_PER_LENGTH_OFFSET);
-    List<Bytes> variable_parts = new ArrayList<>();
-    List<Bytes> fixed_parts = new ArrayList<>();
-    UInt64 offset = UInt64.ZERO;
-    for (UInt64 length : fixed_lengths) {
-      offset = offset.plus(length);
+    final int fixedLengthSum = parts.size() * BYTES_PER_LENGTH_OFFSET.intValue();
+    int totalSize = fixedLengthSum;
+    for (Bytes part : parts) {
+      totalSize += part.size();
     }
+
+    final MutableBytes result = MutableBytes.create(totalSize);
+    int offsetPosition = 0;
+    int variableOffset = fixedLengthSum;
     for (Bytes part : parts) {
-      fixed_parts.add(SSZ.encodeUInt32(offset.longValue()));
-      variable_parts.add(part);
-      offset = offset.plus(part.size());
+      SSZ.encodeUInt32(variableOffset).copyTo(result, offsetPosition);
+      offsetPosition += BYTES_PER_LENGTH_OFFSET.intValue();
+      part.copyTo(result, variableOffset);
+      variableOffset += part.size();
     }
-    return Bytes.wrap(
-        Bytes.concatenate(fixed_parts.toArray(new Bytes[0])),
-        Bytes.concatenate(variable_parts.toArray(new Bytes[0])));
+    return result;
   }
 
   public static <T> T deserialize(Bytes bytes, Class<T> classInfo) {
+    if (classInfo == BeaconStateImpl.class) {
+      // The state is by far the largest object, so build its backing tree directly from the bytes
+      // instead of decoding each field reflectively and then converting it to a tree
+      return (T) BeaconState.getSSZType().sszDeserialize(bytes);
+    }
     MutableInt bytePointer = new MutableInt(0);
     if (!isPrimitive(classInfo)) {
       return SSZ.decode(
@@ -24,6 +24,7 @@ import tech.pegasys.teku.datastructures.state.MutableBeaconState;
 import tech.pegasys.teku.datastructures.state.Validator;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZMutableUInt64List;
 import tech.pegasys.teku.util.config.Constants;
 
 public class ValidatorsUtil {
@@ -132,11 +133,21 @@ public class ValidatorsUtil {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#decrease_balance</a>
    */
   public static void decrease_balance(MutableBeaconState state, int index, UInt64 delta) {
-    UInt64 newBalance =
-        delta.compareTo(state.getBalances().get(index)) > 0
-            ? UInt64.ZERO
-            : state.getBalances().get(index).minus(delta);
-    state.getBalances().set(index, newBalance);
+    decrease_balance(state, index, delta.longValue());
+  }
+
+  /**
+   * Decrease validator balance by ``delta``, given as the bits of an unsigned long, with underflow
+   * protection.
+   *
+   * @param state
+   * @param index
+   * @param delta
+   */
+  public static void decrease_balance(MutableBeaconState state, int index, long delta) {
+    final SSZMutableUInt64List balances = state.getBalances();
+    final long balance = balances.getLong(index);
+    balances.setLong(index, Long.compareUnsigned(delta, balance) > 0 ? 0 : balance - delta);
   }
 
   /**
@@ -149,7 +160,23 @@ public class ValidatorsUtil {
    *     <a>https://github.com/ethereum/eth2.0-specs/blob/v0.8.0/specs/core/0_beacon-chain.md#increase_balance</a>
    */
   public static void increase_balance(MutableBeaconState state, int index, UInt64 delta) {
-    state.getBalances().set(index, state.getBalances().get(index).plus(delta));
+    increase_balance(state, index, delta.longValue());
+  }
+
+  /**
+   * Increase validator balance by ``delta``, given as the bits of an unsigned long.
+   *
+   * @param state
+   * @param index
+   * @param delta
+   */
+  public static void increase_balance(MutableBeaconState state, int index, long delta) {
+    final SSZMutableUInt64List balances = state.getBalances();
+    final long balance = balances.getLong(index);
+    if (Long.compareUnsigned(delta, -1L - balance) > 0) {
+      throw new ArithmeticException("uint64 overflow");
+    }
+    balances.setLong(index, balance + delta);
   }
 
   /**
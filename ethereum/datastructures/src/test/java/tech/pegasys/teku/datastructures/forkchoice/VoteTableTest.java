@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.datastructures.forkchoice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class VoteTableTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final VoteTable table = new VoteTable(4);
+
+  @Test
+  void getVote_shouldBeEmptyWhenNoVoteSet() {
+    assertThat(table.getVote(UInt64.valueOf(3))).isEmpty();
+    assertThat(table.getVote(UInt64.valueOf(10_000))).isEmpty();
+    assertThat(table.isEmpty()).isTrue();
+  }
+
+  @Test
+  void setVote_shouldStoreAndReplaceVotes() {
+    final VoteTracker vote1 = dataStructureUtil.randomVoteTracker();
+    final VoteTracker vote2 = dataStructureUtil.randomVoteTracker();
+    table.setVote(UInt64.valueOf(2), vote1);
+    assertThat(table.getVote(UInt64.valueOf(2))).contains(vote1);
+
+    table.setVote(UInt64.valueOf(2), vote2);
+    assertThat(table.getVote(UInt64.valueOf(2))).contains(vote2);
+    assertThat(table.size()).isEqualTo(1);
+  }
+
+  @Test
+  void setVote_shouldGrowToFitValidatorIndex() {
+    final VoteTracker vote = dataStructureUtil.randomVoteTracker();
+    table.setVote(UInt64.valueOf(5000), vote);
+
+    assertThat(table.getVote(UInt64.valueOf(5000))).contains(vote);
+    assertThat(table.getVote(UInt64.valueOf(4999))).isEmpty();
+    assertThat(table.getVotedValidatorIndices()).containsExactly(UInt64.valueOf(5000));
+  }
+
+  @Test
+  void getVote_shouldReturnIndependentCopies() {
+    final VoteTracker vote = dataStructureUtil.randomVoteTracker();
+    table.setVote(UInt64.ZERO, vote);
+
+    final VoteTracker retrieved = table.getVote(UInt64.ZERO).orElseThrow();
+    retrieved.setNextEpoch(vote.getNextEpoch().plus(1));
+
+    assertThat(table.getVote(UInt64.ZERO)).contains(vote);
+  }
+
+  @Test
+  void shouldDropUnreferencedRootsFromDictionary() {
+    final Bytes32 latestRoot = dataStructureUtil.randomBytes32();
+    // Each vote replaces the previous one so only the final roots remain referenced
+    for (int i = 0; i < 5000; i++) {
+      table.setVote(
+          UInt64.ZERO,
+          new VoteTracker(dataStructureUtil.randomBytes32(), latestRoot, UInt64.valueOf(i)));
+    }
+    final VoteTracker finalVote = new VoteTracker(latestRoot, latestRoot, UInt64.valueOf(5000));
+    table.setVote(UInt64.ZERO, finalVote);
+
+    assertThat(table.getVote(UInt64.ZERO)).contains(finalVote);
+    // Dictionary was compacted so it holds far fewer than the 5000 roots voted for
+    assertThat(table.getRootCount()).isLessThan(2048);
+  }
+}
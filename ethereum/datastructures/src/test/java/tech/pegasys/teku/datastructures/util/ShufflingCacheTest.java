@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.datastructures.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.primitives.Ints;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class ShufflingCacheTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final ShufflingCache cache = new ShufflingCache(2);
+  private final UInt64 epoch = UInt64.valueOf(10);
+  private final Bytes32 seed = dataStructureUtil.randomBytes32();
+  private final List<Integer> activeValidators =
+      IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+  @Test
+  void getShuffling_shouldMatchShuffleList() {
+    final int[] expected = Ints.toArray(activeValidators);
+    CommitteeUtil.shuffle_list(expected, seed);
+
+    assertThat(cache.getShuffling(epoch, activeValidators, seed))
+        .containsExactlyElementsOf(Ints.asList(expected));
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getShuffling_shouldReuseCachedShuffling() {
+    final List<Integer> first = cache.getShuffling(epoch, activeValidators, seed);
+    final List<Integer> second =
+        cache.getShuffling(epoch, new ArrayList<>(activeValidators), seed);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getShuffling_shouldNotReuseShufflingForDifferentSeed() {
+    final Bytes32 otherSeed = dataStructureUtil.randomBytes32();
+    final int[] expected = Ints.toArray(activeValidators);
+    CommitteeUtil.shuffle_list(expected, otherSeed);
+
+    cache.getShuffling(epoch, activeValidators, seed);
+    final List<Integer> second = cache.getShuffling(epoch, activeValidators, otherSeed);
+
+    assertThat(second).containsExactlyElementsOf(Ints.asList(expected));
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void getShuffling_shouldNotReuseShufflingForDifferentActiveValidators() {
+    final List<Integer> otherActiveValidators = new ArrayList<>(activeValidators);
+    otherActiveValidators.set(500, 1000);
+    final int[] expected = Ints.toArray(otherActiveValidators);
+    CommitteeUtil.shuffle_list(expected, seed);
+
+    cache.getShuffling(epoch, activeValidators, seed);
+    final List<Integer> second = cache.getShuffling(epoch, otherActiveValidators, seed);
+
+    assertThat(second).containsExactlyElementsOf(Ints.asList(expected));
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  void getShuffling_shouldNotReuseShufflingForDifferentEpoch() {
+    cache.getShuffling(epoch, activeValidators, seed);
+    cache.getShuffling(epoch.plus(1), activeValidators, seed);
+
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void getShuffling_shouldEvictWhenFull() {
+    cache.getShuffling(epoch, activeValidators, seed);
+    cache.getShuffling(epoch, activeValidators, dataStructureUtil.randomBytes32());
+    cache.getShuffling(epoch, activeValidators, dataStructureUtil.randomBytes32());
+
+    assertThat(cache.size()).isEqualTo(2);
+  }
+}
@@ -16,13 +16,22 @@ package tech.pegasys.teku.datastructures.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.ssz.SSZ;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.datastructures.blocks.BeaconBlockBody;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.SSZContainer;
+import tech.pegasys.teku.ssz.SSZTypes.SSZList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
+import tech.pegasys.teku.ssz.sos.SimpleOffsetSerializable;
 
 class SimpleOffsetSerializerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
@@ -45,6 +54,83 @@ class SimpleOffsetSerializerTest {
     assertThat(result).isEqualTo(original);
   }
 
+  @Test
+  public void shouldRoundTripSignedBeaconBlock() {
+    final SignedBeaconBlock original = dataStructureUtil.randomSignedBeaconBlock(1);
+    final Bytes data = SimpleOffsetSerializer.serialize(original);
+    final SignedBeaconBlock result =
+        SimpleOffsetSerializer.deserialize(data, SignedBeaconBlock.class);
+    assertThat(result).isEqualTo(original);
+  }
+
+  @Test
+  public void shouldRoundTripFullSignedBeaconBlock() {
+    final SignedBeaconBlock original =
+        dataStructureUtil.randomSignedBeaconBlock(1, dataStructureUtil.randomBytes32(), true);
+    final Bytes data = SimpleOffsetSerializer.serialize(original);
+    final SignedBeaconBlock result =
+        SimpleOffsetSerializer.deserialize(data, SignedBeaconBlock.class);
+    assertThat(result).isEqualTo(original);
+  }
+
+  @Test
+  public void shouldRoundTripBlockWithEmptyLists() {
+    final BeaconBlock original =
+        new BeaconBlock(
+            UInt64.ONE,
+            UInt64.ZERO,
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32(),
+            new BeaconBlockBody());
+    final Bytes data = SimpleOffsetSerializer.serialize(original);
+    final BeaconBlock result = SimpleOffsetSerializer.deserialize(data, BeaconBlock.class);
+    assertThat(result).isEqualTo(original);
+  }
+
+  @Test
+  public void serialize_shouldPrecomputeSizeOfFixedAndVariableParts() {
+    final SignedBeaconBlock block =
+        dataStructureUtil.randomSignedBeaconBlock(1, dataStructureUtil.randomBytes32(), true);
+    final int fixedSize = getFixedPartsSize(block);
+    final int variableSize = block.get_variable_parts().stream().mapToInt(Bytes::size).sum();
+
+    final Bytes data = SimpleOffsetSerializer.serialize(block);
+
+    assertThat(data.size()).isEqualTo(fixedSize + variableSize);
+    // The message is the first field and the only variable size one
+    assertThat(SSZ.decodeInt32(data.slice(0, 4))).isEqualTo(fixedSize);
+    assertThat(data.slice(fixedSize))
+        .isEqualTo(SimpleOffsetSerializer.serialize(block.getMessage()));
+  }
+
+  @Test
+  public void serializeVariableCompositeList_shouldWriteOffsetsThenElements() {
+    final List<Attestation> attestations =
+        List.of(
+            dataStructureUtil.randomAttestation(),
+            dataStructureUtil.randomAttestation(),
+            dataStructureUtil.randomAttestation());
+    final SSZMutableList<Attestation> list = SSZList.createMutable(Attestation.class, 10);
+    attestations.forEach(list::add);
+
+    final Bytes data = SimpleOffsetSerializer.serializeVariableCompositeList(list);
+
+    int expectedOffset = attestations.size() * 4;
+    for (int i = 0; i < attestations.size(); i++) {
+      final Bytes element = SimpleOffsetSerializer.serialize(attestations.get(i));
+      assertThat(SSZ.decodeInt32(data.slice(i * 4, 4))).isEqualTo(expectedOffset);
+      assertThat(data.slice(expectedOffset, element.size())).isEqualTo(element);
+      expectedOffset += element.size();
+    }
+    assertThat(data.size()).isEqualTo(expectedOffset);
+  }
+
+  @Test
+  public void serializeVariableCompositeList_shouldBeEmptyForEmptyList() {
+    final SSZMutableList<Attestation> list = SSZList.createMutable(Attestation.class, 10);
+    assertThat(SimpleOffsetSerializer.serializeVariableCompositeList(list)).isEqualTo(Bytes.EMPTY);
+  }
+
   @Test
   public void decode_boolean() {
     final Bytes data = Bytes.fromHexString("0x01");
@@ -103,6 +189,13 @@ class SimpleOffsetSerializerTest {
             "Unable to find reflection information for class UnregisteredContainer");
   }
 
+  private int getFixedPartsSize(final SimpleOffsetSerializable value) {
+    // Empty fixed parts are the offsets of variable size fields
+    return value.get_fixed_parts().stream()
+        .mapToInt(part -> part.isEmpty() ? 4 : part.size())
+        .sum();
+  }
+
   private static class UnregisteredContainer implements SSZContainer {}
 
   private static class RandomClass {}
@@ -17,15 +17,18 @@ import static tech.pegasys.teku.util.config.Constants.ATTESTATION_RETENTION_EPOC
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
@@ -33,15 +36,14 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.core.operationvalidators.AttestationDataStateTransitionValidator;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
-import tech.pegasys.teku.datastructures.blocks.BeaconBlockBodyLists;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.SSZList;
-import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
 import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
 
 /**
@@ -49,20 +51,37 @@ import tech.pegasys.teku.util.time.channels.SlotEventsChannel;
  * or as an aggregate to publish as part of the naive attestation aggregation algorithm. In both
  * cases the returned attestations are aggregated to maximise the number of validators that can be
  * included.
+ *
+ * <p>The pool is sharded by attestation data, which is unique to a slot and committee. Changes to
+ * one group only contend with other changes to the same group, so attestations from different
+ * subnets can be added in parallel. Pruning old slots excludes all other modifications, so a group
+ * can't be added for a slot while that slot is being removed. Reads don't take the pool lock.
+ *
+ * <p>Attestations for blocks are selected by {@link AttestationPacker} to maximise the number of
+ * validators newly included on chain, within {@link #PACKING_TIME_BUDGET_MILLIS}.
  */
 public class AggregatingAttestationPool implements SlotEventsChannel {
-
-  private final Map<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
-      new HashMap<>();
-  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new TreeMap<>();
+  // Leave most of the block production time for processing the block itself
+  static final UInt64 PACKING_TIME_BUDGET_MILLIS = UInt64.valueOf(250);
+
+  private final ConcurrentMap<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
+      new ConcurrentHashMap<>();
+  // Updated along with the group for each data hash. Slots are only removed by onSlot so may
+  // briefly have no remaining data hashes.
+  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new ConcurrentSkipListMap<>();
+  // Adds and removes share the read lock, pruning a slot takes the write lock
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
   private final AttestationDataStateTransitionValidator attestationDataValidator;
   private final AtomicInteger size = new AtomicInteger(0);
   private final SettableGauge sizeGauge;
+  private final AttestationPacker attestationPacker;
 
   public AggregatingAttestationPool(
       final AttestationDataStateTransitionValidator attestationDataValidator,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
     this.attestationDataValidator = attestationDataValidator;
+    this.attestationPacker = new AttestationPacker(timeProvider, PACKING_TIME_BUDGET_MILLIS);
     this.sizeGauge =
         SettableGauge.create(
             metricsSystem,
@@ -71,68 +90,98 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             "The number of attestations available to be included in proposed blocks");
   }
 
-  public synchronized void add(final ValidateableAttestation attestation) {
+  public void add(final ValidateableAttestation attestation) {
     final AttestationData attestationData = attestation.getAttestation().getData();
     final Bytes32 dataRoot = attestationData.hash_tree_root();
-    final boolean add =
-        attestationGroupByDataHash
-            .computeIfAbsent(
-                dataRoot,
-                key ->
-                    new MatchingDataAttestationGroup(
-                        attestationData,
-                        attestation
-                            .getCommitteeShufflingSeed()
-                            .orElseThrow(
-                                () ->
-                                    new UnsupportedOperationException(
-                                        "ValidateableAttestation does not have a randao mix."))))
-            .add(attestation);
-    if (add) {
-      updateSize(1);
+    final AtomicBoolean added = new AtomicBoolean(false);
+    lock.readLock().lock();
+    try {
+      // Modify the group within compute so it can't be concurrently removed from the pool
+      attestationGroupByDataHash.compute(
+          dataRoot,
+          (key, existingGroup) -> {
+            final MatchingDataAttestationGroup group;
+            if (existingGroup != null) {
+              group = existingGroup;
+            } else {
+              group =
+                  new MatchingDataAttestationGroup(
+                      attestationData,
+                      attestation
+                          .getCommitteeShufflingSeed()
+                          .orElseThrow(
+                              () ->
+                                  new UnsupportedOperationException(
+                                      "ValidateableAttestation does not have a randao mix.")));
+              dataHashBySlot
+                  .computeIfAbsent(attestationData.getSlot(), slot -> ConcurrentHashMap.newKeySet())
+                  .add(dataRoot);
+            }
+            added.set(group.add(attestation));
+            return group;
+          });
+      if (added.get()) {
+        updateSize(1);
+      }
+    } finally {
+      lock.readLock().unlock();
     }
-    dataHashBySlot
-        .computeIfAbsent(attestationData.getSlot(), slot -> new HashSet<>())
-        .add(dataRoot);
   }
 
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     final UInt64 attestationRetentionSlots =
         UInt64.valueOf(SLOTS_PER_EPOCH * ATTESTATION_RETENTION_EPOCHS);
     if (slot.compareTo(attestationRetentionSlots) <= 0) {
       return;
     }
     final UInt64 firstValidAttestationSlot = slot.minus(attestationRetentionSlots);
-    final Collection<Set<Bytes>> dataHashesToRemove =
-        dataHashBySlot.headMap(firstValidAttestationSlot, false).values();
-    dataHashesToRemove.stream()
-        .flatMap(Set::stream)
-        .forEach(
-            key -> {
-              final int removed = Math.toIntExact(attestationGroupByDataHash.get(key).size());
-              attestationGroupByDataHash.remove(key);
-              updateSize(-removed);
-            });
-    dataHashesToRemove.clear();
+    lock.writeLock().lock();
+    try {
+      final Collection<Set<Bytes>> dataHashesToRemove =
+          dataHashBySlot.headMap(firstValidAttestationSlot, false).values();
+      dataHashesToRemove.stream()
+          .flatMap(Set::stream)
+          .forEach(
+              key -> {
+                final MatchingDataAttestationGroup removed =
+                    attestationGroupByDataHash.remove(key);
+                if (removed != null) {
+                  updateSize(-Math.toIntExact(removed.size()));
+                }
+              });
+      dataHashesToRemove.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   public void removeAll(SSZList<Attestation> attestations) {
     attestations.forEach(this::remove);
   }
 
-  public synchronized void remove(final Attestation attestation) {
+  public void remove(final Attestation attestation) {
     final AttestationData attestationData = attestation.getData();
     final Bytes32 dataRoot = attestationData.hash_tree_root();
-    final MatchingDataAttestationGroup attestations = attestationGroupByDataHash.get(dataRoot);
-    if (attestations == null) {
-      return;
-    }
-    final int numRemoved = attestations.remove(attestation);
-    updateSize(-numRemoved);
-    if (attestations.isEmpty()) {
-      attestationGroupByDataHash.remove(dataRoot);
-      removeFromSlotMappings(attestationData.getSlot(), dataRoot);
+    final AtomicInteger numRemoved = new AtomicInteger(0);
+    lock.readLock().lock();
+    try {
+      attestationGroupByDataHash.computeIfPresent(
+          dataRoot,
+          (key, attestations) -> {
+            numRemoved.set(attestations.remove(attestation));
+            if (!attestations.isEmpty()) {
+              return attestations;
+            }
+            final Set<Bytes> dataHashes = dataHashBySlot.get(attestationData.getSlot());
+            if (dataHashes != null) {
+              dataHashes.remove(dataRoot);
+            }
+            return null;
+          });
+      updateSize(-numRemoved.get());
+    } finally {
+      lock.readLock().unlock();
     }
   }
 
@@ -141,35 +190,20 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     sizeGauge.set(currentSize);
   }
 
-  private void removeFromSlotMappings(final UInt64 slot, final Bytes32 dataRoot) {
-    final Set<Bytes> dataHashesForSlot = dataHashBySlot.get(slot);
-    if (dataHashesForSlot != null) {
-      dataHashesForSlot.remove(dataRoot);
-      if (dataHashesForSlot.isEmpty()) {
-        dataHashBySlot.remove(slot);
-      }
-    }
-  }
-
   public int getSize() {
     return size.get();
   }
 
-  public synchronized SSZList<Attestation> getAttestationsForBlock(
+  public SSZList<Attestation> getAttestationsForBlock(
       final BeaconState stateAtBlockSlot, final AttestationForkChecker forkChecker) {
-    final SSZMutableList<Attestation> attestations = BeaconBlockBodyLists.createAttestations();
-
-    dataHashBySlot.descendingMap().values().stream()
-        .flatMap(Collection::stream)
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
-        .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
-        .filter(forkChecker::areAttestationsFromCorrectFork)
-        .flatMap(MatchingDataAttestationGroup::stream)
-        .limit(attestations.getMaxSize())
-        .map(ValidateableAttestation::getAttestation)
-        .forEach(attestations::add);
-    return attestations;
+    return attestationPacker.pack(
+        stateAtBlockSlot,
+        dataHashBySlot.descendingMap().values().stream()
+            .flatMap(Collection::stream)
+            .map(attestationGroupByDataHash::get)
+            .filter(Objects::nonNull)
+            .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
+            .filter(forkChecker::areAttestationsFromCorrectFork));
   }
 
   public Stream<Attestation> getAttestations(
@@ -199,7 +233,7 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     return attestationDataValidator.validate(stateAtBlockSlot, attestationData).isEmpty();
   }
 
-  public synchronized Optional<ValidateableAttestation> createAggregateFor(
+  public Optional<ValidateableAttestation> createAggregateFor(
       final Bytes32 attestationHashTreeRoot) {
     return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
         .flatMap(attestations -> attestations.stream().findFirst());
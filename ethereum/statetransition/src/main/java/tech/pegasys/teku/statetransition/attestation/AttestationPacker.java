@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.datastructures.blocks.BeaconBlockBodyLists;
+import tech.pegasys.teku.datastructures.operations.Attestation;
+import tech.pegasys.teku.datastructures.operations.AttestationData;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.state.PendingAttestation;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
+import tech.pegasys.teku.ssz.SSZTypes.SSZList;
+import tech.pegasys.teku.ssz.SSZTypes.SSZMutableList;
+
+/**
+ * Selects the attestations to include in a block so as to maximise the number of validators whose
+ * attestations are newly included on chain.
+ *
+ * <p>Each candidate aggregate is scored by the number of validators it covers that are neither
+ * included in a pending attestation in the state nor covered by an attestation already selected for
+ * this block. Candidates are then picked greedily by score across all committees. As scores can
+ * only decrease when attestations are selected, a stale score is only re-evaluated when it reaches
+ * the head of the queue rather than rescoring every candidate after each selection.
+ *
+ * <p>Collecting candidates requires aggregating every group so stops once the time budget is
+ * exhausted. Groups should be supplied most recent first so the most valuable candidates are
+ * always considered.
+ */
+class AttestationPacker {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Comparator<Candidate> BEST_CANDIDATE_FIRST =
+      Comparator.comparingInt((Candidate candidate) -> candidate.score)
+          .reversed()
+          .thenComparing(candidate -> candidate.slot, Comparator.reverseOrder())
+          .thenComparingInt(candidate -> candidate.sequence);
+
+  private final TimeProvider timeProvider;
+  private final UInt64 timeBudgetMillis;
+
+  AttestationPacker(final TimeProvider timeProvider, final UInt64 timeBudgetMillis) {
+    this.timeProvider = timeProvider;
+    this.timeBudgetMillis = timeBudgetMillis;
+  }
+
+  public SSZList<Attestation> pack(
+      final BeaconState stateAtBlockSlot, final Stream<MatchingDataAttestationGroup> groups) {
+    final UInt64 deadline = timeProvider.getTimeInMillis().plus(timeBudgetMillis);
+    final SSZMutableList<Attestation> attestations = BeaconBlockBodyLists.createAttestations();
+    final Map<CommitteeKey, BitSet> coveredValidators = getIncludedValidators(stateAtBlockSlot);
+    final PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_CANDIDATE_FIRST);
+    int candidateCount = 0;
+
+    final Iterator<MatchingDataAttestationGroup> groupIterator = groups.iterator();
+    while (groupIterator.hasNext()) {
+      final MatchingDataAttestationGroup group = groupIterator.next();
+      final AttestationData data = group.getAttestationData();
+      final CommitteeKey key = new CommitteeKey(data);
+      final BitSet alreadyCovered = coveredValidators.getOrDefault(key, new BitSet());
+      for (ValidateableAttestation aggregate : group) {
+        final Attestation attestation = aggregate.getAttestation();
+        final BitSet validators = toBitSet(attestation.getAggregation_bits());
+        final int score = countNewlyCovered(validators, alreadyCovered);
+        if (score > 0) {
+          candidates.add(
+              new Candidate(attestation, key, validators, data.getSlot(), candidateCount++, score));
+        }
+      }
+      if (timeProvider.getTimeInMillis().isGreaterThanOrEqualTo(deadline)) {
+        LOG.debug(
+            "Attestation packing exceeded time budget of {}ms, selecting from {} candidates",
+            timeBudgetMillis,
+            candidates.size());
+        break;
+      }
+    }
+
+    while (!candidates.isEmpty() && attestations.size() < attestations.getMaxSize()) {
+      final Candidate candidate = candidates.poll();
+      final BitSet covered = coveredValidators.computeIfAbsent(candidate.key, __ -> new BitSet());
+      final int score = countNewlyCovered(candidate.validators, covered);
+      if (score == candidate.score) {
+        // Score is unchanged so it is still at least as good as every other candidate
+        covered.or(candidate.validators);
+        attestations.add(candidate.attestation);
+      } else if (score > 0) {
+        candidate.score = score;
+        candidates.add(candidate);
+      }
+    }
+    return attestations;
+  }
+
+  private Map<CommitteeKey, BitSet> getIncludedValidators(final BeaconState state) {
+    final Map<CommitteeKey, BitSet> includedValidators = new HashMap<>();
+    Stream.concat(
+            state.getPrevious_epoch_attestations().stream(),
+            state.getCurrent_epoch_attestations().stream())
+        .forEach(attestation -> addIncludedValidators(includedValidators, attestation));
+    return includedValidators;
+  }
+
+  private void addIncludedValidators(
+      final Map<CommitteeKey, BitSet> includedValidators,
+      final PendingAttestation pendingAttestation) {
+    final BitSet validators =
+        includedValidators.computeIfAbsent(
+            new CommitteeKey(pendingAttestation.getData()), __ -> new BitSet());
+    pendingAttestation.getAggregation_bits().streamAllSetBits().forEach(validators::set);
+  }
+
+  private static BitSet toBitSet(final Bitlist bitlist) {
+    final BitSet bits = new BitSet(bitlist.getCurrentSize());
+    bitlist.streamAllSetBits().forEach(bits::set);
+    return bits;
+  }
+
+  private static int countNewlyCovered(final BitSet validators, final BitSet covered) {
+    final BitSet newlyCovered = (BitSet) validators.clone();
+    newlyCovered.andNot(covered);
+    return newlyCovered.cardinality();
+  }
+
+  /**
+   * Validators are rewarded for the first inclusion of an attestation from their committee,
+   * regardless of which block root it votes for, so coverage is tracked per slot and committee.
+   */
+  private static class CommitteeKey {
+    private final UInt64 slot;
+    private final UInt64 index;
+
+    private CommitteeKey(final AttestationData data) {
+      this.slot = data.getSlot();
+      this.index = data.getIndex();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final CommitteeKey that = (CommitteeKey) o;
+      return Objects.equals(slot, that.slot) && Objects.equals(index, that.index);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(slot, index);
+    }
+  }
+
+  private static class Candidate {
+    private final Attestation attestation;
+    private final CommitteeKey key;
+    private final BitSet validators;
+    private final UInt64 slot;
+    private final int sequence;
+    private int score;
+
+    private Candidate(
+        final Attestation attestation,
+        final CommitteeKey key,
+        final BitSet validators,
+        final UInt64 slot,
+        final int sequence,
+        final int score) {
+      this.attestation = attestation;
+      this.key = key;
+      this.validators = validators;
+      this.slot = slot;
+      this.sequence = sequence;
+      this.score = score;
+    }
+  }
+}
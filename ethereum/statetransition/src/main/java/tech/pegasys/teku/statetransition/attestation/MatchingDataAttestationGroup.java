@@ -13,10 +13,12 @@
 
 package tech.pegasys.teku.statetransition.attestation;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
@@ -37,6 +39,9 @@ import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
  * Aggregation starts with the attestation that already includes the most validators then continues
  * adding attestations in order of the number of validators they contain.
  *
+ * <p>Modifications are synchronized. Iteration works on a copy of the attestations taken when the
+ * iterator is created, so it is unaffected by attestations being added or removed concurrently.
+ *
  * <p>Note that the resulting aggregate will be invalid if attestations with different
  * AttestationData are added.
  */
@@ -66,7 +71,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    * @param attestation the attestation to add
    * @return True if the attestation was added, false otherwise
    */
-  public boolean add(final ValidateableAttestation attestation) {
+  public synchronized boolean add(final ValidateableAttestation attestation) {
     if (seenAggregationBits.isSuperSetOf(attestation.getAttestation().getAggregation_bits())) {
       // We've already seen these aggregation bits
       return false;
@@ -90,7 +95,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    */
   @Override
   public Iterator<ValidateableAttestation> iterator() {
-    return new AggregatingIterator();
+    return new AggregatingIterator(getAttestations());
   }
 
   public Stream<ValidateableAttestation> stream() {
@@ -102,11 +107,11 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    *
    * @return true if this group is empty.
    */
-  public boolean isEmpty() {
+  public synchronized boolean isEmpty() {
     return attestationsByValidatorCount.isEmpty();
   }
 
-  public long size() {
+  public synchronized long size() {
     return attestationsByValidatorCount.values().stream().map(Set::size).reduce(0, Integer::sum);
   }
 
@@ -118,7 +123,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    *
    * @param attestation the attestation to logically remove from the pool.
    */
-  public int remove(final Attestation attestation) {
+  public synchronized int remove(final Attestation attestation) {
     if (seenAggregationBits.isSuperSetOf(attestation.getAggregation_bits())) {
       // We've already seen and filtered out all of these bits, nothing to do
       return 0;
@@ -149,9 +154,20 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     return committeeShufflingSeed;
   }
 
+  private synchronized List<ValidateableAttestation> getAttestations() {
+    final List<ValidateableAttestation> attestations = new ArrayList<>();
+    attestationsByValidatorCount.values().forEach(attestations::addAll);
+    return attestations;
+  }
+
   private class AggregatingIterator implements Iterator<ValidateableAttestation> {
+    private final List<ValidateableAttestation> attestations;
     private final Set<ValidateableAttestation> includedAttestations = new HashSet<>();
 
+    private AggregatingIterator(final List<ValidateableAttestation> attestations) {
+      this.attestations = attestations;
+    }
+
     @Override
     public boolean hasNext() {
       return streamRemainingAttestations().findAny().isPresent();
@@ -174,9 +190,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     }
 
     public Stream<ValidateableAttestation> streamRemainingAttestations() {
-      return attestationsByValidatorCount.values().stream()
-          .flatMap(Set::stream)
-          .filter(candidate -> !includedAttestations.contains(candidate));
+      return attestations.stream().filter(candidate -> !includedAttestations.contains(candidate));
     }
   }
 }
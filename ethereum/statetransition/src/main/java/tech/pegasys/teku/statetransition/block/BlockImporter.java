@@ -13,11 +13,15 @@
 
 package tech.pegasys.teku.statetransition.block;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.eventbus.EventBus;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +40,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
 import tech.pegasys.teku.statetransition.events.block.ImportedBlockEvent;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.statetransition.forkchoice.PendingBlocksForkChoiceStrategy;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.util.config.Constants;
 import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityValidator;
@@ -95,28 +100,146 @@ public class BlockImporter {
                     () -> formatBlock(block));
                 return result;
               }
-              LOG.trace("Successfully imported block {}", () -> formatBlock(block));
+              onBlockImported(block, result);
+              return result;
+            })
+        .exceptionally(
+            (e) -> {
+              LOG.error("Internal error while importing block: {}", formatBlock(block), e);
+              return BlockImportResult.internalError(e);
+            });
+  }
 
-              final Optional<BlockProcessingRecord> record = result.getBlockProcessingRecord();
-              eventBus.post(new ImportedBlockEvent(block));
+  /**
+   * Imports a chain segment, where each block is the parent of the following block.
+   *
+   * <p>The segment is imported in a single fork choice transaction with the signatures of all
+   * blocks verified as a single batch. If that fails, the blocks before the failing block are
+   * imported as a segment again and the failing block is then imported on its own, so the valid
+   * blocks are still imported and the failure is reported against the correct block.
+   *
+   * @param blocks the blocks to import
+   * @return the result of importing the last block, or of the first block that failed to import
+   */
+  @CheckReturnValue
+  public SafeFuture<BlockImportResult> importBlocks(final List<SignedBeaconBlock> blocks) {
+    checkArgument(!blocks.isEmpty(), "Can't import an empty list of blocks");
+    // Skip over the blocks we already have, as the sync batch may overlap with our chain
+    final List<SignedBeaconBlock> newBlocks =
+        blocks.stream()
+            .dropWhile(block -> recentChainData.containsBlock(block.getRoot()))
+            .collect(Collectors.toList());
+    if (newBlocks.isEmpty()) {
+      return importBlock(blocks.get(blocks.size() - 1));
+    }
+    if (newBlocks.size() == 1 || !isSegmentValidForWeakSubjectivity(newBlocks)) {
+      return importBlocksIndividually(newBlocks);
+    }
 
-              // Notify operation pools to remove operations only
-              // if the block is on our canonical chain
-              if (result.isBlockOnCanonicalChain()) {
-                notifyBlockOperationSubscribers(block);
+    return validateWeakSubjectivityPeriod()
+        .thenCompose(__ -> recentChainData.retrieveBlockState(newBlocks.get(0).getParentRoot()))
+        .thenCompose(preState -> forkChoice.onBlocks(newBlocks, preState))
+        .thenCompose(
+            results -> {
+              final int lastIndex = results.size() - 1;
+              final BlockImportResult lastResult = results.get(lastIndex);
+              if (!lastResult.isSuccessful()) {
+                LOG.debug(
+                    "Failed to import segment of {} blocks at slot {} ({}), resuming from slot {}",
+                    newBlocks.size(),
+                    newBlocks.get(0).getSlot(),
+                    lastResult.getFailureReason(),
+                    newBlocks.get(lastIndex).getSlot());
+                return importFromFailedBlock(newBlocks, lastIndex);
               }
-
-              record.ifPresent(eventBus::post);
-
-              return result;
+              for (int i = 0; i < newBlocks.size(); i++) {
+                onBlockImported(newBlocks.get(i), results.get(i));
+              }
+              return SafeFuture.completedFuture(lastResult);
             })
         .exceptionally(
             (e) -> {
-              LOG.error("Internal error while importing block: {}", formatBlock(block), e);
+              LOG.error(
+                  "Internal error while importing blocks: {} to {}",
+                  formatBlock(newBlocks.get(0)),
+                  formatBlock(newBlocks.get(newBlocks.size() - 1)),
+                  e);
               return BlockImportResult.internalError(e);
             });
   }
 
+  private boolean isSegmentValidForWeakSubjectivity(final List<SignedBeaconBlock> blocks) {
+    final PendingBlocksForkChoiceStrategy forkChoiceStrategy =
+        new PendingBlocksForkChoiceStrategy(getForkChoiceStrategy());
+    for (SignedBeaconBlock block : blocks) {
+      if (!weakSubjectivityValidator.isBlockValid(block, forkChoiceStrategy)) {
+        return false;
+      }
+      forkChoiceStrategy.addPendingBlock(block);
+    }
+    return true;
+  }
+
+  /**
+   * Imports a segment which failed because of the block at {@code failedIndex}. Nothing from the
+   * segment was committed but the blocks before the failed block are valid, so they are imported
+   * as a segment and the failed block is then imported by itself. The remaining blocks are only
+   * imported if it succeeds.
+   */
+  private SafeFuture<BlockImportResult> importFromFailedBlock(
+      final List<SignedBeaconBlock> blocks, final int failedIndex) {
+    final SignedBeaconBlock failedBlock = blocks.get(failedIndex);
+    final List<SignedBeaconBlock> remainingBlocks = blocks.subList(failedIndex + 1, blocks.size());
+    SafeFuture<BlockImportResult> importResult =
+        failedIndex == 0
+            ? importBlock(failedBlock)
+            : importBlocks(blocks.subList(0, failedIndex))
+                .thenCompose(
+                    previousResult ->
+                        previousResult.isSuccessful()
+                            ? importBlock(failedBlock)
+                            : SafeFuture.completedFuture(previousResult));
+    if (!remainingBlocks.isEmpty()) {
+      importResult =
+          importResult.thenCompose(
+              previousResult ->
+                  previousResult.isSuccessful()
+                      ? importBlocks(remainingBlocks)
+                      : SafeFuture.completedFuture(previousResult));
+    }
+    return importResult;
+  }
+
+  private SafeFuture<BlockImportResult> importBlocksIndividually(
+      final List<SignedBeaconBlock> blocks) {
+    SafeFuture<BlockImportResult> importResult = importBlock(blocks.get(0));
+    for (int i = 1; i < blocks.size(); i++) {
+      final SignedBeaconBlock block = blocks.get(i);
+      importResult =
+          importResult.thenCompose(
+              previousResult ->
+                  previousResult.isSuccessful()
+                      ? importBlock(block)
+                      : SafeFuture.completedFuture(previousResult));
+    }
+    return importResult;
+  }
+
+  private void onBlockImported(final SignedBeaconBlock block, final BlockImportResult result) {
+    LOG.trace("Successfully imported block {}", () -> formatBlock(block));
+
+    final Optional<BlockProcessingRecord> record = result.getBlockProcessingRecord();
+    eventBus.post(new ImportedBlockEvent(block));
+
+    // Notify operation pools to remove operations only
+    // if the block is on our canonical chain
+    if (result.isBlockOnCanonicalChain()) {
+      notifyBlockOperationSubscribers(block);
+    }
+
+    record.ifPresent(eventBus::post);
+  }
+
   private SafeFuture<?> validateWeakSubjectivityPeriod() {
     return getLatestCheckpointState()
         .thenCombine(
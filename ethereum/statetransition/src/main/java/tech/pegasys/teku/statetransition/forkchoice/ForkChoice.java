@@ -13,18 +13,25 @@
 
 package tech.pegasys.teku.statetransition.forkchoice;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.core.ForkChoiceUtil.on_attestation;
 import static tech.pegasys.teku.core.ForkChoiceUtil.on_block;
 
 import com.google.common.base.Throwables;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.StateTransitionException;
+import tech.pegasys.teku.core.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.core.blockvalidator.SimpleBlockValidator;
 import tech.pegasys.teku.core.lookup.CapturingIndexedAttestationProvider;
 import tech.pegasys.teku.core.results.BlockImportResult;
+import tech.pegasys.teku.data.BlockProcessingRecord;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
@@ -45,14 +52,40 @@ public class ForkChoice {
   private final ForkChoiceExecutor forkChoiceExecutor;
   private final RecentChainData recentChainData;
   private final StateTransition stateTransition;
+  private final Optional<ForkJoinPool> signatureVerificationPool;
 
   public ForkChoice(
       final ForkChoiceExecutor forkChoiceExecutor,
       final RecentChainData recentChainData,
       final StateTransition stateTransition) {
+    this(forkChoiceExecutor, recentChainData, stateTransition, Optional.empty());
+  }
+
+  /**
+   * @param signatureVerificationPool the pool to verify block signatures on when importing a
+   *     segment of blocks, instead of the shared pool
+   */
+  public ForkChoice(
+      final ForkChoiceExecutor forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final StateTransition stateTransition,
+      final ForkJoinPool signatureVerificationPool) {
+    this(
+        forkChoiceExecutor,
+        recentChainData,
+        stateTransition,
+        Optional.of(signatureVerificationPool));
+  }
+
+  private ForkChoice(
+      final ForkChoiceExecutor forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final StateTransition stateTransition,
+      final Optional<ForkJoinPool> signatureVerificationPool) {
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.recentChainData = recentChainData;
     this.stateTransition = stateTransition;
+    this.signatureVerificationPool = signatureVerificationPool;
     recentChainData.subscribeStoreInitialized(this::initializeProtoArrayForkChoice);
   }
 
@@ -153,6 +186,115 @@ public class ForkChoice {
         });
   }
 
+  /**
+   * Imports a segment of consecutive blocks in a single store transaction.
+   *
+   * <p>Each block is processed on top of the post-state of the previous block with signature
+   * checks deferred. The signatures collected from each block are then verified as a batch on the
+   * verification pool while the following blocks are processed. If any block fails to import, or
+   * any block contains an invalid signature, no blocks are imported.
+   *
+   * @param blocks the blocks to import, each block must be the parent of the following block
+   * @param preState the state of the parent of the first block
+   * @return the import result for each block, ending with the failed result if any block failed
+   */
+  public SafeFuture<List<BlockImportResult>> onBlocks(
+      final List<SignedBeaconBlock> blocks, final Optional<BeaconState> preState) {
+    checkArgument(!blocks.isEmpty(), "Can't import an empty list of blocks");
+    return onForkChoiceThread(
+        () -> {
+          final PendingBlocksForkChoiceStrategy forkChoiceStrategy =
+              new PendingBlocksForkChoiceStrategy(getForkChoiceStrategy());
+          final StoreTransaction transaction = recentChainData.startStoreTransaction();
+          final CapturingIndexedAttestationProvider indexedAttestationProvider =
+              new CapturingIndexedAttestationProvider();
+
+          final List<BlockImportResult> results = new ArrayList<>();
+          final List<SafeFuture<Boolean>> signatureResults = new ArrayList<>();
+          Optional<BeaconState> blockPreState = preState;
+          for (int i = 0; i < blocks.size(); i++) {
+            final SignedBeaconBlock block = blocks.get(i);
+            if (i > 0 && !block.getParentRoot().equals(blocks.get(i - 1).getRoot())) {
+              results.add(BlockImportResult.FAILED_UNKNOWN_PARENT);
+              return SafeFuture.completedFuture(results);
+            }
+            // Signatures are only collected while processing and verified afterwards
+            final BatchSignatureVerifier signatureVerifier =
+                signatureVerificationPool
+                    .map(BatchSignatureVerifier::new)
+                    .orElseGet(BatchSignatureVerifier::new);
+            final BlockImportResult result =
+                on_block(
+                    transaction,
+                    block,
+                    blockPreState,
+                    new StateTransition(
+                        new SimpleBlockValidator(true, true, true, signatureVerifier)),
+                    forkChoiceStrategy,
+                    beaconState ->
+                        transaction.putStateRoot(
+                            beaconState.hash_tree_root(),
+                            new SlotAndBlockRoot(
+                                beaconState.getSlot(),
+                                beaconState.getLatest_block_header().hash_tree_root())),
+                    indexedAttestationProvider);
+            results.add(result);
+            if (!result.isSuccessful()) {
+              return SafeFuture.completedFuture(results);
+            }
+            // Verify this block's signatures while the next block is processed
+            signatureResults.add(signatureVerifier.batchVerifyAsync());
+            forkChoiceStrategy.addPendingBlock(block);
+            blockPreState =
+                result.getBlockProcessingRecord().map(BlockProcessingRecord::getPostState);
+          }
+
+          return SafeFuture.allOf(signatureResults.toArray(SafeFuture[]::new))
+              .thenCompose(
+                  __ -> {
+                    for (int i = 0; i < blocks.size(); i++) {
+                      if (!signatureResults.get(i).join()) {
+                        results.set(
+                            i,
+                            BlockImportResult.failedStateTransition(
+                                new StateTransitionException("Invalid signature in block")));
+                        return SafeFuture.completedFuture(results.subList(0, i + 1));
+                      }
+                    }
+                    return commitBlocks(
+                        transaction,
+                        forkChoiceStrategy,
+                        indexedAttestationProvider,
+                        blocks,
+                        results);
+                  });
+        });
+  }
+
+  private SafeFuture<List<BlockImportResult>> commitBlocks(
+      final StoreTransaction transaction,
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final CapturingIndexedAttestationProvider indexedAttestationProvider,
+      final List<SignedBeaconBlock> blocks,
+      final List<BlockImportResult> results) {
+    indexedAttestationProvider.getIndexedAttestations().stream()
+        .filter(
+            attestation ->
+                forkChoiceStrategy.contains(attestation.getData().getBeacon_block_root()))
+        .forEach(
+            indexedAttestation ->
+                forkChoiceStrategy.onAttestation(transaction, indexedAttestation));
+    return transaction
+        .commit()
+        .thenRun(
+            () -> {
+              for (int i = 0; i < blocks.size(); i++) {
+                updateForkChoiceForImportedBlock(blocks.get(i), results.get(i));
+              }
+            })
+        .thenApply(__ -> results);
+  }
+
   private void updateForkChoiceForImportedBlock(
       final SignedBeaconBlock block, final BlockImportResult result) {
     result
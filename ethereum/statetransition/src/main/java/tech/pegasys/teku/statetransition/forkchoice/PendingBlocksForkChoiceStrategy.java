@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.datastructures.forkchoice.MutableStore;
+import tech.pegasys.teku.datastructures.operations.IndexedAttestation;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.state.Checkpoint;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
+
+/**
+ * View of a {@link ForkChoiceStrategy} which also includes blocks that have been processed but not
+ * yet committed to the store.
+ *
+ * <p>Blocks are only added to the underlying fork choice strategy once the store transaction they
+ * are part of has been committed. When a chain segment is imported in a single transaction, the
+ * ancestry of each block has to be resolved through the earlier blocks of the same segment, so
+ * lookups check the pending blocks before falling back to the underlying strategy.
+ */
+public class PendingBlocksForkChoiceStrategy implements ForkChoiceStrategy {
+  private final ForkChoiceStrategy delegate;
+  private final Map<Bytes32, SignedBeaconBlock> pendingBlocks = new HashMap<>();
+
+  public PendingBlocksForkChoiceStrategy(final ForkChoiceStrategy delegate) {
+    this.delegate = delegate;
+  }
+
+  public void addPendingBlock(final SignedBeaconBlock block) {
+    pendingBlocks.put(block.getRoot(), block);
+  }
+
+  @Override
+  public Bytes32 findHead(
+      final MutableStore store,
+      final Checkpoint finalizedCheckpoint,
+      final Checkpoint justifiedCheckpoint,
+      final BeaconState justifiedCheckpointState) {
+    return delegate.findHead(
+        store, finalizedCheckpoint, justifiedCheckpoint, justifiedCheckpointState);
+  }
+
+  @Override
+  public void onAttestation(final MutableStore store, final IndexedAttestation attestation) {
+    delegate.onAttestation(store, attestation);
+  }
+
+  @Override
+  public Optional<UInt64> blockSlot(final Bytes32 blockRoot) {
+    final SignedBeaconBlock block = pendingBlocks.get(blockRoot);
+    return block != null ? Optional.of(block.getSlot()) : delegate.blockSlot(blockRoot);
+  }
+
+  @Override
+  public Optional<Bytes32> blockParentRoot(final Bytes32 blockRoot) {
+    final SignedBeaconBlock block = pendingBlocks.get(blockRoot);
+    return block != null
+        ? Optional.of(block.getParentRoot())
+        : delegate.blockParentRoot(blockRoot);
+  }
+
+  @Override
+  public Optional<Bytes32> getAncestor(final Bytes32 blockRoot, final UInt64 slot) {
+    Bytes32 currentRoot = blockRoot;
+    SignedBeaconBlock block = pendingBlocks.get(currentRoot);
+    while (block != null) {
+      if (block.getSlot().isLessThanOrEqualTo(slot)) {
+        return Optional.of(currentRoot);
+      }
+      currentRoot = block.getParentRoot();
+      block = pendingBlocks.get(currentRoot);
+    }
+    return delegate.getAncestor(currentRoot, slot);
+  }
+
+  @Override
+  public Map<Bytes32, UInt64> getChainHeads() {
+    return delegate.getChainHeads();
+  }
+
+  @Override
+  public boolean contains(final Bytes32 blockRoot) {
+    return pendingBlocks.containsKey(blockRoot) || delegate.contains(blockRoot);
+  }
+}
@@ -34,7 +34,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
@@ -42,6 +41,7 @@ import tech.pegasys.teku.datastructures.operations.AggregateAndProof;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.datastructures.util.CommitteeUtil;
 import tech.pegasys.teku.datastructures.util.ValidatorsUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -58,11 +58,15 @@ public class AggregateAttestationValidator {
       LimitedSet.create(VALID_AGGREGATE_SET_SIZE);
   private final AttestationValidator attestationValidator;
   private final RecentChainData recentChainData;
+  private final AsyncBLSSignatureVerifier signatureVerifier;
 
   public AggregateAttestationValidator(
-      final RecentChainData recentChainData, final AttestationValidator attestationValidator) {
+      final RecentChainData recentChainData,
+      final AttestationValidator attestationValidator,
+      final AsyncBLSSignatureVerifier signatureVerifier) {
     this.recentChainData = recentChainData;
     this.attestationValidator = attestationValidator;
+    this.signatureVerifier = signatureVerifier;
   }
 
   public void addSeenAggregate(final ValidateableAttestation attestation) {
@@ -106,10 +110,10 @@ public class AggregateAttestationValidator {
                               ? SafeFuture.completedFuture(Optional.empty())
                               : attestationValidator.resolveStateForAttestation(
                                   aggregate, maybeState.get()))
-                  .thenApply(
+                  .thenCompose(
                       maybeState -> {
                         if (maybeState.isEmpty()) {
-                          return SAVE_FOR_FUTURE;
+                          return SafeFuture.completedFuture(SAVE_FOR_FUTURE);
                         }
 
                         final BeaconState state = maybeState.get();
@@ -118,16 +122,7 @@ public class AggregateAttestationValidator {
                             ValidatorsUtil.getValidatorPubKey(state, aggregateAndProof.getIndex());
                         if (aggregatorPublicKey.isEmpty()) {
                           LOG.trace("Rejecting aggregate with invalid index");
-                          return REJECT;
-                        }
-
-                        if (!isSelectionProofValid(
-                            aggregateSlot,
-                            state,
-                            aggregatorPublicKey.get(),
-                            aggregateAndProof.getSelection_proof())) {
-                          LOG.trace("Rejecting aggregate with incorrect selection proof");
-                          return REJECT;
+                          return SafeFuture.completedFuture(REJECT);
                         }
 
                         final List<Integer> beaconCommittee =
@@ -139,37 +134,54 @@ public class AggregateAttestationValidator {
                             aggregateAndProof.getSelection_proof(), aggregatorModulo)) {
                           LOG.trace(
                               "Rejecting aggregate because selection proof does not select validator as aggregator");
-                          return REJECT;
+                          return SafeFuture.completedFuture(REJECT);
                         }
                         if (!beaconCommittee.contains(
                             toIntExact(aggregateAndProof.getIndex().longValue()))) {
                           LOG.trace(
                               "Rejecting aggregate because attester is not in committee. Should have been one of {}",
                               beaconCommittee);
-                          return REJECT;
-                        }
-
-                        if (!isSignatureValid(signedAggregate, state, aggregatorPublicKey.get())) {
-                          LOG.trace("Rejecting aggregate with invalid signature");
-                          return REJECT;
-                        }
-
-                        if (!receivedAggregatorIndexAndEpochs.add(aggregatorIndexAndEpoch)) {
-                          LOG.trace("Ignoring duplicate aggregate");
-                          return IGNORE;
-                        }
-
-                        if (!receivedValidAggregations.add(attestation.hash_tree_root())) {
-                          LOG.trace("Ignoring duplicate aggregate based on hash tree root");
-                          return IGNORE;
+                          return SafeFuture.completedFuture(REJECT);
                         }
 
-                        return aggregateInternalValidationResult;
+                        final SafeFuture<Boolean> selectionProofValid =
+                            isSelectionProofValid(
+                                aggregateSlot,
+                                state,
+                                aggregatorPublicKey.get(),
+                                aggregateAndProof.getSelection_proof());
+                        final SafeFuture<Boolean> signatureValid =
+                            isSignatureValid(signedAggregate, state, aggregatorPublicKey.get());
+                        return selectionProofValid.thenCombine(
+                            signatureValid,
+                            (validSelectionProof, validSignature) -> {
+                              if (!validSelectionProof) {
+                                LOG.trace("Rejecting aggregate with incorrect selection proof");
+                                return REJECT;
+                              }
+
+                              if (!validSignature) {
+                                LOG.trace("Rejecting aggregate with invalid signature");
+                                return REJECT;
+                              }
+
+                              if (!receivedAggregatorIndexAndEpochs.add(aggregatorIndexAndEpoch)) {
+                                LOG.trace("Ignoring duplicate aggregate");
+                                return IGNORE;
+                              }
+
+                              if (!receivedValidAggregations.add(attestation.hash_tree_root())) {
+                                LOG.trace("Ignoring duplicate aggregate based on hash tree root");
+                                return IGNORE;
+                              }
+
+                              return aggregateInternalValidationResult;
+                            });
                       });
             });
   }
 
-  private boolean isSignatureValid(
+  private SafeFuture<Boolean> isSignatureValid(
       final SignedAggregateAndProof signedAggregate,
       final BeaconState state,
       final BLSPublicKey aggregatorPublicKey) {
@@ -181,10 +193,11 @@ public class AggregateAttestationValidator {
             state.getFork(),
             state.getGenesis_validators_root());
     final Bytes signingRoot = compute_signing_root(aggregateAndProof, domain);
-    return BLS.verify(aggregatorPublicKey, signingRoot, signedAggregate.getSignature());
+    return signatureVerifier.verify(
+        aggregatorPublicKey, signingRoot, signedAggregate.getSignature());
   }
 
-  private boolean isSelectionProofValid(
+  private SafeFuture<Boolean> isSelectionProofValid(
       final UInt64 aggregateSlot,
       final BeaconState state,
       final BLSPublicKey aggregatorPublicKey,
@@ -196,7 +209,7 @@ public class AggregateAttestationValidator {
             state.getFork(),
             state.getGenesis_validators_root());
     final Bytes signingRoot = compute_signing_root(aggregateSlot.longValue(), domain);
-    return BLS.verify(aggregatorPublicKey, signingRoot, selectionProof);
+    return signatureVerifier.verify(aggregatorPublicKey, signingRoot, selectionProof);
   }
 
   private static class AggregatorIndexAndEpoch {
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.datastructures.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.service.serviceutils.Service;
+
+/**
+ * Verifies signatures from gossip messages in batches on a dedicated pool of threads.
+ *
+ * <p>Each worker thread takes the oldest pending signature then collects any others which arrive
+ * within {@code batchWindow} of it being submitted, up to {@code maxBatchSize}. The batch is then
+ * verified with a single {@link BLS#completeBatchVerify(List)} call which is much cheaper than
+ * verifying each signature individually. If the batch fails, each signature is verified
+ * individually to identify the invalid ones.
+ *
+ * <p>When the queue is full signatures are verified on the calling thread, pushing back on the
+ * threads submitting them.
+ */
+public class AggregatingSignatureVerificationService extends Service
+    implements AsyncBLSSignatureVerifier {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 250;
+  public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(25);
+  public static final int DEFAULT_QUEUE_CAPACITY = 15_000;
+
+  private final BlockingQueue<SignatureTask> queue;
+  private final int numThreads;
+  private final int maxBatchSize;
+  private final long batchWindowNanos;
+  private final MetricsHistogram batchSizeHistogram;
+  private final MetricsHistogram waitTimeHistogram;
+  private final Counter batchCounter;
+  private final Counter fallbackCounter;
+  private volatile ExecutorService executor;
+
+  public AggregatingSignatureVerificationService(
+      final MetricsSystem metricsSystem,
+      final int numThreads,
+      final int maxBatchSize,
+      final Duration batchWindow,
+      final int queueCapacity) {
+    checkArgument(numThreads > 0, "Must have at least one verification thread");
+    checkArgument(maxBatchSize > 0, "Max batch size must be positive");
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.numThreads = numThreads;
+    this.maxBatchSize = maxBatchSize;
+    this.batchWindowNanos = batchWindow.toNanos();
+    this.batchSizeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "signature_verification_batch_size",
+            "Number of signatures verified in each batch",
+            3);
+    this.waitTimeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "signature_verification_queue_wait_micros",
+            "Time in microseconds each signature waited to be included in a batch",
+            3);
+    this.batchCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "signature_verification_batches_total",
+            "Total number of signature batches verified");
+    this.fallbackCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "signature_verification_batch_fallbacks_total",
+            "Total number of batches which failed and were verified individually");
+  }
+
+  public static AggregatingSignatureVerificationService create(
+      final MetricsSystem metricsSystem, final int numThreads) {
+    return new AggregatingSignatureVerificationService(
+        metricsSystem,
+        numThreads,
+        DEFAULT_MAX_BATCH_SIZE,
+        DEFAULT_BATCH_WINDOW,
+        DEFAULT_QUEUE_CAPACITY);
+  }
+
+  @Override
+  protected SafeFuture<?> doStart() {
+    executor =
+        Executors.newFixedThreadPool(
+            numThreads,
+            new ThreadFactoryBuilder()
+                .setNameFormat("signature-verifier-%d")
+                .setDaemon(true)
+                .build());
+    for (int i = 0; i < numThreads; i++) {
+      executor.execute(this::processBatches);
+    }
+    return SafeFuture.COMPLETE;
+  }
+
+  @Override
+  protected SafeFuture<?> doStop() {
+    executor.shutdownNow();
+    final List<SignatureTask> remainingTasks = new ArrayList<>();
+    queue.drainTo(remainingTasks);
+    remainingTasks.forEach(
+        task ->
+            task.result.completeExceptionally(
+                new IllegalStateException("Signature verification service stopped")));
+    return SafeFuture.COMPLETE;
+  }
+
+  @Override
+  public SafeFuture<Boolean> verify(
+      final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+    if (publicKeys.isEmpty()) {
+      // The standard says to treat an empty list of public keys as invalid
+      return SafeFuture.completedFuture(false);
+    }
+    final SignatureTask task = new SignatureTask(publicKeys, message, signature);
+    if (!isRunning() || !queue.offer(task)) {
+      return SafeFuture.of(task::verifyIndividually);
+    }
+    // The service may have stopped and drained the queue before the task was added, in which case
+    // no worker will ever take it
+    if (!isRunning() && queue.remove(task)) {
+      return SafeFuture.of(task::verifyIndividually);
+    }
+    return task.result;
+  }
+
+  private void processBatches() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        verifyBatch(waitForBatch());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (final Throwable t) {
+        LOG.error("Unexpected error while verifying signatures", t);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int getQueueSize() {
+    return queue.size();
+  }
+
+  @VisibleForTesting
+  List<SignatureTask> waitForBatch() throws InterruptedException {
+    final List<SignatureTask> batch = new ArrayList<>(maxBatchSize);
+    final SignatureTask firstTask = queue.take();
+    batch.add(firstTask);
+    queue.drainTo(batch, maxBatchSize - batch.size());
+    final long batchDeadline = firstTask.submittedAtNanos + batchWindowNanos;
+    while (batch.size() < maxBatchSize) {
+      final long remainingNanos = batchDeadline - System.nanoTime();
+      if (remainingNanos <= 0) {
+        break;
+      }
+      final SignatureTask task;
+      try {
+        task = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      } catch (final InterruptedException e) {
+        // Verify the tasks already taken from the queue so their results are still completed
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (task == null) {
+        break;
+      }
+      batch.add(task);
+      queue.drainTo(batch, maxBatchSize - batch.size());
+    }
+    return batch;
+  }
+
+  @VisibleForTesting
+  void verifyBatch(final List<SignatureTask> batch) {
+    final long startNanos = System.nanoTime();
+    batch.forEach(
+        task ->
+            waitTimeHistogram.recordValue(
+                TimeUnit.NANOSECONDS.toMicros(startNanos - task.submittedAtNanos)));
+    batchSizeHistogram.recordValue(batch.size());
+    batchCounter.inc();
+
+    if (batch.size() == 1) {
+      batch.get(0).completeIndividually();
+      return;
+    }
+
+    final List<BatchSemiAggregate> preparedSignatures = new ArrayList<>(batch.size());
+    try {
+      for (int i = 0; i < batch.size(); i++) {
+        final SignatureTask task = batch.get(i);
+        preparedSignatures.add(
+            BLS.prepareBatchVerify(i, task.publicKeys, task.message, task.signature));
+      }
+      if (BLS.completeBatchVerify(preparedSignatures)) {
+        batch.forEach(task -> task.result.complete(true));
+        return;
+      }
+    } catch (final RuntimeException e) {
+      LOG.debug("Batch signature verification failed", e);
+    }
+    fallbackCounter.inc();
+    batch.forEach(SignatureTask::completeIndividually);
+  }
+
+  @VisibleForTesting
+  static class SignatureTask {
+    private final SafeFuture<Boolean> result = new SafeFuture<>();
+    private final List<BLSPublicKey> publicKeys;
+    private final Bytes message;
+    private final BLSSignature signature;
+    private final long submittedAtNanos = System.nanoTime();
+
+    private SignatureTask(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      this.publicKeys = publicKeys;
+      this.message = message;
+      this.signature = signature;
+    }
+
+    private boolean verifyIndividually() {
+      return BLS.fastAggregateVerify(publicKeys, message, signature);
+    }
+
+    private void completeIndividually() {
+      try {
+        result.complete(verifyIndividually());
+      } catch (final Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+  }
+}
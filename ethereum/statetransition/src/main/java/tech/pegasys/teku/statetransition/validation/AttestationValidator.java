@@ -41,6 +41,7 @@ import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
+import tech.pegasys.teku.datastructures.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.datastructures.util.CommitteeUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
@@ -59,11 +60,15 @@ public class AttestationValidator {
       LimitedSet.create(VALID_ATTESTATION_SET_SIZE);
   private final RecentChainData recentChainData;
   private final ForkChoiceUtilWrapper forkChoiceUtilWrapper;
+  private final AsyncBLSSignatureVerifier signatureVerifier;
 
   public AttestationValidator(
-      RecentChainData recentChainData, ForkChoiceUtilWrapper forkChoiceUtilWrapper) {
+      RecentChainData recentChainData,
+      ForkChoiceUtilWrapper forkChoiceUtilWrapper,
+      AsyncBLSSignatureVerifier signatureVerifier) {
     this.recentChainData = recentChainData;
     this.forkChoiceUtilWrapper = forkChoiceUtilWrapper;
+    this.signatureVerifier = signatureVerifier;
   }
 
   public SafeFuture<InternalValidationResult> validate(
@@ -148,69 +153,83 @@ public class AttestationValidator {
                 maybeState.isEmpty()
                     ? SafeFuture.completedFuture(Optional.empty())
                     : resolveStateForAttestation(attestation, maybeState.get()))
-        .thenApply(
+        .thenCompose(
             maybeState -> {
               if (maybeState.isEmpty()) {
-                return SAVE_FOR_FUTURE;
+                return SafeFuture.completedFuture(SAVE_FOR_FUTURE);
               }
               final BeaconState state = maybeState.get();
-              // The committee index is within the expected range
-              if (data.getIndex()
-                  .isGreaterThanOrEqualTo(
-                      get_committee_count_per_slot(state, data.getTarget().getEpoch()))) {
-                return REJECT;
+              final InternalValidationResult result =
+                  stateDependentChecks(validateableAttestation, receivedOnSubnetId, state);
+              if (result != ACCEPT) {
+                return SafeFuture.completedFuture(result);
               }
 
-              // The attestation's committee index (attestation.data.index) is for the correct
-              // subnet.
-              if (receivedOnSubnetId.isPresent()
-                  && computeSubnetForAttestation(state, attestation)
-                      != receivedOnSubnetId.getAsInt()) {
-                return REJECT;
-              }
+              // Signature verification is the most expensive check so is done last
+              return is_valid_indexed_attestation(state, validateableAttestation, signatureVerifier)
+                  .thenApply(
+                      signatureResult -> {
+                        if (!signatureResult.isSuccessful()) {
+                          return REJECT;
+                        }
+                        // Save committee shuffling seed since the state is available and
+                        // attestation is valid
+                        validateableAttestation.saveCommitteeShufflingSeed(state);
+                        return ACCEPT;
+                      });
+            });
+  }
 
-              // The check below is not specified in the Eth2 networking spec, yet an attestation
-              // with aggregation bits size greater/less than the committee size is invalid. So we
-              // reject those attestations at the networking layer.
-              final List<Integer> committee =
-                  get_beacon_committee(state, data.getSlot(), data.getIndex());
-              if (committee.size() != attestation.getAggregation_bits().getCurrentSize()) {
-                return REJECT;
-              }
+  private InternalValidationResult stateDependentChecks(
+      final ValidateableAttestation validateableAttestation,
+      final OptionalInt receivedOnSubnetId,
+      final BeaconState state) {
+    final Attestation attestation = validateableAttestation.getAttestation();
+    final AttestationData data = attestation.getData();
+    // The committee index is within the expected range
+    if (data.getIndex()
+        .isGreaterThanOrEqualTo(get_committee_count_per_slot(state, data.getTarget().getEpoch()))) {
+      return REJECT;
+    }
 
-              if (!is_valid_indexed_attestation(state, validateableAttestation).isSuccessful()) {
-                return REJECT;
-              }
+    // The attestation's committee index (attestation.data.index) is for the correct subnet.
+    if (receivedOnSubnetId.isPresent()
+        && computeSubnetForAttestation(state, attestation) != receivedOnSubnetId.getAsInt()) {
+      return REJECT;
+    }
 
-              // The attestation's target block is an ancestor of the block named in the LMD vote
-              if (!forkChoiceUtilWrapper
-                  .get_ancestor(
-                      recentChainData.getForkChoiceStrategy().orElseThrow(),
-                      data.getBeacon_block_root(),
-                      compute_start_slot_at_epoch(data.getTarget().getEpoch()))
-                  .map(ancestorOfLMDVote -> ancestorOfLMDVote.equals(data.getTarget().getRoot()))
-                  .orElse(false)) {
-                return REJECT;
-              }
+    // The check below is not specified in the Eth2 networking spec, yet an attestation with
+    // aggregation bits size greater/less than the committee size is invalid. So we reject those
+    // attestations at the networking layer.
+    final List<Integer> committee = get_beacon_committee(state, data.getSlot(), data.getIndex());
+    if (committee.size() != attestation.getAggregation_bits().getCurrentSize()) {
+      return REJECT;
+    }
 
-              // The current finalized_checkpoint is an ancestor of the block defined by
-              // aggregate.data.beacon_block_root
-              Checkpoint finalizedCheckpoint =
-                  recentChainData.getFinalizedCheckpoint().orElseThrow();
-              if (!forkChoiceUtilWrapper
-                  .get_ancestor(
-                      recentChainData.getForkChoiceStrategy().orElseThrow(),
-                      data.getBeacon_block_root(),
-                      compute_start_slot_at_epoch(finalizedCheckpoint.getEpoch()))
-                  .map(ancestorOfLMDVote -> ancestorOfLMDVote.equals(finalizedCheckpoint.getRoot()))
-                  .orElse(false)) {
-                return REJECT;
-              }
+    // The attestation's target block is an ancestor of the block named in the LMD vote
+    if (!forkChoiceUtilWrapper
+        .get_ancestor(
+            recentChainData.getForkChoiceStrategy().orElseThrow(),
+            data.getBeacon_block_root(),
+            compute_start_slot_at_epoch(data.getTarget().getEpoch()))
+        .map(ancestorOfLMDVote -> ancestorOfLMDVote.equals(data.getTarget().getRoot()))
+        .orElse(false)) {
+      return REJECT;
+    }
 
-              // Save committee shuffling seed since the state is available and attestation is valid
-              validateableAttestation.saveCommitteeShufflingSeed(state);
-              return ACCEPT;
-            });
+    // The current finalized_checkpoint is an ancestor of the block defined by
+    // aggregate.data.beacon_block_root
+    Checkpoint finalizedCheckpoint = recentChainData.getFinalizedCheckpoint().orElseThrow();
+    if (!forkChoiceUtilWrapper
+        .get_ancestor(
+            recentChainData.getForkChoiceStrategy().orElseThrow(),
+            data.getBeacon_block_root(),
+            compute_start_slot_at_epoch(finalizedCheckpoint.getEpoch()))
+        .map(ancestorOfLMDVote -> ancestorOfLMDVote.equals(finalizedCheckpoint.getRoot()))
+        .orElse(false)) {
+      return REJECT;
+    }
+    return ACCEPT;
   }
 
   /**
@@ -22,7 +22,15 @@ import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggre
 import static tech.pegasys.teku.util.config.Constants.ATTESTATION_RETENTION_EPOCHS;
 import static tech.pegasys.teku.util.config.Constants.SLOTS_PER_EPOCH;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.AfterEach;
@@ -35,7 +43,10 @@ import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
 import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.state.PendingAttestation;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
 import tech.pegasys.teku.util.config.Constants;
@@ -48,7 +59,10 @@ class AggregatingAttestationPoolTest {
       mock(AttestationDataStateTransitionValidator.class);
 
   private final AggregatingAttestationPool aggregatingPool =
-      new AggregatingAttestationPool(attestationDataValidator, new NoOpMetricsSystem());
+      new AggregatingAttestationPool(
+          attestationDataValidator,
+          new NoOpMetricsSystem(),
+          StubTimeProvider.withTimeInSeconds(1000));
 
   private final AttestationForkChecker forkChecker = mock(AttestationForkChecker.class);
 
@@ -198,6 +212,82 @@ class AggregatingAttestationPoolTest {
         .containsExactly(attestation1, attestation2);
   }
 
+  @Test
+  void getAttestationsForBlock_shouldPreferAttestationsWithMostNewValidators() {
+    Constants.MAX_ATTESTATIONS = 2;
+    final Attestation attestation1 =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(), 1, 2);
+    final Attestation attestation2 =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(), 3, 4, 5, 6);
+    addAttestationFromValidators(dataStructureUtil.randomAttestationData(), 7);
+
+    assertThat(
+            aggregatingPool.getAttestationsForBlock(
+                dataStructureUtil.randomBeaconState(), forkChecker))
+        .containsExactly(attestation2, attestation1);
+  }
+
+  @Test
+  void getAttestationsForBlock_shouldNotIncludeValidatorsAlreadyIncludedOnChain() {
+    final AttestationData includedData = dataStructureUtil.randomAttestationData();
+    // Votes for a different block root but from the same committee
+    final AttestationData otherHeadData =
+        new AttestationData(
+            includedData.getSlot(),
+            includedData.getIndex(),
+            dataStructureUtil.randomBytes32(),
+            includedData.getSource(),
+            includedData.getTarget());
+    addAttestationFromValidators(includedData, 1, 2);
+    final Attestation partiallyIncluded = addAttestationFromValidators(otherHeadData, 1, 3);
+    final Attestation notIncluded =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(), 1, 2);
+
+    final Bitlist includedBits = new Bitlist(20, Constants.MAX_VALIDATORS_PER_COMMITTEE);
+    includedBits.setBits(1, 2);
+    final BeaconState state =
+        dataStructureUtil
+            .randomBeaconState()
+            .updated(
+                mutableState ->
+                    mutableState
+                        .getCurrent_epoch_attestations()
+                        .add(new PendingAttestation(includedBits, includedData, ONE, ONE)));
+
+    assertThat(aggregatingPool.getAttestationsForBlock(state, forkChecker))
+        .containsExactlyInAnyOrder(partiallyIncluded, notIncluded);
+  }
+
+  @Test
+  void getAttestationsForBlock_shouldStopCollectingAttestationsWhenTimeBudgetExceeded() {
+    final TimeProvider timeProvider = mock(TimeProvider.class);
+    when(timeProvider.getTimeInMillis())
+        .thenReturn(UInt64.ZERO, AggregatingAttestationPool.PACKING_TIME_BUDGET_MILLIS);
+    final AggregatingAttestationPool pool =
+        new AggregatingAttestationPool(
+            attestationDataValidator, new NoOpMetricsSystem(), timeProvider);
+    final ValidateableAttestation olderAttestation =
+        createAttestation(
+            dataStructureUtil.randomBeaconState(100, 15),
+            dataStructureUtil.randomAttestationData(UInt64.valueOf(5)),
+            1,
+            2,
+            3);
+    final ValidateableAttestation newerAttestation =
+        createAttestation(
+            dataStructureUtil.randomBeaconState(100, 15),
+            dataStructureUtil.randomAttestationData(UInt64.valueOf(6)),
+            1);
+    pool.add(olderAttestation);
+    pool.add(newerAttestation);
+
+    // Budget is used up after the most recent group so older groups aren't considered
+    assertThat(
+            pool.getAttestationsForBlock(
+                dataStructureUtil.randomBeaconState(UInt64.valueOf(10)), forkChecker))
+        .containsExactly(newerAttestation.getAttestation());
+  }
+
   @Test
   public void onSlot_shouldPruneAttestationsMoreThanTwoEpochsBehindCurrentSlot() {
     final AttestationData pruneAttestationData = dataStructureUtil.randomAttestationData(SLOT);
@@ -350,16 +440,55 @@ class AggregatingAttestationPoolTest {
         .containsExactly(attestation1);
   }
 
+  @Test
+  public void add_shouldAcceptAttestationsFromManyThreadsConcurrently() throws Exception {
+    final int committeeCount = 8;
+    final int validatorsPerCommittee = 16;
+    final BeaconState state = dataStructureUtil.randomBeaconState(100, 15);
+    final List<ValidateableAttestation> attestations = new ArrayList<>();
+    for (int committee = 0; committee < committeeCount; committee++) {
+      final AttestationData data = dataStructureUtil.randomAttestationData(SLOT);
+      for (int validator = 0; validator < validatorsPerCommittee; validator++) {
+        attestations.add(createAttestation(state, data, validator));
+      }
+    }
+    Collections.shuffle(attestations, new Random(1));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      attestations.forEach(
+          attestation -> futures.add(executor.submit(() -> aggregatingPool.add(attestation))));
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(aggregatingPool.getSize()).isEqualTo(attestations.size());
+    // Each committee aggregates down to a single attestation
+    assertThat(aggregatingPool.getAttestations(Optional.empty(), Optional.empty()))
+        .hasSize(committeeCount);
+  }
+
   private Attestation addAttestationFromValidators(
       final AttestationData data, final int... validators) {
+    final ValidateableAttestation validateableAttestation =
+        createAttestation(dataStructureUtil.randomBeaconState(100, 15), data, validators);
+    aggregatingPool.add(validateableAttestation);
+    return validateableAttestation.getAttestation();
+  }
+
+  private ValidateableAttestation createAttestation(
+      final BeaconState state, final AttestationData data, final int... validators) {
     final Bitlist bitlist = new Bitlist(20, Constants.MAX_VALIDATORS_PER_COMMITTEE);
     IntStream.of(validators).forEach(bitlist::setBit);
     final Attestation attestation =
         new Attestation(bitlist, data, dataStructureUtil.randomSignature());
-    ValidateableAttestation validateableAttestation = ValidateableAttestation.from(attestation);
-    validateableAttestation.saveCommitteeShufflingSeed(
-        dataStructureUtil.randomBeaconState(100, 15));
-    aggregatingPool.add(validateableAttestation);
-    return attestation;
+    final ValidateableAttestation validateableAttestation =
+        ValidateableAttestation.from(attestation);
+    validateableAttestation.saveCommitteeShufflingSeed(state);
+    return validateableAttestation;
   }
 }
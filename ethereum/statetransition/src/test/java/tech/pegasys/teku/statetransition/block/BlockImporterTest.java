@@ -28,6 +28,7 @@ import com.google.common.eventbus.EventBus;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -552,6 +553,81 @@ public class BlockImporterTest {
     assertThat(result.join().getRoot()).isEqualTo(newFinalizedBlock.getRoot());
   }
 
+  @Test
+  public void importBlocks_shouldImportAllBlocks() throws Exception {
+    final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
+    storageSystem.chainUpdater().initializeGenesis();
+    storageSystem.chainUpdater().setCurrentSlot(UInt64.valueOf(5));
+    final BlockImporter blockImporter = createBlockImporter(storageSystem);
+    final List<SignedBlockAndState> blocks =
+        storageSystem.chainBuilder().generateBlocksUpToSlot(UInt64.valueOf(4));
+
+    final BlockImportResult result = blockImporter.importBlocks(getBlocks(blocks)).get();
+
+    assertSuccessfulResult(result);
+    assertThat(result.getBlockProcessingRecord().orElseThrow().getBlock())
+        .isEqualTo(blocks.get(blocks.size() - 1).getBlock());
+    for (SignedBlockAndState block : blocks) {
+      assertThat(storageSystem.recentChainData().containsBlock(block.getRoot())).isTrue();
+    }
+    assertThat(storageSystem.recentChainData().getHeadBlock())
+        .contains(blocks.get(blocks.size() - 1).getBlock());
+  }
+
+  @Test
+  public void importBlocks_shouldSkipKnownBlocks() throws Exception {
+    final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
+    storageSystem.chainUpdater().initializeGenesis();
+    storageSystem.chainUpdater().setCurrentSlot(UInt64.valueOf(5));
+    final BlockImporter blockImporter = createBlockImporter(storageSystem);
+    final List<SignedBlockAndState> blocks =
+        storageSystem.chainBuilder().generateBlocksUpToSlot(UInt64.valueOf(4));
+    assertSuccessfulResult(blockImporter.importBlock(blocks.get(0).getBlock()).get());
+
+    final BlockImportResult result = blockImporter.importBlocks(getBlocks(blocks)).get();
+
+    assertSuccessfulResult(result);
+    assertThat(storageSystem.recentChainData().getHeadBlock())
+        .contains(blocks.get(blocks.size() - 1).getBlock());
+  }
+
+  @Test
+  public void importBlocks_shouldImportBlocksBeforeInvalidSignature() throws Exception {
+    final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
+    storageSystem.chainUpdater().initializeGenesis();
+    storageSystem.chainUpdater().setCurrentSlot(UInt64.valueOf(5));
+    final BlockImporter blockImporter = createBlockImporter(storageSystem);
+    final List<SignedBeaconBlock> blocks =
+        getBlocks(storageSystem.chainBuilder().generateBlocksUpToSlot(UInt64.valueOf(4)));
+    final SignedBeaconBlock invalidBlock =
+        new SignedBeaconBlock(blocks.get(2).getMessage(), blocks.get(1).getSignature());
+    blocks.set(2, invalidBlock);
+
+    final BlockImportResult result = blockImporter.importBlocks(blocks).get();
+
+    assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
+    final RecentChainData recentChainData = storageSystem.recentChainData();
+    assertThat(recentChainData.containsBlock(blocks.get(0).getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(blocks.get(1).getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(invalidBlock.getRoot())).isFalse();
+    assertThat(recentChainData.containsBlock(blocks.get(3).getRoot())).isFalse();
+  }
+
+  private BlockImporter createBlockImporter(final StorageSystem storageSystem) {
+    final ForkChoice forkChoice =
+        new ForkChoice(
+            new SyncForkChoiceExecutor(), storageSystem.recentChainData(), new StateTransition());
+    return new BlockImporter(
+        storageSystem.recentChainData(),
+        forkChoice,
+        weakSubjectivityValidator,
+        storageSystem.eventBus());
+  }
+
+  private List<SignedBeaconBlock> getBlocks(final List<SignedBlockAndState> blocks) {
+    return blocks.stream().map(SignedBlockAndState::getBlock).collect(Collectors.toList());
+  }
+
   private void assertImportFailed(
       final BlockImportResult result, final BlockImportResult.FailureReason expectedReason) {
     assertThat(result.isSuccessful()).isFalse();
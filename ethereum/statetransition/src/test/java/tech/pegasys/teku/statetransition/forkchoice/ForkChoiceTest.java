@@ -35,6 +35,7 @@ import tech.pegasys.teku.core.StateTransition;
 import tech.pegasys.teku.core.results.BlockImportResult;
 import tech.pegasys.teku.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.datastructures.blocks.Eth1Data;
+import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
@@ -212,6 +213,58 @@ class ForkChoiceTest {
     assertDoesNotThrow(() -> forkChoice.processHead(updatedAttestationSlot));
   }
 
+  @Test
+  void onBlocks_shouldImportAllBlocksAndUpdateHead() {
+    final List<SignedBlockAndState> blocks = chainBuilder.generateBlocksUpToSlot(4);
+
+    final SafeFuture<List<BlockImportResult>> importResult =
+        forkChoice.onBlocks(getBlocks(blocks), Optional.of(genesis.getState()));
+
+    assertThat(importResult).isCompleted();
+    assertThat(importResult.join())
+        .hasSize(blocks.size())
+        .allMatch(BlockImportResult::isSuccessful);
+    blocks.forEach(block -> assertThat(recentChainData.containsBlock(block.getRoot())).isTrue());
+    final SignedBlockAndState lastBlock = blocks.get(blocks.size() - 1);
+    assertThat(recentChainData.getHeadBlock()).contains(lastBlock.getBlock());
+    assertThat(recentChainData.getStore().getBlockStateIfAvailable(lastBlock.getRoot()))
+        .contains(lastBlock.getState());
+  }
+
+  @Test
+  void onBlocks_shouldNotImportAnyBlocksWhenSignatureIsInvalid() {
+    final List<SignedBeaconBlock> blocks = getBlocks(chainBuilder.generateBlocksUpToSlot(4));
+    blocks.set(
+        2, new SignedBeaconBlock(blocks.get(2).getMessage(), dataStructureUtil.randomSignature()));
+
+    final SafeFuture<List<BlockImportResult>> importResult =
+        forkChoice.onBlocks(blocks, Optional.of(genesis.getState()));
+
+    assertThat(importResult).isCompleted();
+    // The failure should be reported against the block with the invalid signature
+    final List<BlockImportResult> results = importResult.join();
+    assertThat(results).hasSize(3);
+    assertThat(results.get(2).getFailureReason())
+        .isEqualTo(BlockImportResult.FailureReason.FAILED_STATE_TRANSITION);
+    blocks.forEach(block -> assertThat(recentChainData.containsBlock(block.getRoot())).isFalse());
+  }
+
+  @Test
+  void onBlocks_shouldNotImportAnyBlocksWhenBlockIsNotChildOfPreviousBlock() {
+    final List<SignedBeaconBlock> blocks = getBlocks(chainBuilder.generateBlocksUpToSlot(4));
+    blocks.remove(1);
+
+    final SafeFuture<List<BlockImportResult>> importResult =
+        forkChoice.onBlocks(blocks, Optional.of(genesis.getState()));
+
+    assertThat(importResult).isCompleted();
+    final List<BlockImportResult> results = importResult.join();
+    assertThat(results).hasSize(2);
+    assertThat(results.get(1).getFailureReason())
+        .isEqualTo(BlockImportResult.FailureReason.UNKNOWN_PARENT);
+    blocks.forEach(block -> assertThat(recentChainData.containsBlock(block.getRoot())).isFalse());
+  }
+
   @Test
   void onAttestation_shouldBeInvalidWhenInvalidCheckpointThrown() {
     final SignedBlockAndState targetBlock = chainBuilder.generateBlockAtSlot(5);
@@ -272,6 +325,10 @@ class ForkChoiceTest {
     assertThat(result.isSuccessful()).describedAs(result.toString()).isTrue();
   }
 
+  private List<SignedBeaconBlock> getBlocks(final List<SignedBlockAndState> blocks) {
+    return blocks.stream().map(SignedBlockAndState::getBlock).collect(Collectors.toList());
+  }
+
   private void importBlock(final ChainBuilder chainBuilder, final SignedBlockAndState block) {
     final SafeFuture<BlockImportResult> result =
         forkChoice.onBlock(
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+class AggregatingSignatureVerificationServiceTest {
+  private static final int SIGNATURE_COUNT = 20;
+
+  private final AggregatingSignatureVerificationService service =
+      new AggregatingSignatureVerificationService(
+          new NoOpMetricsSystem(), 2, 8, Duration.ofMillis(50), 100);
+
+  @AfterEach
+  void tearDown() {
+    service.stop().join();
+  }
+
+  @Test
+  void shouldVerifyValidSignaturesInBatches() throws Exception {
+    service.start().join();
+    final List<SafeFuture<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < SIGNATURE_COUNT; i++) {
+      results.add(verifySignature(i, true));
+    }
+
+    for (SafeFuture<Boolean> result : results) {
+      assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  void shouldIdentifyInvalidSignaturesWhenBatchFails() throws Exception {
+    service.start().join();
+    final List<SafeFuture<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < SIGNATURE_COUNT; i++) {
+      results.add(verifySignature(i, i % 5 != 0));
+    }
+
+    for (int i = 0; i < SIGNATURE_COUNT; i++) {
+      assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i % 5 != 0);
+    }
+  }
+
+  @Test
+  void shouldCompleteSignaturesWaitingForBatchWhenStopped() throws Exception {
+    final AggregatingSignatureVerificationService slowBatchingService =
+        new AggregatingSignatureVerificationService(
+            new NoOpMetricsSystem(), 1, 8, Duration.ofMinutes(1), 100);
+    slowBatchingService.start().join();
+    final BLSKeyPair keyPair = BLSKeyPair.random(1);
+    final Bytes message = Bytes.of(1);
+    final SafeFuture<Boolean> result =
+        slowBatchingService.verify(
+            keyPair.getPublicKey(), message, BLS.sign(keyPair.getSecretKey(), message));
+
+    // Wait for the worker to take the signature and start waiting for the batch to fill
+    while (slowBatchingService.getQueueSize() > 0) {
+      Thread.sleep(10);
+    }
+    slowBatchingService.stop().join();
+
+    assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldVerifyOnCallingThreadWhenNotStarted() {
+    assertThat(verifySignature(1, true)).isCompletedWithValue(true);
+    assertThat(verifySignature(2, false)).isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldRejectEmptyPublicKeys() {
+    final BLSSignature signature = BLS.sign(BLSKeyPair.random(1).getSecretKey(), Bytes.of(1));
+    assertThat(service.verify(Collections.emptyList(), Bytes.of(1), signature))
+        .isCompletedWithValue(false);
+  }
+
+  private SafeFuture<Boolean> verifySignature(final int seed, final boolean valid) {
+    final BLSKeyPair keyPair = BLSKeyPair.random(seed);
+    final Bytes message = Bytes.ofUnsignedInt(seed);
+    final BLSSignature signature =
+        BLS.sign(keyPair.getSecretKey(), valid ? message : Bytes.ofUnsignedInt(seed + 1));
+    return service.verify(keyPair.getPublicKey(), message, signature);
+  }
+}
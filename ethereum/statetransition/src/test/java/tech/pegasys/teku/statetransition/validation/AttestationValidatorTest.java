@@ -38,6 +38,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.core.AttestationGenerator;
 import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.core.ForkChoiceUtilWrapper;
@@ -49,6 +50,7 @@ import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
+import tech.pegasys.teku.datastructures.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
 import tech.pegasys.teku.storage.client.ChainUpdater;
@@ -80,6 +82,8 @@ import tech.pegasys.teku.util.config.StateStorageMode;
 class AttestationValidatorTest {
 
   private static final List<BLSKeyPair> VALIDATOR_KEYS = BLSKeyGenerator.generateKeyPairs(64);
+  private static final AsyncBLSSignatureVerifier SIGNATURE_VERIFIER =
+      AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE);
   private final StorageSystem storageSystem =
       InMemoryStorageSystemBuilder.buildDefault(StateStorageMode.ARCHIVE);
   private final RecentChainData recentChainData = storageSystem.recentChainData();
@@ -90,7 +94,7 @@ class AttestationValidatorTest {
       new AttestationGenerator(chainBuilder.getValidatorKeys());
 
   private final AttestationValidator validator =
-      new AttestationValidator(recentChainData, new ForkChoiceUtilWrapper());
+      new AttestationValidator(recentChainData, new ForkChoiceUtilWrapper(), SIGNATURE_VERIFIER);
 
   @BeforeAll
   public static void init() {
@@ -360,7 +364,7 @@ class AttestationValidatorTest {
     when(forkChoiceUtilWrapper.get_ancestor(any(), any(), any()))
         .thenReturn(Optional.of(Bytes32.ZERO));
     final AttestationValidator validator =
-        new AttestationValidator(recentChainData, forkChoiceUtilWrapper);
+        new AttestationValidator(recentChainData, forkChoiceUtilWrapper, SIGNATURE_VERIFIER);
     final StateAndBlockSummary blockAndState = recentChainData.getChainHead().orElseThrow();
     final Attestation attestation = attestationGenerator.validAttestation(blockAndState);
     final int expectedSubnetId = computeSubnetForAttestation(blockAndState.getState(), attestation);
@@ -373,7 +377,7 @@ class AttestationValidatorTest {
   public void shouldRejectAttestationsThatHaveLMDVotesInconsistentWithFinalizedCheckpointRoot() {
     ForkChoiceUtilWrapper forkChoiceUtilWrapper = mock(ForkChoiceUtilWrapper.class);
     final AttestationValidator validator =
-        new AttestationValidator(recentChainData, forkChoiceUtilWrapper);
+        new AttestationValidator(recentChainData, forkChoiceUtilWrapper, SIGNATURE_VERIFIER);
     final StateAndBlockSummary blockAndState = recentChainData.getChainHead().orElseThrow();
     final Attestation attestation = attestationGenerator.validAttestation(blockAndState);
     when(forkChoiceUtilWrapper.get_ancestor(any(), any(), any()))
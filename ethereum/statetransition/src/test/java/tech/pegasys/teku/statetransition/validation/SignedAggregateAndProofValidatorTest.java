@@ -39,6 +39,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.core.AggregateGenerator;
 import tech.pegasys.teku.core.AttestationGenerator;
 import tech.pegasys.teku.core.ChainBuilder;
@@ -53,6 +54,7 @@ import tech.pegasys.teku.datastructures.operations.Attestation;
 import tech.pegasys.teku.datastructures.operations.AttestationData;
 import tech.pegasys.teku.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.datastructures.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.datastructures.util.BeaconStateUtil;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -113,7 +115,10 @@ class SignedAggregateAndProofValidatorTest {
   private final AttestationValidator attestationValidator = mock(AttestationValidator.class);
 
   private final AggregateAttestationValidator validator =
-      new AggregateAttestationValidator(recentChainData, attestationValidator);
+      new AggregateAttestationValidator(
+          recentChainData,
+          attestationValidator,
+          AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE));
   private SignedBlockAndState bestBlock;
   private SignedBlockAndState genesis;
 
@@ -133,7 +138,10 @@ class SignedAggregateAndProofValidatorTest {
     bestBlock = chainUpdater.addNewBestBlock();
 
     final AttestationValidator realAttestationValidator =
-        new AttestationValidator(recentChainData, new ForkChoiceUtilWrapper());
+        new AttestationValidator(
+            recentChainData,
+            new ForkChoiceUtilWrapper(),
+            AsyncBLSSignatureVerifier.wrap(BLSSignatureVerifier.SIMPLE));
     when(attestationValidator.resolveStateForAttestation(any(), any()))
         .thenAnswer(
             i ->
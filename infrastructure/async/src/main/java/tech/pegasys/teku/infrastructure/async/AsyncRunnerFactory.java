@@ -15,19 +15,37 @@ package tech.pegasys.teku.infrastructure.async;
 
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class AsyncRunnerFactory {
+  private static final Logger LOG = LogManager.getLogger();
   private final Collection<AsyncRunner> asyncRunners = new CopyOnWriteArrayList<>();
 
   private final MetricTrackingExecutorFactory executorFactory;
+  private final boolean virtualThreadsEnabled;
 
   public AsyncRunnerFactory(final MetricTrackingExecutorFactory executorFactory) {
+    this(executorFactory, false);
+  }
+
+  public AsyncRunnerFactory(
+      final MetricTrackingExecutorFactory executorFactory, final boolean virtualThreadsEnabled) {
     this.executorFactory = executorFactory;
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    if (virtualThreadsEnabled && !VirtualThreads.isSupported()) {
+      LOG.warn(
+          "Virtual threads are not supported by this JVM. "
+              + "Async tasks will run on short-lived platform threads instead.");
+    }
   }
 
   public AsyncRunner create(final String name, final int maxThreads) {
     final AsyncRunner asyncRunner =
-        ScheduledExecutorAsyncRunner.create(name, maxThreads, executorFactory);
+        virtualThreadsEnabled
+            ? ScheduledExecutorAsyncRunner.createWithVirtualThreads(
+                name, maxThreads, executorFactory)
+            : ScheduledExecutorAsyncRunner.create(name, maxThreads, executorFactory);
     asyncRunners.add(asyncRunner);
     return asyncRunner;
   }
@@ -16,12 +16,17 @@ package tech.pegasys.teku.infrastructure.async;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 public class MetricTrackingExecutorFactory {
+  // Only one in this many tasks has its queue delay recorded, as recording a histogram value takes
+  // a lock
+  static final int QUEUE_DELAY_SAMPLE_INTERVAL = 16;
 
   private final MetricsSystem metricsSystem;
 
@@ -35,7 +40,8 @@ public class MetricTrackingExecutorFactory {
    * threads are available. When the maximum thread count and queue size are reached tasks are
    * rejected with {@link java.util.concurrent.RejectedExecutionException}
    *
-   * <p>Metrics about the number of threads and queue length are automatically captured.
+   * <p>Metrics about the number of threads and queue length are automatically captured, along with
+   * the time spent queued for a sample of tasks.
    *
    * @param name the name to use as a prefix in metric names. Must be unique.
    * @param maxThreads the maximum number of threads to run at any one time.
@@ -56,6 +62,7 @@ public class MetricTrackingExecutorFactory {
     // used. So, we set maximum and core thread pool to the same value and allow core threads to
     // time out and exit if they are unused.
 
+    final MetricsHistogram queueDelay = createQueueDelayHistogram(name);
     final ThreadPoolExecutor executor =
         new ThreadPoolExecutor(
             maxThreads,
@@ -63,7 +70,12 @@ public class MetricTrackingExecutorFactory {
             60,
             TimeUnit.SECONDS,
             new ArrayBlockingQueue<>(maxQueueSize),
-            threadFactory);
+            threadFactory) {
+          @Override
+          public void execute(final Runnable command) {
+            super.execute(trackQueueDelay(queueDelay, command));
+          }
+        };
     executor.allowCoreThreadTimeOut(true);
 
     metricsSystem.createIntegerGauge(
@@ -84,4 +96,68 @@ public class MetricTrackingExecutorFactory {
 
     return executor;
   }
+
+  /**
+   * Creates a new {@link ExecutorService} which starts a new thread from {@code threadFactory} for
+   * tasks as needed, running at most {@code maxConcurrency} tasks at a time. When that limit is
+   * reached, up to {@code maxQueueSize} further tasks are queued and once the queue is full tasks
+   * are rejected with {@link java.util.concurrent.RejectedExecutionException}.
+   *
+   * <p>Threads exit as soon as there are no more queued tasks, so this is intended for use with
+   * virtual threads. Metrics about the number of threads and queue length are automatically
+   * captured, along with the time spent queued for a sample of tasks.
+   *
+   * @param name the name to use as a prefix in metric names. Must be unique.
+   * @param maxConcurrency the maximum number of tasks to run at any one time.
+   * @param maxQueueSize the maximum capacity of the pending task queue.
+   * @param threadFactory the thread factory to use when creating threads.
+   * @return the new {@link ExecutorService}
+   */
+  public ExecutorService newThreadPerTaskExecutor(
+      final String name,
+      final int maxConcurrency,
+      final int maxQueueSize,
+      final ThreadFactory threadFactory) {
+    final MetricsHistogram queueDelay = createQueueDelayHistogram(name);
+    final ThreadPerTaskExecutor executor =
+        new ThreadPerTaskExecutor(threadFactory, maxConcurrency, maxQueueSize) {
+          @Override
+          public void execute(final Runnable command) {
+            super.execute(trackQueueDelay(queueDelay, command));
+          }
+        };
+
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        name + "_queue_size",
+        "Current size of the executor task queue",
+        executor::getQueueSize);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.EXECUTOR,
+        name + "_thread_active_count",
+        "Current number of threads executing tasks for this executor",
+        executor::getWorkerCount);
+
+    return executor;
+  }
+
+  private MetricsHistogram createQueueDelayHistogram(final String name) {
+    return MetricsHistogram.create(
+        TekuMetricCategory.EXECUTOR,
+        metricsSystem,
+        name + "_queue_delay",
+        "Time in milliseconds tasks spent queued before starting to execute",
+        3);
+  }
+
+  private Runnable trackQueueDelay(final MetricsHistogram queueDelay, final Runnable command) {
+    if (ThreadLocalRandom.current().nextInt(QUEUE_DELAY_SAMPLE_INTERVAL) != 0) {
+      return command;
+    }
+    final long queuedAt = System.nanoTime();
+    return () -> {
+      queueDelay.recordValue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAt));
+      command.run();
+    };
+  }
 }
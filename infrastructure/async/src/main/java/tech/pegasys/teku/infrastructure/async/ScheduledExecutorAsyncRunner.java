@@ -18,6 +18,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
@@ -40,12 +41,6 @@ public class ScheduledExecutorAsyncRunner implements AsyncRunner {
       final String name,
       final int maxThreads,
       final MetricTrackingExecutorFactory executorFactory) {
-    final ScheduledExecutorService scheduler =
-        Executors.newSingleThreadScheduledExecutor(
-            new ThreadFactoryBuilder()
-                .setNameFormat(name + "-async-scheduler-%d")
-                .setDaemon(true)
-                .build());
     final ExecutorService workerPool =
         executorFactory.newCachedThreadPool(
             name,
@@ -53,7 +48,39 @@ public class ScheduledExecutorAsyncRunner implements AsyncRunner {
             QUEUE_CAPACITY,
             new ThreadFactoryBuilder().setNameFormat(name + "-async-%d").setDaemon(true).build());
 
-    return new ScheduledExecutorAsyncRunner(scheduler, workerPool);
+    return new ScheduledExecutorAsyncRunner(createScheduler(name), workerPool);
+  }
+
+  /**
+   * Creates an {@link AsyncRunner} which runs each task on a virtual thread, with at most {@code
+   * maxConcurrency} tasks running at once. Blocked tasks then don't hold a platform thread. Falls
+   * back to short-lived platform threads if the JVM does not support virtual threads.
+   */
+  public static AsyncRunner createWithVirtualThreads(
+      final String name,
+      final int maxConcurrency,
+      final MetricTrackingExecutorFactory executorFactory) {
+    final ThreadFactory threadFactory =
+        VirtualThreads.createThreadFactory(name + "-async-virtual-")
+            .orElseGet(
+                () ->
+                    new ThreadFactoryBuilder()
+                        .setNameFormat(name + "-async-%d")
+                        .setDaemon(true)
+                        .build());
+    final ExecutorService workerPool =
+        executorFactory.newThreadPerTaskExecutor(
+            name, maxConcurrency, QUEUE_CAPACITY, threadFactory);
+
+    return new ScheduledExecutorAsyncRunner(createScheduler(name), workerPool);
+  }
+
+  private static ScheduledExecutorService createScheduler(final String name) {
+    return Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder()
+            .setNameFormat(name + "-async-scheduler-%d")
+            .setDaemon(true)
+            .build());
   }
 
   @Override
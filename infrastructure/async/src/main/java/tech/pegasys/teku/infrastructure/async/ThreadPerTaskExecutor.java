@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An executor which runs tasks on threads created on demand, with a semaphore limiting how many
+ * tasks run at once. Designed for virtual threads, which are cheap to create and don't tie up a
+ * platform thread while blocked on I/O.
+ *
+ * <p>Threads keep taking tasks from the queue until it is empty and then exit, so no threads are
+ * kept around while idle.
+ */
+class ThreadPerTaskExecutor extends AbstractExecutorService {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final ThreadFactory threadFactory;
+  private final int maxQueueSize;
+  private final Semaphore runningTasks;
+  private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final Set<Thread> workers = new HashSet<>();
+  private volatile boolean shutdown = false;
+
+  ThreadPerTaskExecutor(
+      final ThreadFactory threadFactory, final int maxConcurrency, final int maxQueueSize) {
+    this.threadFactory = threadFactory;
+    this.maxQueueSize = maxQueueSize;
+    this.runningTasks = new Semaphore(maxConcurrency);
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    if (queueSize.incrementAndGet() > maxQueueSize) {
+      queueSize.decrementAndGet();
+      throw new RejectedExecutionException("Executor queue is full");
+    }
+    queue.add(command);
+    if (runningTasks.tryAcquire()) {
+      startWorker(command);
+    }
+  }
+
+  int getQueueSize() {
+    return queueSize.get();
+  }
+
+  int getWorkerCount() {
+    synchronized (workers) {
+      return workers.size();
+    }
+  }
+
+  /**
+   * Starts a worker with the already acquired permit. The worker takes its tasks from the queue
+   * itself, so if the thread can't be started no task has been taken and the permit is released.
+   */
+  private void startWorker(final Runnable command) {
+    Thread worker = null;
+    try {
+      worker = threadFactory.newThread(this::runTasks);
+      if (worker == null) {
+        throw new IllegalStateException("Thread factory did not create a thread");
+      }
+      synchronized (workers) {
+        workers.add(worker);
+      }
+      worker.start();
+    } catch (final Throwable t) {
+      synchronized (workers) {
+        workers.remove(worker);
+        workers.notifyAll();
+      }
+      runningTasks.release();
+      if (queue.remove(command)) {
+        queueSize.decrementAndGet();
+        throw new RejectedExecutionException("Unable to start executor thread", t);
+      }
+      // The task was already taken by a running worker so only this thread is lost
+      LOG.error("Unable to start executor thread", t);
+    }
+  }
+
+  private void runTasks() {
+    try {
+      for (Runnable task = pollNextTask(); task != null; task = pollNextTask()) {
+        try {
+          task.run();
+        } catch (final Throwable t) {
+          LOG.error("Unhandled exception in executor task", t);
+        }
+      }
+    } finally {
+      synchronized (workers) {
+        workers.remove(Thread.currentThread());
+        workers.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Takes the next task to run with the already acquired permit, or releases the permit and returns
+   * null if there are no queued tasks.
+   */
+  private Runnable pollNextTask() {
+    while (true) {
+      final Runnable task = queue.poll();
+      if (task != null) {
+        queueSize.decrementAndGet();
+        return task;
+      }
+      runningTasks.release();
+      // A task may have been queued after the poll but before the permit was released
+      if (queue.isEmpty() || !runningTasks.tryAcquire()) {
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    final List<Runnable> pendingTasks = new ArrayList<>();
+    for (Runnable task = queue.poll(); task != null; task = queue.poll()) {
+      queueSize.decrementAndGet();
+      pendingTasks.add(task);
+    }
+    synchronized (workers) {
+      workers.forEach(Thread::interrupt);
+    }
+    return pendingTasks;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    synchronized (workers) {
+      return shutdown && workers.isEmpty() && queue.isEmpty();
+    }
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (workers) {
+      while (!isTerminated()) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(workers, remaining);
+      }
+      return true;
+    }
+  }
+}
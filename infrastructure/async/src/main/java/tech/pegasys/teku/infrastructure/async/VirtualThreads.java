@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads when running on a JVM which supports them (Java 21 and later).
+ *
+ * <p>Teku is compiled for Java 11 so the virtual thread API is looked up reflectively.
+ */
+final class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  static boolean isSupported() {
+    return createThreadFactory("virtual-thread-check-").isPresent();
+  }
+
+  /**
+   * Returns a factory for virtual threads named with {@code namePrefix} followed by a counter, or
+   * empty if virtual threads are not supported by this JVM.
+   */
+  static Optional<ThreadFactory> createThreadFactory(final String namePrefix) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      final Method name = builderClass.getMethod("name", String.class, long.class);
+      final Method factory = builderClass.getMethod("factory");
+      final Object builder = name.invoke(ofVirtual.invoke(null), namePrefix, 0L);
+      return Optional.of((ThreadFactory) factory.invoke(builder));
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+}
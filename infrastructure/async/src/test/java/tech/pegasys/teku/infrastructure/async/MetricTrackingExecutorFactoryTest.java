@@ -24,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -96,6 +97,101 @@ class MetricTrackingExecutorFactoryTest {
         .isInstanceOf(RejectedExecutionException.class);
   }
 
+  @Test
+  void shouldLimitConcurrentTasksOfThreadPerTaskExecutor() throws Exception {
+    final Task task1 = new Task();
+    final Task task2 = new Task();
+    final Task task3 = new Task();
+    final ExecutorService executorService = newThreadPerTaskExecutor(2, 5);
+    executorService.execute(task1);
+    executorService.execute(task2);
+    executorService.execute(task3);
+
+    task1.assertStarted();
+    task2.assertStarted();
+    assertThat(task3.isStarted()).isFalse();
+
+    assertThat(metricSystem.getGauge(TekuMetricCategory.EXECUTOR, "foo_queue_size").getValue())
+        .isEqualTo(1);
+    assertThat(
+            metricSystem
+                .getGauge(TekuMetricCategory.EXECUTOR, "foo_thread_active_count")
+                .getValue())
+        .isEqualTo(2);
+
+    task1.allowCompletion();
+
+    task3.assertStarted();
+    assertThat(metricSystem.getGauge(TekuMetricCategory.EXECUTOR, "foo_queue_size").getValue())
+        .isEqualTo(0);
+
+    task2.allowCompletion();
+    task3.allowCompletion();
+  }
+
+  @Test
+  void shouldRejectTasksOnceThreadPerTaskExecutorQueueIsFull() {
+    final Task task1 = new Task();
+    final Task task2 = new Task();
+    final Task task3 = new Task();
+    final Task task4 = new Task();
+    final ExecutorService executorService = newThreadPerTaskExecutor(1, 2);
+    executorService.execute(task1);
+    executorService.execute(task2);
+    executorService.execute(task3);
+
+    assertThatThrownBy(() -> executorService.execute(task4))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void shouldStopThreadPerTaskExecutorThreadsOnceQueueIsEmpty() throws Exception {
+    final Task task1 = new Task();
+    final Task task2 = new Task();
+    final ExecutorService executorService = newThreadPerTaskExecutor(1, 2);
+    executorService.execute(task1);
+    executorService.execute(task2);
+    executorService.shutdown();
+
+    task1.allowCompletion();
+    task2.allowCompletion();
+
+    assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(task2.isStarted()).isTrue();
+    assertThat(
+            metricSystem
+                .getGauge(TekuMetricCategory.EXECUTOR, "foo_thread_active_count")
+                .getValue())
+        .isEqualTo(0);
+  }
+
+  @Test
+  void shouldReleasePermitWhenThreadPerTaskExecutorCannotStartThread() throws Exception {
+    final AtomicBoolean failNextThread = new AtomicBoolean(true);
+    final ThreadFactory failingThreadFactory =
+        runnable -> {
+          if (failNextThread.getAndSet(false)) {
+            throw new IllegalStateException("No threads available");
+          }
+          return threadFactory.newThread(runnable);
+        };
+    final ExecutorService executorService =
+        factory.newThreadPerTaskExecutor("foo", 1, 2, failingThreadFactory);
+    executors.add(executorService);
+    final Task task1 = new Task();
+    final Task task2 = new Task();
+
+    assertThatThrownBy(() -> executorService.execute(task1))
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(metricSystem.getGauge(TekuMetricCategory.EXECUTOR, "foo_queue_size").getValue())
+        .isEqualTo(0);
+
+    executorService.execute(task2);
+    task2.assertStarted();
+    assertThat(task1.isStarted()).isFalse();
+    task2.allowCompletion();
+  }
+
   private ExecutorService newCachedThreadPool(final int maxThreads, final int maxQueueSize) {
     final ExecutorService executorService =
         factory.newCachedThreadPool("foo", maxThreads, maxQueueSize, threadFactory);
@@ -103,6 +199,14 @@ class MetricTrackingExecutorFactoryTest {
     return executorService;
   }
 
+  private ExecutorService newThreadPerTaskExecutor(
+      final int maxConcurrency, final int maxQueueSize) {
+    final ExecutorService executorService =
+        factory.newThreadPerTaskExecutor("foo", maxConcurrency, maxQueueSize, threadFactory);
+    executors.add(executorService);
+    return executorService;
+  }
+
   private static class Task implements Runnable {
     private final CountDownLatch started = new CountDownLatch(1);
     private final CountDownLatch allowCompletion = new CountDownLatch(1);
@@ -13,23 +13,54 @@
 
 package tech.pegasys.teku.infrastructure.collections.cache;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
-import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 
 /**
- * Cache made around LRU-map with fixed size, removing eldest entries (by added) when the space is
- * over
+ * Cache with fixed size, evicting the least recently used entries when the space is over
+ *
+ * <p>Caches with a capacity of at least {@value #STRIPING_THRESHOLD} entries are split across
+ * stripes by key hash, smaller caches use a single stripe so that their capacity isn't reduced by
+ * uneven hashing. Reads are lock-free and recency is only approximate: a read marks the entry as
+ * used after every entry added before it, and eviction removes the least recently used entry of the
+ * stripe being added to.
+ *
+ * <p>Each stripe keeps its entries in a priority queue ordered by when they were last known to be
+ * used. Reads only record the time of use on the entry, and an entry which has been read since it
+ * was queued is moved to its new position when it reaches the head of the queue. Eviction therefore
+ * takes amortized logarithmic time rather than scanning the stripe.
+ *
+ * <p>{@link #copy()} is O(1) in the number of entries: the copy shares all stripes with this cache
+ * and either side clones a stripe, including its entries, the first time it modifies it after the
+ * copy. Reads from a shared stripe don't update recency, so one cache's reads never affect what the
+ * other evicts.
  *
  * @param <K> Keys type
  * @param <V> Values type
  */
 public class LRUCache<K, V> implements Cache<K, V> {
+  static final int STRIPING_THRESHOLD = 1024;
+  private static final int MAX_STRIPES = 16;
+  private static final int MIN_ENTRIES_PER_STRIPE = 256;
 
-  private final Map<K, V> cacheData;
   private final int maxCapacity;
+  private final int stripeCapacity;
+  private final AtomicReferenceArray<Stripe<K, V>> stripes;
+  // Shared between copies, only used to order entries for eviction
+  private final AtomicLong clock;
+  // Write lock is only held while copying so that stripe ownership is switched atomically
+  private final ReadWriteLock copyLock = new ReentrantReadWriteLock();
+  private volatile Object owner = new Object();
 
   /**
    * Creates cache
@@ -37,22 +68,44 @@ public class LRUCache<K, V> implements Cache<K, V> {
    * @param capacity Size of the cache
    */
   public LRUCache(int capacity) {
-    this(capacity, Collections.emptyMap());
+    this.maxCapacity = capacity;
+    final int stripeCount = getStripeCount(capacity);
+    this.stripeCapacity = capacity / stripeCount + (capacity % stripeCount == 0 ? 0 : 1);
+    this.stripes = new AtomicReferenceArray<>(stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      stripes.set(i, new Stripe<>(owner));
+    }
+    this.clock = new AtomicLong();
   }
 
-  private LRUCache(int capacity, Map<K, V> initialCachedContent) {
-    this.maxCapacity = capacity;
-    Map<K, V> cacheMap = LimitedMap.create(maxCapacity);
-    // copy safely, initialCachedContent is always a SynchronizedMap instance
-    synchronized (initialCachedContent) {
-      cacheMap.putAll(initialCachedContent);
+  private static int getStripeCount(final int capacity) {
+    if (capacity < STRIPING_THRESHOLD) {
+      return 1;
+    }
+    final int stripeCount = Integer.highestOneBit(capacity / MIN_ENTRIES_PER_STRIPE);
+    return Math.min(MAX_STRIPES, Math.max(1, stripeCount));
+  }
+
+  private LRUCache(LRUCache<K, V> source) {
+    this.maxCapacity = source.maxCapacity;
+    this.stripeCapacity = source.stripeCapacity;
+    this.stripes = new AtomicReferenceArray<>(source.stripes.length());
+    for (int i = 0; i < stripes.length(); i++) {
+      stripes.set(i, source.stripes.get(i));
     }
-    this.cacheData = cacheMap;
+    this.clock = source.clock;
   }
 
   @Override
   public Cache<K, V> copy() {
-    return new LRUCache<>(maxCapacity, cacheData);
+    copyLock.writeLock().lock();
+    try {
+      // Neither cache owns the shared stripes any more so both clone them before modifying
+      owner = new Object();
+      return new LRUCache<>(this);
+    } finally {
+      copyLock.writeLock().unlock();
+    }
   }
 
   /**
@@ -65,35 +118,191 @@ public class LRUCache<K, V> implements Cache<K, V> {
    */
   @Override
   public V get(K key, Function<K, V> fallback) {
-    V result = cacheData.get(key);
-
-    if (result == null) {
-      result = fallback.apply(key);
-      if (result != null) {
-        cacheData.put(key, result);
-      }
+    final Optional<V> cached = getCached(key);
+    if (cached.isPresent()) {
+      return cached.get();
     }
 
+    final V result = fallback.apply(key);
+    if (result != null) {
+      put(key, result);
+    }
     return result;
   }
 
   @Override
   public Optional<V> getCached(K key) {
-    return Optional.ofNullable(cacheData.get(key));
+    final Stripe<K, V> stripe = stripes.get(stripeIndex(key));
+    final Entry<K, V> entry = stripe.entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (stripe.owner == owner) {
+      entry.lastUsed = clock.get();
+    }
+    return Optional.of(entry.value);
+  }
+
+  private void put(K key, V value) {
+    copyLock.readLock().lock();
+    try {
+      final Stripe<K, V> stripe = getWritableStripe(stripeIndex(key));
+      synchronized (stripe) {
+        stripe.add(new Entry<>(key, value, clock.getAndIncrement()));
+        while (stripe.entries.size() > stripeCapacity) {
+          if (!stripe.evictLeastRecentlyUsed(key)) {
+            break;
+          }
+        }
+      }
+    } finally {
+      copyLock.readLock().unlock();
+    }
   }
 
   @Override
   public void invalidate(K key) {
-    cacheData.remove(key);
+    final int index = stripeIndex(key);
+    if (!stripes.get(index).entries.containsKey(key)) {
+      // Avoid cloning a shared stripe when there's nothing to remove
+      return;
+    }
+    copyLock.readLock().lock();
+    try {
+      getWritableStripe(index).entries.remove(key);
+    } finally {
+      copyLock.readLock().unlock();
+    }
   }
 
   @Override
   public void clear() {
-    cacheData.clear();
+    copyLock.readLock().lock();
+    try {
+      for (int i = 0; i < stripes.length(); i++) {
+        stripes.set(i, new Stripe<>(owner));
+      }
+    } finally {
+      copyLock.readLock().unlock();
+    }
   }
 
   @Override
   public int size() {
-    return cacheData.size();
+    int size = 0;
+    for (int i = 0; i < stripes.length(); i++) {
+      size += stripes.get(i).entries.size();
+    }
+    return size;
+  }
+
+  /** Must be called while holding the read lock so that ownership can't change concurrently */
+  private Stripe<K, V> getWritableStripe(final int index) {
+    while (true) {
+      final Stripe<K, V> stripe = stripes.get(index);
+      if (stripe.owner == owner) {
+        return stripe;
+      }
+      final Stripe<K, V> clone = new Stripe<>(owner, stripe.entries);
+      if (stripes.compareAndSet(index, stripe, clone)) {
+        return clone;
+      }
+    }
+  }
+
+  private int stripeIndex(final K key) {
+    final int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (stripes.length() - 1);
+  }
+
+  private static class Stripe<K, V> {
+    // Don't bother removing stale queue entries until there are at least this many
+    private static final int MIN_STALE_QUEUE_ENTRIES = 64;
+
+    private final Object owner;
+    private final ConcurrentMap<K, Entry<K, V>> entries;
+    // Entries which were removed or replaced are left in the queue until they reach the head. Only
+    // accessed while holding the stripe's lock.
+    private final PriorityQueue<Entry<K, V>> evictionQueue;
+
+    private Stripe(final Object owner) {
+      this.owner = owner;
+      this.entries = new ConcurrentHashMap<>();
+      this.evictionQueue = new PriorityQueue<>();
+    }
+
+    private Stripe(final Object owner, final Map<K, Entry<K, V>> entries) {
+      this.owner = owner;
+      this.entries = new ConcurrentHashMap<>(entries.size());
+      final List<Entry<K, V>> copiedEntries = new ArrayList<>(entries.size());
+      entries.forEach(
+          (key, entry) -> {
+            final Entry<K, V> copy = new Entry<>(key, entry.value, entry.lastUsed);
+            this.entries.put(key, copy);
+            copiedEntries.add(copy);
+          });
+      this.evictionQueue = new PriorityQueue<>(copiedEntries);
+    }
+
+    private void add(final Entry<K, V> entry) {
+      entries.put(entry.key, entry);
+      evictionQueue.add(entry);
+      if (evictionQueue.size() > 2 * entries.size() + MIN_STALE_QUEUE_ENTRIES) {
+        evictionQueue.removeIf(this::isStale);
+      }
+    }
+
+    private boolean evictLeastRecentlyUsed(final K retainedKey) {
+      Entry<K, V> retained = null;
+      Entry<K, V> evicted = null;
+      Entry<K, V> candidate;
+      while ((candidate = evictionQueue.poll()) != null) {
+        if (isStale(candidate)) {
+          continue;
+        }
+        if (candidate.key.equals(retainedKey)) {
+          retained = candidate;
+          continue;
+        }
+        final long lastUsed = candidate.lastUsed;
+        if (lastUsed > candidate.queuedAt) {
+          // Used since it was queued so requeue it in its new position
+          candidate.queuedAt = lastUsed;
+          evictionQueue.add(candidate);
+          continue;
+        }
+        entries.remove(candidate.key, candidate);
+        evicted = candidate;
+        break;
+      }
+      if (retained != null) {
+        evictionQueue.add(retained);
+      }
+      return evicted != null;
+    }
+
+    private boolean isStale(final Entry<K, V> entry) {
+      return entries.get(entry.key) != entry;
+    }
+  }
+
+  private static class Entry<K, V> implements Comparable<Entry<K, V>> {
+    private final K key;
+    private final V value;
+    private volatile long lastUsed;
+    // The time of use the entry is ordered by in the eviction queue, which may be behind lastUsed
+    private long queuedAt;
+
+    private Entry(final K key, final V value, final long lastUsed) {
+      this.key = key;
+      this.value = value;
+      this.lastUsed = lastUsed;
+      this.queuedAt = lastUsed;
+    }
+
+    @Override
+    public int compareTo(final Entry<K, V> other) {
+      return Long.compare(queuedAt, other.queuedAt);
+    }
   }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+public class LRUCacheTest {
+
+  private final Function<Integer, String> fallback = String::valueOf;
+
+  @Test
+  public void get_shouldCacheFallbackResult() {
+    final Cache<Integer, String> cache = new LRUCache<>(10);
+    assertThat(cache.getCached(1)).isEmpty();
+
+    assertThat(cache.get(1, fallback)).isEqualTo("1");
+    assertThat(cache.get(1, __ -> "other")).isEqualTo("1");
+    assertThat(cache.getCached(1)).contains("1");
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_shouldEvictLeastRecentlyUsed() {
+    final Cache<Integer, String> cache = new LRUCache<>(2);
+    cache.get(1, fallback);
+    cache.get(2, fallback);
+
+    // Access element 1 then add a new element that will put us over the limit
+    cache.get(1, fallback);
+    cache.get(3, fallback);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getCached(1)).contains("1");
+    assertThat(cache.getCached(2)).isEmpty();
+    assertThat(cache.getCached(3)).contains("3");
+  }
+
+  @Test
+  public void get_shouldEvictInOrderOfLastUse() {
+    final Cache<Integer, String> cache = new LRUCache<>(3);
+    cache.get(1, fallback);
+    cache.get(2, fallback);
+    cache.get(3, fallback);
+
+    // Element 1 was added first but is now more recently used than 2 and 3
+    cache.getCached(1);
+
+    cache.get(4, fallback);
+    assertThat(cache.getCached(2)).isEmpty();
+    cache.get(5, fallback);
+    assertThat(cache.getCached(3)).isEmpty();
+    assertThat(cache.getCached(1)).contains("1");
+    assertThat(cache.getCached(4)).contains("4");
+    assertThat(cache.getCached(5)).contains("5");
+  }
+
+  @Test
+  public void get_shouldNotEvictForReplacedOrInvalidatedEntries() {
+    final Cache<Integer, String> cache = new LRUCache<>(2);
+    cache.get(1, fallback);
+    cache.get(2, fallback);
+    cache.invalidate(1);
+    cache.get(1, fallback);
+    cache.invalidate(2);
+    cache.get(3, fallback);
+
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.get(4, fallback);
+    assertThat(cache.getCached(1)).isEmpty();
+    assertThat(cache.getCached(3)).contains("3");
+    assertThat(cache.getCached(4)).contains("4");
+  }
+
+  @Test
+  public void get_shouldNotExceedCapacityAcrossStripes() {
+    final Cache<Integer, String> cache = new LRUCache<>(1024);
+    for (int i = 0; i < 10_000; i++) {
+      cache.get(i, fallback);
+    }
+    assertThat(cache.size()).isLessThanOrEqualTo(1024);
+    assertThat(cache.getCached(9_999)).contains("9999");
+  }
+
+  @Test
+  public void get_shouldUseFullCapacityOfSmallCaches() {
+    final int capacity = LRUCache.STRIPING_THRESHOLD - 1;
+    final Cache<Integer, String> cache = new LRUCache<>(capacity);
+    // Keys which would all hash to the same stripe if the cache were striped
+    for (int i = 0; i < capacity; i++) {
+      cache.get(i * 16, fallback);
+    }
+    assertThat(cache.size()).isEqualTo(capacity);
+  }
+
+  @Test
+  public void copy_shouldNotShareRecencyWithOriginal() {
+    final Cache<Integer, String> cache = new LRUCache<>(2);
+    cache.get(1, fallback);
+    cache.get(2, fallback);
+
+    final Cache<Integer, String> copy = cache.copy();
+    // Using element 1 in the copy must not stop the original evicting it
+    copy.get(1, fallback);
+    cache.get(3, fallback);
+
+    assertThat(cache.getCached(1)).isEmpty();
+    assertThat(cache.getCached(2)).contains("2");
+    assertThat(copy.getCached(1)).contains("1");
+    assertThat(copy.getCached(2)).contains("2");
+  }
+
+  @Test
+  public void copy_shouldBeIndependentOfOriginal() {
+    final Cache<Integer, String> cache = new LRUCache<>(1024);
+    for (int i = 0; i < 100; i++) {
+      cache.get(i, fallback);
+    }
+
+    final Cache<Integer, String> copy = cache.copy();
+    cache.invalidate(1);
+    cache.get(200, fallback);
+    copy.invalidateWithNewValue(2, "copy");
+    copy.get(300, fallback);
+
+    assertThat(cache.getCached(1)).isEmpty();
+    assertThat(copy.getCached(1)).contains("1");
+    assertThat(cache.getCached(2)).contains("2");
+    assertThat(copy.getCached(2)).contains("copy");
+    assertThat(copy.getCached(200)).isEmpty();
+    assertThat(cache.getCached(300)).isEmpty();
+  }
+
+  @Test
+  public void clear_shouldNotAffectCopies() {
+    final Cache<Integer, String> cache = new LRUCache<>(10);
+    cache.get(1, fallback);
+    final Cache<Integer, String> copy = cache.copy();
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+    assertThat(copy.getCached(1)).contains("1");
+  }
+}
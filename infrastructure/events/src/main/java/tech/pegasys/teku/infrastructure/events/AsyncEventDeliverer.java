@@ -14,29 +14,46 @@
 package tech.pegasys.teku.infrastructure.events;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.synchronizedMap;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
 
 import java.lang.reflect.Method;
 import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int QUEUE_CAPACITY = 500;
+  static final int QUEUE_CAPACITY = 500;
+  // Only one in this many events is timed, as recording a timer sample takes a lock
+  static final int LATENCY_SAMPLE_INTERVAL = 16;
+  private static final TimingContext NOT_TIMED = () -> 0;
+
+  /**
+   * Subscribers are added rarely but looked up for every event, so the map is replaced rather than
+   * modified, letting publishers read it without locking.
+   */
+  private volatile Map<T, EventQueue> eventQueuesBySubscriber = new IdentityHashMap<>();
 
-  private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
-      synchronizedMap(new IdentityHashMap<>());
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final ExecutorService executor;
+  private final LabelledMetric<OperationTimer> queueLatencyTimer;
+  private final LabelledMetric<Counter> coalescedEventCounter;
 
   public AsyncEventDeliverer(
       final ExecutorService executor,
@@ -44,13 +61,32 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
       final MetricsSystem metricsSystem) {
     super(exceptionHandler, metricsSystem);
     this.executor = executor;
+    queueLatencyTimer =
+        metricsSystem.createLabelledTimer(
+            EVENTBUS,
+            "event_queue_latency",
+            "Time a sample of events spend queued before delivery to a subscriber starts",
+            "channel",
+            "subscriber");
+    coalescedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_coalesced_count",
+            "Number of events merged into a queued call because the subscriber's queue was full",
+            "channel",
+            "subscriber");
   }
 
   @Override
-  void subscribe(final T subscriber, final int numberOfThreads) {
-    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
-    eventQueuesBySubscriber.put(subscriber, queue);
-    super.subscribe(subscriber, numberOfThreads);
+  void subscribe(
+      final T subscriber, final int numberOfThreads, final OverflowPolicy overflowPolicy) {
+    final EventQueue queue = new EventQueue(subscriber, overflowPolicy);
+    synchronized (this) {
+      final Map<T, EventQueue> updatedQueues = new IdentityHashMap<>(eventQueuesBySubscriber);
+      updatedQueues.put(subscriber, queue);
+      eventQueuesBySubscriber = updatedQueues;
+    }
+    super.subscribe(subscriber, numberOfThreads, overflowPolicy);
     for (int i = 0; i < numberOfThreads; i++) {
       executor.execute(new QueueReader(queue));
     }
@@ -58,7 +94,8 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
 
   @Override
   protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
-    enqueueDelivery(subscriber, method, () -> super.deliverTo(subscriber, method, args));
+    enqueueDelivery(
+        subscriber, method, () -> super.deliverTo(subscriber, method, args), Optional.empty());
   }
 
   @Override
@@ -73,20 +110,17 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
         method,
         () ->
             super.<X>deliverToWithResponse(subscriber, method, args, responseRunner)
-                .propagateToAsync(result, responseRunner));
+                .propagateToAsync(result, responseRunner),
+        Optional.of(result));
     return result;
   }
 
-  private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
-    final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
-    while (!stopped.get()) {
-      try {
-        queue.put(action);
-        return;
-      } catch (final InterruptedException e) {
-        LOG.debug("Interrupted while trying to publish event {}", method::getName);
-      }
-    }
+  private void enqueueDelivery(
+      final T subscriber,
+      final Method method,
+      final Runnable action,
+      final Optional<SafeFuture<?>> result) {
+    checkNotNull(eventQueuesBySubscriber.get(subscriber)).enqueue(method, action, result);
   }
 
   @Override
@@ -95,10 +129,125 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     executor.shutdownNow();
   }
 
+  /**
+   * The bounded queue of events waiting to be delivered to a single subscriber.
+   *
+   * <p>Events are held in a lock-free queue so publishers don't contend with each other or with the
+   * subscriber's reader threads. The two semaphores track the number of free slots and queued
+   * events, and are only waited on when the queue is full or empty respectively.
+   */
+  class EventQueue {
+    private final T subscriber;
+    private final OverflowPolicy overflowPolicy;
+    private final ConcurrentLinkedQueue<QueuedEvent> events = new ConcurrentLinkedQueue<>();
+    private final Semaphore freeSlots = new Semaphore(QUEUE_CAPACITY);
+    private final Semaphore queuedEvents = new Semaphore(0);
+    private final Map<Method, QueueMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    private EventQueue(final T subscriber, final OverflowPolicy overflowPolicy) {
+      this.subscriber = subscriber;
+      this.overflowPolicy = overflowPolicy;
+    }
+
+    private void enqueue(
+        final Method method, final Runnable action, final Optional<SafeFuture<?>> result) {
+      while (!freeSlots.tryAcquire()) {
+        if (stopped.get()) {
+          return;
+        }
+        if (overflowPolicy == OverflowPolicy.COALESCE
+            && result.isEmpty()
+            && method.isAnnotationPresent(Coalescable.class)
+            && coalesce(method, action)) {
+          return;
+        }
+        try {
+          freeSlots.acquire();
+          break;
+        } catch (final InterruptedException e) {
+          LOG.debug("Interrupted while trying to publish event {}", method::getName);
+        }
+      }
+      final TimingContext timingContext =
+          ThreadLocalRandom.current().nextInt(LATENCY_SAMPLE_INTERVAL) == 0
+              ? getMetrics(method).latencyTimer.startTimer()
+              : NOT_TIMED;
+      events.add(new QueuedEvent(method, action, timingContext));
+      queuedEvents.release();
+    }
+
+    /**
+     * Replaces the action of a queued call to {@code method}, which must be {@link Coalescable} as
+     * the arguments of the queued call are discarded.
+     */
+    private boolean coalesce(final Method method, final Runnable action) {
+      for (QueuedEvent event : events) {
+        if (!event.method.equals(method)) {
+          continue;
+        }
+        final Runnable queuedAction = event.action.get();
+        // The action is cleared when a reader takes the event so it can't be replaced after that
+        if (queuedAction != null && event.action.compareAndSet(queuedAction, action)) {
+          getMetrics(method).coalescedCounter.inc();
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void deliverNextEvent() throws InterruptedException {
+      queuedEvents.acquire();
+      final QueuedEvent event = events.remove();
+      freeSlots.release();
+      event.timingContext.stopTimer();
+      final Runnable action = event.action.getAndSet(null);
+      if (action != null) {
+        action.run();
+      }
+    }
+
+    private QueueMetrics getMetrics(final Method method) {
+      final QueueMetrics metrics = metricsByMethod.get(method);
+      if (metrics != null) {
+        return metrics;
+      }
+      return metricsByMethod.computeIfAbsent(
+          method,
+          __ ->
+              new QueueMetrics(
+                  method.getDeclaringClass().getSimpleName(),
+                  subscriber.getClass().getSimpleName()));
+    }
+  }
+
+  /** The metrics for one method of a subscriber, resolved once rather than for every event. */
+  private class QueueMetrics {
+    private final OperationTimer latencyTimer;
+    private final Counter coalescedCounter;
+
+    private QueueMetrics(final String channel, final String subscriber) {
+      latencyTimer = queueLatencyTimer.labels(channel, subscriber);
+      coalescedCounter = coalescedEventCounter.labels(channel, subscriber);
+    }
+  }
+
+  private static class QueuedEvent {
+    private final Method method;
+    private final AtomicReference<Runnable> action;
+    private final TimingContext timingContext;
+
+    private QueuedEvent(
+        final Method method, final Runnable action, final TimingContext timingContext) {
+      this.method = method;
+      this.action = new AtomicReference<>(action);
+      this.timingContext = timingContext;
+    }
+  }
+
   class QueueReader implements Runnable {
-    private final BlockingQueue<Runnable> queue;
+    private final EventQueue queue;
 
-    public QueueReader(final BlockingQueue<Runnable> queue) {
+    public QueueReader(final EventQueue queue) {
       this.queue = queue;
     }
 
@@ -114,7 +263,7 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     }
 
     void deliverNextEvent() throws InterruptedException {
-      queue.take().run();
+      queue.deliverNextEvent();
     }
   }
 }
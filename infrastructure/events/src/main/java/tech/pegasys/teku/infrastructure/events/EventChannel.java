@@ -160,11 +160,24 @@ class EventChannel<T> {
    * @param requestedParallelism the number of threads to use to process events
    */
   void subscribeMultithreaded(final T listener, final int requestedParallelism) {
+    subscribe(listener, requestedParallelism, OverflowPolicy.BLOCK);
+  }
+
+  /**
+   * Adds a subscriber to this channel, using {@code overflowPolicy} to decide what happens when
+   * events are published faster than the subscriber can process them.
+   *
+   * @param listener the listener to notify of events
+   * @param requestedParallelism the number of threads to use to process events
+   * @param overflowPolicy the policy to apply when the subscriber's event queue is full
+   */
+  void subscribe(
+      final T listener, final int requestedParallelism, final OverflowPolicy overflowPolicy) {
     checkArgument(requestedParallelism > 0, "Number of threads must be at least 1");
     if (!hasSubscriber.compareAndSet(false, true) && !allowMultipleSubscribers) {
       throw new IllegalStateException("Only one subscriber is supported by this event channel");
     }
-    invoker.subscribe(listener, requestedParallelism);
+    invoker.subscribe(listener, requestedParallelism, overflowPolicy);
   }
 
   public void stop() {
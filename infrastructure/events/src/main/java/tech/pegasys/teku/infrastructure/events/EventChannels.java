@@ -102,6 +102,23 @@ public class EventChannels {
     return this;
   }
 
+  /**
+   * Adds a subscriber to this channel which applies {@code overflowPolicy} when events are
+   * published faster than it can process them.
+   *
+   * <p>Synchronous channels always use the publisher thread to process events and so ignore the
+   * policy.
+   *
+   * @param channelInterface the channel to subscribe to
+   * @param subscriber the subscriber to notify of events
+   * @param overflowPolicy the policy to apply when the subscriber's event queue is full
+   */
+  public <T extends ChannelInterface> EventChannels subscribe(
+      final Class<T> channelInterface, final T subscriber, final OverflowPolicy overflowPolicy) {
+    getChannel(channelInterface).subscribe(subscriber, 1, overflowPolicy);
+    return this;
+  }
+
   @SuppressWarnings("unchecked")
   private <T extends ChannelInterface> EventChannel<T> getChannel(final Class<T> channelInterface) {
     return (EventChannel<T>) channels.computeIfAbsent(channelInterface, eventChannelFactory);
@@ -37,7 +37,8 @@ abstract class EventDeliverer<T> {
             "channel");
   }
 
-  void subscribe(final T subscriber, final int numberOfThreads) {
+  void subscribe(
+      final T subscriber, final int numberOfThreads, final OverflowPolicy overflowPolicy) {
     subscribers.subscribe(subscriber);
   }
 
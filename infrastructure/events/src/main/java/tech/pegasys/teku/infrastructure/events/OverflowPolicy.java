@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+/**
+ * Determines what happens when an event is published to an async subscriber whose queue is full.
+ *
+ * <p>Synchronous channels deliver events on the publishing thread and so ignore the policy.
+ */
+public enum OverflowPolicy {
+  /** Block the publisher until the subscriber has made room in its queue. */
+  BLOCK,
+
+  /**
+   * Replace the arguments of a queued call to the same method with the new ones, so the subscriber
+   * only sees the latest call. The queued call keeps its position in the queue.
+   *
+   * <p>Only methods annotated with {@link Coalescable} are coalesced. Calls to other methods, and
+   * calls with no queued call to replace, block the publisher as with {@link #BLOCK}.
+   */
+  COALESCE
+}
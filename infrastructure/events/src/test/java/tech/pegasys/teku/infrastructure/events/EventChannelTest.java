@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -278,6 +279,71 @@ class EventChannelTest {
     assertThat(result).isCompletedWithValue("Yay");
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldCoalesceCallsToSameMethodWhenQueueIsFull() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<WithCoalescableMethod> channel =
+        EventChannel.createAsync(WithCoalescableMethod.class, executor, metricsSystem);
+    final WithCoalescableMethod subscriber = mock(WithCoalescableMethod.class);
+    channel.subscribe(subscriber, 1, OverflowPolicy.COALESCE);
+
+    final WithCoalescableMethod publisher = channel.getPublisher(Optional.empty());
+    publisher.latest("Event1");
+    for (int i = 1; i < AsyncEventDeliverer.QUEUE_CAPACITY; i++) {
+      publisher.other("Filler" + i);
+    }
+    // Queue is now full so this replaces the queued call to latest
+    publisher.latest("Latest");
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+
+    verify(subscriber).latest("Latest");
+    verify(subscriber, never()).latest("Event1");
+    verifyNoMoreInteractions(subscriber);
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldNotCoalesceCallsToMethodsWhichAreNotCoalescable() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<WithCoalescableMethod> channel =
+        EventChannel.createAsync(WithCoalescableMethod.class, executor, metricsSystem);
+    final WithCoalescableMethod subscriber = mock(WithCoalescableMethod.class);
+    channel.subscribe(subscriber, 1, OverflowPolicy.COALESCE);
+
+    final WithCoalescableMethod publisher = channel.getPublisher(Optional.empty());
+    for (int i = 0; i < AsyncEventDeliverer.QUEUE_CAPACITY; i++) {
+      publisher.other("Event" + i);
+    }
+    final CountDownLatch published = new CountDownLatch(1);
+    final Thread publisherThread =
+        new Thread(
+            () -> {
+              publisher.other("Blocked");
+              published.countDown();
+            });
+    publisherThread.start();
+
+    // The queue is full and the call can't be coalesced, so the publisher blocks
+    assertThat(published.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    waitForCountDownLatchComplete(published);
+
+    for (int i = 1; i <= AsyncEventDeliverer.QUEUE_CAPACITY; i++) {
+      consumerCaptor.getValue().deliverNextEvent();
+    }
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).other("Event0");
+    inOrder.verify(subscriber).other("Event1");
+    inOrder.verify(subscriber).other("Blocked");
+  }
+
   private void waitForCountDownLatchComplete(final CountDownLatch started1)
       throws InterruptedException {
     assertThat(started1.await(5, TimeUnit.SECONDS)).isTrue();
@@ -301,6 +367,13 @@ class EventChannelTest {
     void method2(String value);
   }
 
+  private interface WithCoalescableMethod {
+    @Coalescable
+    void latest(String value);
+
+    void other(String value);
+  }
+
   private interface WithFuture {
     SafeFuture<String> getFutureString();
   }
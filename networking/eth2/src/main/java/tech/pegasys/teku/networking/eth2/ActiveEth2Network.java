@@ -36,6 +36,8 @@ import tech.pegasys.teku.networking.eth2.gossip.AggregateGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.AttestationGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.AttesterSlashingGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.BlockGossipManager;
+import tech.pegasys.teku.networking.eth2.gossip.GossipProcessingScheduler;
+import tech.pegasys.teku.networking.eth2.gossip.GossipProcessingScheduler.MessageClass;
 import tech.pegasys.teku.networking.eth2.gossip.GossipPublisher;
 import tech.pegasys.teku.networking.eth2.gossip.ProposerSlashingGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.VoluntaryExitGossipManager;
@@ -55,7 +57,7 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements Eth2Network {
   private static final Logger LOG = LogManager.getLogger();
 
-  private final AsyncRunner asyncRunner;
+  private final GossipProcessingScheduler gossipProcessingScheduler;
   private final MetricsSystem metricsSystem;
   private final DiscoveryNetwork<?> discoveryNetwork;
   private final Eth2PeerManager peerManager;
@@ -108,7 +110,7 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
       final GossipPublisher<SignedVoluntaryExit> voluntaryExitGossipPublisher,
       final ProcessedAttestationSubscriptionProvider processedAttestationSubscriptionProvider) {
     super(discoveryNetwork);
-    this.asyncRunner = asyncRunner;
+    this.gossipProcessingScheduler = GossipProcessingScheduler.create(asyncRunner, metricsSystem);
     this.metricsSystem = metricsSystem;
     this.discoveryNetwork = discoveryNetwork;
     this.peerManager = peerManager;
@@ -148,22 +150,37 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
 
     AttestationSubnetSubscriptions attestationSubnetSubscriptions =
         new AttestationSubnetSubscriptions(
-            asyncRunner, discoveryNetwork, gossipEncoding, recentChainData, attestationProcessor);
+            gossipProcessingScheduler.getRunner(MessageClass.ATTESTATION),
+            discoveryNetwork,
+            gossipEncoding,
+            recentChainData,
+            attestationProcessor);
 
     blockGossipManager =
         new BlockGossipManager(
-            asyncRunner, discoveryNetwork, gossipEncoding, forkInfo, eventBus, blockProcessor);
+            gossipProcessingScheduler.getRunner(MessageClass.BLOCK),
+            discoveryNetwork,
+            gossipEncoding,
+            forkInfo,
+            eventBus,
+            blockProcessor);
 
     attestationGossipManager =
         new AttestationGossipManager(metricsSystem, attestationSubnetSubscriptions);
 
     aggregateGossipManager =
         new AggregateGossipManager(
-            asyncRunner, discoveryNetwork, gossipEncoding, forkInfo, aggregateProcessor);
+            gossipProcessingScheduler.getRunner(MessageClass.AGGREGATE),
+            discoveryNetwork,
+            gossipEncoding,
+            forkInfo,
+            aggregateProcessor);
+
+    final AsyncRunner operationRunner = gossipProcessingScheduler.getRunner(MessageClass.OPERATION);
 
     voluntaryExitGossipManager =
         new VoluntaryExitGossipManager(
-            asyncRunner,
+            operationRunner,
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -172,7 +189,7 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
 
     proposerSlashingGossipManager =
         new ProposerSlashingGossipManager(
-            asyncRunner,
+            operationRunner,
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -181,7 +198,7 @@ public class ActiveEth2Network extends DelegatingP2PNetwork<Eth2Peer> implements
 
     attesterSlashingGossipManager =
         new AttesterSlashingGossipManager(
-            asyncRunner,
+            operationRunner,
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Schedules the processing of received gossip messages onto a shared {@link AsyncRunner}, keeping a
+ * separate bounded queue for each class of message.
+ *
+ * <p>Only a limited number of tasks is handed to the underlying runner at a time. Whenever a slot
+ * frees up, the next task is picked by smooth weighted round robin over the non-empty queues, so
+ * blocks are processed first under load while lower priority messages still make progress.
+ *
+ * <p>When a queue is full, queues for messages which quickly go stale (attestations and aggregates)
+ * drop their oldest message to make room for the new one. Other queues reject the new message.
+ * Dropped messages fail with a {@link RejectedExecutionException}.
+ */
+public class GossipProcessingScheduler {
+
+  public enum MessageClass {
+    BLOCK(16, 1024, false),
+    AGGREGATE(8, 4096, true),
+    OPERATION(4, 1024, false),
+    ATTESTATION(1, 8192, true);
+
+    private final int weight;
+    private final int capacity;
+    private final boolean dropOldest;
+
+    MessageClass(final int weight, final int capacity, final boolean dropOldest) {
+      this.weight = weight;
+      this.capacity = capacity;
+      this.dropOldest = dropOldest;
+    }
+
+    int getCapacity() {
+      return capacity;
+    }
+  }
+
+  private final AsyncRunner delegate;
+  private final IntSupplier activeTaskLimit;
+  private final Map<MessageClass, TaskQueue> queues = new EnumMap<>(MessageClass.class);
+  private int activeTasks = 0;
+  private boolean processing = false;
+
+  GossipProcessingScheduler(
+      final AsyncRunner delegate,
+      final MetricsSystem metricsSystem,
+      final IntSupplier activeTaskLimit) {
+    this.delegate = delegate;
+    this.activeTaskLimit = activeTaskLimit;
+
+    final LabelledMetric<Counter> droppedCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_messages_dropped_total",
+            "Total number of gossip messages dropped because their processing queue was full",
+            "class");
+    for (MessageClass messageClass : MessageClass.values()) {
+      final String name = messageClass.name().toLowerCase(Locale.ROOT);
+      final TaskQueue queue = new TaskQueue(messageClass, droppedCounter.labels(name));
+      queues.put(messageClass, queue);
+      metricsSystem.createIntegerGauge(
+          TekuMetricCategory.NETWORK,
+          "gossip_" + name + "_queue_size",
+          "Number of " + name + " gossip messages waiting to be processed",
+          () -> getQueueSize(messageClass));
+    }
+  }
+
+  public static GossipProcessingScheduler create(
+      final AsyncRunner delegate, final MetricsSystem metricsSystem) {
+    return new GossipProcessingScheduler(
+        delegate, metricsSystem, () -> Math.max(2, Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Returns an {@link AsyncRunner} which queues tasks for the given message class. Delayed tasks
+   * are passed straight to the underlying runner, and shutting down the returned runner has no
+   * effect since the underlying runner is shared.
+   */
+  public AsyncRunner getRunner(final MessageClass messageClass) {
+    final TaskQueue queue = queues.get(messageClass);
+    return new AsyncRunner() {
+      @Override
+      public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+        final SafeFuture<U> result = new SafeFuture<>();
+        enqueue(queue, new QueuedTask<>(action, result));
+        return result;
+      }
+
+      @Override
+      public <U> SafeFuture<U> runAfterDelay(
+          final ExceptionThrowingFutureSupplier<U> action,
+          final long delayAmount,
+          final TimeUnit delayUnit) {
+        return delegate.runAfterDelay(action, delayAmount, delayUnit);
+      }
+
+      @Override
+      public void shutdown() {}
+    };
+  }
+
+  synchronized int getQueueSize(final MessageClass messageClass) {
+    return queues.get(messageClass).tasks.size();
+  }
+
+  private void enqueue(final TaskQueue queue, final QueuedTask<?> task) {
+    final QueuedTask<?> droppedTask;
+    synchronized (this) {
+      droppedTask = queue.add(task);
+      tryProcessNext();
+    }
+    if (droppedTask != null) {
+      queue.droppedCounter.inc();
+      droppedTask.reject(queue.messageClass);
+    }
+  }
+
+  private synchronized void tryProcessNext() {
+    // Tasks may complete synchronously and release their slot from within execute
+    if (processing) {
+      return;
+    }
+    processing = true;
+    try {
+      while (activeTasks < activeTaskLimit.getAsInt()) {
+        final QueuedTask<?> task = pollNext();
+        if (task == null) {
+          return;
+        }
+        activeTasks++;
+        execute(task);
+      }
+    } finally {
+      processing = false;
+    }
+  }
+
+  /** Picks the next task by smooth weighted round robin over the non-empty queues */
+  private QueuedTask<?> pollNext() {
+    TaskQueue selected = null;
+    int totalWeight = 0;
+    for (TaskQueue queue : queues.values()) {
+      if (queue.tasks.isEmpty()) {
+        // Idle queues don't accumulate credit
+        queue.currentWeight = 0;
+        continue;
+      }
+      queue.currentWeight += queue.messageClass.weight;
+      totalWeight += queue.messageClass.weight;
+      if (selected == null || queue.currentWeight > selected.currentWeight) {
+        selected = queue;
+      }
+    }
+    if (selected == null) {
+      return null;
+    }
+    selected.currentWeight -= totalWeight;
+    return selected.tasks.poll();
+  }
+
+  private <U> void execute(final QueuedTask<U> task) {
+    // The slot is released once the task has run, or if the underlying runner rejects it
+    final AtomicBoolean released = new AtomicBoolean(false);
+    final Runnable release =
+        () -> {
+          if (released.compareAndSet(false, true)) {
+            onTaskReleased();
+          }
+        };
+    final ExceptionThrowingFutureSupplier<U> action =
+        () -> {
+          try {
+            return task.action.get();
+          } finally {
+            release.run();
+          }
+        };
+    delegate
+        .runAsync(action)
+        .whenComplete((result, error) -> release.run())
+        .propagateTo(task.result);
+  }
+
+  private synchronized void onTaskReleased() {
+    activeTasks--;
+    tryProcessNext();
+  }
+
+  private static class TaskQueue {
+    private final MessageClass messageClass;
+    private final Counter droppedCounter;
+    private final ArrayDeque<QueuedTask<?>> tasks = new ArrayDeque<>();
+    private int currentWeight = 0;
+
+    private TaskQueue(final MessageClass messageClass, final Counter droppedCounter) {
+      this.messageClass = messageClass;
+      this.droppedCounter = droppedCounter;
+    }
+
+    /** Adds the task to the queue, returning the task dropped to make room for it if any */
+    private QueuedTask<?> add(final QueuedTask<?> task) {
+      if (tasks.size() < messageClass.capacity) {
+        tasks.add(task);
+        return null;
+      }
+      if (!messageClass.dropOldest) {
+        return task;
+      }
+      final QueuedTask<?> oldestTask = tasks.poll();
+      tasks.add(task);
+      return oldestTask;
+    }
+  }
+
+  private static class QueuedTask<U> {
+    private final ExceptionThrowingFutureSupplier<U> action;
+    private final SafeFuture<U> result;
+
+    private QueuedTask(
+        final ExceptionThrowingFutureSupplier<U> action, final SafeFuture<U> result) {
+      this.action = action;
+      this.result = result;
+    }
+
+    private void reject(final MessageClass messageClass) {
+      result.completeExceptionally(
+          new RejectedExecutionException(
+              "Gossip processing queue for " + messageClass + " messages is full"));
+    }
+  }
+}
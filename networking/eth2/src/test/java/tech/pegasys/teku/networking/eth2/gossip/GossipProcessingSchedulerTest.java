@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.networking.eth2.gossip.GossipProcessingScheduler.MessageClass;
+
+public class GossipProcessingSchedulerTest {
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final List<String> processed = new ArrayList<>();
+  private int activeTaskLimit = 1;
+
+  private final GossipProcessingScheduler scheduler =
+      new GossipProcessingScheduler(asyncRunner, metricsSystem, () -> activeTaskLimit);
+
+  @Test
+  public void shouldLimitNumberOfActiveTasks() {
+    activeTaskLimit = 2;
+    submit(MessageClass.ATTESTATION, "a1");
+    submit(MessageClass.ATTESTATION, "a2");
+    submit(MessageClass.ATTESTATION, "a3");
+
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
+    assertThat(scheduler.getQueueSize(MessageClass.ATTESTATION)).isEqualTo(1);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(processed).containsExactly("a1", "a2");
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(processed).containsExactly("a1", "a2", "a3");
+  }
+
+  @Test
+  public void shouldProcessHigherWeightedClassesFirst() {
+    submit(MessageClass.OPERATION, "exit");
+    submit(MessageClass.ATTESTATION, "a1");
+    submit(MessageClass.ATTESTATION, "a2");
+    submit(MessageClass.AGGREGATE, "aggregate");
+    submit(MessageClass.BLOCK, "block");
+
+    asyncRunner.executeUntilDone();
+
+    assertThat(processed).containsExactly("exit", "block", "aggregate", "a1", "a2");
+  }
+
+  @Test
+  public void shouldNotStarveLowerWeightedClasses() {
+    for (int i = 0; i < 20; i++) {
+      submit(MessageClass.BLOCK, "block");
+    }
+    submit(MessageClass.ATTESTATION, "attestation");
+
+    asyncRunner.executeUntilDone();
+
+    assertThat(processed.indexOf("attestation")).isLessThan(processed.size() - 1);
+  }
+
+  @Test
+  public void shouldDropOldestAttestationWhenQueueIsFull() {
+    activeTaskLimit = 0;
+    final SafeFuture<Void> oldest = submit(MessageClass.ATTESTATION, "oldest");
+    final int capacity = MessageClass.ATTESTATION.getCapacity();
+    for (int i = 1; i < capacity; i++) {
+      submit(MessageClass.ATTESTATION, "a" + i);
+    }
+    final SafeFuture<Void> newest = submit(MessageClass.ATTESTATION, "newest");
+
+    assertThat(scheduler.getQueueSize(MessageClass.ATTESTATION)).isEqualTo(capacity);
+    assertThatRejected(oldest);
+    assertThat(newest).isNotDone();
+    assertThat(getDroppedCount(MessageClass.ATTESTATION)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRejectNewBlockWhenQueueIsFull() {
+    activeTaskLimit = 0;
+    final SafeFuture<Void> oldest = submit(MessageClass.BLOCK, "oldest");
+    final int capacity = MessageClass.BLOCK.getCapacity();
+    for (int i = 1; i < capacity; i++) {
+      submit(MessageClass.BLOCK, "b" + i);
+    }
+    final SafeFuture<Void> newest = submit(MessageClass.BLOCK, "newest");
+
+    assertThat(scheduler.getQueueSize(MessageClass.BLOCK)).isEqualTo(capacity);
+    assertThat(oldest).isNotDone();
+    assertThatRejected(newest);
+    assertThat(getDroppedCount(MessageClass.BLOCK)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleaseSlotWhenTaskFails() {
+    final ExceptionThrowingRunnable failingAction =
+        () -> {
+          throw new IllegalStateException("Failed");
+        };
+    final SafeFuture<Void> failed = scheduler.getRunner(MessageClass.BLOCK).runAsync(failingAction);
+    submit(MessageClass.BLOCK, "block");
+
+    asyncRunner.executeUntilDone();
+
+    assertThat(failed).isCompletedExceptionally();
+    assertThat(processed).containsExactly("block");
+  }
+
+  @Test
+  public void shouldReportQueueSizes() {
+    submit(MessageClass.AGGREGATE, "active");
+    submit(MessageClass.AGGREGATE, "queued");
+
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.NETWORK, "gossip_aggregate_queue_size")
+                .getValue())
+        .isEqualTo(1.0);
+  }
+
+  private SafeFuture<Void> submit(final MessageClass messageClass, final String name) {
+    return scheduler
+        .getRunner(messageClass)
+        .runAsync(
+            () -> {
+              processed.add(name);
+            });
+  }
+
+  private long getDroppedCount(final MessageClass messageClass) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.NETWORK, "gossip_messages_dropped_total")
+        .getValue(messageClass.name().toLowerCase(Locale.ROOT));
+  }
+
+  private void assertThatRejected(final SafeFuture<?> future) {
+    assertThatThrownBy(future::join).hasCauseInstanceOf(RejectedExecutionException.class);
+  }
+}
@@ -14,16 +14,28 @@
 package tech.pegasys.teku.protoarray;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static tech.pegasys.teku.protoarray.ProtoArrayIndices.NO_INDEX;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Stores the block tree used by fork choice as a set of parallel primitive arrays (a
+ * struct-of-arrays layout) rather than a list of node objects.
+ *
+ * <p>Node {@code i} is described by the {@code i}th element of each column. Parent, best child and
+ * best descendant links are stored as {@code int} indices with {@link ProtoArrayIndices#NO_INDEX}
+ * representing an absent link, and slots, epochs and weights are stored as raw {@code long} bits.
+ * This means {@link #applyScoreChanges(long[], UInt64, UInt64)}, {@link #findHead(Bytes32)} and
+ * {@link #maybePrune(Bytes32)} run without allocating or chasing object pointers.
+ */
 public class ProtoArray {
+  private static final int INITIAL_CAPACITY = 64;
 
   private int pruneThreshold;
 
@@ -34,45 +46,76 @@ public class ProtoArray {
   private final UInt64 initialEpoch;
 
   /**
-   * Lists all the known nodes. It is guaranteed that a node will be after its parent in the list.
+   * The number of nodes currently held in the columns. It is guaranteed that a node will be after
+   * its parent.
    *
-   * <p>The list may contain nodes which have been removed from the indices collection either
+   * <p>The columns may contain nodes which have been removed from the indices collection either
    * because they are now before the finalized checkpoint but pruning has not yet occurred or
    * because they extended from a now-invalid chain and were removed. This avoids having to update
-   * the indices to entries in the list too often.
+   * the indices to entries in the columns too often.
    */
-  private final List<ProtoNode> nodes;
+  private int size;
+
+  // The `slot` and `stateRoot` is not necessary for `ProtoArray`, it just exists so external
+  // components can easily query the block slot. This is useful for upstream fork choice logic.
+  private long[] blockSlots;
+  private Bytes32[] stateRoots;
+
+  private Bytes32[] blockRoots;
+  private Bytes32[] parentRoots;
+  private long[] justifiedEpochs;
+  private long[] finalizedEpochs;
+
+  private long[] weights;
+  private int[] parentIndices;
+  private int[] bestChildIndices;
+  private int[] bestDescendantIndices;
 
   /**
-   * Maps block roots to the index of their node in the {@link #nodes} list. Nodes which are present
-   * in this map are guaranteed to be present in the nodes list, but the nodes list may contain
-   * additional nodes, not present in this map.
+   * Maps block roots to the index of their node in the columns. Nodes which are present in this
+   * map are guaranteed to be present in the columns, but the columns may contain additional nodes,
+   * not present in this map.
    *
    * <p>The {@link #removeBlockRoot(Bytes32)} method removes blocks from this map but does not
-   * change the nodes list to avoid having to adjust all indices.
+   * change the columns to avoid having to adjust all indices.
    */
-  private final Map<Bytes32, Integer> indices;
+  private final ProtoArrayIndices indices = new ProtoArrayIndices();
 
   public ProtoArray(
-      int pruneThreshold,
-      UInt64 justifiedEpoch,
-      UInt64 finalizedEpoch,
-      UInt64 initialEpoch,
-      List<ProtoNode> nodes,
-      Map<Bytes32, Integer> indices) {
+      int pruneThreshold, UInt64 justifiedEpoch, UInt64 finalizedEpoch, UInt64 initialEpoch) {
     this.pruneThreshold = pruneThreshold;
     this.justifiedEpoch = justifiedEpoch;
     this.finalizedEpoch = finalizedEpoch;
     this.initialEpoch = initialEpoch;
-    this.nodes = nodes;
-    this.indices = indices;
+    allocateColumns(INITIAL_CAPACITY);
   }
 
-  public Map<Bytes32, Integer> getIndices() {
+  public ProtoArrayIndices getIndices() {
     return indices;
   }
 
+  /**
+   * Creates a copy of every node currently held, including nodes which are no longer present in
+   * the indices. Intended for snapshots and tests, not for use on hot paths.
+   *
+   * @return a new list containing one {@link ProtoNode} per tracked node
+   */
   public List<ProtoNode> getNodes() {
+    final List<ProtoNode> nodes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      nodes.add(
+          new ProtoNode(
+              getBlockSlot(i),
+              stateRoots[i],
+              blockRoots[i],
+              parentRoots[i],
+              toOptional(parentIndices[i]),
+              getJustifiedEpoch(i),
+              getFinalizedEpoch(i),
+              getWeight(i),
+              toOptional(bestChildIndices[i]),
+              toOptional(bestDescendantIndices[i])));
+    }
     return nodes;
   }
 
@@ -102,25 +145,26 @@ public class ProtoArray {
     }
 
     int nodeIndex = getTotalTrackedNodeCount();
-
-    ProtoNode node =
-        new ProtoNode(
-            blockSlot,
-            stateRoot,
-            blockRoot,
-            parentRoot,
-            Optional.ofNullable(indices.get(parentRoot)),
-            justifiedEpoch,
-            finalizedEpoch,
-            UInt64.ZERO,
-            Optional.empty(),
-            Optional.empty());
-
-    indices.put(node.getBlockRoot(), nodeIndex);
-    nodes.add(node);
-
-    node.getParentIndex()
-        .ifPresent(parentIndex -> maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex));
+    ensureCapacity(nodeIndex + 1);
+
+    final int parentIndex = indices.get(parentRoot);
+    blockSlots[nodeIndex] = blockSlot.longValue();
+    stateRoots[nodeIndex] = stateRoot;
+    blockRoots[nodeIndex] = blockRoot;
+    parentRoots[nodeIndex] = parentRoot;
+    justifiedEpochs[nodeIndex] = justifiedEpoch.longValue();
+    finalizedEpochs[nodeIndex] = finalizedEpoch.longValue();
+    weights[nodeIndex] = 0;
+    parentIndices[nodeIndex] = parentIndex;
+    bestChildIndices[nodeIndex] = NO_INDEX;
+    bestDescendantIndices[nodeIndex] = NO_INDEX;
+    size++;
+
+    indices.put(blockRoot, nodeIndex);
+
+    if (parentIndex != NO_INDEX) {
+      maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
+    }
   }
 
   /**
@@ -134,29 +178,30 @@ public class ProtoArray {
    * @return
    */
   public Bytes32 findHead(Bytes32 justifiedRoot) {
-    int justifiedIndex =
-        checkNotNull(indices.get(justifiedRoot), "ProtoArray: Unknown justified root");
-    ProtoNode justifiedNode =
-        checkNotNull(nodes.get(justifiedIndex), "ProtoArray: Unknown justified index");
+    int justifiedIndex = indices.get(justifiedRoot);
+    checkState(justifiedIndex != NO_INDEX, "ProtoArray: Unknown justified root");
+    checkState(justifiedIndex < size, "ProtoArray: Unknown justified index");
 
-    int bestDescendantIndex = justifiedNode.getBestDescendantIndex().orElse(justifiedIndex);
-    ProtoNode bestNode =
-        checkNotNull(nodes.get(bestDescendantIndex), "ProtoArray: Unknown best descendant index");
+    int bestDescendantIndex = bestDescendantIndices[justifiedIndex];
+    if (bestDescendantIndex == NO_INDEX) {
+      bestDescendantIndex = justifiedIndex;
+    }
+    checkState(bestDescendantIndex < size, "ProtoArray: Unknown best descendant index");
 
     // Perform a sanity check that the node is indeed valid to be the head.
-    if (!nodeIsViableForHead(bestNode)) {
+    if (!nodeIsViableForHead(bestDescendantIndex)) {
       throw new RuntimeException("ProtoArray: Best node is not viable for head");
     }
 
-    return bestNode.getBlockRoot();
+    return blockRoots[bestDescendantIndex];
   }
 
   /**
    * Iterate backwards through the array, touching all nodes and their parents and potentially the
    * bestChildIndex of each parent.
    *
-   * <p>The structure of the `nodes` array ensures that the child of each node is always touched
-   * before its parent.
+   * <p>The structure of the columns ensures that the child of each node is always touched before
+   * its parent.
    *
    * <p>For each node, the following is done:
    *
@@ -169,12 +214,16 @@ public class ProtoArray {
    *       descendant.
    * </ul>
    *
+   * <p>The supplied {@code deltas} array is modified in place as deltas are back-propagated. It
+   * may be longer than the number of tracked nodes so that callers can reuse a buffer; entries
+   * beyond {@link #getTotalTrackedNodeCount()} are ignored.
+   *
    * @param deltas
    * @param justifiedEpoch
    * @param finalizedEpoch
    */
-  public void applyScoreChanges(List<Long> deltas, UInt64 justifiedEpoch, UInt64 finalizedEpoch) {
-    checkArgument(deltas.size() == getTotalTrackedNodeCount(), "ProtoArray: Invalid delta length");
+  public void applyScoreChanges(long[] deltas, UInt64 justifiedEpoch, UInt64 finalizedEpoch) {
+    checkArgument(deltas.length >= getTotalTrackedNodeCount(), "ProtoArray: Invalid delta length");
 
     if (!justifiedEpoch.equals(this.justifiedEpoch)
         || !finalizedEpoch.equals(this.finalizedEpoch)) {
@@ -182,30 +231,28 @@ public class ProtoArray {
       this.finalizedEpoch = finalizedEpoch;
     }
 
-    // Iterate backwards through all indices in `this.nodes`.
+    // Iterate backwards through all indices in the columns.
     for (int nodeIndex = getTotalTrackedNodeCount() - 1; nodeIndex >= 0; nodeIndex--) {
-      ProtoNode node = nodes.get(nodeIndex);
-
       // There is no need to adjust the balances or manage parent of the zero hash since it
       // is an alias to the genesis block. The weight applied to the genesis block is
       // irrelevant as we _always_ choose it and it's impossible for it to have a parent.
-      if (node.getBlockRoot().equals(Bytes32.ZERO)) {
+      if (blockRoots[nodeIndex].equals(Bytes32.ZERO)) {
         continue;
       }
 
-      long nodeDelta = deltas.get(nodeIndex);
-      node.adjustWeight(nodeDelta);
+      long nodeDelta = deltas[nodeIndex];
+      adjustWeight(nodeIndex, nodeDelta);
 
-      if (node.getParentIndex().isPresent()) {
-        int parentIndex = node.getParentIndex().get();
-        deltas.set(parentIndex, deltas.get(parentIndex) + nodeDelta);
+      final int parentIndex = parentIndices[nodeIndex];
+      if (parentIndex != NO_INDEX) {
+        deltas[parentIndex] += nodeDelta;
         maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
       }
     }
   }
 
   public int getTotalTrackedNodeCount() {
-    return nodes.size();
+    return size;
   }
 
   /**
@@ -220,64 +267,58 @@ public class ProtoArray {
    * @param finalizedRoot
    */
   public void maybePrune(Bytes32 finalizedRoot) {
-    int finalizedIndex =
-        checkNotNull(indices.get(finalizedRoot), "ProtoArray: Finalized root is unknown");
+    int finalizedIndex = indices.get(finalizedRoot);
+    checkState(finalizedIndex != NO_INDEX, "ProtoArray: Finalized root is unknown");
 
     if (finalizedIndex < pruneThreshold) {
       // Pruning at small numbers incurs more cost than benefit.
       return;
     }
 
-    // Remove the `indices` key/values for all the to-be-deleted nodes.
-    for (int nodeIndex = 0; nodeIndex < finalizedIndex; nodeIndex++) {
-      Bytes32 root =
-          checkNotNull(nodes.get(nodeIndex), "ProtoArray: Invalid node index").getBlockRoot();
-      indices.remove(root);
-    }
+    // Remove the `indices` key/values for all the to-be-deleted nodes and adjust the rest.
+    indices.removeBelowAndShift(finalizedIndex);
 
     // Drop all the nodes prior to finalization.
-    nodes.subList(0, finalizedIndex).clear();
-
-    // Adjust the indices map.
-    indices.replaceAll(
-        (key, value) -> {
-          int newIndex = value - finalizedIndex;
-          checkState(newIndex >= 0, "ProtoArray: New array index less than 0.");
-          return newIndex;
-        });
+    final int newSize = size - finalizedIndex;
+    shiftLeft(blockSlots, finalizedIndex, newSize);
+    shiftLeft(stateRoots, finalizedIndex, newSize);
+    shiftLeft(blockRoots, finalizedIndex, newSize);
+    shiftLeft(parentRoots, finalizedIndex, newSize);
+    shiftLeft(justifiedEpochs, finalizedIndex, newSize);
+    shiftLeft(finalizedEpochs, finalizedIndex, newSize);
+    shiftLeft(weights, finalizedIndex, newSize);
+    shiftLeft(parentIndices, finalizedIndex, newSize);
+    shiftLeft(bestChildIndices, finalizedIndex, newSize);
+    shiftLeft(bestDescendantIndices, finalizedIndex, newSize);
+    // Release references to the roots of pruned nodes.
+    Arrays.fill(stateRoots, newSize, size, null);
+    Arrays.fill(blockRoots, newSize, size, null);
+    Arrays.fill(parentRoots, newSize, size, null);
+    size = newSize;
 
     // Iterate through all the existing nodes and adjust their indices to match the
     // new layout of nodes.
-    for (ProtoNode node : nodes) {
-      node.getParentIndex()
-          .ifPresent(
-              parentIndex -> {
-                // If node.parentIndex is less than finalizedIndex, set is to None.
-                if (parentIndex < finalizedIndex) {
-                  node.setParentIndex(Optional.empty());
-                } else {
-                  node.setParentIndex(Optional.of(parentIndex - finalizedIndex));
-                }
-              });
-
-      node.getBestChildIndex()
-          .ifPresent(
-              bestChildIndex -> {
-                int newBestChildIndex = bestChildIndex - finalizedIndex;
-                checkState(
-                    newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
-                node.setBestChildIndex(Optional.of(newBestChildIndex));
-              });
-
-      node.getBestDescendantIndex()
-          .ifPresent(
-              bestDescendantIndex -> {
-                int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
-                checkState(
-                    newBestDescendantIndex >= 0,
-                    "ProtoArray: New best descendant index is less than 0");
-                node.setBestDescendantIndex(Optional.of(newBestDescendantIndex));
-              });
+    for (int i = 0; i < size; i++) {
+      final int parentIndex = parentIndices[i];
+      if (parentIndex != NO_INDEX) {
+        // If node.parentIndex is less than finalizedIndex, set is to None.
+        parentIndices[i] = parentIndex < finalizedIndex ? NO_INDEX : parentIndex - finalizedIndex;
+      }
+
+      final int bestChildIndex = bestChildIndices[i];
+      if (bestChildIndex != NO_INDEX) {
+        final int newBestChildIndex = bestChildIndex - finalizedIndex;
+        checkState(newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
+        bestChildIndices[i] = newBestChildIndex;
+      }
+
+      final int bestDescendantIndex = bestDescendantIndices[i];
+      if (bestDescendantIndex != NO_INDEX) {
+        final int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
+        checkState(
+            newBestDescendantIndex >= 0, "ProtoArray: New best descendant index is less than 0");
+        bestDescendantIndices[i] = newBestDescendantIndex;
+      }
     }
   }
 
@@ -303,100 +344,88 @@ public class ProtoArray {
    */
   @SuppressWarnings("StatementWithEmptyBody")
   private void maybeUpdateBestChildAndDescendant(int parentIndex, int childIndex) {
-    ProtoNode child = nodes.get(childIndex);
-    ProtoNode parent = nodes.get(parentIndex);
-
-    boolean childLeadsToViableHead = nodeLeadsToViableHead(child);
-
-    parent
-        .getBestChildIndex()
-        .ifPresentOrElse(
-            bestChildIndex -> {
-              if (bestChildIndex.equals(childIndex) && !childLeadsToViableHead) {
-                // If the child is already the best-child of the parent but it's not viable for
-                // the head, remove it.
-                changeToNone(parent);
-              } else if (bestChildIndex.equals(childIndex)) {
-                // If the child is the best-child already, set it again to ensure that the
-                // best-descendant of the parent is updated.
-                changeToChild(parent, childIndex);
-              } else {
-                ProtoNode bestChild = nodes.get(bestChildIndex);
-
-                boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
-
-                if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
-                  // The child leads to a viable head, but the current best-child doesn't.
-                  changeToChild(parent, childIndex);
-                } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
-                  // The best child leads to a viable head, but the child doesn't.
-                  // No change.
-                } else if (child.getWeight().equals(bestChild.getWeight())) {
-                  // Tie-breaker of equal weights by root.
-                  if (child
-                          .getBlockRoot()
-                          .toHexString()
-                          .compareTo(bestChild.getBlockRoot().toHexString())
-                      >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                } else {
-                  // Choose the winner by weight.
-                  if (child.getWeight().compareTo(bestChild.getWeight()) >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                }
-              }
-            },
-            () -> {
-              if (childLeadsToViableHead) {
-                // There is no current best-child and the child is viable.
-                changeToChild(parent, childIndex);
-              } else {
-                // There is no current best-child but the child is not not viable.
-                // No change.
-              }
-            });
+    boolean childLeadsToViableHead = nodeLeadsToViableHead(childIndex);
+
+    final int bestChildIndex = bestChildIndices[parentIndex];
+    if (bestChildIndex == NO_INDEX) {
+      if (childLeadsToViableHead) {
+        // There is no current best-child and the child is viable.
+        changeToChild(parentIndex, childIndex);
+      } else {
+        // There is no current best-child but the child is not not viable.
+        // No change.
+      }
+    } else if (bestChildIndex == childIndex && !childLeadsToViableHead) {
+      // If the child is already the best-child of the parent but it's not viable for
+      // the head, remove it.
+      changeToNone(parentIndex);
+    } else if (bestChildIndex == childIndex) {
+      // If the child is the best-child already, set it again to ensure that the
+      // best-descendant of the parent is updated.
+      changeToChild(parentIndex, childIndex);
+    } else {
+      boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChildIndex);
+
+      if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
+        // The child leads to a viable head, but the current best-child doesn't.
+        changeToChild(parentIndex, childIndex);
+      } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
+        // The best child leads to a viable head, but the child doesn't.
+        // No change.
+      } else if (weights[childIndex] == weights[bestChildIndex]) {
+        // Tie-breaker of equal weights by root.
+        if (compareRoots(blockRoots[childIndex], blockRoots[bestChildIndex]) >= 0) {
+          changeToChild(parentIndex, childIndex);
+        } else {
+          // No change.
+        }
+      } else {
+        // Choose the winner by weight.
+        if (Long.compareUnsigned(weights[childIndex], weights[bestChildIndex]) >= 0) {
+          changeToChild(parentIndex, childIndex);
+        } else {
+          // No change.
+        }
+      }
+    }
   }
 
   /**
    * Helper for maybeUpdateBestChildAndDescendant
    *
-   * @param parent
+   * @param parentIndex
    * @param childIndex
    */
-  private void changeToChild(ProtoNode parent, int childIndex) {
-    ProtoNode child = nodes.get(childIndex);
-    parent.setBestChildIndex(Optional.of(childIndex));
-    parent.setBestDescendantIndex(Optional.of(child.getBestDescendantIndex().orElse(childIndex)));
+  private void changeToChild(int parentIndex, int childIndex) {
+    final int childBestDescendant = bestDescendantIndices[childIndex];
+    bestChildIndices[parentIndex] = childIndex;
+    bestDescendantIndices[parentIndex] =
+        childBestDescendant != NO_INDEX ? childBestDescendant : childIndex;
   }
 
   /**
    * Helper for maybeUpdateBestChildAndDescendant
    *
-   * @param parent
+   * @param parentIndex
    */
-  private void changeToNone(ProtoNode parent) {
-    parent.setBestChildIndex(Optional.empty());
-    parent.setBestDescendantIndex(Optional.empty());
+  private void changeToNone(int parentIndex) {
+    bestChildIndices[parentIndex] = NO_INDEX;
+    bestDescendantIndices[parentIndex] = NO_INDEX;
   }
 
   /**
    * Indicates if the node itself is viable for the head, or if it's best descendant is viable for
    * the head.
    *
-   * @param node
+   * @param nodeIndex
    * @return
    */
-  private boolean nodeLeadsToViableHead(ProtoNode node) {
+  private boolean nodeLeadsToViableHead(int nodeIndex) {
+    final int bestDescendantIndex = bestDescendantIndices[nodeIndex];
     boolean bestDescendantIsViableForHead =
-        node.getBestDescendantIndex().map(nodes::get).map(this::nodeIsViableForHead).orElse(false);
+        bestDescendantIndex != NO_INDEX && nodeIsViableForHead(bestDescendantIndex);
 
-    return bestDescendantIsViableForHead || nodeIsViableForHead(node);
+    return bestDescendantIsViableForHead || nodeIsViableForHead(nodeIndex);
   }
 
   /**
@@ -407,12 +436,95 @@ public class ProtoArray {
    * <p>Any node that has a different finalized or justified epoch should not be viable for the
    * head.
    *
-   * @param node
+   * @param nodeIndex
    * @return
    */
-  public boolean nodeIsViableForHead(ProtoNode node) {
-    return (node.getJustifiedEpoch().equals(justifiedEpoch) || justifiedEpoch.equals(initialEpoch))
-        && (node.getFinalizedEpoch().equals(finalizedEpoch) || finalizedEpoch.equals(initialEpoch));
+  public boolean nodeIsViableForHead(int nodeIndex) {
+    final long justified = justifiedEpoch.longValue();
+    final long finalized = finalizedEpoch.longValue();
+    final long initial = initialEpoch.longValue();
+    return (justifiedEpochs[nodeIndex] == justified || justified == initial)
+        && (finalizedEpochs[nodeIndex] == finalized || finalized == initial);
+  }
+
+  /**
+   * Returns the index of the node for the given block root.
+   *
+   * @param blockRoot the block root to look up
+   * @return the node index or {@link ProtoArrayIndices#NO_INDEX} if the root is not tracked
+   */
+  public int getIndex(final Bytes32 blockRoot) {
+    return indices.get(blockRoot);
+  }
+
+  public boolean contains(final Bytes32 blockRoot) {
+    return indices.containsKey(blockRoot);
+  }
+
+  public Bytes32 getBlockRoot(final int nodeIndex) {
+    return blockRoots[nodeIndex];
+  }
+
+  public Bytes32 getParentRoot(final int nodeIndex) {
+    return parentRoots[nodeIndex];
+  }
+
+  public Bytes32 getStateRoot(final int nodeIndex) {
+    return stateRoots[nodeIndex];
+  }
+
+  public UInt64 getBlockSlot(final int nodeIndex) {
+    return UInt64.fromLongBits(blockSlots[nodeIndex]);
+  }
+
+  /**
+   * Returns the raw slot of a node without allocating a {@link UInt64}.
+   *
+   * @param nodeIndex the node index
+   * @return the slot as unsigned long bits
+   */
+  public long getBlockSlotBits(final int nodeIndex) {
+    return blockSlots[nodeIndex];
+  }
+
+  public UInt64 getJustifiedEpoch(final int nodeIndex) {
+    return UInt64.fromLongBits(justifiedEpochs[nodeIndex]);
+  }
+
+  public UInt64 getFinalizedEpoch(final int nodeIndex) {
+    return UInt64.fromLongBits(finalizedEpochs[nodeIndex]);
+  }
+
+  public UInt64 getWeight(final int nodeIndex) {
+    return UInt64.fromLongBits(weights[nodeIndex]);
+  }
+
+  /**
+   * @param nodeIndex the node index
+   * @return the index of the node's parent or {@link ProtoArrayIndices#NO_INDEX} if the parent is
+   *     not tracked
+   */
+  public int getParentIndex(final int nodeIndex) {
+    return parentIndices[nodeIndex];
+  }
+
+  /**
+   * @param nodeIndex the node index
+   * @return the index of the node's best child or {@link ProtoArrayIndices#NO_INDEX} if it has no
+   *     viable child
+   */
+  public int getBestChildIndex(final int nodeIndex) {
+    return bestChildIndices[nodeIndex];
+  }
+
+  public BlockInformation createBlockInformation(final int nodeIndex) {
+    return new BlockInformation(
+        getBlockSlot(nodeIndex),
+        blockRoots[nodeIndex],
+        parentRoots[nodeIndex],
+        stateRoots[nodeIndex],
+        getJustifiedEpoch(nodeIndex),
+        getFinalizedEpoch(nodeIndex));
   }
 
   public UInt64 getJustifiedEpoch() {
@@ -438,4 +550,76 @@ public class ProtoArray {
   public void removeBlockRoot(final Bytes32 blockRoot) {
     indices.remove(blockRoot);
   }
+
+  private void adjustWeight(final int nodeIndex, final long delta) {
+    final long weight = weights[nodeIndex];
+    if (delta < 0) {
+      final long deltaAbsoluteValue = Math.abs(delta);
+      if (Long.compareUnsigned(deltaAbsoluteValue, weight) > 0) {
+        throw new RuntimeException(
+            "ProtoNode: Delta to be subtracted is greater than node weight for block "
+                + blockRoots[nodeIndex]
+                + " ("
+                + UInt64.fromLongBits(blockSlots[nodeIndex])
+                + "). Attempting to subtract "
+                + UInt64.fromLongBits(deltaAbsoluteValue)
+                + " from "
+                + UInt64.fromLongBits(weight));
+      }
+      weights[nodeIndex] = weight - deltaAbsoluteValue;
+    } else {
+      weights[nodeIndex] = weight + delta;
+    }
+  }
+
+  /**
+   * Compares two roots as unsigned big-endian numbers, which gives the same ordering as comparing
+   * their hex string representations but without allocating.
+   */
+  static int compareRoots(final Bytes32 a, final Bytes32 b) {
+    for (int offset = 0; offset < Bytes32.SIZE; offset += Long.BYTES) {
+      final int result = Long.compareUnsigned(a.getLong(offset), b.getLong(offset));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private void ensureCapacity(final int requiredCapacity) {
+    if (requiredCapacity > blockRoots.length) {
+      final int newCapacity = Math.max(requiredCapacity, blockRoots.length << 1);
+      blockSlots = Arrays.copyOf(blockSlots, newCapacity);
+      stateRoots = Arrays.copyOf(stateRoots, newCapacity);
+      blockRoots = Arrays.copyOf(blockRoots, newCapacity);
+      parentRoots = Arrays.copyOf(parentRoots, newCapacity);
+      justifiedEpochs = Arrays.copyOf(justifiedEpochs, newCapacity);
+      finalizedEpochs = Arrays.copyOf(finalizedEpochs, newCapacity);
+      weights = Arrays.copyOf(weights, newCapacity);
+      parentIndices = Arrays.copyOf(parentIndices, newCapacity);
+      bestChildIndices = Arrays.copyOf(bestChildIndices, newCapacity);
+      bestDescendantIndices = Arrays.copyOf(bestDescendantIndices, newCapacity);
+    }
+  }
+
+  private void allocateColumns(final int capacity) {
+    blockSlots = new long[capacity];
+    stateRoots = new Bytes32[capacity];
+    blockRoots = new Bytes32[capacity];
+    parentRoots = new Bytes32[capacity];
+    justifiedEpochs = new long[capacity];
+    finalizedEpochs = new long[capacity];
+    weights = new long[capacity];
+    parentIndices = new int[capacity];
+    bestChildIndices = new int[capacity];
+    bestDescendantIndices = new int[capacity];
+  }
+
+  private static void shiftLeft(final Object column, final int offset, final int length) {
+    System.arraycopy(column, offset, column, 0, length);
+  }
+
+  private static Optional<Integer> toOptional(final int index) {
+    return index == NO_INDEX ? Optional.empty() : Optional.of(index);
+  }
 }
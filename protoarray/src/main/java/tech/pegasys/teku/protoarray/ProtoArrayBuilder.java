@@ -15,8 +15,6 @@ package tech.pegasys.teku.protoarray;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Optional;
 import tech.pegasys.teku.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
@@ -82,8 +80,6 @@ public class ProtoArrayBuilder {
                 Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
                 justifiedCheckpoint.getEpoch(),
                 finalizedCheckpoint.getEpoch(),
-                anchorEpoch,
-                new ArrayList<>(),
-                new HashMap<>()));
+                anchorEpoch));
   }
 }
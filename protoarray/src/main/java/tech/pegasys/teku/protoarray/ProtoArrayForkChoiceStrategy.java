@@ -13,20 +13,23 @@
 
 package tech.pegasys.teku.protoarray;
 
+import static tech.pegasys.teku.protoarray.ProtoArrayIndices.NO_INDEX;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -50,6 +53,12 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   private final ProtoArray protoArray;
 
   private List<UInt64> balances;
+  // The justified checkpoint the current balances were taken from
+  private Optional<Checkpoint> balancesCheckpoint = Optional.empty();
+  // Validators whose vote may have changed since deltas were last computed
+  private final Set<UInt64> pendingVoteUpdates = new HashSet<>();
+  // Reused between runs to avoid allocating a new delta array each time the head is processed
+  private long[] deltas = new long[0];
 
   private ProtoArrayForkChoiceStrategy(ProtoArray protoArray, List<UInt64> balances) {
     this.protoArray = protoArray;
@@ -77,9 +86,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
                             Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
                             store.getJustifiedCheckpoint().getEpoch(),
                             store.getFinalizedCheckpoint().getEpoch(),
-                            initialEpoch,
-                            new ArrayList<>(),
-                            new HashMap<>())))
+                            initialEpoch)))
         .thenCompose(protoArray -> processBlocksInStoreAtStartup(store, protoArray))
         .thenPeek(
             protoArray -> storageChannel.onProtoArrayUpdate(ProtoArraySnapshot.create(protoArray)))
@@ -96,12 +103,30 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
       final Checkpoint finalizedCheckpoint,
       final Checkpoint justifiedCheckpoint,
       final BeaconState justifiedCheckpointState) {
-    return findHead(
-        store,
-        justifiedCheckpoint.getEpoch(),
-        justifiedCheckpoint.getRoot(),
-        finalizedCheckpoint.getEpoch(),
-        justifiedCheckpointState.getBalances().asList());
+    protoArrayLock.writeLock().lock();
+    votesLock.writeLock().lock();
+    balancesLock.writeLock().lock();
+    try {
+      // Balances only change when the justified checkpoint does, so avoid reading every balance
+      // from the state unless the checkpoint has moved.
+      final boolean balancesChanged = !balancesCheckpoint.equals(Optional.of(justifiedCheckpoint));
+      final List<UInt64> newBalances =
+          balancesChanged ? justifiedCheckpointState.getBalances().asList() : balances;
+      final Bytes32 head =
+          findHead(
+              store,
+              justifiedCheckpoint.getEpoch(),
+              justifiedCheckpoint.getRoot(),
+              finalizedCheckpoint.getEpoch(),
+              newBalances,
+              balancesChanged);
+      balancesCheckpoint = Optional.of(justifiedCheckpoint);
+      return head;
+    } finally {
+      protoArrayLock.writeLock().unlock();
+      votesLock.writeLock().unlock();
+      balancesLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -127,12 +152,11 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
     protoArrayLock.readLock().lock();
     try {
       final Map<Bytes32, UInt64> chainHeads = new HashMap<>();
-      protoArray.getNodes().stream()
-          .filter(
-              protoNode ->
-                  protoNode.getBestChildIndex().isEmpty()
-                      && protoArray.nodeIsViableForHead(protoNode))
-          .forEach(protoNode -> chainHeads.put(protoNode.getBlockRoot(), protoNode.getBlockSlot()));
+      for (int i = 0; i < protoArray.getTotalTrackedNodeCount(); i++) {
+        if (protoArray.getBestChildIndex(i) == NO_INDEX && protoArray.nodeIsViableForHead(i)) {
+          chainHeads.put(protoArray.getBlockRoot(i), protoArray.getBlockSlot(i));
+        }
+      }
       return ImmutableMap.copyOf(chainHeads);
     } catch (Throwable t) {
       LOG.trace("Failed to get chain heads", t);
@@ -145,8 +169,10 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   // Internal
   private static SafeFuture<ProtoArray> processBlocksInStoreAtStartup(
       ReadOnlyStore store, ProtoArray protoArray) {
-    List<Bytes32> alreadyIncludedBlockRoots =
-        protoArray.getNodes().stream().map(ProtoNode::getBlockRoot).collect(Collectors.toList());
+    Set<Bytes32> alreadyIncludedBlockRoots = new HashSet<>();
+    for (int i = 0; i < protoArray.getTotalTrackedNodeCount(); i++) {
+      alreadyIncludedBlockRoots.add(protoArray.getBlockRoot(i));
+    }
 
     SafeFuture<Void> future = SafeFuture.completedFuture(null);
     for (Bytes32 blockRoot : store.getOrderedBlockRoots()) {
@@ -179,7 +205,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
 
   void processAttestation(
       MutableStore store, UInt64 validatorIndex, Bytes32 blockRoot, UInt64 targetEpoch) {
-    VoteTracker vote = store.getVote(validatorIndex);
+    VoteTracker vote = getVoteForUpdate(store, validatorIndex);
 
     if (targetEpoch.isGreaterThan(vote.getNextEpoch()) || vote.equals(VoteTracker.Default())) {
       vote.setNextRoot(blockRoot);
@@ -187,6 +213,21 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
     }
   }
 
+  /**
+   * Gets a vote which may be modified. Any change to a vote must be made through this method so
+   * the validator is included when deltas are next computed. Must be called with the votes lock
+   * held.
+   */
+  private VoteTracker getVoteForUpdate(final MutableStore store, final UInt64 validatorIndex) {
+    pendingVoteUpdates.add(validatorIndex);
+    return store.getVote(validatorIndex);
+  }
+
+  /**
+   * Finds the head using the given balances. The balances are compared by value with those used
+   * for the previous call, and a copy is retained so later changes to the supplied list can be
+   * detected.
+   */
   Bytes32 findHead(
       MutableStore store,
       UInt64 justifiedEpoch,
@@ -197,17 +238,18 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
     votesLock.writeLock().lock();
     balancesLock.writeLock().lock();
     try {
-      List<UInt64> oldBalances = balances;
-      List<UInt64> newBalances = justifiedStateBalances;
-
-      List<Long> deltas =
-          ProtoArrayScoreCalculator.computeDeltas(
-              store, getTotalTrackedNodeCount(), protoArray.getIndices(), oldBalances, newBalances);
-
-      protoArray.applyScoreChanges(deltas, justifiedEpoch, finalizedEpoch);
-      balances = new ArrayList<>(newBalances);
-
-      return protoArray.findHead(justifiedRoot);
+      final boolean balancesChanged = !justifiedStateBalances.equals(balances);
+      final Bytes32 head =
+          findHead(
+              store,
+              justifiedEpoch,
+              justifiedRoot,
+              finalizedEpoch,
+              balancesChanged ? new ArrayList<>(justifiedStateBalances) : balances,
+              balancesChanged);
+      // The balances no longer correspond to a known checkpoint
+      balancesCheckpoint = Optional.empty();
+      return head;
     } finally {
       protoArrayLock.writeLock().unlock();
       votesLock.writeLock().unlock();
@@ -215,6 +257,49 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
     }
   }
 
+  /**
+   * Applies vote changes to the proto array and finds the new head. Must be called with all locks
+   * held.
+   *
+   * <p>When balances are unchanged only validators whose votes were updated since the last call
+   * need to be considered, so the cost is proportional to the number of changed votes rather than
+   * the total number of validators. If the balances have changed, every vote is recomputed.
+   */
+  private Bytes32 findHead(
+      MutableStore store,
+      UInt64 justifiedEpoch,
+      Bytes32 justifiedRoot,
+      UInt64 finalizedEpoch,
+      List<UInt64> justifiedStateBalances,
+      boolean balancesChanged) {
+    final int nodeCount = getTotalTrackedNodeCount();
+    if (deltas.length < nodeCount) {
+      deltas = new long[Math.max(nodeCount, deltas.length * 2)];
+    } else {
+      Arrays.fill(deltas, 0, nodeCount, 0L);
+    }
+
+    final List<UInt64> oldBalances = balances;
+    final Collection<UInt64> validatorIndices =
+        balancesChanged || oldBalances.isEmpty()
+            ? store.getVotedValidatorIndices()
+            : pendingVoteUpdates;
+    ProtoArrayScoreCalculator.computeDeltas(
+        store,
+        validatorIndices,
+        deltas,
+        nodeCount,
+        protoArray.getIndices(),
+        oldBalances,
+        justifiedStateBalances);
+    pendingVoteUpdates.clear();
+
+    protoArray.applyScoreChanges(deltas, justifiedEpoch, finalizedEpoch);
+    balances = justifiedStateBalances;
+
+    return protoArray.findHead(justifiedRoot);
+  }
+
   public void setPruneThreshold(int pruneThreshold) {
     protoArrayLock.writeLock().lock();
     try {
@@ -237,7 +322,7 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   public boolean contains(Bytes32 blockRoot) {
     protoArrayLock.readLock().lock();
     try {
-      return protoArray.getIndices().containsKey(blockRoot);
+      return protoArray.contains(blockRoot);
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -247,7 +332,8 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   public Optional<UInt64> blockSlot(Bytes32 blockRoot) {
     protoArrayLock.readLock().lock();
     try {
-      return getProtoNode(blockRoot).map(ProtoNode::getBlockSlot);
+      final int index = getNodeIndex(blockRoot);
+      return index == NO_INDEX ? Optional.empty() : Optional.of(protoArray.getBlockSlot(index));
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -257,7 +343,8 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   public Optional<Bytes32> blockParentRoot(Bytes32 blockRoot) {
     protoArrayLock.readLock().lock();
     try {
-      return getProtoNode(blockRoot).map(ProtoNode::getParentRoot);
+      final int index = getNodeIndex(blockRoot);
+      return index == NO_INDEX ? Optional.empty() : Optional.of(protoArray.getParentRoot(index));
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -267,23 +354,21 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   public Optional<Bytes32> getAncestor(final Bytes32 blockRoot, final UInt64 slot) {
     protoArrayLock.readLock().lock();
     try {
-      // Note: This code could be more succinct if currentNode were an Optional and we used flatMap
-      // and map but during long periods of finality this becomes a massive hot spot in the code and
-      // our performance is dominated by the time taken to create Optional instances within the map
-      // calls.
-      final Optional<ProtoNode> startingNode = getProtoNode(blockRoot);
-      if (startingNode.isEmpty()) {
+      // Note: during long periods of non-finality this becomes a massive hot spot in the code so
+      // the walk follows the primitive parent index column directly rather than creating Optional
+      // or UInt64 instances for each ancestor.
+      int currentIndex = getNodeIndex(blockRoot);
+      if (currentIndex == NO_INDEX) {
         return Optional.empty();
       }
-      ProtoNode currentNode = startingNode.get();
-      while (currentNode.getBlockSlot().isGreaterThan(slot)) {
-        final Optional<Integer> parentIndex = currentNode.getParentIndex();
-        if (parentIndex.isEmpty()) {
+      final long slotBits = slot.longValue();
+      while (Long.compareUnsigned(protoArray.getBlockSlotBits(currentIndex), slotBits) > 0) {
+        currentIndex = protoArray.getParentIndex(currentIndex);
+        if (currentIndex == NO_INDEX) {
           return Optional.empty();
         }
-        currentNode = protoArray.getNodes().get(parentIndex.get());
       }
-      return Optional.of(currentNode.getBlockRoot());
+      return Optional.of(protoArray.getBlockRoot(currentIndex));
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -311,22 +396,22 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   public void processHashesInChainWhile(final Bytes32 head, HaltableNodeProcessor nodeProcessor) {
     protoArrayLock.readLock().lock();
     try {
-      final Optional<ProtoNode> startingNode = getProtoNode(head);
-      if (startingNode.isEmpty()) {
+      int currentIndex = getNodeIndex(head);
+      if (currentIndex == NO_INDEX) {
         throw new IllegalArgumentException("Unknown root supplied: " + head);
       }
-      ProtoNode currentNode = startingNode.orElseThrow();
 
-      while (protoArray.getIndices().containsKey(currentNode.getBlockRoot())) {
+      while (protoArray.contains(protoArray.getBlockRoot(currentIndex))) {
         final boolean shouldContinue =
             nodeProcessor.process(
-                currentNode.getBlockRoot(),
-                currentNode.getBlockSlot(),
-                currentNode.getParentRoot());
-        if (!shouldContinue || currentNode.getParentIndex().isEmpty()) {
+                protoArray.getBlockRoot(currentIndex),
+                protoArray.getBlockSlot(currentIndex),
+                protoArray.getParentRoot(currentIndex));
+        final int parentIndex = protoArray.getParentIndex(currentIndex);
+        if (!shouldContinue || parentIndex == NO_INDEX) {
           break;
         }
-        currentNode = protoArray.getNodes().get(currentNode.getParentIndex().get());
+        currentIndex = parentIndex;
       }
     } finally {
       protoArrayLock.readLock().unlock();
@@ -337,14 +422,13 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
   public void processAllInOrder(final NodeProcessor nodeProcessor) {
     protoArrayLock.readLock().lock();
     try {
-      final Map<Bytes32, Integer> indices = protoArray.getIndices();
-      protoArray.getNodes().stream()
-          // Filter out nodes that could be pruned but are still in the protoarray
-          .filter(node -> indices.containsKey(node.getBlockRoot()))
-          .forEach(
-              node ->
-                  nodeProcessor.process(
-                      node.getBlockRoot(), node.getBlockSlot(), node.getParentRoot()));
+      for (int i = 0; i < protoArray.getTotalTrackedNodeCount(); i++) {
+        final Bytes32 blockRoot = protoArray.getBlockRoot(i);
+        // Filter out nodes that could be pruned but are still in the protoarray
+        if (protoArray.contains(blockRoot)) {
+          nodeProcessor.process(blockRoot, protoArray.getBlockSlot(i), protoArray.getParentRoot(i));
+        }
+      }
     } finally {
       protoArrayLock.readLock().unlock();
     }
@@ -387,14 +471,11 @@ public class ProtoArrayForkChoiceStrategy implements ForkChoiceStrategy, BlockMe
     protoArray.onBlock(blockSlot, blockRoot, parentRoot, stateRoot, justifiedEpoch, finalizedEpoch);
   }
 
-  private Optional<ProtoNode> getProtoNode(Bytes32 blockRoot) {
-    return Optional.ofNullable(protoArray.getIndices().get(blockRoot))
-        .flatMap(
-            blockIndex -> {
-              if (blockIndex < getTotalTrackedNodeCount()) {
-                return Optional.of(protoArray.getNodes().get(blockIndex));
-              }
-              return Optional.empty();
-            });
+  private int getNodeIndex(Bytes32 blockRoot) {
+    final int blockIndex = protoArray.getIndex(blockRoot);
+    if (blockIndex < protoArray.getTotalTrackedNodeCount()) {
+      return blockIndex;
+    }
+    return NO_INDEX;
   }
 }
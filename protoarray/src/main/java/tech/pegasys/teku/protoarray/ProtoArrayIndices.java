@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.protoarray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Arrays;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Maps block roots to their index in the {@link ProtoArray}.
+ *
+ * <p>Uses open addressing with linear probing over parallel key and value arrays so that lookups
+ * neither box the index nor allocate map entries. Block roots are already uniformly distributed
+ * so the hash is derived directly from the root's content rather than {@link Bytes32#hashCode()}.
+ * Removal uses backward-shift deletion so no tombstones are left behind.
+ */
+public class ProtoArrayIndices {
+  public static final int NO_INDEX = -1;
+
+  private static final int DEFAULT_CAPACITY = 64;
+  private static final float MAX_LOAD_FACTOR = 0.5f;
+
+  private Bytes32[] keys;
+  private int[] values;
+  private int mask;
+  private int size;
+
+  public ProtoArrayIndices() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ProtoArrayIndices(final int expectedSize) {
+    final int capacity = tableSizeFor(Math.max(expectedSize, 1));
+    this.keys = new Bytes32[capacity];
+    this.values = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(final Bytes32 root) {
+    return get(root) != NO_INDEX;
+  }
+
+  /**
+   * Returns the index stored for the given root.
+   *
+   * @param root the block root to look up
+   * @return the index or {@link #NO_INDEX} if the root is not present
+   */
+  public int get(final Bytes32 root) {
+    int slot = slotFor(root);
+    Bytes32 key;
+    while ((key = keys[slot]) != null) {
+      if (key.equals(root)) {
+        return values[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NO_INDEX;
+  }
+
+  public void put(final Bytes32 root, final int index) {
+    checkArgument(index >= 0, "ProtoArrayIndices: Index must not be negative");
+    if (size + 1 > keys.length * MAX_LOAD_FACTOR) {
+      resize(keys.length << 1);
+    }
+    int slot = slotFor(root);
+    Bytes32 key;
+    while ((key = keys[slot]) != null) {
+      if (key.equals(root)) {
+        values[slot] = index;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = root;
+    values[slot] = index;
+    size++;
+  }
+
+  /**
+   * Removes the given root.
+   *
+   * @param root the block root to remove
+   * @return the index previously stored for the root or {@link #NO_INDEX} if it was not present
+   */
+  public int remove(final Bytes32 root) {
+    int slot = slotFor(root);
+    Bytes32 key;
+    while ((key = keys[slot]) != null) {
+      if (key.equals(root)) {
+        final int removed = values[slot];
+        deleteSlot(slot);
+        return removed;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NO_INDEX;
+  }
+
+  /**
+   * Removes every entry with an index lower than {@code offset} and subtracts {@code offset} from
+   * the remaining indices. Used when the start of the {@link ProtoArray} is pruned.
+   *
+   * @param offset the number of nodes removed from the start of the array
+   */
+  public void removeBelowAndShift(final int offset) {
+    int slot = 0;
+    while (slot < keys.length) {
+      if (keys[slot] != null && values[slot] < offset) {
+        // Backward shift may move a later entry into this slot so re-examine it.
+        deleteSlot(slot);
+        continue;
+      }
+      slot++;
+    }
+    // Deleting near the end of the table can wrap entries around to the start, so only shift
+    // once all removals are complete.
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        final int newIndex = values[i] - offset;
+        checkState(newIndex >= 0, "ProtoArray: New array index less than 0.");
+        values[i] = newIndex;
+      }
+    }
+  }
+
+  public void clear() {
+    Arrays.fill(keys, null);
+    size = 0;
+  }
+
+  private void deleteSlot(int slot) {
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      final Bytes32 key = keys[next];
+      if (key == null) {
+        break;
+      }
+      final int ideal = slotFor(key);
+      // Move the entry back if its ideal slot does not lie cyclically within (slot, next]
+      if (((next - ideal) & mask) >= ((next - slot) & mask)) {
+        keys[slot] = key;
+        values[slot] = values[next];
+        slot = next;
+      }
+    }
+    keys[slot] = null;
+    size--;
+  }
+
+  private void resize(final int newCapacity) {
+    final Bytes32[] oldKeys = keys;
+    final int[] oldValues = values;
+    keys = new Bytes32[newCapacity];
+    values = new int[newCapacity];
+    mask = newCapacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      final Bytes32 key = oldKeys[i];
+      if (key != null) {
+        int slot = slotFor(key);
+        while (keys[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private int slotFor(final Bytes32 root) {
+    long hash = root.getLong(0) ^ root.getLong(8) ^ root.getLong(16) ^ root.getLong(24);
+    // Finalise with a mixing step so roots which only differ in a few bytes spread evenly.
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return (int) hash & mask;
+  }
+
+  private static int tableSizeFor(final int expectedSize) {
+    final int minCapacity = (int) Math.ceil(expectedSize / MAX_LOAD_FACTOR);
+    return Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(minCapacity - 1) << 1);
+  }
+}
@@ -17,11 +17,10 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
 import static java.lang.Math.toIntExact;
+import static tech.pegasys.teku.protoarray.ProtoArrayIndices.NO_INDEX;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -33,7 +32,7 @@ class ProtoArrayScoreCalculator {
   private static final Logger LOG = LogManager.getLogger();
 
   /**
-   * Returns a list of `deltas`, where there is one delta for each of the indices in
+   * Returns an array of `deltas`, where there is one delta for each of the indices in
    * `0..indices.size()`.
    *
    * <p>The deltas are formed by a change between `oldBalances` and `newBalances`, and/or a change
@@ -47,15 +46,42 @@ class ProtoArrayScoreCalculator {
    *       is always valid).
    * </ul>
    */
-  static List<Long> computeDeltas(
+  static long[] computeDeltas(
       MutableStore store,
       int protoArraySize,
-      Map<Bytes32, Integer> indices,
+      ProtoArrayIndices indices,
       List<UInt64> oldBalances,
       List<UInt64> newBalances) {
-    List<Long> deltas = new ArrayList<>(Collections.nCopies(protoArraySize, 0L));
+    long[] deltas = new long[protoArraySize];
+    computeDeltas(
+        store,
+        store.getVotedValidatorIndices(),
+        deltas,
+        protoArraySize,
+        indices,
+        oldBalances,
+        newBalances);
+    return deltas;
+  }
 
-    for (UInt64 validatorIndex : store.getVotedValidatorIndices()) {
+  /**
+   * Accumulates the `deltas` for the votes of the given validators into an existing array, which
+   * must be zeroed for the first `protoArraySize` entries and may be longer than that to allow it
+   * to be reused.
+   *
+   * <p>Only the supplied validators are considered. When the balances are unchanged this may be
+   * limited to the validators whose votes changed since the last calculation, since all other votes
+   * will already have their current root equal to their next root and so produce no delta.
+   */
+  static void computeDeltas(
+      MutableStore store,
+      Collection<UInt64> validatorIndices,
+      long[] deltas,
+      int protoArraySize,
+      ProtoArrayIndices indices,
+      List<UInt64> oldBalances,
+      List<UInt64> newBalances) {
+    for (UInt64 validatorIndex : validatorIndices) {
       VoteTracker vote = store.getVote(validatorIndex);
 
       // There is no need to create a score change if the validator has never voted
@@ -82,27 +108,25 @@ class ProtoArrayScoreCalculator {
       if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
         // We ignore the vote if it is not known in `indices`. We assume that it is outside
         // of our tree (i.e. pre-finalization) and therefore not interesting.
-        Integer currentDeltaIndex = indices.get(vote.getCurrentRoot());
-        if (currentDeltaIndex != null) {
+        int currentDeltaIndex = indices.get(vote.getCurrentRoot());
+        if (currentDeltaIndex != NO_INDEX) {
           checkState(
-              currentDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-          long delta = subtractExact(deltas.get(currentDeltaIndex), oldBalance.longValue());
-          deltas.set(currentDeltaIndex, delta);
+              currentDeltaIndex < protoArraySize, "ProtoArrayForkChoice: Invalid node delta index");
+          deltas[currentDeltaIndex] =
+              subtractExact(deltas[currentDeltaIndex], oldBalance.longValue());
         }
 
         // We ignore the vote if it is not known in `indices`. We assume that it is outside
         // of our tree (i.e. pre-finalization) and therefore not interesting.
-        Integer nextDeltaIndex = indices.get(vote.getNextRoot());
-        if (nextDeltaIndex != null) {
+        int nextDeltaIndex = indices.get(vote.getNextRoot());
+        if (nextDeltaIndex != NO_INDEX) {
           checkState(
-              nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-          long delta = addExact(deltas.get(nextDeltaIndex), newBalance.longValue());
-          deltas.set(nextDeltaIndex, delta);
+              nextDeltaIndex < protoArraySize, "ProtoArrayForkChoice: Invalid node delta index");
+          deltas[nextDeltaIndex] = addExact(deltas[nextDeltaIndex], newBalance.longValue());
         }
 
         vote.setCurrentRoot(vote.getNextRoot());
       }
     }
-    return deltas;
   }
 }
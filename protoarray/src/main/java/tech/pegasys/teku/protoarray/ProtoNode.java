@@ -18,6 +18,11 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * An immutable copy of a single node in the {@link ProtoArray}. The array itself stores nodes in
+ * primitive columns, so instances of this class are only created on request via {@link
+ * ProtoArray#getNodes()}.
+ */
 public class ProtoNode {
 
   // The `slot` and `stateRoot` is not necessary for `ProtoArray`, it just exists so external
@@ -31,10 +36,10 @@ public class ProtoNode {
   private final UInt64 justifiedEpoch;
   private final UInt64 finalizedEpoch;
 
-  private UInt64 weight;
-  private Optional<Integer> parentIndex;
-  private Optional<Integer> bestChildIndex;
-  private Optional<Integer> bestDescendantIndex;
+  private final UInt64 weight;
+  private final Optional<Integer> parentIndex;
+  private final Optional<Integer> bestChildIndex;
+  private final Optional<Integer> bestDescendantIndex;
 
   ProtoNode(
       final UInt64 blockSlot,
@@ -59,26 +64,6 @@ public class ProtoNode {
     this.bestDescendantIndex = bestDescendantIndex;
   }
 
-  public void adjustWeight(long delta) {
-    if (delta < 0) {
-      UInt64 deltaAbsoluteValue = UInt64.valueOf(Math.abs(delta));
-      if (deltaAbsoluteValue.isGreaterThan(weight)) {
-        throw new RuntimeException(
-            "ProtoNode: Delta to be subtracted is greater than node weight for block "
-                + blockRoot
-                + " ("
-                + blockSlot
-                + "). Attempting to subtract "
-                + deltaAbsoluteValue
-                + " from "
-                + weight);
-      }
-      weight = weight.minus(deltaAbsoluteValue);
-    } else {
-      weight = weight.plus(delta);
-    }
-  }
-
   public Bytes32 getParentRoot() {
     return parentRoot;
   }
@@ -111,26 +96,14 @@ public class ProtoNode {
     return finalizedEpoch;
   }
 
-  public void setParentIndex(Optional<Integer> parentIndex) {
-    this.parentIndex = parentIndex;
-  }
-
   public Optional<Integer> getBestChildIndex() {
     return bestChildIndex;
   }
 
-  public void setBestChildIndex(Optional<Integer> bestChildIndex) {
-    this.bestChildIndex = bestChildIndex;
-  }
-
   public Optional<Integer> getBestDescendantIndex() {
     return bestDescendantIndex;
   }
 
-  public void setBestDescendantIndex(Optional<Integer> bestDescendantIndex) {
-    this.bestDescendantIndex = bestDescendantIndex;
-  }
-
   public BlockInformation createBlockInformation() {
     return new BlockInformation(
         blockSlot, blockRoot, parentRoot, stateRoot, justifiedEpoch, finalizedEpoch);
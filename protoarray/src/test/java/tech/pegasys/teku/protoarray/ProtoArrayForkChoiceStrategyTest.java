@@ -22,6 +22,9 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.createProtoArrayForkChoiceStrategy;
+import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.createStoreToManipulateVotes;
+import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.getHash;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -278,6 +281,90 @@ public class ProtoArrayForkChoiceStrategyTest extends AbstractBlockMetadataStore
     assertThat(bestHead).isEqualTo(block4.getRoot());
   }
 
+  @Test
+  void findHead_shouldMoveVoteWhenOnlyChangedValidatorsAreRecomputed() {
+    final MutableStore store = createStoreToManipulateVotes();
+    final ProtoArrayForkChoiceStrategy forkChoice = createForkChoiceWithTwoBranches();
+    final List<UInt64> balances = List.of(ONE, ONE, ONE);
+
+    forkChoice.processAttestation(store, UInt64.valueOf(0), getHash(2), ONE);
+    forkChoice.processAttestation(store, UInt64.valueOf(1), getHash(2), ONE);
+    forkChoice.processAttestation(store, UInt64.valueOf(2), getHash(1), ONE);
+    assertThat(forkChoice.findHead(store, ONE, getHash(0), ONE, balances)).isEqualTo(getHash(2));
+
+    // Only validator 0 is recomputed, so its old vote must be removed from block 2 for block 1 to
+    // win (ties are broken in favour of block 2)
+    forkChoice.processAttestation(store, UInt64.valueOf(0), getHash(1), UInt64.valueOf(2));
+    assertThat(forkChoice.findHead(store, ONE, getHash(0), ONE, balances)).isEqualTo(getHash(1));
+
+    // Nothing changed so the head must stay put
+    assertThat(forkChoice.findHead(store, ONE, getHash(0), ONE, balances)).isEqualTo(getHash(1));
+  }
+
+  @Test
+  void findHead_shouldDetectBalancesModifiedInPlace() {
+    final MutableStore store = createStoreToManipulateVotes();
+    final ProtoArrayForkChoiceStrategy forkChoice = createForkChoiceWithTwoBranches();
+    final List<UInt64> balances = new ArrayList<>(List.of(ONE, ONE, ONE));
+
+    forkChoice.processAttestation(store, UInt64.valueOf(0), getHash(2), ONE);
+    forkChoice.processAttestation(store, UInt64.valueOf(1), getHash(2), ONE);
+    forkChoice.processAttestation(store, UInt64.valueOf(2), getHash(1), ONE);
+    assertThat(forkChoice.findHead(store, ONE, getHash(0), ONE, balances)).isEqualTo(getHash(2));
+
+    balances.set(2, UInt64.valueOf(3));
+    assertThat(forkChoice.findHead(store, ONE, getHash(0), ONE, balances)).isEqualTo(getHash(1));
+  }
+
+  @Test
+  void findHead_shouldOnlyReloadBalancesWhenJustifiedCheckpointChanges() {
+    final MutableStore store = createStoreToManipulateVotes();
+    final ProtoArrayForkChoiceStrategy forkChoice = createForkChoiceWithTwoBranches();
+    final Checkpoint finalizedCheckpoint = new Checkpoint(ZERO, getHash(0));
+    final Checkpoint justifiedCheckpoint = new Checkpoint(ZERO, getHash(0));
+
+    forkChoice.processAttestation(store, UInt64.valueOf(0), getHash(2), ONE);
+    forkChoice.processAttestation(store, UInt64.valueOf(1), getHash(2), ONE);
+    forkChoice.processAttestation(store, UInt64.valueOf(2), getHash(1), ONE);
+    assertThat(
+            forkChoice.findHead(
+                store, finalizedCheckpoint, justifiedCheckpoint, stateWithBalances(1, 1, 1)))
+        .isEqualTo(getHash(2));
+
+    // Balances are taken from the justified checkpoint so are not re-read while it is unchanged
+    final BeaconState updatedState = stateWithBalances(1, 1, 5);
+    assertThat(forkChoice.findHead(store, finalizedCheckpoint, justifiedCheckpoint, updatedState))
+        .isEqualTo(getHash(2));
+
+    // A new justified checkpoint recomputes every vote with the new balances
+    final Checkpoint newJustifiedCheckpoint = new Checkpoint(ONE, getHash(0));
+    assertThat(
+            forkChoice.findHead(store, finalizedCheckpoint, newJustifiedCheckpoint, updatedState))
+        .isEqualTo(getHash(1));
+  }
+
+  //      0
+  //     / \
+  //    2   1
+  private ProtoArrayForkChoiceStrategy createForkChoiceWithTwoBranches() {
+    final ProtoArrayForkChoiceStrategy forkChoice =
+        createProtoArrayForkChoiceStrategy(getHash(0), ZERO, ONE, ONE);
+    forkChoice.processBlock(ZERO, getHash(2), getHash(0), Bytes32.ZERO, ONE, ONE);
+    forkChoice.processBlock(ZERO, getHash(1), getHash(0), Bytes32.ZERO, ONE, ONE);
+    return forkChoice;
+  }
+
+  private BeaconState stateWithBalances(final long... balances) {
+    return dataStructureUtil
+        .randomBeaconState(balances.length)
+        .updated(
+            state -> {
+              for (int i = 0; i < balances.length; i++) {
+                state.getBalances().set(i, UInt64.valueOf(balances[i]));
+              }
+            });
+  }
+
   private StorageSystem initStorageSystem() {
     final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
     storageSystem.chainUpdater().initializeGenesis();
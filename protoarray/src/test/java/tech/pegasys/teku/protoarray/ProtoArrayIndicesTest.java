@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.protoarray.ProtoArrayIndices.NO_INDEX;
+import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.getHash;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class ProtoArrayIndicesTest {
+
+  private final ProtoArrayIndices indices = new ProtoArrayIndices();
+
+  @Test
+  void get_shouldReturnNoIndexWhenRootUnknown() {
+    assertThat(indices.get(getHash(1))).isEqualTo(NO_INDEX);
+    assertThat(indices.containsKey(getHash(1))).isFalse();
+  }
+
+  @Test
+  void put_shouldStoreAndReplaceIndex() {
+    indices.put(getHash(1), 3);
+    assertThat(indices.get(getHash(1))).isEqualTo(3);
+
+    indices.put(getHash(1), 5);
+    assertThat(indices.get(getHash(1))).isEqualTo(5);
+    assertThat(indices.size()).isEqualTo(1);
+  }
+
+  @Test
+  void put_shouldGrowBeyondInitialCapacity() {
+    final int count = 10_000;
+    for (int i = 0; i < count; i++) {
+      indices.put(getHash(i), i);
+    }
+    assertThat(indices.size()).isEqualTo(count);
+    for (int i = 0; i < count; i++) {
+      assertThat(indices.get(getHash(i))).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void remove_shouldKeepOtherEntriesReachable() {
+    for (int i = 0; i < 100; i++) {
+      indices.put(getHash(i), i);
+    }
+    for (int i = 0; i < 100; i += 2) {
+      assertThat(indices.remove(getHash(i))).isEqualTo(i);
+    }
+    assertThat(indices.remove(getHash(0))).isEqualTo(NO_INDEX);
+    assertThat(indices.size()).isEqualTo(50);
+    for (int i = 0; i < 100; i++) {
+      assertThat(indices.get(getHash(i))).isEqualTo(i % 2 == 0 ? NO_INDEX : i);
+    }
+  }
+
+  @Test
+  void removeBelowAndShift_shouldDropPrunedEntriesAndAdjustRemaining() {
+    for (int i = 0; i < 100; i++) {
+      indices.put(getHash(i), i);
+    }
+    indices.removeBelowAndShift(40);
+
+    assertThat(indices.size()).isEqualTo(60);
+    for (int i = 0; i < 40; i++) {
+      assertThat(indices.get(getHash(i))).isEqualTo(NO_INDEX);
+    }
+    for (int i = 40; i < 100; i++) {
+      assertThat(indices.get(getHash(i))).isEqualTo(i - 40);
+    }
+  }
+
+  @Test
+  void shouldMatchHashMapBehaviourForRandomOperations() {
+    final Random random = new Random(42);
+    final Map<Bytes32, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 50_000; i++) {
+      final Bytes32 root = getHash(random.nextInt(2_000));
+      if (random.nextBoolean()) {
+        final int index = random.nextInt(10_000);
+        indices.put(root, index);
+        expected.put(root, index);
+      } else {
+        assertThat(indices.remove(root)).isEqualTo(expected.getOrDefault(root, NO_INDEX));
+        expected.remove(root);
+      }
+    }
+    assertThat(indices.size()).isEqualTo(expected.size());
+    expected.forEach((root, index) -> assertThat(indices.get(root)).isEqualTo(index));
+  }
+}
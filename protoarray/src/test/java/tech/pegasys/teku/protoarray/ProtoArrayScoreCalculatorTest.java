@@ -21,9 +21,7 @@ import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.getHash;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,14 +31,14 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class ProtoArrayScoreCalculatorTest {
 
-  private Map<Bytes32, Integer> indices;
+  private ProtoArrayIndices indices;
   private List<UInt64> oldBalances;
   private List<UInt64> newBalances;
   private MutableStore store;
 
   @BeforeEach
   void setUp() {
-    indices = new HashMap<>();
+    indices = new ProtoArrayIndices();
     oldBalances = new ArrayList<>();
     newBalances = new ArrayList<>();
     store = createStoreToManipulateVotes();
@@ -57,7 +55,7 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(ZERO);
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
     // Deltas should all be zero
@@ -76,11 +74,11 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
-    for (int i = 0; i < deltas.size(); i++) {
-      long delta = deltas.get(i);
+    for (int i = 0; i < deltas.length; i++) {
+      long delta = deltas[i];
       if (i == 0) {
         // Zero'th root should have a delta
         assertThat(delta).isEqualTo(BALANCE.longValue() * Integer.toUnsignedLong(validatorCount));
@@ -105,7 +103,7 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
     // Each root should have the same delta
@@ -128,13 +126,13 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
 
     assertThat(deltas).hasSize(validatorCount);
     long totalDelta = BALANCE.longValue() * Integer.toUnsignedLong(validatorCount);
 
-    for (int i = 0; i < deltas.size(); i++) {
-      long delta = deltas.get(i);
+    for (int i = 0; i < deltas.length; i++) {
+      long delta = deltas[i];
       if (i == 0) {
         // Zero'th root should have a negative delta
         assertThat(delta).isEqualTo(-totalDelta);
@@ -171,11 +169,11 @@ public class ProtoArrayScoreCalculatorTest {
     validator2vote.setCurrentRoot(getHash(1));
     validator2vote.setNextRoot(getHash(1337));
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(1);
 
     // The block should have lost both balances
-    assertThat(deltas.get(0)).isEqualTo(-BALANCE.longValue() * 2);
+    assertThat(deltas[0]).isEqualTo(-BALANCE.longValue() * 2);
 
     votesShouldBeUpdated(store);
   }
@@ -197,11 +195,11 @@ public class ProtoArrayScoreCalculatorTest {
       newBalances.add(NEW_BALANCE);
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(validatorCount);
 
-    for (int i = 0; i < deltas.size(); i++) {
-      long delta = deltas.get(i);
+    for (int i = 0; i < deltas.length; i++) {
+      long delta = deltas[i];
       if (i == 0) {
         // Zero'th root should have a negative delta
         assertThat(delta).isEqualTo(-OLD_BALANCE.longValue() * validatorCount);
@@ -238,14 +236,14 @@ public class ProtoArrayScoreCalculatorTest {
       vote.setNextRoot(getHash(2));
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(2);
 
     // Block 1 should have only lost one balance
-    assertThat(deltas.get(0)).isEqualTo(-BALANCE.longValue());
+    assertThat(deltas[0]).isEqualTo(-BALANCE.longValue());
 
     // Block 2 should have gained two balances
-    assertThat(deltas.get(1)).isEqualTo(2 * BALANCE.longValue());
+    assertThat(deltas[1]).isEqualTo(2 * BALANCE.longValue());
 
     votesShouldBeUpdated(store);
   }
@@ -271,18 +269,42 @@ public class ProtoArrayScoreCalculatorTest {
       vote.setNextRoot(getHash(2));
     }
 
-    List<Long> deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
+    long[] deltas = computeDeltas(store, indices.size(), indices, oldBalances, newBalances);
     assertThat(deltas).hasSize(2);
 
     // Block 1 should have lost both balances
-    assertThat(deltas.get(0)).isEqualTo(-BALANCE.longValue() * 2);
+    assertThat(deltas[0]).isEqualTo(-BALANCE.longValue() * 2);
 
     // Block 2 should have only gained one balance
-    assertThat(deltas.get(1)).isEqualTo(BALANCE.longValue());
+    assertThat(deltas[1]).isEqualTo(BALANCE.longValue());
 
     votesShouldBeUpdated(store);
   }
 
+  @Test
+  void computeDeltas_onlySuppliedValidators() {
+    final UInt64 BALANCE = UInt64.valueOf(42);
+    final long[] deltas = new long[4];
+
+    indices.put(getHash(1), 0);
+    indices.put(getHash(2), 1);
+    oldBalances = Collections.nCopies(2, BALANCE);
+    newBalances = Collections.nCopies(2, BALANCE);
+
+    // Both validators move votes from block 1 to block 2 but only one is supplied
+    for (int i = 0; i < 2; i++) {
+      VoteTracker vote = store.getVote(UInt64.valueOf(i));
+      vote.setCurrentRoot(getHash(1));
+      vote.setNextRoot(getHash(2));
+    }
+
+    computeDeltas(store, List.of(UInt64.valueOf(1)), deltas, 2, indices, oldBalances, newBalances);
+
+    assertThat(deltas).containsExactly(-BALANCE.longValue(), BALANCE.longValue(), 0L, 0L);
+    assertThat(store.getVote(UInt64.valueOf(0)).getCurrentRoot()).isEqualTo(getHash(1));
+    assertThat(store.getVote(UInt64.valueOf(1)).getCurrentRoot()).isEqualTo(getHash(2));
+  }
+
   private void votesShouldBeUpdated(MutableStore store) {
     for (UInt64 i : store.getVotedValidatorIndices()) {
       VoteTracker vote = store.getVote(i);
@@ -17,9 +17,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.protoarray.ProtoArrayTestUtil.assertThatProtoArrayMatches;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
@@ -30,15 +27,12 @@ public class ProtoArraySnapshotTest {
 
   @Test
   void shouldProduceEqualProtoArray() {
-    List<ProtoNode> nodes = new ArrayList<>();
     ProtoArray protoArray1 =
         new ProtoArray(
             Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
             UInt64.valueOf(10),
             UInt64.valueOf(9),
-            UInt64.ZERO,
-            nodes,
-            new HashMap<>());
+            UInt64.ZERO);
 
     ProtoNode protoNode1 =
         new ProtoNode(
@@ -62,7 +56,7 @@ public class ProtoArraySnapshotTest {
         protoNode1.getFinalizedEpoch());
 
     // sanity check
-    assertThat(nodes.get(0)).isEqualTo(protoNode1);
+    assertThat(protoArray1.getNodes().get(0)).isEqualTo(protoNode1);
 
     ProtoArraySnapshot snaphot = ProtoArraySnapshot.create(protoArray1);
     ProtoArray protoArray2 = snaphot.toProtoArray();
@@ -72,15 +66,12 @@ public class ProtoArraySnapshotTest {
 
   @Test
   void shouldNotBeAlteredByChangesToOriginalProtoArray() {
-    List<ProtoNode> nodes = new ArrayList<>();
     ProtoArray protoArray1 =
         new ProtoArray(
             Constants.PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD,
             UInt64.valueOf(10),
             UInt64.valueOf(9),
-            UInt64.ZERO,
-            nodes,
-            new HashMap<>());
+            UInt64.ZERO);
 
     ProtoNode protoNode1 =
         new ProtoNode(
@@ -125,14 +116,20 @@ public class ProtoArraySnapshotTest {
         protoNode1.getFinalizedEpoch());
 
     // sanity check
-    assertThat(nodes.get(0)).isEqualTo(protoNode1);
+    assertThat(protoArray1.getNodes().get(0)).isEqualTo(protoNode1);
 
     ProtoArraySnapshot snaphot = ProtoArraySnapshot.create(protoArray1);
     ProtoArray protoArray2 = snaphot.toProtoArray();
 
     assertThatProtoArrayMatches(protoArray1, protoArray2);
 
-    nodes.set(0, protoNode2);
+    protoArray1.onBlock(
+        protoNode2.getBlockSlot(),
+        protoNode2.getBlockRoot(),
+        protoNode2.getParentRoot(),
+        protoNode2.getStateRoot(),
+        protoNode2.getJustifiedEpoch(),
+        protoNode2.getFinalizedEpoch());
 
     assertThatThrownBy(() -> assertThatProtoArrayMatches(protoArray1, protoArray2));
   }
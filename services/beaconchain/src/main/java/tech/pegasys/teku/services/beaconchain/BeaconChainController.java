@@ -33,6 +33,7 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -42,6 +43,7 @@ import tech.pegasys.teku.beaconrestapi.BeaconRestApi;
 import tech.pegasys.teku.core.BlockProposalUtil;
 import tech.pegasys.teku.core.ForkChoiceUtilWrapper;
 import tech.pegasys.teku.core.StateTransition;
+import tech.pegasys.teku.core.blockvalidator.BatchBlockValidator;
 import tech.pegasys.teku.core.operationsignatureverifiers.ProposerSlashingSignatureVerifier;
 import tech.pegasys.teku.core.operationsignatureverifiers.VoluntaryExitSignatureVerifier;
 import tech.pegasys.teku.core.operationvalidators.AttestationDataStateTransitionValidator;
@@ -60,6 +62,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.OverflowPolicy;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.Eth2Config;
@@ -94,6 +97,7 @@ import tech.pegasys.teku.statetransition.genesis.GenesisHandler;
 import tech.pegasys.teku.statetransition.util.FutureItems;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.statetransition.validation.AggregateAttestationValidator;
+import tech.pegasys.teku.statetransition.validation.AggregatingSignatureVerificationService;
 import tech.pegasys.teku.statetransition.validation.AttestationValidator;
 import tech.pegasys.teku.statetransition.validation.AttesterSlashingValidator;
 import tech.pegasys.teku.statetransition.validation.BlockValidator;
@@ -156,6 +160,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   private volatile ForkChoice forkChoice;
   private volatile StateTransition stateTransition;
+  private volatile ForkJoinPool blockSignatureVerificationPool;
   private volatile BlockImporter blockImporter;
   private volatile RecentChainData recentChainData;
   private volatile Eth2Network p2pNetwork;
@@ -164,6 +169,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private volatile DepositProvider depositProvider;
   private volatile SyncService syncService;
   private volatile AttestationManager attestationManager;
+  private volatile AggregatingSignatureVerificationService signatureVerificationService;
   private volatile CombinedChainDataClient combinedChainDataClient;
   private volatile Eth1DataCache eth1DataCache;
   private volatile SlotProcessor slotProcessor;
@@ -225,6 +231,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
     blockManager.subscribeToReceivedBlocks(
         (root) -> syncService.getRecentBlockFetcher().cancelRecentBlockRequest(root));
     SafeFuture.allOfFailFast(
+            signatureVerificationService.start(),
             attestationManager.start(),
             p2pNetwork.start(),
             blockManager.start(),
@@ -252,9 +259,11 @@ public class BeaconChainController extends Service implements TimeTickChannel {
         SafeFuture.fromRunnable(() -> eventBus.unregister(this)),
         SafeFuture.fromRunnable(() -> beaconRestAPI.ifPresent(BeaconRestApi::stop)),
         SafeFuture.fromRunnable(() -> forkChoiceExecutor.stop()),
+        SafeFuture.fromRunnable(() -> blockSignatureVerificationPool.shutdownNow()),
         syncService.stop(),
         blockManager.stop(),
         attestationManager.stop(),
+        signatureVerificationService.stop(),
         p2pNetwork.stop());
   }
 
@@ -304,7 +313,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             client -> {
               // Init other services
               this.initAll();
-              eventChannels.subscribe(TimeTickChannel.class, this);
+              // Each tick reads the current time, so ticks queued while busy are redundant
+              eventChannels.subscribe(TimeTickChannel.class, this, OverflowPolicy.COALESCE);
 
               recentChainData.subscribeStoreInitialized(this::onStoreInitialized);
               recentChainData.subscribeBestBlockInitialized(this::startServices);
@@ -417,13 +427,18 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   private void initStateTransition() {
     LOG.debug("BeaconChainController.initStateTransition()");
-    stateTransition = new StateTransition();
+    blockSignatureVerificationPool =
+        new ForkJoinPool(config.getBlockSignatureVerificationThreads());
+    stateTransition =
+        new StateTransition(new BatchBlockValidator(blockSignatureVerificationPool));
   }
 
   private void initForkChoice() {
     LOG.debug("BeaconChainController.initForkChoice()");
     forkChoiceExecutor = SingleThreadedForkChoiceExecutor.create();
-    forkChoice = new ForkChoice(forkChoiceExecutor, recentChainData, stateTransition);
+    forkChoice =
+        new ForkChoice(
+            forkChoiceExecutor, recentChainData, stateTransition, blockSignatureVerificationPool);
   }
 
   public void initMetrics() {
@@ -514,10 +529,16 @@ public class BeaconChainController extends Service implements TimeTickChannel {
     final FutureItems<ValidateableAttestation> futureAttestations =
         FutureItems.create(
             ValidateableAttestation::getEarliestSlotForForkChoiceProcessing, UInt64.valueOf(3));
+    // Leave half the cores for block import and other processing
+    signatureVerificationService =
+        AggregatingSignatureVerificationService.create(
+            metricsSystem, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
     AttestationValidator attestationValidator =
-        new AttestationValidator(recentChainData, new ForkChoiceUtilWrapper());
+        new AttestationValidator(
+            recentChainData, new ForkChoiceUtilWrapper(), signatureVerificationService);
     AggregateAttestationValidator aggregateValidator =
-        new AggregateAttestationValidator(recentChainData, attestationValidator);
+        new AggregateAttestationValidator(
+            recentChainData, attestationValidator, signatureVerificationService);
     blockImporter.subscribeToVerifiedBlockAttestations(
         (attestations) ->
             attestations.forEach(
@@ -669,7 +690,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
     LOG.debug("BeaconChainController.initAttestationPool()");
     attestationPool =
         new AggregatingAttestationPool(
-            new AttestationDataStateTransitionValidator(), metricsSystem);
+            new AttestationDataStateTransitionValidator(), metricsSystem, timeProvider);
     eventChannels.subscribe(SlotEventsChannel.class, attestationPool);
     blockImporter.subscribeToVerifiedBlockAttestations(attestationPool::removeAll);
   }
@@ -26,11 +26,13 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.datastructures.blocks.NodeSlot;
 import tech.pegasys.teku.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.datastructures.state.PendingAttestation;
+import tech.pegasys.teku.datastructures.util.ShufflingCache;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -57,6 +59,10 @@ public class BeaconChainMetrics implements SlotEventsChannel {
   private final SettableGauge currentJustifiedRoot;
   private final SettableGauge previousJustifiedEpoch;
   private final SettableGauge previousJustifiedRoot;
+  private final Counter shufflingCacheHits;
+  private final Counter shufflingCacheMisses;
+  private long reportedShufflingCacheHits = 0;
+  private long reportedShufflingCacheMisses = 0;
 
   public BeaconChainMetrics(
       final RecentChainData recentChainData,
@@ -91,6 +97,16 @@ public class BeaconChainMetrics implements SlotEventsChannel {
         "peer_count",
         "Tracks number of connected peers, verified to be on the same chain",
         p2pNetwork::getPeerCount);
+    shufflingCacheHits =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "shuffling_cache_hits_total",
+            "Total number of committee shufflings found in the shuffling cache");
+    shufflingCacheMisses =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "shuffling_cache_misses_total",
+            "Total number of committee shufflings computed because they weren't cached");
 
     finalizedEpoch =
         SettableGauge.create(
@@ -166,9 +182,22 @@ public class BeaconChainMetrics implements SlotEventsChannel {
 
   @Override
   public void onSlot(final UInt64 slot) {
+    updateShufflingCacheMetrics();
     recentChainData.getChainHead().ifPresent(this::updateMetrics);
   }
 
+  private void updateShufflingCacheMetrics() {
+    // The shuffling cache is shared by all states and has no access to the metrics system so its
+    // totals are added to the counters as they change
+    final ShufflingCache shufflingCache = ShufflingCache.getInstance();
+    final long hits = shufflingCache.getHitCount();
+    final long misses = shufflingCache.getMissCount();
+    shufflingCacheHits.inc(hits - reportedShufflingCacheHits);
+    shufflingCacheMisses.inc(misses - reportedShufflingCacheMisses);
+    reportedShufflingCacheHits = hits;
+    reportedShufflingCacheMisses = misses;
+  }
+
   private void updateMetrics(final StateAndBlockSummary head) {
     final BeaconState state = head.getState();
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.SSZTypes;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.backing.UInt64ListViewRead;
+import tech.pegasys.teku.ssz.backing.UInt64ListViewWrite;
+import tech.pegasys.teku.ssz.backing.view.AbstractBasicView;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+
+/** {@link SSZBackingList} of uint64 values which reads and writes the packed values directly. */
+public class SSZBackingUInt64List extends SSZBackingList<UInt64, UInt64View>
+    implements SSZMutableUInt64List {
+
+  private final UInt64ListViewRead delegate;
+
+  public SSZBackingUInt64List(UInt64ListViewRead delegate) {
+    super(UInt64.class, delegate, UInt64View::new, AbstractBasicView::get);
+    this.delegate = delegate;
+  }
+
+  @Override
+  public long getLong(int index) {
+    return delegate.getLong(index);
+  }
+
+  @Override
+  public void setLong(int index, long value) {
+    // temporary workaround to have a single implementation class
+    ((UInt64ListViewWrite) delegate).setLong(index, value);
+  }
+
+  @Override
+  public UInt64 get(int index) {
+    return UInt64.fromLongBits(getLong(index));
+  }
+
+  @Override
+  public void set(int index, UInt64 element) {
+    setLong(index, element.longValue());
+  }
+
+  @Override
+  public void add(UInt64 element) {
+    setLong(size(), element.longValue());
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.SSZTypes;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/** List of uint64 values which can be read without allocating a {@link UInt64} per element. */
+public interface SSZUInt64List extends SSZList<UInt64> {
+
+  /**
+   * Returns the element at the specified position as the bits of an unsigned long.
+   *
+   * @param index index of the element to return
+   * @return the element at the specified position in this list
+   */
+  long getLong(int index);
+}
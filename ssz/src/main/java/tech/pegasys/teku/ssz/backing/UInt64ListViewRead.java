@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing;
+
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+
+/**
+ * Immutable list of uint64 values packed four per chunk, which can be read as primitive {@code
+ * long}s without creating a view per element.
+ */
+public interface UInt64ListViewRead extends ListViewRead<UInt64View> {
+
+  /**
+   * Returns the element at {@code index} as the bits of an unsigned long
+   *
+   * @throws IndexOutOfBoundsException if index >= size()
+   */
+  long getLong(int index);
+
+  @Override
+  UInt64ListViewWrite createWritableCopy();
+}
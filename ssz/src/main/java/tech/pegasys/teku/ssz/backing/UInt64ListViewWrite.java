@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing;
+
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+
+/**
+ * Mutable list of uint64 values which can be updated with primitive {@code long}s. Changed chunks
+ * are accumulated and applied to the backing tree in a single pass on {@link #commitChanges()}.
+ */
+public interface UInt64ListViewWrite extends UInt64ListViewRead, ListViewWrite<UInt64View> {
+
+  /**
+   * Sets the element at {@code index} from the bits of an unsigned long. Setting the element at
+   * {@code size()} appends it.
+   *
+   * @throws IndexOutOfBoundsException if index > size() or the max length would be exceeded
+   */
+  void setLong(int index, long value);
+
+  /** Appends a new element to the end of the list. */
+  default void appendLong(long value) {
+    setLong(size(), value);
+  }
+
+  @Override
+  UInt64ListViewRead commitChanges();
+}
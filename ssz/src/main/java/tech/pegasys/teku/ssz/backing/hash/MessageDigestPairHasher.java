@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.hash;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hashes pairs with the JCA SHA-256 {@link MessageDigest}, which the JVM may replace with CPU
+ * intrinsics (e.g. the SHA extensions) where available.
+ *
+ * <p>The digest instance is reused for every pair so instances are not thread-safe.
+ */
+public final class MessageDigestPairHasher implements PairHasher {
+  private final MessageDigest digest;
+
+  public MessageDigestPairHasher() {
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  @Override
+  public void hashPair(
+      final byte[] input, final int inputOffset, final byte[] output, final int outputOffset) {
+    digest.update(input, inputOffset, 64);
+    try {
+      digest.digest(output, outputOffset, 32);
+    } catch (final DigestException e) {
+      throw new IllegalStateException("Failed to compute SHA-256 digest", e);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.hash;
+
+/**
+ * Computes SHA-256 digests of 64 byte inputs, i.e. the concatenation of two 32 byte roots, which
+ * is the only hash required to merkleize SSZ trees.
+ *
+ * <p>Implementations hash directly between caller supplied arrays so that hashing many pairs
+ * requires no allocation per pair. Implementations are not required to be thread-safe, see {@link
+ * PairHashers} for access to a per-thread instance.
+ */
+public interface PairHasher {
+
+  /**
+   * Hashes the 64 bytes of {@code input} starting at {@code inputOffset} and writes the 32 byte
+   * digest to {@code output} starting at {@code outputOffset}.
+   */
+  void hashPair(byte[] input, int inputOffset, byte[] output, int outputOffset);
+
+  /**
+   * Hashes {@code count} consecutive 64 byte inputs, writing the consecutive 32 byte digests to
+   * {@code output}. Implementations may override this to hash multiple pairs at once.
+   */
+  default void hashPairs(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    for (int i = 0; i < count; i++) {
+      hashPair(input, inputOffset + i * 64, output, outputOffset + i * 32);
+    }
+  }
+}
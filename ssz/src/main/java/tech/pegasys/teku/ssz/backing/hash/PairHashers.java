@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.hash;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Provides the {@link PairHasher} used for merkleization.
+ *
+ * <p>Each thread gets its own hasher instance, created by the configured factory. The default is
+ * {@link MessageDigestPairHasher}, which benefits from the JVM SHA-256 intrinsics. Native backends
+ * can be plugged in with {@link #setHasherFactory(Supplier)} before any hashing takes place.
+ */
+public final class PairHashers {
+  private static volatile Supplier<PairHasher> hasherFactory = MessageDigestPairHasher::new;
+
+  private static volatile ThreadLocal<PairHasher> hashers = ThreadLocal.withInitial(hasherFactory);
+
+  private PairHashers() {}
+
+  /**
+   * Sets the factory used to create hashers. Threads which have already hashed will continue to use
+   * their existing hasher.
+   */
+  public static void setHasherFactory(final Supplier<PairHasher> factory) {
+    checkNotNull(factory, "Hasher factory must not be null");
+    hasherFactory = factory;
+    hashers = ThreadLocal.withInitial(factory);
+  }
+
+  /** Returns the hasher for the current thread. The returned hasher must not be shared. */
+  public static PairHasher get() {
+    return hashers.get();
+  }
+
+  /** Returns the SHA-256 digest of the concatenation of {@code left} and {@code right}. */
+  public static Bytes32 hashPair(final Bytes32 left, final Bytes32 right) {
+    final byte[] buffer = new byte[64];
+    System.arraycopy(left.toArrayUnsafe(), 0, buffer, 0, 32);
+    System.arraycopy(right.toArrayUnsafe(), 0, buffer, 32, 32);
+    final byte[] output = new byte[32];
+    get().hashPair(buffer, 0, output, 0);
+    return Bytes32.wrap(output);
+  }
+}
@@ -23,10 +23,9 @@ import static tech.pegasys.teku.ssz.backing.tree.GIndexUtil.gIdxLeftGIndex;
 import static tech.pegasys.teku.ssz.backing.tree.GIndexUtil.gIdxRightGIndex;
 
 import java.util.function.Function;
-import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.crypto.Hash;
 import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.ssz.backing.hash.PairHashers;
 import tech.pegasys.teku.ssz.backing.tree.GIndexUtil.NodeRelation;
 import tech.pegasys.teku.ssz.backing.tree.TreeNodeImpl.BranchNodeImpl;
 
@@ -70,7 +69,7 @@ public interface BranchNode extends TreeNode {
 
   @Override
   default Bytes32 hashTreeRoot() {
-    return Hash.sha2_256(Bytes.concatenate(left().hashTreeRoot(), right().hashTreeRoot()));
+    return PairHashers.hashPair(left().hashTreeRoot(), right().hashTreeRoot());
   }
 
   @NotNull
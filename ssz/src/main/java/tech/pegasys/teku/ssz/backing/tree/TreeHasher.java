@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ssz.backing.hash.PairHasher;
+import tech.pegasys.teku.ssz.backing.hash.PairHashers;
+import tech.pegasys.teku.ssz.backing.tree.TreeNodeImpl.BranchNodeImpl;
+
+/**
+ * Computes the hash tree roots of all unhashed branch nodes beneath a root, level by level.
+ *
+ * <p>Unhashed nodes are grouped by their height above the nearest hashed node, so every node in a
+ * level only depends on nodes of lower levels. Each level is then hashed in batches of 64 byte
+ * pairs through a single {@link PairHasher} call, using input and output buffers that are reused
+ * for the whole tree.
+ *
+ * <p>Nodes within a level are independent of each other, so levels with many nodes, such as the
+ * lower levels of a freshly updated validators or balances list, are split into batches hashed in
+ * parallel on a {@link ForkJoinPool}. Smaller levels are hashed on the calling thread.
+ *
+ * <p>When only a single leaf has changed the unhashed nodes form a single path from the root, which
+ * is hashed directly without grouping nodes into levels.
+ */
+final class TreeHasher {
+  static final int MAX_BATCH_SIZE = 1024;
+  static final int PARALLEL_LEVEL_THRESHOLD = 4 * MAX_BATCH_SIZE;
+
+  private static final ForkJoinPool DEFAULT_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+  // Nodes may be shared within a tree (e.g. default subtrees) so heights are memoized by identity
+  private final Map<BranchNodeImpl, Integer> heights = new IdentityHashMap<>();
+  private final List<List<BranchNodeImpl>> levels = new ArrayList<>();
+
+  private final ForkJoinPool pool;
+
+  private TreeHasher(final ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /** Hashes {@code root} and every unhashed branch node beneath it. */
+  static void hash(final BranchNodeImpl root) {
+    hash(root, DEFAULT_POOL);
+  }
+
+  /**
+   * Hashes {@code root} and every unhashed branch node beneath it, hashing large levels on {@code
+   * pool}.
+   */
+  static void hash(final BranchNodeImpl root, final ForkJoinPool pool) {
+    if (isSinglePath(root)) {
+      hashPath(root, new byte[64], PairHashers.get());
+      return;
+    }
+    final TreeHasher treeHasher = new TreeHasher(pool);
+    treeHasher.collect(root);
+    treeHasher.hashLevels();
+  }
+
+  private static boolean isSinglePath(final BranchNodeImpl root) {
+    BranchNodeImpl node = root;
+    while (true) {
+      final boolean leftUnhashed = isUnhashedBranch(node.left());
+      final boolean rightUnhashed = isUnhashedBranch(node.right());
+      if (leftUnhashed && rightUnhashed) {
+        return false;
+      }
+      if (!leftUnhashed && !rightUnhashed) {
+        return true;
+      }
+      node = (BranchNodeImpl) (leftUnhashed ? node.left() : node.right());
+    }
+  }
+
+  private static void hashPath(
+      final BranchNodeImpl node, final byte[] input, final PairHasher hasher) {
+    if (isUnhashedBranch(node.left())) {
+      hashPath((BranchNodeImpl) node.left(), input, hasher);
+    } else if (isUnhashedBranch(node.right())) {
+      hashPath((BranchNodeImpl) node.right(), input, hasher);
+    }
+    copyRoot(node.left(), input, 0);
+    copyRoot(node.right(), input, 32);
+    final byte[] output = new byte[32];
+    hasher.hashPair(input, 0, output, 0);
+    node.setHash(Bytes32.wrap(output));
+  }
+
+  private static boolean isUnhashedBranch(final TreeNode node) {
+    return node instanceof BranchNodeImpl && !((BranchNodeImpl) node).isHashed();
+  }
+
+  private int collect(final TreeNode node) {
+    if (!(node instanceof BranchNodeImpl)) {
+      return 0;
+    }
+    final BranchNodeImpl branch = (BranchNodeImpl) node;
+    if (branch.isHashed()) {
+      return 0;
+    }
+    final Integer knownHeight = heights.get(branch);
+    if (knownHeight != null) {
+      return knownHeight;
+    }
+    final int height = 1 + Math.max(collect(branch.left()), collect(branch.right()));
+    heights.put(branch, height);
+    while (levels.size() < height) {
+      levels.add(new ArrayList<>());
+    }
+    levels.get(height - 1).add(branch);
+    return height;
+  }
+
+  private void hashLevels() {
+    final int maxLevelSize = levels.stream().mapToInt(List::size).max().orElse(0);
+    final int batchSize = Math.min(maxLevelSize, MAX_BATCH_SIZE);
+    final byte[] input = new byte[batchSize * 64];
+    final byte[] output = new byte[batchSize * 32];
+    final PairHasher hasher = PairHashers.get();
+    final boolean parallel = pool.getParallelism() > 1;
+
+    for (List<BranchNodeImpl> level : levels) {
+      if (parallel && level.size() >= PARALLEL_LEVEL_THRESHOLD) {
+        pool.invoke(new HashLevelTask(level, 0, level.size()));
+        continue;
+      }
+      for (int start = 0; start < level.size(); start += batchSize) {
+        final int count = Math.min(batchSize, level.size() - start);
+        hashBatch(level, start, count, input, output, hasher);
+      }
+    }
+  }
+
+  private static void hashBatch(
+      final List<BranchNodeImpl> level,
+      final int start,
+      final int count,
+      final byte[] input,
+      final byte[] output,
+      final PairHasher hasher) {
+    for (int i = 0; i < count; i++) {
+      final BranchNodeImpl node = level.get(start + i);
+      copyRoot(node.left(), input, i * 64);
+      copyRoot(node.right(), input, i * 64 + 32);
+    }
+    hasher.hashPairs(input, 0, output, 0, count);
+    for (int i = 0; i < count; i++) {
+      final int offset = i * 32;
+      final Bytes32 hash = Bytes32.wrap(Arrays.copyOfRange(output, offset, offset + 32));
+      level.get(start + i).setHash(hash);
+    }
+  }
+
+  private static void copyRoot(final TreeNode node, final byte[] dest, final int offset) {
+    System.arraycopy(node.hashTreeRoot().toArrayUnsafe(), 0, dest, offset, 32);
+  }
+
+  /** Recursively splits a range of a level in half until each task hashes a single batch. */
+  private static class HashLevelTask extends RecursiveAction {
+    private final List<BranchNodeImpl> level;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private HashLevelTask(
+        final List<BranchNodeImpl> level, final int fromIndex, final int toIndex) {
+      this.level = level;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected void compute() {
+      final int count = toIndex - fromIndex;
+      if (count <= MAX_BATCH_SIZE) {
+        hashBatch(
+            level, fromIndex, count, new byte[count * 64], new byte[count * 32], PairHashers.get());
+        return;
+      }
+      final int midIndex = fromIndex + count / 2;
+      invokeAll(
+          new HashLevelTask(level, fromIndex, midIndex),
+          new HashLevelTask(level, midIndex, toIndex));
+    }
+  }
+}
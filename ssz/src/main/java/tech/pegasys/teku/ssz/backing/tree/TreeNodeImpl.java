@@ -121,10 +121,29 @@ abstract class TreeNodeImpl implements TreeNode {
 
     @Override
     public Bytes32 hashTreeRoot() {
-      if (cachedHash == null) {
-        cachedHash = BranchNode.super.hashTreeRoot();
+      Bytes32 hash = cachedHash;
+      if (hash == null) {
+        if (isHashedOrNotBranch(left) && isHashedOrNotBranch(right)) {
+          hash = BranchNode.super.hashTreeRoot();
+          cachedHash = hash;
+        } else {
+          TreeHasher.hash(this);
+          hash = cachedHash;
+        }
       }
-      return cachedHash;
+      return hash;
+    }
+
+    boolean isHashed() {
+      return cachedHash != null;
+    }
+
+    void setHash(final Bytes32 hash) {
+      cachedHash = hash;
+    }
+
+    private static boolean isHashedOrNotBranch(final TreeNode node) {
+      return !(node instanceof BranchNodeImpl) || ((BranchNodeImpl) node).isHashed();
     }
 
     @Override
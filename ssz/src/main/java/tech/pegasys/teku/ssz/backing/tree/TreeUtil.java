@@ -99,7 +99,11 @@ public class TreeUtil {
     }
   }
 
-  private static TreeNode createTree(List<TreeNode> leafNodes, int depth) {
+  /**
+   * Creates a binary tree of the specified depth with specific leaf nodes. Leaves missing to the
+   * full tree width are zero leaves
+   */
+  public static TreeNode createTree(List<TreeNode> leafNodes, int depth) {
     if (leafNodes.isEmpty()) {
       return ZERO_TREES[depth];
     } else if (depth == 0) {
@@ -142,8 +146,7 @@ public class TreeUtil {
    * index {@code toGeneralIndex} inclusive (including all node descendants if this is a branch
    * node). On every {@link LeafNode} the supplied {@code visitor} is invoked.
    */
-  @VisibleForTesting
-  static void iterateLeaves(
+  public static void iterateLeaves(
       TreeNode node, long fromGeneralIndex, long toGeneralIndex, Consumer<LeafNode> visitor) {
     node.iterateRange(
         fromGeneralIndex,
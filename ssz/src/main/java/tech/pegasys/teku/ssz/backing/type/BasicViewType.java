@@ -76,6 +76,16 @@ public abstract class BasicViewType<C extends ViewRead> implements ViewType {
     return 0;
   }
 
+  @Override
+  public TreeNode sszDeserializeTree(Bytes ssz) {
+    checkArgument(
+        ssz.size() == getSSZBytesSize(),
+        "Expected %s SSZ bytes for basic type, but got %s",
+        getSSZBytesSize(),
+        ssz.size());
+    return LeafNode.create(ssz.copy());
+  }
+
   @Override
   public int sszSerialize(TreeNode node, Consumer<Bytes> writer) {
     Bytes ret = node.hashTreeRoot().slice(0, getSSZBytesSize());
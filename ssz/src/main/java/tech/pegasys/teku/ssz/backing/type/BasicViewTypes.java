@@ -59,6 +59,13 @@ public class BasicViewTypes {
         public TreeNode getDefaultTree() {
           return LeafNode.ZERO_LEAVES[1];
         }
+
+        @Override
+        public TreeNode sszDeserializeTree(Bytes ssz) {
+          checkArgument(
+              ssz.size() == 1 && (ssz.get(0) & 0xFF) <= 1, "Invalid SSZ boolean: %s", ssz);
+          return super.sszDeserializeTree(ssz);
+        }
       };
 
   public static final BasicViewType<ByteView> BYTE_TYPE =
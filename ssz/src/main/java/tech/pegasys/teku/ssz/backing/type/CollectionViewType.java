@@ -13,9 +13,15 @@
 
 package tech.pegasys.teku.ssz.backing.type;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 import tech.pegasys.teku.ssz.backing.tree.TreeUtil;
 
@@ -79,31 +85,49 @@ public abstract class CollectionViewType implements CompositeViewType {
    *     ListViewType} - the left sibling node of list size node
    */
   protected int sszSerializeVector(TreeNode vectorNode, Consumer<Bytes> writer, int elementsCount) {
-    if (getElementType().isFixedSize()) {
-      return sszSerializeFixedVectorFast(vectorNode, writer, elementsCount);
+    if (getElementType() instanceof BasicViewType) {
+      return sszSerializePackedVector(vectorNode, writer, elementsCount);
+    } else if (getElementType().isFixedSize()) {
+      return sszSerializeFixedCompositeVector(vectorNode, writer, elementsCount);
     } else {
       return sszSerializeVariableVector(vectorNode, writer, elementsCount);
     }
   }
 
-  private int sszSerializeFixedVectorFast(
+  private int sszSerializePackedVector(
       TreeNode vectorNode, Consumer<Bytes> writer, int elementsCount) {
     if (elementsCount == 0) {
       return 0;
     }
     int nodesCount = getChunks(elementsCount);
+    int bytesCount = (int) (((long) elementsCount * getElementType().getBitsSize() + 7) / 8);
     int[] bytesCnt = new int[1];
-    TreeUtil.iterateLeavesData(
+    // Leaf data may be stored either trimmed or padded to 32 bytes (e.g. when a tree is restored
+    // from its node roots) so only the bytes belonging to the elements are written
+    TreeUtil.iterateLeaves(
         vectorNode,
         getGeneralizedIndex(0),
         getGeneralizedIndex(nodesCount - 1),
-        leafData -> {
-          writer.accept(leafData);
-          bytesCnt[0] += leafData.size();
+        leaf -> {
+          int leafBytes = Math.min(Bytes32.SIZE, bytesCount - bytesCnt[0]);
+          writer.accept(leaf.hashTreeRoot().slice(0, leafBytes));
+          bytesCnt[0] += leafBytes;
         });
     return bytesCnt[0];
   }
 
+  private int sszSerializeFixedCompositeVector(
+      TreeNode vectorNode, Consumer<Bytes> writer, int elementsCount) {
+    // Each element is serialized by its own type as leaves of composite elements hold fields of
+    // differing sizes which may also be stored padded to 32 bytes
+    ViewType elementType = getElementType();
+    int size = 0;
+    for (int i = 0; i < elementsCount; i++) {
+      size += elementType.sszSerialize(vectorNode.get(getGeneralizedIndex(i)), writer);
+    }
+    return size;
+  }
+
   private int sszSerializeVariableVector(
       TreeNode vectorNode, Consumer<Bytes> writer, int elementsCount) {
     ViewType elementType = getElementType();
@@ -121,6 +145,66 @@ public abstract class CollectionViewType implements CompositeViewType {
     return variableOffset;
   }
 
+  /**
+   * Deserializes {@code elementsCount} elements into a vector tree
+   *
+   * @param ssz the SSZ bytes of exactly {@code elementsCount} elements. For packed bit elements
+   *     the bytes should not contain the Bitlist size bit
+   * @return for a {@link VectorViewType} type - the node itself, for a {@link ListViewType} - the
+   *     left sibling node of list size node
+   */
+  protected TreeNode sszDeserializeVector(Bytes ssz, int elementsCount) {
+    ViewType elementType = getElementType();
+    List<TreeNode> childNodes;
+    if (elementType instanceof BasicViewType) {
+      childNodes = sszDeserializePackedChunks(ssz, elementsCount);
+    } else if (elementType.isFixedSize()) {
+      int elementSize = elementType.getFixedPartSize();
+      checkArgument(
+          ssz.size() == elementsCount * elementSize,
+          "Expected %s SSZ bytes for %s elements, but got %s",
+          elementsCount * elementSize,
+          elementsCount,
+          ssz.size());
+      childNodes = new ArrayList<>(elementsCount);
+      for (int i = 0; i < elementsCount; i++) {
+        childNodes.add(elementType.sszDeserializeTree(ssz.slice(i * elementSize, elementSize)));
+      }
+    } else {
+      childNodes = new ArrayList<>(elementsCount);
+      int elementStart = elementsCount == 0 ? ssz.size() : SSZType.readOffset(ssz, 0);
+      checkArgument(
+          elementStart == elementsCount * SSZ_LENGTH_SIZE,
+          "Invalid first offset %s for %s elements",
+          elementStart,
+          elementsCount);
+      for (int i = 0; i < elementsCount; i++) {
+        int elementEnd =
+            i + 1 < elementsCount ? SSZType.readOffset(ssz, (i + 1) * SSZ_LENGTH_SIZE) : ssz.size();
+        checkArgument(elementEnd >= elementStart, "Decreasing SSZ offset: %s", elementEnd);
+        childNodes.add(
+            elementType.sszDeserializeTree(ssz.slice(elementStart, elementEnd - elementStart)));
+        elementStart = elementEnd;
+      }
+    }
+    return TreeUtil.createTree(childNodes, treeDepth());
+  }
+
+  private List<TreeNode> sszDeserializePackedChunks(Bytes ssz, int elementsCount) {
+    int bytesCount = (int) (((long) elementsCount * getElementType().getBitsSize() + 7) / 8);
+    checkArgument(
+        ssz.size() == bytesCount,
+        "Expected %s SSZ bytes for %s packed elements, but got %s",
+        bytesCount,
+        elementsCount,
+        ssz.size());
+    List<TreeNode> chunks = new ArrayList<>((bytesCount + Bytes32.SIZE - 1) / Bytes32.SIZE);
+    for (int off = 0; off < bytesCount; off += Bytes32.SIZE) {
+      chunks.add(LeafNode.create(ssz.slice(off, Math.min(Bytes32.SIZE, bytesCount - off)).copy()));
+    }
+    return chunks;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
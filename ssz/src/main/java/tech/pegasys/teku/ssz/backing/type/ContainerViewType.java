@@ -13,7 +13,10 @@
 
 package tech.pegasys.teku.ssz.backing.type;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -151,4 +154,61 @@ public class ContainerViewType<C extends ContainerViewRead> implements Composite
     }
     return variableChildOffset;
   }
+
+  @Override
+  public C sszDeserialize(Bytes ssz) {
+    return createFromBackingNode(sszDeserializeTree(ssz));
+  }
+
+  @Override
+  public TreeNode sszDeserializeTree(Bytes ssz) {
+    int fixedPartSize = getFixedPartSize();
+    SSZType.checkSszSize(ssz, fixedPartSize);
+    TreeNode[] childNodes = new TreeNode[getChildCount()];
+    int[] variableOffsets = new int[getChildCount()];
+    int lastVariableChild = -1;
+    int fixedOffset = 0;
+    for (int i = 0; i < getChildCount(); i++) {
+      ViewType childType = getChildType(i);
+      if (childType.isFixedSize()) {
+        int childSize = childType.getFixedPartSize();
+        childNodes[i] = childType.sszDeserializeTree(ssz.slice(fixedOffset, childSize));
+        fixedOffset += childSize;
+      } else {
+        int offset = SSZType.readOffset(ssz, fixedOffset);
+        if (lastVariableChild < 0) {
+          checkArgument(
+              offset == fixedPartSize,
+              "First variable child offset %s doesn't match fixed part size %s",
+              offset,
+              fixedPartSize);
+        } else {
+          checkArgument(
+              offset >= variableOffsets[lastVariableChild], "Decreasing SSZ offset: %s", offset);
+        }
+        variableOffsets[i] = offset;
+        lastVariableChild = i;
+        fixedOffset += SSZ_LENGTH_SIZE;
+      }
+    }
+    if (lastVariableChild < 0) {
+      checkArgument(
+          ssz.size() == fixedPartSize,
+          "Expected %s SSZ bytes, but got %s",
+          fixedPartSize,
+          ssz.size());
+    }
+
+    int variableEnd = ssz.size();
+    for (int i = lastVariableChild; i >= 0; i--) {
+      ViewType childType = getChildType(i);
+      if (!childType.isFixedSize()) {
+        int variableStart = variableOffsets[i];
+        childNodes[i] =
+            childType.sszDeserializeTree(ssz.slice(variableStart, variableEnd - variableStart));
+        variableEnd = variableStart;
+      }
+    }
+    return TreeUtil.createTree(Arrays.asList(childNodes), treeDepth());
+  }
 }
@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.ssz.backing.type;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteOrder;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.MutableBytes;
@@ -21,7 +24,9 @@ import tech.pegasys.teku.ssz.backing.ViewRead;
 import tech.pegasys.teku.ssz.backing.tree.BranchNode;
 import tech.pegasys.teku.ssz.backing.tree.LeafNode;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
 import tech.pegasys.teku.ssz.backing.view.ListViewReadImpl;
+import tech.pegasys.teku.ssz.backing.view.UInt64ListViewReadImpl;
 
 public class ListViewType<C extends ViewRead> extends CollectionViewType {
 
@@ -41,11 +46,16 @@ public class ListViewType<C extends ViewRead> extends CollectionViewType {
 
   @Override
   public ListViewRead<C> getDefault() {
-    return new ListViewReadImpl<C>(this, createDefaultTree());
+    return createFromBackingNode(createDefaultTree());
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public ListViewRead<C> createFromBackingNode(TreeNode node) {
+    if (getElementType() == BasicViewTypes.UINT64_TYPE) {
+      // Avoids creating a view per element when reading and updating e.g. balances
+      return (ListViewRead<C>) new UInt64ListViewReadImpl((ListViewType<UInt64View>) this, node);
+    }
     return new ListViewReadImpl<>(this, node);
   }
 
@@ -102,6 +112,52 @@ public class ListViewType<C extends ViewRead> extends CollectionViewType {
     }
   }
 
+  @Override
+  public TreeNode sszDeserializeTree(Bytes ssz) {
+    ViewType elementType = getElementType();
+    final int elementsCount;
+    final TreeNode vectorNode;
+    if (elementType.getBitsSize() == 1) {
+      // Bitlist is handled specially: the highest set bit of the last byte marks the size
+      SSZType.checkSszSize(ssz, 1);
+      int lastByte = ssz.get(ssz.size() - 1) & 0xFF;
+      checkArgument(lastByte != 0, "Bitlist size bit is missing");
+      int boundaryBitOff = 31 - Integer.numberOfLeadingZeros(lastByte);
+      elementsCount = (ssz.size() - 1) * 8 + boundaryBitOff;
+      checkMaxLength(elementsCount);
+      MutableBytes bits = MutableBytes.create((elementsCount + 7) / 8);
+      ssz.slice(0, bits.size()).copyTo(bits, 0);
+      if (boundaryBitOff > 0) {
+        bits.set(bits.size() - 1, (byte) (lastByte & ~(1 << boundaryBitOff)));
+      }
+      vectorNode = sszDeserializeVector(bits, elementsCount);
+    } else {
+      if (elementType.isFixedSize()) {
+        int elementSize = elementType.getFixedPartSize();
+        checkArgument(
+            ssz.size() % elementSize == 0,
+            "SSZ size %s is not a multiple of element size %s",
+            ssz.size(),
+            elementSize);
+        elementsCount = ssz.size() / elementSize;
+      } else {
+        elementsCount = ssz.isEmpty() ? 0 : SSZType.readOffset(ssz, 0) / SSZ_LENGTH_SIZE;
+      }
+      checkMaxLength(elementsCount);
+      vectorNode = sszDeserializeVector(ssz, elementsCount);
+    }
+    return BranchNode.create(
+        vectorNode, LeafNode.create(Bytes.ofUnsignedLong(elementsCount, ByteOrder.LITTLE_ENDIAN)));
+  }
+
+  private void checkMaxLength(int elementsCount) {
+    checkArgument(
+        elementsCount <= getMaxLength(),
+        "List size %s exceeds max length %s",
+        elementsCount,
+        getMaxLength());
+  }
+
   private static int getLength(TreeNode listNode) {
     if (!(listNode instanceof BranchNode)) {
       throw new IllegalArgumentException("Expected BranchNode for List, but got " + listNode);
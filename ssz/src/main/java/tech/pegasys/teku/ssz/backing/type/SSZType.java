@@ -16,6 +16,7 @@ package tech.pegasys.teku.ssz.backing.type;
 import java.nio.ByteOrder;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 
 /** Collection of SSZ related methods for {@link ViewType} */
@@ -37,6 +38,25 @@ public interface SSZType {
     return bytes.slice(0, SSZ_LENGTH_SIZE).toInt(ByteOrder.LITTLE_ENDIAN);
   }
 
+  // reads SSZ 4 bytes offset at the specified position and checks it is within the ssz bytes
+  static int readOffset(Bytes ssz, int position) {
+    checkSszSize(ssz, position + SSZ_LENGTH_SIZE);
+    long offset = ssz.getInt(position, ByteOrder.LITTLE_ENDIAN) & 0xFFFFFFFFL;
+    if (offset > ssz.size()) {
+      throw new IllegalArgumentException(
+          "Offset " + offset + " is out of SSZ bounds of " + ssz.size() + " bytes");
+    }
+    return (int) offset;
+  }
+
+  // checks there are at least the specified number of ssz bytes
+  static void checkSszSize(Bytes ssz, int minSize) {
+    if (ssz.size() < minSize) {
+      throw new IllegalArgumentException(
+          "Expected at least " + minSize + " SSZ bytes, but got " + ssz.size());
+    }
+  }
+
   /** Indicates whether the type is fixed or variable size */
   boolean isFixedSize();
 
@@ -54,18 +74,31 @@ public interface SSZType {
   /** SSZ serializes the backing tree instance of this type */
   default Bytes sszSerialize(TreeNode node) {
     byte[] buf = new byte[getSszSize(node)];
-    sszSerialize(
+    sszSerialize(node, MutableBytes.wrap(buf), 0);
+    return Bytes.wrap(buf);
+  }
+
+  /**
+   * SSZ serializes the backing tree instance of this type straight into a pre-sized buffer
+   *
+   * @param dest the buffer which should have at least {@link #getSszSize(TreeNode)} bytes
+   *     available starting from {@code offset}
+   * @param offset the position in {@code dest} to start writing from
+   * @return the number of bytes written
+   */
+  default int sszSerialize(TreeNode node, MutableBytes dest, int offset) {
+    return sszSerialize(
         node,
         new Consumer<>() {
-          int off = 0;
+          int off = offset;
 
           @Override
           public void accept(Bytes bytes) {
-            System.arraycopy(bytes.toArrayUnsafe(), 0, buf, off, bytes.size());
+            // copyTo doesn't materialize slices of leaf data as separate arrays
+            bytes.copyTo(dest, off);
             off += bytes.size();
           }
         });
-    return Bytes.wrap(buf);
   }
 
   /**
@@ -73,4 +106,12 @@ public interface SSZType {
    * {@code writer}
    */
   int sszSerialize(TreeNode node, Consumer<Bytes> writer);
+
+  /**
+   * SSZ deserializes the bytes of this type straight into a backing tree, without creating any
+   * intermediate views. Leaf data is copied so the resulting tree doesn't hold on to {@code ssz}
+   *
+   * @throws IllegalArgumentException if {@code ssz} is not a valid SSZ representation of this type
+   */
+  TreeNode sszDeserializeTree(Bytes ssz);
 }
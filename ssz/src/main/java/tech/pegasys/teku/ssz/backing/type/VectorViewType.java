@@ -105,4 +105,9 @@ public class VectorViewType<C> extends CollectionViewType {
   public int sszSerialize(TreeNode node, Consumer<Bytes> writer) {
     return sszSerializeVector(node, writer, getLength());
   }
+
+  @Override
+  public TreeNode sszDeserializeTree(Bytes ssz) {
+    return sszDeserializeVector(ssz, getLength());
+  }
 }
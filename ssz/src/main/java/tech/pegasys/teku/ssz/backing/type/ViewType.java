@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.ssz.backing.type;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.ssz.backing.ViewRead;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 
@@ -37,6 +38,11 @@ public interface ViewType extends SSZType {
    */
   ViewRead createFromBackingNode(TreeNode node);
 
+  /** SSZ deserializes the bytes of this type into an immutable View over a new backing tree */
+  default ViewRead sszDeserialize(Bytes ssz) {
+    return createFromBackingNode(sszDeserializeTree(ssz));
+  }
+
   /** Creates a default immutable View */
   default ViewRead getDefault() {
     return createFromBackingNode(getDefaultTree());
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.view;
+
+import java.nio.ByteOrder;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.ssz.backing.UInt64ListViewRead;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode;
+import tech.pegasys.teku.ssz.backing.type.ListViewType;
+import tech.pegasys.teku.ssz.backing.type.VectorViewType;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+
+/**
+ * {@link ListViewReadImpl} for uint64 lists which reads elements directly from the packed leaf
+ * chunks of the backing tree.
+ */
+public class UInt64ListViewReadImpl extends ListViewReadImpl<UInt64View>
+    implements UInt64ListViewRead {
+  static final int ELEMENTS_PER_CHUNK = 4;
+
+  private final VectorViewType<UInt64View> vectorType;
+
+  public UInt64ListViewReadImpl(ListViewType<UInt64View> type, TreeNode node) {
+    super(type, node);
+    this.vectorType = type.getCompatibleVectorType();
+  }
+
+  @Override
+  public long getLong(int index) {
+    checkIndex(index);
+    return getLong(getChunk(index / ELEMENTS_PER_CHUNK), index % ELEMENTS_PER_CHUNK);
+  }
+
+  @Override
+  public UInt64ListViewWriteImpl createWritableCopy() {
+    return new UInt64ListViewWriteImpl(this);
+  }
+
+  TreeNode getChunk(int chunkIndex) {
+    final TreeNode vectorNode = ((BranchNode) getBackingNode()).left();
+    return vectorNode.get(vectorType.getGeneralizedIndex(chunkIndex));
+  }
+
+  VectorViewType<UInt64View> getVectorType() {
+    return vectorType;
+  }
+
+  /** Reads a little endian uint64 from a leaf chunk, which may omit trailing zero bytes. */
+  static long getLong(TreeNode chunk, int internalIndex) {
+    final Bytes data = ((LeafNode) chunk).getData();
+    final int offset = internalIndex * Long.BYTES;
+    if (data.size() >= offset + Long.BYTES) {
+      return data.getLong(offset, ByteOrder.LITTLE_ENDIAN);
+    }
+    long value = 0;
+    for (int i = offset; i < data.size(); i++) {
+      value |= (data.get(i) & 0xFFL) << (8 * (i - offset));
+    }
+    return value;
+  }
+}
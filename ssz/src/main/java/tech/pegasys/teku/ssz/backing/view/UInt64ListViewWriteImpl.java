@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.view;
+
+import static tech.pegasys.teku.ssz.backing.view.UInt64ListViewReadImpl.ELEMENTS_PER_CHUNK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.ssz.backing.UInt64ListViewRead;
+import tech.pegasys.teku.ssz.backing.UInt64ListViewWrite;
+import tech.pegasys.teku.ssz.backing.ViewWrite;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeUpdates;
+import tech.pegasys.teku.ssz.backing.type.ListViewType;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+
+/**
+ * Mutable uint64 list which keeps changed values as primitive {@code long}s grouped by chunk.
+ *
+ * <p>Unlike {@link ListViewWriteImpl} no view is created per changed element. On {@link
+ * #commitChanges()} every changed chunk is packed into a new leaf and all leaves are applied to the
+ * backing tree with a single {@link TreeUpdates} pass.
+ *
+ * <p>This class is NOT thread safe
+ */
+public class UInt64ListViewWriteImpl implements UInt64ListViewWrite {
+
+  private UInt64ListViewReadImpl backingImmutableView;
+  // Sorted by chunk index as required by TreeUpdates
+  private final TreeMap<Integer, long[]> changedChunks = new TreeMap<>();
+  private int lastChunkIndex = -1;
+  private long[] lastChunk;
+  private int size;
+  private Consumer<ViewWrite> invalidator;
+
+  public UInt64ListViewWriteImpl(UInt64ListViewReadImpl backingImmutableView) {
+    this.backingImmutableView = backingImmutableView;
+    this.size = backingImmutableView.size();
+  }
+
+  @Override
+  public long getLong(int index) {
+    checkIndex(index, false);
+    final int chunkIndex = index / ELEMENTS_PER_CHUNK;
+    final long[] chunk = chunkIndex == lastChunkIndex ? lastChunk : changedChunks.get(chunkIndex);
+    if (chunk != null) {
+      return chunk[index % ELEMENTS_PER_CHUNK];
+    }
+    return UInt64ListViewReadImpl.getLong(
+        backingImmutableView.getChunk(chunkIndex), index % ELEMENTS_PER_CHUNK);
+  }
+
+  @Override
+  public void setLong(int index, long value) {
+    checkIndex(index, true);
+    getOrCreateChunk(index / ELEMENTS_PER_CHUNK)[index % ELEMENTS_PER_CHUNK] = value;
+    if (index == size) {
+      size++;
+    }
+    invalidate();
+  }
+
+  private long[] getOrCreateChunk(int chunkIndex) {
+    if (chunkIndex == lastChunkIndex) {
+      return lastChunk;
+    }
+    long[] chunk = changedChunks.get(chunkIndex);
+    if (chunk == null) {
+      final TreeNode originalChunk = backingImmutableView.getChunk(chunkIndex);
+      chunk = new long[ELEMENTS_PER_CHUNK];
+      for (int i = 0; i < ELEMENTS_PER_CHUNK; i++) {
+        chunk[i] = UInt64ListViewReadImpl.getLong(originalChunk, i);
+      }
+      changedChunks.put(chunkIndex, chunk);
+    }
+    lastChunkIndex = chunkIndex;
+    lastChunk = chunk;
+    return chunk;
+  }
+
+  @Override
+  public UInt64View get(int index) {
+    return UInt64View.fromLong(getLong(index));
+  }
+
+  @Override
+  public void set(int index, UInt64View value) {
+    setLong(index, value.longValue());
+  }
+
+  @Override
+  public UInt64ListViewRead commitChanges() {
+    if (changedChunks.isEmpty() && size == backingImmutableView.size()) {
+      return backingImmutableView;
+    }
+    final List<TreeUpdates.Update> updates = new ArrayList<>(changedChunks.size());
+    for (Map.Entry<Integer, long[]> entry : changedChunks.entrySet()) {
+      updates.add(
+          new TreeUpdates.Update(
+              backingImmutableView.getVectorType().getGeneralizedIndex(entry.getKey()),
+              packChunk(entry.getValue())));
+    }
+    final TreeNode originalVectorNode =
+        ((BranchNode) backingImmutableView.getBackingNode()).left();
+    final TreeNode newVectorNode =
+        updates.isEmpty()
+            ? originalVectorNode
+            : originalVectorNode.updated(new TreeUpdates(updates));
+    final TreeNode newBackingNode =
+        BranchNode.create(newVectorNode, UInt64View.fromLong(size).getBackingNode());
+
+    // Continue from the committed view so subsequent commits only apply subsequent changes
+    backingImmutableView = new UInt64ListViewReadImpl(getType(), newBackingNode);
+    changedChunks.clear();
+    lastChunkIndex = -1;
+    lastChunk = null;
+    return backingImmutableView;
+  }
+
+  private static TreeNode packChunk(long[] chunk) {
+    final byte[] data = new byte[ELEMENTS_PER_CHUNK * Long.BYTES];
+    for (int i = 0; i < ELEMENTS_PER_CHUNK; i++) {
+      long value = chunk[i];
+      for (int b = 0; b < Long.BYTES; b++) {
+        data[i * Long.BYTES + b] = (byte) value;
+        value >>>= 8;
+      }
+    }
+    return LeafNode.create(Bytes.wrap(data));
+  }
+
+  @Override
+  public ListViewType<UInt64View> getType() {
+    return backingImmutableView.getType();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    backingImmutableView = (UInt64ListViewReadImpl) getType().getDefault();
+    changedChunks.clear();
+    lastChunkIndex = -1;
+    lastChunk = null;
+    size = 0;
+    invalidate();
+  }
+
+  @Override
+  public void setInvalidator(Consumer<ViewWrite> listener) {
+    invalidator = listener;
+  }
+
+  private void invalidate() {
+    if (invalidator != null) {
+      invalidator.accept(this);
+    }
+  }
+
+  protected void checkIndex(int index, boolean set) {
+    if ((!set && index >= size())
+        || (set && (index > size() || index >= getType().getMaxLength()))) {
+      throw new IndexOutOfBoundsException(
+          "Invalid index " + index + " for list with size " + size());
+    }
+  }
+
+  @Override
+  public UInt64ListViewWrite createWritableCopy() {
+    throw new UnsupportedOperationException("Creating a copy from writable list is not supported");
+  }
+}
@@ -23,6 +23,8 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 import tech.pegasys.teku.ssz.backing.type.BasicViewTypes;
 import tech.pegasys.teku.ssz.backing.type.ContainerViewType;
@@ -111,4 +113,13 @@ public class TestUtil {
       threadPool.shutdown();
     }
   }
+
+  /** Returns a copy of the tree with every leaf holding its data right padded to 32 bytes */
+  public static TreeNode padLeaves(TreeNode node) {
+    if (node instanceof LeafNode) {
+      return LeafNode.create(node.hashTreeRoot());
+    }
+    BranchNode branchNode = (BranchNode) node;
+    return BranchNode.create(padLeaves(branchNode.left()), padLeaves(branchNode.right()));
+  }
 }
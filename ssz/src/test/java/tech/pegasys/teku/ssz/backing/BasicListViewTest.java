@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.TestUtil;
 import tech.pegasys.teku.ssz.backing.tree.TreeNode;
 import tech.pegasys.teku.ssz.backing.type.BasicViewTypes;
 import tech.pegasys.teku.ssz.backing.type.ListViewType;
@@ -93,4 +94,20 @@ public class BasicListViewTest {
     listView.clear();
     assertThat(listView.commitChanges().hashTreeRoot()).isEqualTo(n0.hashTreeRoot());
   }
+
+  @Test
+  public void sszSerialize_shouldNotDependOnLeafDataPadding() {
+    ListViewType<UInt64View> listType = new ListViewType<>(BasicViewTypes.UINT64_TYPE, 7);
+    ListViewWrite<UInt64View> listView = listType.getDefault().createWritableCopy();
+    for (int i = 0; i < 5; i++) {
+      listView.append(new UInt64View(UInt64.valueOf(0x100 + i)));
+    }
+    ListViewRead<UInt64View> list = listView.commitChanges();
+
+    ListViewRead<UInt64View> paddedList =
+        listType.createFromBackingNode(TestUtil.padLeaves(list.getBackingNode()));
+
+    assertThat(paddedList.hashTreeRoot()).isEqualTo(list.hashTreeRoot());
+    assertThat(paddedList.sszSerialize()).isEqualTo(list.sszSerialize());
+  }
 }
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.ssz.backing;
 
+import static tech.pegasys.teku.ssz.TestUtil.padLeaves;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
@@ -38,4 +40,21 @@ public class BitlistViewTest {
       Assertions.assertThat(bitlist1).isEqualTo(bitlist);
     }
   }
+
+  @Test
+  public void sszSerialize_shouldNotDependOnLeafDataPadding() {
+    for (int size : new int[] {0, 7, 8, 100, 256, 300}) {
+      Bitlist bitlist = new Bitlist(size, 1024);
+      for (int i = 0; i < size; i += 3) {
+        bitlist.setBit(i);
+      }
+
+      ListViewRead<BitView> bitlistView = ViewUtils.createBitlistView(bitlist);
+      ListViewRead<BitView> paddedView =
+          bitlistView.getType().createFromBackingNode(padLeaves(bitlistView.getBackingNode()));
+
+      Assertions.assertThat(paddedView.sszSerialize()).isEqualTo(bitlistView.sszSerialize());
+      Assertions.assertThat(ViewUtils.getBitlist(paddedView)).isEqualTo(bitlist);
+    }
+  }
 }
@@ -19,6 +19,8 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.TestUtil;
+import tech.pegasys.teku.ssz.TestUtil.TestContainer;
 import tech.pegasys.teku.ssz.TestUtil.TestSubContainer;
 import tech.pegasys.teku.ssz.backing.type.ListViewType;
 
@@ -42,4 +44,27 @@ public class ListViewTest {
     ListViewRead<TestSubContainer> lr3 = lw3.commitChanges();
     assertThat(lr3.size()).isEqualTo(1);
   }
+
+  @Test
+  void sszSerialize_listOfFixedSizeContainers() {
+    ListViewType<TestContainer> type = new ListViewType<>(TestContainer.TYPE, 10);
+    for (int size : new int[] {0, 1, 3, 10}) {
+      ListViewWrite<TestContainer> list = type.getDefault().createWritableCopy();
+      Bytes expectedSsz = Bytes.EMPTY;
+      for (int i = 0; i < size; i++) {
+        TestContainer container =
+            new TestContainer(
+                new TestSubContainer(UInt64.valueOf(i), Bytes32.random()), UInt64.valueOf(i * 7));
+        list.append(container);
+        expectedSsz = Bytes.wrap(expectedSsz, container.sszSerialize());
+      }
+      ListViewRead<TestContainer> listView = list.commitChanges();
+
+      assertThat(listView.sszSerialize()).isEqualTo(expectedSsz);
+      assertThat(
+              type.createFromBackingNode(TestUtil.padLeaves(listView.getBackingNode()))
+                  .sszSerialize())
+          .isEqualTo(expectedSsz);
+    }
+  }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.SSZTypes.Bitlist;
+import tech.pegasys.teku.ssz.TestUtil.TestContainer;
+import tech.pegasys.teku.ssz.TestUtil.TestSubContainer;
+import tech.pegasys.teku.ssz.backing.type.BasicViewTypes;
+import tech.pegasys.teku.ssz.backing.type.ContainerViewType;
+import tech.pegasys.teku.ssz.backing.type.ListViewType;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.ByteView;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+import tech.pegasys.teku.ssz.backing.view.ContainerViewReadImpl;
+import tech.pegasys.teku.ssz.backing.view.ViewUtils;
+
+public class SszDeserializeTest {
+
+  private static final ListViewType<ByteView> BYTE_LIST_TYPE =
+      new ListViewType<>(BasicViewTypes.BYTE_TYPE, 100);
+  private static final ContainerViewType<ContainerViewReadImpl> VARIABLE_CONTAINER_TYPE =
+      new ContainerViewType<>(
+          List.of(BasicViewTypes.UINT64_TYPE, BYTE_LIST_TYPE, BYTE_LIST_TYPE),
+          ContainerViewReadImpl::new);
+
+  @Test
+  void uint64List() {
+    ListViewType<UInt64View> type = new ListViewType<>(BasicViewTypes.UINT64_TYPE, 100);
+    for (int size : new int[] {0, 1, 4, 5, 100}) {
+      UInt64ListViewWrite list = (UInt64ListViewWrite) type.getDefault().createWritableCopy();
+      for (int i = 0; i < size; i++) {
+        list.appendLong(i * 0x1_0000_0001L);
+      }
+      assertRoundTrip(list.commitChanges());
+    }
+  }
+
+  @Test
+  void bitlist() {
+    for (int size : new int[] {0, 1, 7, 8, 9, 255, 256, 257, 1000}) {
+      Bitlist bitlist = new Bitlist(size, 1024);
+      for (int i = 0; i < size; i += 3) {
+        bitlist.setBit(i);
+      }
+      ListViewRead<?> view = ViewUtils.createBitlistView(bitlist);
+      assertRoundTrip(view);
+      assertThat(view.getType().sszDeserialize(bitlist.serialize()).hashTreeRoot())
+          .isEqualTo(view.hashTreeRoot());
+    }
+  }
+
+  @Test
+  void bitlistWithoutSizeBit() {
+    ListViewRead<?> view = ViewUtils.createBitlistView(new Bitlist(8, 8));
+    assertThatThrownBy(() -> view.getType().sszDeserialize(Bytes.of(0xFF, 0)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void byteVector() {
+    assertRoundTrip(ViewUtils.createVectorFromBytes(Bytes.random(33)));
+  }
+
+  @Test
+  void fixedSizeContainer() {
+    assertRoundTrip(
+        new TestContainer(
+            new TestSubContainer(UInt64.valueOf(0x111), Bytes32.random()), UInt64.MAX_VALUE));
+  }
+
+  @Test
+  void variableSizeContainer() {
+    ContainerViewWrite container = VARIABLE_CONTAINER_TYPE.getDefault().createWritableCopy();
+    container.set(0, UInt64View.fromLong(42));
+    container.set(1, createByteList(3));
+    container.set(2, createByteList(40));
+    assertRoundTrip(container.commitChanges());
+    assertRoundTrip(VARIABLE_CONTAINER_TYPE.getDefault());
+  }
+
+  @Test
+  void listOfVariableSizeContainers() {
+    ListViewType<ContainerViewReadImpl> type = new ListViewType<>(VARIABLE_CONTAINER_TYPE, 10);
+    ListViewWrite<ContainerViewReadImpl> list = type.getDefault().createWritableCopy();
+    for (int i = 0; i < 3; i++) {
+      ContainerViewWrite container = VARIABLE_CONTAINER_TYPE.getDefault().createWritableCopy();
+      container.set(1, createByteList(i));
+      list.append((ContainerViewReadImpl) container.commitChanges());
+    }
+    assertRoundTrip(list.commitChanges());
+  }
+
+  @Test
+  void invalidContainerOffset() {
+    Bytes ssz = VARIABLE_CONTAINER_TYPE.getDefault().sszSerialize();
+    Bytes invalid = Bytes.wrap(ssz.slice(0, 8), Bytes.of(0, 0, 0, 0), ssz.slice(12));
+    assertThatThrownBy(() -> VARIABLE_CONTAINER_TYPE.sszDeserialize(invalid))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void trailingBytes() {
+    TestSubContainer container = new TestSubContainer(UInt64.ONE, Bytes32.ZERO);
+    Bytes ssz = Bytes.wrap(container.sszSerialize(), Bytes.of(0));
+    assertThatThrownBy(() -> TestSubContainer.TYPE.sszDeserialize(ssz))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ListViewRead<ByteView> createByteList(int size) {
+    ListViewWrite<ByteView> list = BYTE_LIST_TYPE.getDefault().createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      list.append(new ByteView((byte) i));
+    }
+    return list.commitChanges();
+  }
+
+  private static void assertRoundTrip(ViewRead view) {
+    Bytes ssz = view.sszSerialize();
+    ViewRead deserialized = view.getType().sszDeserialize(ssz);
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(view.hashTreeRoot());
+    assertThat(deserialized.sszSerialize()).isEqualTo(ssz);
+  }
+}
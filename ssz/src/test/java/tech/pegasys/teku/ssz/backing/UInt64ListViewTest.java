@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ssz.backing.type.BasicViewTypes;
+import tech.pegasys.teku.ssz.backing.type.ListViewType;
+import tech.pegasys.teku.ssz.backing.view.BasicViews.UInt64View;
+import tech.pegasys.teku.ssz.backing.view.ListViewReadImpl;
+
+public class UInt64ListViewTest {
+  private final ListViewType<UInt64View> listType =
+      new ListViewType<>(BasicViewTypes.UINT64_TYPE, 1024);
+
+  @Test
+  public void createFromBackingNode_shouldCreatePackedView() {
+    assertThat(listType.getDefault()).isInstanceOf(UInt64ListViewRead.class);
+    assertThat(listType.getDefault().createWritableCopy()).isInstanceOf(UInt64ListViewWrite.class);
+  }
+
+  @Test
+  public void commitChanges_shouldMatchGenericListView() {
+    final Random random = new Random(1);
+    final UInt64ListViewWrite packed =
+        (UInt64ListViewWrite) listType.getDefault().createWritableCopy();
+    final ListViewWrite<UInt64View> generic =
+        new ListViewReadImpl<>(listType, listType.getDefaultTree()).createWritableCopy();
+
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 37; i++) {
+        final long value = random.nextLong();
+        packed.appendLong(value);
+        generic.append(UInt64View.fromLong(value));
+      }
+      for (int i = 0; i < 20; i++) {
+        final int index = random.nextInt(packed.size());
+        final long value = random.nextLong();
+        packed.setLong(index, value);
+        generic.set(index, UInt64View.fromLong(value));
+      }
+
+      final UInt64ListViewRead packedResult = packed.commitChanges();
+      final ListViewRead<UInt64View> genericResult = generic.commitChanges();
+      assertThat(packedResult.hashTreeRoot()).isEqualTo(genericResult.hashTreeRoot());
+      assertThat(packedResult.sszSerialize()).isEqualTo(genericResult.sszSerialize());
+      for (int i = 0; i < packedResult.size(); i++) {
+        assertThat(packedResult.getLong(i)).isEqualTo(genericResult.get(i).longValue());
+      }
+    }
+  }
+
+  @Test
+  public void getLong_shouldReturnUncommittedChanges() {
+    final UInt64ListViewWrite list =
+        (UInt64ListViewWrite) listType.getDefault().createWritableCopy();
+    list.appendLong(1);
+    list.appendLong(-1);
+    final UInt64ListViewRead committed = list.commitChanges();
+
+    list.setLong(0, 5);
+    list.appendLong(6);
+
+    assertThat(list.getLong(0)).isEqualTo(5);
+    assertThat(list.getLong(1)).isEqualTo(-1);
+    assertThat(list.getLong(2)).isEqualTo(6);
+    assertThat(committed.size()).isEqualTo(2);
+    assertThat(committed.getLong(0)).isEqualTo(1);
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> committed.getLong(2));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> list.setLong(4, 0));
+  }
+
+  @Test
+  public void commitChanges_shouldReturnSameViewWhenUnchanged() {
+    final UInt64ListViewRead original = (UInt64ListViewRead) listType.getDefault();
+    final UInt64ListViewWrite list = original.createWritableCopy();
+
+    assertThat(list.commitChanges()).isSameAs(original);
+  }
+}
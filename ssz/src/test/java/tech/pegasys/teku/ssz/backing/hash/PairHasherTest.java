@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.hash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
+import org.junit.jupiter.api.Test;
+
+public class PairHasherTest {
+
+  private final PairHasher hasher = new MessageDigestPairHasher();
+
+  @Test
+  public void hashPair_shouldMatchSha256OfConcatenation() {
+    for (int i = 0; i < 100; i++) {
+      final Bytes input = Bytes.random(64);
+      final byte[] output = new byte[32];
+      hasher.hashPair(input.toArrayUnsafe(), 0, output, 0);
+      assertThat(Bytes32.wrap(output)).isEqualTo(Hash.sha2_256(input));
+    }
+  }
+
+  @Test
+  public void hashPairs_shouldHashConsecutivePairsAtOffsets() {
+    final int count = 5;
+    final Bytes input = Bytes.random(3 + count * 64);
+    final byte[] output = new byte[7 + count * 32];
+    hasher.hashPairs(input.toArrayUnsafe(), 3, output, 7, count);
+
+    for (int i = 0; i < count; i++) {
+      final Bytes32 expected = Hash.sha2_256(input.slice(3 + i * 64, 64));
+      assertThat(Bytes.wrap(output, 7 + i * 32, 32)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void hashPair_shouldHashZeroPair() {
+    final byte[] output = new byte[32];
+    hasher.hashPair(new byte[64], 0, output, 0);
+    assertThat(Bytes.wrap(output))
+        .isEqualTo(
+            Bytes.fromHexString(
+                "0xf5a5fd42d16a20302798ef6ed309979b43003d2320d9f0e8ea9831a92759fb4b"));
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.backing.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
+import org.junit.jupiter.api.Test;
+
+public class TreeHasherTest {
+
+  @Test
+  public void hashTreeRoot_shouldMatchRecursiveHashForLevelsLargerThanBatch() {
+    final int leafCount = TreeHasher.MAX_BATCH_SIZE * 4 + 3;
+    final TreeNode tree = createTree(leafCount);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+  }
+
+  @Test
+  public void hash_shouldMatchRecursiveHashWhenLevelsHashedInParallel() {
+    final int leafCount = TreeHasher.PARALLEL_LEVEL_THRESHOLD * 4 + 5;
+    final TreeNode tree = createTree(leafCount);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      TreeHasher.hash((TreeNodeImpl.BranchNodeImpl) tree, pool);
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+  }
+
+  @Test
+  public void hashTreeRoot_shouldHashSharedSubtrees() {
+    final TreeNode subtree = createTree(8);
+    final TreeNode tree =
+        BranchNode.create(BranchNode.create(subtree, subtree), BranchNode.create(subtree, subtree));
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHash(tree));
+  }
+
+  @Test
+  public void hashTreeRoot_shouldOnlyRehashUpdatedNodes() {
+    final TreeNode tree = createTree(64);
+    tree.hashTreeRoot();
+
+    final TreeNode updated =
+        tree.updated(
+            new TreeUpdates(
+                List.of(
+                    new TreeUpdates.Update(0b1000000 + 5, TreeTest.newTestLeaf(1000)),
+                    new TreeUpdates.Update(0b1000000 + 40, TreeTest.newTestLeaf(2000)))));
+
+    assertThat(updated.hashTreeRoot()).isEqualTo(recursiveHash(updated));
+    assertThat(updated.hashTreeRoot()).isNotEqualTo(tree.hashTreeRoot());
+  }
+
+  @Test
+  public void hashTreeRoot_shouldRehashSinglePath() {
+    final TreeNode tree = createTree(64);
+    tree.hashTreeRoot();
+
+    final TreeNode updated =
+        tree.updated(
+            new TreeUpdates(
+                List.of(new TreeUpdates.Update(0b1000000 + 17, TreeTest.newTestLeaf(1000)))));
+
+    assertThat(updated.hashTreeRoot()).isEqualTo(recursiveHash(updated));
+    assertThat(updated.hashTreeRoot()).isNotEqualTo(tree.hashTreeRoot());
+  }
+
+  private static TreeNode createTree(final int leafCount) {
+    return TreeUtil.createTree(
+        IntStream.range(0, leafCount).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()));
+  }
+
+  private static Bytes32 recursiveHash(final TreeNode node) {
+    if (node instanceof BranchNode) {
+      final BranchNode branch = (BranchNode) node;
+      return Hash.sha2_256(
+          Bytes.concatenate(recursiveHash(branch.left()), recursiveHash(branch.right())));
+    }
+    return node.hashTreeRoot();
+  }
+}
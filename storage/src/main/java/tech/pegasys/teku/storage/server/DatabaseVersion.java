@@ -19,7 +19,9 @@ public enum DatabaseVersion {
   NOOP("noop"),
   V4("4"),
   V5("5"),
-  V6("6");
+  V6("6"),
+  // V6 layout with finalized states stored as trees of content addressed nodes
+  V7("7");
 
   public static final DatabaseVersion DEFAULT_VERSION = DatabaseVersion.V5;
   private String value;
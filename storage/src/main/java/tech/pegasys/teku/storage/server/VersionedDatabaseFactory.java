@@ -164,6 +164,24 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
               dbDirectory.getAbsolutePath());
         }
         break;
+      case V7:
+        database = createV7Database();
+        if (v6ArchiveDirectory.isPresent()) {
+          LOG.info(
+              "Created V7 Hot database ({}) at {}",
+              dbVersion.getValue(),
+              dbDirectory.getAbsolutePath());
+          LOG.info(
+              "Created V7 Finalized database ({}) at {}",
+              dbVersion.getValue(),
+              v6ArchiveDirectory.get().getAbsolutePath());
+        } else {
+          LOG.info(
+              "Created V7 Hot and Finalized database ({}) at {}",
+              dbVersion.getValue(),
+              dbDirectory.getAbsolutePath());
+        }
+        break;
       default:
         throw new UnsupportedOperationException("Unhandled database version " + dbVersion);
     }
@@ -207,43 +225,11 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
 
   private Database createV6Database() {
     try {
-      final V6DatabaseMetadata defaultMetaData;
-      if (v6ArchiveDirectory.isPresent()) {
-        defaultMetaData = V6DatabaseMetadata.separateDBDefault();
-      } else {
-        defaultMetaData = V6DatabaseMetadata.singleDBDefault();
-      }
-
-      final V6DatabaseMetadata metaData =
-          V6DatabaseMetadata.init(getMetadataFile(), defaultMetaData);
-      if (defaultMetaData.isSingleDB() != metaData.isSingleDB()) {
-        throw new DatabaseStorageException(
-            "The database was originally created as "
-                + (metaData.isSingleDB() ? "Single" : "Separate")
-                + " but now accessed as "
-                + (defaultMetaData.isSingleDB() ? "Single" : "Separate"));
-      }
-
-      DatabaseNetwork.init(getNetworkFile(), Constants.GENESIS_FORK_VERSION, eth1Address);
-
-      final RocksDbConfiguration hotOrSingleDBConfiguration =
-          metaData.isSingleDB()
-              ? metaData.getSingleDbConfiguration().get().getConfiguration()
-              : metaData.getSeparateDbConfiguration().get().getHotDbConfiguration();
-
-      final Optional<RocksDbConfiguration> finalizedConfiguration =
-          v6ArchiveDirectory.map(
-              dir ->
-                  metaData
-                      .getSeparateDbConfiguration()
-                      .get()
-                      .getArchiveDbConfiguration()
-                      .withDatabaseDir(dir.toPath()));
-
+      final V6DatabaseMetadata metaData = initV6Metadata();
       return RocksDbDatabase.createV6(
           metricsSystem,
-          hotOrSingleDBConfiguration.withDatabaseDir(dbDirectory.toPath()),
-          finalizedConfiguration,
+          getV6HotOrSingleDbConfiguration(metaData),
+          getV6FinalizedDbConfiguration(metaData),
           V4SchemaHot.INSTANCE,
           V6SchemaFinalized.INSTANCE,
           stateStorageMode,
@@ -253,6 +239,66 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     }
   }
 
+  /**
+   * V7 database has the same layout and metadata as V6 but stores finalized states as trees.
+   *
+   * @return the created database
+   */
+  private Database createV7Database() {
+    try {
+      final V6DatabaseMetadata metaData = initV6Metadata();
+      return RocksDbDatabase.createV7(
+          metricsSystem,
+          getV6HotOrSingleDbConfiguration(metaData),
+          getV6FinalizedDbConfiguration(metaData),
+          V4SchemaHot.INSTANCE,
+          stateStorageMode,
+          stateStorageFrequency);
+    } catch (final IOException e) {
+      throw new DatabaseStorageException("Failed to read metadata", e);
+    }
+  }
+
+  private V6DatabaseMetadata initV6Metadata() throws IOException {
+    final V6DatabaseMetadata defaultMetaData;
+    if (v6ArchiveDirectory.isPresent()) {
+      defaultMetaData = V6DatabaseMetadata.separateDBDefault();
+    } else {
+      defaultMetaData = V6DatabaseMetadata.singleDBDefault();
+    }
+
+    final V6DatabaseMetadata metaData = V6DatabaseMetadata.init(getMetadataFile(), defaultMetaData);
+    if (defaultMetaData.isSingleDB() != metaData.isSingleDB()) {
+      throw new DatabaseStorageException(
+          "The database was originally created as "
+              + (metaData.isSingleDB() ? "Single" : "Separate")
+              + " but now accessed as "
+              + (defaultMetaData.isSingleDB() ? "Single" : "Separate"));
+    }
+
+    DatabaseNetwork.init(getNetworkFile(), Constants.GENESIS_FORK_VERSION, eth1Address);
+    return metaData;
+  }
+
+  private RocksDbConfiguration getV6HotOrSingleDbConfiguration(final V6DatabaseMetadata metaData) {
+    final RocksDbConfiguration hotOrSingleDBConfiguration =
+        metaData.isSingleDB()
+            ? metaData.getSingleDbConfiguration().get().getConfiguration()
+            : metaData.getSeparateDbConfiguration().get().getHotDbConfiguration();
+    return hotOrSingleDBConfiguration.withDatabaseDir(dbDirectory.toPath());
+  }
+
+  private Optional<RocksDbConfiguration> getV6FinalizedDbConfiguration(
+      final V6DatabaseMetadata metaData) {
+    return v6ArchiveDirectory.map(
+        dir ->
+            metaData
+                .getSeparateDbConfiguration()
+                .get()
+                .getArchiveDbConfiguration()
+                .withDatabaseDir(dir.toPath()));
+  }
+
   private File getMetadataFile() {
     return dataDirectory.toPath().resolve(METADATA_FILENAME).toFile();
   }
@@ -289,6 +335,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
         }
         break;
       case V6:
+      case V7:
         v6ArchiveDirectory.ifPresent(
             archiveDirectory -> {
               if (!archiveDirectory.mkdirs() && !archiveDirectory.isDirectory()) {
@@ -305,27 +352,41 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
 
   @VisibleForTesting
   DatabaseVersion getDatabaseVersion() {
-    if (dbVersionFile.exists()) {
-      try {
-        final String versionValue = Files.readString(dbVersionFile.toPath()).trim();
-        return DatabaseVersion.fromString(versionValue)
-            .orElseThrow(
-                () ->
-                    new DatabaseStorageException("Unrecognized database version: " + versionValue));
-      } catch (IOException e) {
-        throw new DatabaseStorageException(
-            String.format(
-                "Unable to read database version from file %s", dbVersionFile.getAbsolutePath()),
-            e);
-      }
+    if (!dbVersionFile.exists()) {
+      return this.createDatabaseVersion;
+    }
+    final DatabaseVersion existingVersion = readDatabaseVersionFile();
+    if (existingVersion == DatabaseVersion.V6 && createDatabaseVersion == DatabaseVersion.V7) {
+      // V7 only adds columns to V6 and migrates the finalized states when opened
+      LOG.info("Upgrading database from V6 to V7");
+      return DatabaseVersion.V7;
+    }
+    return existingVersion;
+  }
+
+  private DatabaseVersion readDatabaseVersionFile() {
+    try {
+      final String versionValue = Files.readString(dbVersionFile.toPath()).trim();
+      return DatabaseVersion.fromString(versionValue)
+          .orElseThrow(
+              () -> new DatabaseStorageException("Unrecognized database version: " + versionValue));
+    } catch (IOException e) {
+      throw new DatabaseStorageException(
+          String.format(
+              "Unable to read database version from file %s", dbVersionFile.getAbsolutePath()),
+          e);
     }
-    return this.createDatabaseVersion;
   }
 
   private void saveDatabaseVersion(final DatabaseVersion version) {
-    if (!dbVersionFile.exists()) {
+    if (!dbVersionFile.exists() || version != readDatabaseVersionFile()) {
       try {
-        Files.writeString(dbVersionFile.toPath(), version.getValue(), StandardOpenOption.CREATE);
+        Files.writeString(
+            dbVersionFile.toPath(),
+            version.getValue(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE);
       } catch (IOException e) {
         throw new DatabaseStorageException(
             "Failed to write database version to file " + dbVersionFile.getAbsolutePath(), e);
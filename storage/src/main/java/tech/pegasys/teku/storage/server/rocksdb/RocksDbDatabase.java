@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -47,6 +48,7 @@ import tech.pegasys.teku.datastructures.blocks.CheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.datastructures.hashtree.HashTree;
 import tech.pegasys.teku.datastructures.state.AnchorPoint;
@@ -73,11 +75,13 @@ import tech.pegasys.teku.storage.server.rocksdb.dataaccess.RocksDbHotDao.HotUpda
 import tech.pegasys.teku.storage.server.rocksdb.dataaccess.RocksDbProtoArrayDao;
 import tech.pegasys.teku.storage.server.rocksdb.dataaccess.V4FinalizedRocksDbDao;
 import tech.pegasys.teku.storage.server.rocksdb.dataaccess.V4HotRocksDbDao;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.V7FinalizedRocksDbDao;
 import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn;
 import tech.pegasys.teku.storage.server.rocksdb.schema.SchemaFinalized;
 import tech.pegasys.teku.storage.server.rocksdb.schema.SchemaHot;
 import tech.pegasys.teku.storage.server.rocksdb.schema.V4SchemaFinalized;
 import tech.pegasys.teku.storage.server.rocksdb.schema.V4SchemaHot;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V7SchemaFinalized;
 import tech.pegasys.teku.storage.server.state.StateRootRecorder;
 import tech.pegasys.teku.storage.store.StoreBuilder;
 import tech.pegasys.teku.util.config.StateStorageMode;
@@ -121,6 +125,53 @@ public class RocksDbDatabase implements Database {
       final SchemaFinalized schemaFinalized,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency) {
+    return createWithV6Layout(
+        metricsSystem,
+        hotConfiguration,
+        finalizedConfiguration,
+        schemaHot,
+        schemaFinalized,
+        (hotDb, finalizedDb) ->
+            createV6(
+                metricsSystem,
+                hotDb,
+                finalizedDb,
+                schemaHot,
+                schemaFinalized,
+                stateStorageMode,
+                stateStorageFrequency));
+  }
+
+  public static Database createV7(
+      final MetricsSystem metricsSystem,
+      final RocksDbConfiguration hotConfiguration,
+      final Optional<RocksDbConfiguration> finalizedConfiguration,
+      final SchemaHot schemaHot,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency) {
+    return createWithV6Layout(
+        metricsSystem,
+        hotConfiguration,
+        finalizedConfiguration,
+        schemaHot,
+        V7SchemaFinalized.INSTANCE,
+        (hotDb, finalizedDb) ->
+            createV7(
+                metricsSystem,
+                hotDb,
+                finalizedDb,
+                schemaHot,
+                stateStorageMode,
+                stateStorageFrequency));
+  }
+
+  private static Database createWithV6Layout(
+      final MetricsSystem metricsSystem,
+      final RocksDbConfiguration hotConfiguration,
+      final Optional<RocksDbConfiguration> finalizedConfiguration,
+      final SchemaHot schemaHot,
+      final SchemaFinalized schemaFinalized,
+      final BiFunction<RocksDbAccessor, RocksDbAccessor, Database> databaseFactory) {
     final RocksDbAccessor hotDb;
     final RocksDbAccessor finalizedDb;
 
@@ -142,14 +193,7 @@ public class RocksDbDatabase implements Database {
           RocksDbInstanceFactory.create(metricsSystem, STORAGE, hotConfiguration, allColumns);
       hotDb = finalizedDb;
     }
-    return createV6(
-        metricsSystem,
-        hotDb,
-        finalizedDb,
-        schemaHot,
-        schemaFinalized,
-        stateStorageMode,
-        stateStorageFrequency);
+    return databaseFactory.apply(hotDb, finalizedDb);
   }
 
   static Database createV4(
@@ -178,6 +222,21 @@ public class RocksDbDatabase implements Database {
     return new RocksDbDatabase(metricsSystem, dao, finalizedDbDao, dao, dao, stateStorageMode);
   }
 
+  static Database createV7(
+      final MetricsSystem metricsSystem,
+      final RocksDbAccessor hotDb,
+      final RocksDbAccessor finalizedDb,
+      final SchemaHot schemaHot,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency) {
+    final V4HotRocksDbDao dao = new V4HotRocksDbDao(hotDb, schemaHot);
+    final V7FinalizedRocksDbDao finalizedDbDao =
+        new V7FinalizedRocksDbDao(finalizedDb, V7SchemaFinalized.INSTANCE, stateStorageFrequency);
+    // A V6 database being upgraded still has its finalized states stored as serialized SSZ
+    finalizedDbDao.migrateSerializedStates();
+    return new RocksDbDatabase(metricsSystem, dao, finalizedDbDao, dao, dao, stateStorageMode);
+  }
+
   private RocksDbDatabase(
       final MetricsSystem metricsSystem,
       final RocksDbHotDao hotDao,
@@ -301,7 +360,7 @@ public class RocksDbDatabase implements Database {
     final Checkpoint bestJustifiedCheckpoint = hotDao.getBestJustifiedCheckpoint().orElseThrow();
     final BeaconState finalizedState = hotDao.getLatestFinalizedState().orElseThrow();
 
-    final Map<UInt64, VoteTracker> votes = hotDao.getVotes();
+    final VoteTable votes = hotDao.getVotes();
 
     // Build map with block information
     final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>();
@@ -367,7 +426,7 @@ public class RocksDbDatabase implements Database {
 
   @Override
   public Map<UInt64, VoteTracker> getVotes() {
-    return hotDao.getVotes();
+    return hotDao.getVotes().toMap();
   }
 
   @Override
@@ -23,6 +23,7 @@ import tech.pegasys.teku.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.CheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
@@ -62,7 +63,7 @@ public interface RocksDbHotDao extends AutoCloseable {
   @MustBeClosed
   Stream<SignedBeaconBlock> streamHotBlocks();
 
-  Map<UInt64, VoteTracker> getVotes();
+  VoteTable getVotes();
 
   HotUpdater hotUpdater();
 
@@ -94,7 +95,7 @@ public interface RocksDbHotDao extends AutoCloseable {
       states.forEach(this::addHotState);
     }
 
-    void addVotes(Map<UInt64, VoteTracker> states);
+    void addVotes(Map<UInt64, VoteTracker> votes);
 
     default void addHotBlocks(final Map<Bytes32, BlockAndCheckpointEpochs> blocks) {
       blocks.values().forEach(this::addHotBlock);
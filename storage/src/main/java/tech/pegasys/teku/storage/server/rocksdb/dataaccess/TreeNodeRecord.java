@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
+
+/**
+ * A stored branch node of an SSZ tree. Children are referenced by their hash tree root: leaf
+ * children are inlined as their 32 byte root while branch children are stored as separate records.
+ */
+public class TreeNodeRecord {
+  private final Bytes32 leftRoot;
+  private final boolean leftLeaf;
+  private final Bytes32 rightRoot;
+  private final boolean rightLeaf;
+  private final long referenceCount;
+
+  public TreeNodeRecord(
+      final Bytes32 leftRoot,
+      final boolean leftLeaf,
+      final Bytes32 rightRoot,
+      final boolean rightLeaf,
+      final long referenceCount) {
+    this.leftRoot = leftRoot;
+    this.leftLeaf = leftLeaf;
+    this.rightRoot = rightRoot;
+    this.rightLeaf = rightLeaf;
+    this.referenceCount = referenceCount;
+  }
+
+  static TreeNodeRecord create(final BranchNode node, final long referenceCount) {
+    return new TreeNodeRecord(
+        node.left().hashTreeRoot(),
+        node.left() instanceof LeafNode,
+        node.right().hashTreeRoot(),
+        node.right() instanceof LeafNode,
+        referenceCount);
+  }
+
+  public Bytes32 getLeftRoot() {
+    return leftRoot;
+  }
+
+  public boolean isLeftLeaf() {
+    return leftLeaf;
+  }
+
+  public Bytes32 getRightRoot() {
+    return rightRoot;
+  }
+
+  public boolean isRightLeaf() {
+    return rightLeaf;
+  }
+
+  /** The number of stored parent nodes and state roots referencing this node */
+  public long getReferenceCount() {
+    return referenceCount;
+  }
+
+  TreeNodeRecord withReferenceCount(final long referenceCount) {
+    return new TreeNodeRecord(leftRoot, leftLeaf, rightRoot, rightLeaf, referenceCount);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final TreeNodeRecord that = (TreeNodeRecord) o;
+    return leftLeaf == that.leftLeaf
+        && rightLeaf == that.rightLeaf
+        && referenceCount == that.referenceCount
+        && Objects.equals(leftRoot, that.leftRoot)
+        && Objects.equals(rightRoot, that.rightRoot);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(leftRoot, leftLeaf, rightRoot, rightLeaf, referenceCount);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("leftRoot", leftRoot)
+        .add("leftLeaf", leftLeaf)
+        .add("rightRoot", rightRoot)
+        .add("rightLeaf", rightLeaf)
+        .add("referenceCount", referenceCount)
+        .toString();
+  }
+}
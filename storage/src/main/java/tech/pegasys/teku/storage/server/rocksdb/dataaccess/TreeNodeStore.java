@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.LeafNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeUpdates;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor.RocksDbTransaction;
+import tech.pegasys.teku.storage.server.rocksdb.schema.RocksDbColumn;
+
+/**
+ * Stores SSZ trees as branch nodes addressed by their hash tree root.
+ *
+ * <p>A node is written once no matter how many trees contain it. Each record counts the stored
+ * parents and external roots referencing it. Finalized states are never deleted, so nothing
+ * releases references yet, but the counts are kept so that pruning doesn't need a schema change.
+ */
+class TreeNodeStore {
+  private final RocksDbAccessor db;
+  private final RocksDbColumn<Bytes32, TreeNodeRecord> column;
+
+  TreeNodeStore(final RocksDbAccessor db, final RocksDbColumn<Bytes32, TreeNodeRecord> column) {
+    this.db = db;
+    this.column = column;
+  }
+
+  /**
+   * Loads the tree with the given root lazily. Branch nodes are only read from the database when
+   * their children are first accessed, so reading a few fields of a large tree only loads the
+   * nodes on the paths to them. The stored hashes are kept, so hashing never loads the tree.
+   */
+  Optional<TreeNode> loadTreeLazily(final Bytes32 root) {
+    return db.get(column, root).map(record -> new LazyBranchNode(root, record));
+  }
+
+  Updater updater(final RocksDbTransaction transaction) {
+    return new Updater(transaction);
+  }
+
+  /**
+   * A stored branch node whose children are read from the database the first time either of them
+   * is accessed. Children which are branches are lazy nodes themselves.
+   */
+  private class LazyBranchNode implements BranchNode {
+    private final Bytes32 root;
+    private TreeNodeRecord record;
+    private TreeNode left;
+    private TreeNode right;
+    private volatile boolean loaded = false;
+
+    private LazyBranchNode(final Bytes32 root, final TreeNodeRecord record) {
+      this.root = root;
+      this.record = record;
+    }
+
+    @Override
+    public Bytes32 hashTreeRoot() {
+      return root;
+    }
+
+    @NotNull
+    @Override
+    public TreeNode left() {
+      ensureLoaded();
+      return left;
+    }
+
+    @NotNull
+    @Override
+    public TreeNode right() {
+      ensureLoaded();
+      return right;
+    }
+
+    @Override
+    public BranchNode rebind(final boolean isLeft, final TreeNode newNode) {
+      return isLeft ? BranchNode.create(newNode, right()) : BranchNode.create(left(), newNode);
+    }
+
+    @Override
+    public TreeNode updated(final TreeUpdates newNodes) {
+      if (newNodes.isEmpty()) {
+        return this;
+      } else if (newNodes.isFinal()) {
+        return newNodes.getNode(0);
+      } else {
+        final Pair<TreeUpdates, TreeUpdates> children = newNodes.splitAtPivot();
+        return BranchNode.create(
+            left().updated(children.getLeft()), right().updated(children.getRight()));
+      }
+    }
+
+    private void ensureLoaded() {
+      if (!loaded) {
+        synchronized (this) {
+          if (!loaded) {
+            if (record == null) {
+              record =
+                  db.get(column, root)
+                      .orElseThrow(() -> new DatabaseStorageException("Missing tree node " + root));
+            }
+            left = createChild(record.getLeftRoot(), record.isLeftLeaf());
+            right = createChild(record.getRightRoot(), record.isRightLeaf());
+            record = null;
+            loaded = true;
+          }
+        }
+      }
+    }
+
+    private TreeNode createChild(final Bytes32 childRoot, final boolean leaf) {
+      return leaf ? LeafNode.create(childRoot) : new LazyBranchNode(childRoot, null);
+    }
+
+    @Override
+    public String toString() {
+      return loaded ? "(" + left + ", " + right + ')' : "(" + root + ", not loaded)";
+    }
+  }
+
+  /**
+   * Collects node changes in memory until {@link #flush()} as the transaction can't be read back
+   * before it is committed.
+   */
+  class Updater {
+    private final RocksDbTransaction transaction;
+    private final Map<Bytes32, TreeNodeRecord> pendingRecords = new HashMap<>();
+
+    private Updater(final RocksDbTransaction transaction) {
+      this.transaction = transaction;
+    }
+
+    /**
+     * Adds a reference to the tree, storing any of its nodes which aren't already stored. Only the
+     * new nodes are traversed so the cost is proportional to the changes since the stored trees.
+     */
+    void addReference(final TreeNode root) {
+      checkArgument(root instanceof BranchNode, "Only branch nodes can be stored: %s", root);
+      addBranchReference((BranchNode) root);
+    }
+
+    void flush() {
+      pendingRecords.forEach(
+          (root, record) -> {
+            if (record.getReferenceCount() > 0) {
+              transaction.put(column, root, record);
+            } else {
+              transaction.delete(column, root);
+            }
+          });
+      pendingRecords.clear();
+    }
+
+    private void addBranchReference(final BranchNode node) {
+      final Bytes32 root = node.hashTreeRoot();
+      TreeNodeRecord record = getRecord(root).orElse(null);
+      if (record == null) {
+        // A new node references each of its children
+        addChildReference(node.left());
+        addChildReference(node.right());
+        record = TreeNodeRecord.create(node, 0);
+      }
+      pendingRecords.put(root, record.withReferenceCount(record.getReferenceCount() + 1));
+    }
+
+    private void addChildReference(final TreeNode child) {
+      if (child instanceof BranchNode) {
+        addBranchReference((BranchNode) child);
+      }
+    }
+
+    private Optional<TreeNodeRecord> getRecord(final Bytes32 root) {
+      final TreeNodeRecord pendingRecord = pendingRecords.get(root);
+      if (pendingRecord != null) {
+        return Optional.of(pendingRecord).filter(record -> record.getReferenceCount() > 0);
+      }
+      return db.get(column, root);
+    }
+  }
+}
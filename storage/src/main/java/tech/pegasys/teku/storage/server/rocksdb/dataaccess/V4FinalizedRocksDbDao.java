@@ -106,11 +106,15 @@ public class V4FinalizedRocksDbDao implements RocksDbFinalizedDao {
   @Override
   @MustBeClosed
   public FinalizedUpdater finalizedUpdater() {
-    return new V4FinalizedRocksDbDao.V4FinalizedUpdater(db, schema, stateStorageFrequency);
+    return new V4FinalizedRocksDbDao.V4FinalizedUpdater(
+        db,
+        schema,
+        stateStorageFrequency,
+        db.getLastEntry(schema.getColumnFinalizedStatesBySlot()).map(ColumnEntry::getKey));
   }
 
-  private static class V4FinalizedUpdater implements FinalizedUpdater {
-    private final RocksDbAccessor.RocksDbTransaction transaction;
+  static class V4FinalizedUpdater implements FinalizedUpdater {
+    protected final RocksDbAccessor.RocksDbTransaction transaction;
     private final SchemaFinalized schema;
     private final UInt64 stateStorageFrequency;
     private Optional<UInt64> lastStateStoredSlot;
@@ -118,12 +122,12 @@ public class V4FinalizedRocksDbDao implements RocksDbFinalizedDao {
     V4FinalizedUpdater(
         final RocksDbAccessor db,
         final SchemaFinalized schema,
-        final UInt64 stateStorageFrequency) {
+        final UInt64 stateStorageFrequency,
+        final Optional<UInt64> lastStateStoredSlot) {
       this.transaction = db.startTransaction();
       this.schema = schema;
       this.stateStorageFrequency = stateStorageFrequency;
-      lastStateStoredSlot =
-          db.getLastEntry(schema.getColumnFinalizedStatesBySlot()).map(ColumnEntry::getKey);
+      this.lastStateStoredSlot = lastStateStoredSlot;
     }
 
     @Override
@@ -150,10 +154,14 @@ public class V4FinalizedRocksDbDao implements RocksDbFinalizedDao {
     }
 
     private void addFinalizedState(final BeaconState state) {
-      transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+      storeFinalizedState(state);
       lastStateStoredSlot = Optional.of(state.getSlot());
     }
 
+    protected void storeFinalizedState(final BeaconState state) {
+      transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+    }
+
     @Override
     public void commit() {
       // Commit db updates
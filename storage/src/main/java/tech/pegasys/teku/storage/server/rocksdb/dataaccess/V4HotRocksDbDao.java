@@ -24,6 +24,7 @@ import tech.pegasys.teku.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.CheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
@@ -119,8 +120,12 @@ public class V4HotRocksDbDao implements RocksDbHotDao, RocksDbEth1Dao, RocksDbPr
   }
 
   @Override
-  public Map<UInt64, VoteTracker> getVotes() {
-    return db.getAll(schema.getColumnVotes());
+  public VoteTable getVotes() {
+    final VoteTable votes = new VoteTable();
+    try (Stream<ColumnEntry<UInt64, VoteTracker>> stream = db.stream(schema.getColumnVotes())) {
+      stream.forEach(entry -> votes.setVote(entry.getKey(), entry.getValue()));
+    }
+    return votes;
   }
 
   @Override
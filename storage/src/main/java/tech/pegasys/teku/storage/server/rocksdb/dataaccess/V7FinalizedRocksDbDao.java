@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.rocksdb.core.ColumnEntry;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V7SchemaFinalized;
+
+/**
+ * Finalized DAO which stores states as SSZ trees rather than serialized blobs. Consecutive
+ * finalized states share most of their subtrees, so each stored state only adds the nodes that
+ * changed since the previously stored states which makes storing states as often as every epoch
+ * practical.
+ */
+public class V7FinalizedRocksDbDao extends V4FinalizedRocksDbDao {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final RocksDbAccessor db;
+  private final V7SchemaFinalized schema;
+  private final UInt64 stateStorageFrequency;
+  private final TreeNodeStore treeNodeStore;
+
+  public V7FinalizedRocksDbDao(
+      final RocksDbAccessor db, final V7SchemaFinalized schema, final long stateStorageFrequency) {
+    super(db, schema, stateStorageFrequency);
+    this.db = db;
+    this.schema = schema;
+    this.stateStorageFrequency = UInt64.valueOf(stateStorageFrequency);
+    this.treeNodeStore = new TreeNodeStore(db, schema.getColumnFinalizedStateTreeNodes());
+  }
+
+  @Override
+  public Optional<BeaconState> getLatestAvailableFinalizedState(final UInt64 maxSlot) {
+    return db.getFloorEntry(schema.getColumnFinalizedStateRootsBySlot(), maxSlot)
+        .map(entry -> loadState(entry.getValue()));
+  }
+
+  private BeaconState loadState(final Bytes32 stateRoot) {
+    return treeNodeStore
+        .loadTreeLazily(stateRoot)
+        .map(BeaconState.getSSZType()::createFromBackingNode)
+        .orElseThrow(
+            () -> new DatabaseStorageException("Missing tree for finalized state " + stateRoot));
+  }
+
+  @Override
+  @MustBeClosed
+  public FinalizedUpdater finalizedUpdater() {
+    return new V7FinalizedUpdater(
+        db,
+        schema,
+        stateStorageFrequency,
+        treeNodeStore,
+        db.getLastEntry(schema.getColumnFinalizedStateRootsBySlot()).map(ColumnEntry::getKey));
+  }
+
+  /**
+   * Moves finalized states stored as serialized SSZ, as written by a V6 database, into tree
+   * storage. States are migrated one per transaction so the migration can be safely interrupted
+   * and resumed.
+   */
+  public void migrateSerializedStates() {
+    Optional<ColumnEntry<UInt64, BeaconState>> entry =
+        db.getFirstEntry(schema.getColumnFinalizedStatesBySlot());
+    if (entry.isEmpty()) {
+      return;
+    }
+    LOG.info("Migrating finalized states to tree storage");
+    int migratedCount = 0;
+    while (entry.isPresent()) {
+      final BeaconState state = entry.get().getValue();
+      try (final RocksDbAccessor.RocksDbTransaction transaction = db.startTransaction()) {
+        final TreeNodeStore.Updater nodeUpdater = treeNodeStore.updater(transaction);
+        nodeUpdater.addReference(state.getBackingNode());
+        nodeUpdater.flush();
+        transaction.put(
+            schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), state.hashTreeRoot());
+        transaction.delete(schema.getColumnFinalizedStatesBySlot(), state.getSlot());
+        transaction.commit();
+      }
+      migratedCount++;
+      entry = db.getFirstEntry(schema.getColumnFinalizedStatesBySlot());
+    }
+    LOG.info("Migrated {} finalized states to tree storage", migratedCount);
+  }
+
+  private static class V7FinalizedUpdater extends V4FinalizedUpdater {
+    private final V7SchemaFinalized schema;
+    private final TreeNodeStore.Updater nodeUpdater;
+
+    V7FinalizedUpdater(
+        final RocksDbAccessor db,
+        final V7SchemaFinalized schema,
+        final UInt64 stateStorageFrequency,
+        final TreeNodeStore treeNodeStore,
+        final Optional<UInt64> lastStateStoredSlot) {
+      super(db, schema, stateStorageFrequency, lastStateStoredSlot);
+      this.schema = schema;
+      this.nodeUpdater = treeNodeStore.updater(transaction);
+    }
+
+    @Override
+    protected void storeFinalizedState(final BeaconState state) {
+      nodeUpdater.addReference(state.getBackingNode());
+      transaction.put(
+          schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), state.hashTreeRoot());
+    }
+
+    @Override
+    public void commit() {
+      nodeUpdater.flush();
+      super.commit();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.serialization;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.ssz.SSZ;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.TreeNodeRecord;
+
+public class TreeNodeRecordSerializer implements RocksDbSerializer<TreeNodeRecord> {
+  private static final int LEFT_LEAF_FLAG = 1;
+  private static final int RIGHT_LEAF_FLAG = 2;
+
+  @Override
+  public TreeNodeRecord deserialize(final byte[] data) {
+    return SSZ.decode(
+        Bytes.of(data),
+        reader -> {
+          final int flags = reader.readFixedBytes(1).get(0);
+          final long referenceCount = reader.readUInt64();
+          final Bytes32 leftRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+          final Bytes32 rightRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+          return new TreeNodeRecord(
+              leftRoot,
+              (flags & LEFT_LEAF_FLAG) != 0,
+              rightRoot,
+              (flags & RIGHT_LEAF_FLAG) != 0,
+              referenceCount);
+        });
+  }
+
+  @Override
+  public byte[] serialize(final TreeNodeRecord value) {
+    Bytes bytes =
+        SSZ.encode(
+            writer -> {
+              writer.writeFixedBytes(
+                  Bytes.of(
+                      (value.isLeftLeaf() ? LEFT_LEAF_FLAG : 0)
+                          | (value.isRightLeaf() ? RIGHT_LEAF_FLAG : 0)));
+              writer.writeUInt64(value.getReferenceCount());
+              writer.writeFixedBytes(value.getLeftRoot());
+              writer.writeFixedBytes(value.getRightRoot());
+            });
+    return bytes.toArrayUnsafe();
+  }
+}
@@ -23,8 +23,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,6 +45,7 @@ import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.datastructures.hashtree.HashTree;
 import tech.pegasys.teku.datastructures.state.AnchorPoint;
@@ -94,7 +93,7 @@ class Store implements UpdatableStore {
   final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
   final Map<Bytes32, SignedBeaconBlock> blocks;
   private final CachingTaskQueue<Checkpoint, BeaconState> checkpointStates;
-  final Map<UInt64, VoteTracker> votes;
+  final VoteTable votes;
   private ProtoArrayForkChoiceStrategy forkChoiceStrategy;
 
   private Store(
@@ -110,7 +109,7 @@ class Store implements UpdatableStore {
       final Checkpoint justified_checkpoint,
       final Checkpoint best_justified_checkpoint,
       final BlockMetadataStore blockMetadata,
-      final Map<UInt64, VoteTracker> votes,
+      final VoteTable votes,
       final Map<Bytes32, SignedBeaconBlock> blocks,
       final CachingTaskQueue<Checkpoint, BeaconState> checkpointStates) {
     checkArgument(
@@ -134,7 +133,8 @@ class Store implements UpdatableStore {
     this.justified_checkpoint = justified_checkpoint;
     this.best_justified_checkpoint = best_justified_checkpoint;
     this.blocks = blocks;
-    this.votes = new HashMap<>(votes);
+    // The vote table is handed over by the caller, so it is used directly rather than copied
+    this.votes = votes;
     this.blockMetadata = blockMetadata;
 
     // Track latest finalized block
@@ -166,7 +166,7 @@ class Store implements UpdatableStore {
       final Checkpoint justifiedCheckpoint,
       final Checkpoint bestJustifiedCheckpoint,
       final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot,
-      final Map<UInt64, VoteTracker> votes,
+      final VoteTable votes,
       final StoreConfig config,
       final ProtoArrayStorageChannel protoArrayStorageChannel) {
 
@@ -494,16 +494,16 @@ class Store implements UpdatableStore {
   public Set<UInt64> getVotedValidatorIndices() {
     readLock.lock();
     try {
-      return new HashSet<>(votes.keySet());
+      return votes.getVotedValidatorIndices();
     } finally {
       readLock.unlock();
     }
   }
 
-  VoteTracker getVote(UInt64 validatorIndex) {
+  Optional<VoteTracker> getVote(UInt64 validatorIndex) {
     readLock.lock();
     try {
-      return votes.get(validatorIndex);
+      return votes.getVote(validatorIndex);
     } finally {
       readLock.unlock();
     }
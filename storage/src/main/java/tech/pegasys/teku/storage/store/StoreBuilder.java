@@ -25,7 +25,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.core.lookup.BlockProvider;
 import tech.pegasys.teku.core.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.datastructures.blocks.CheckpointEpochs;
-import tech.pegasys.teku.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -47,7 +47,7 @@ public class StoreBuilder {
   private AnchorPoint latestFinalized;
   private Checkpoint justifiedCheckpoint;
   private Checkpoint bestJustifiedCheckpoint;
-  private Map<UInt64, VoteTracker> votes;
+  private VoteTable votes;
   private ProtoArrayStorageChannel protoArrayStorageChannel = ProtoArrayStorageChannel.NO_OP;
 
   private StoreBuilder() {}
@@ -90,7 +90,7 @@ public class StoreBuilder {
         .justifiedCheckpoint(anchor.getCheckpoint())
         .bestJustifiedCheckpoint(anchor.getCheckpoint())
         .blockInformation(blockInfo)
-        .votes(new HashMap<>());
+        .votes(new VoteTable());
   }
 
   public UpdatableStore build() {
@@ -202,7 +202,7 @@ public class StoreBuilder {
     return this;
   }
 
-  public StoreBuilder votes(final Map<UInt64, VoteTracker> votes) {
+  public StoreBuilder votes(final VoteTable votes) {
     checkNotNull(votes);
     this.votes = votes;
     return this;
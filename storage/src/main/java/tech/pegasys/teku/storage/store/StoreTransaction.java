@@ -126,12 +126,7 @@ class StoreTransaction implements UpdatableStore.StoreTransaction {
   public VoteTracker getVote(UInt64 validatorIndex) {
     VoteTracker vote = votes.get(validatorIndex);
     if (vote == null) {
-      vote = store.getVote(validatorIndex);
-      if (vote == null) {
-        vote = VoteTracker.Default();
-      } else {
-        vote = vote.copy();
-      }
+      vote = store.getVote(validatorIndex).orElseGet(VoteTracker::Default);
       votes.put(validatorIndex, vote);
     }
     return vote;
@@ -85,7 +85,7 @@ class StoreTransactionUpdates {
     tx.best_justified_checkpoint.ifPresent(value -> store.best_justified_checkpoint = value);
     hotBlocks.forEach((root, value) -> store.blocks.put(root, value.getBlock()));
     store.states.cacheAll(Maps.transformValues(hotBlockAndStates, this::blockAndStateAsSummary));
-    store.votes.putAll(tx.votes);
+    tx.votes.forEach(store.votes::setVote);
 
     // Update finalized data
     finalizedChainData.ifPresent(
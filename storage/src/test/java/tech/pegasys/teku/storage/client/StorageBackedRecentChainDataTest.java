@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.storage.client;
 
-import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -33,6 +32,7 @@ import tech.pegasys.teku.core.lookup.BlockProvider;
 import tech.pegasys.teku.core.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
@@ -153,7 +153,7 @@ public class StorageBackedRecentChainDataTest {
             .genesisTime(UInt64.ZERO)
             .time(UInt64.ZERO)
             .metricsSystem(new StubMetricsSystem())
-            .votes(emptyMap())
+            .votes(new VoteTable())
             .blockInformation(
                 Map.of(
                     block.getRoot(),
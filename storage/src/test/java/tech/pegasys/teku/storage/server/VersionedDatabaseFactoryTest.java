@@ -139,6 +139,51 @@ public class VersionedDatabaseFactoryTest {
     assertThat(metadataFile).exists();
   }
 
+  @Test
+  public void createDatabase_asV7Database() throws Exception {
+    final DatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(
+            new StubMetricsSystem(), dataDir, DATA_STORAGE_MODE, "7", 1L, eth1Address);
+    try (final Database db = dbFactory.createDatabase()) {
+      assertThat(db).isNotNull();
+      assertDbVersionSaved(dataDir, DatabaseVersion.V7);
+    }
+    final File dbDirectory = new File(dataDir.toFile(), VersionedDatabaseFactory.DB_PATH);
+    final File metadataFile =
+        new File(dataDir.toFile(), VersionedDatabaseFactory.METADATA_FILENAME);
+    assertThat(dbDirectory).exists();
+    assertThat(metadataFile).exists();
+  }
+
+  @Test
+  public void createDatabase_shouldUpgradeV6DatabaseToV7() throws Exception {
+    final DatabaseFactory v6Factory =
+        new VersionedDatabaseFactory(
+            new StubMetricsSystem(), dataDir, DATA_STORAGE_MODE, "6", 1L, eth1Address);
+    try (final Database db = v6Factory.createDatabase()) {
+      assertDbVersionSaved(dataDir, DatabaseVersion.V6);
+    }
+
+    final VersionedDatabaseFactory v7Factory =
+        new VersionedDatabaseFactory(
+            new StubMetricsSystem(), dataDir, DATA_STORAGE_MODE, "7", 1L, eth1Address);
+    try (final Database db = v7Factory.createDatabase()) {
+      assertThat(db).isNotNull();
+      assertDbVersionSaved(dataDir, DatabaseVersion.V7);
+    }
+  }
+
+  @Test
+  public void createDatabase_shouldNotUpgradeV5DatabaseToV7() throws Exception {
+    createDbDirectory(dataDir);
+    createVersionFile(dataDir, DatabaseVersion.V5);
+
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(
+            new StubMetricsSystem(), dataDir, DATA_STORAGE_MODE, "7", 1L, eth1Address);
+    assertThat(dbFactory.getDatabaseVersion()).isEqualTo(DatabaseVersion.V5);
+  }
+
   @Test
   public void createDatabase_invalidVersionFile() throws Exception {
     createDbDirectory(dataDir);
@@ -21,8 +21,6 @@ import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThat
 
 import com.google.common.collect.Streams;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +37,7 @@ import tech.pegasys.teku.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.CheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.state.BeaconState;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.datastructures.util.DataStructureUtil;
@@ -341,17 +340,30 @@ public abstract class AbstractRocksDbDatabaseTest extends AbstractStorageBackedD
     assertBlocksUnavailable(unavailableBlockRoots);
   }
 
+  @Test
+  public void shouldPersistChangedVotesWithEachUpdate() {
+    final UInt64 validatorIndex = UInt64.valueOf(2);
+    final Bytes32 votedRoot = genesisBlockAndState.getRoot();
+
+    final StoreTransaction transaction = recentChainData.startStoreTransaction();
+    transaction.getVote(validatorIndex).setNextRoot(votedRoot);
+    commit(transaction);
+
+    final VoteTable persistedVotes = ((RocksDbDatabase) database).hotDao.getVotes();
+    assertThat(persistedVotes.getVotedValidatorIndices()).containsExactly(validatorIndex);
+    assertThat(persistedVotes.getVote(validatorIndex).orElseThrow().getNextRoot())
+        .isEqualTo(votedRoot);
+
+    restartStorage();
+    assertThat(recentChainData.getStore().getVotedValidatorIndices())
+        .containsExactly(validatorIndex);
+  }
+
   public void shouldStoreProtoArraySnapshotAsCheckpointEpochs() {
 
     // init ProtoArray
     final ProtoArray protoArray =
-        new ProtoArray(
-            10000,
-            UInt64.valueOf(100),
-            UInt64.valueOf(99),
-            UInt64.ZERO,
-            new ArrayList<>(),
-            new HashMap<>());
+        new ProtoArray(10000, UInt64.valueOf(100), UInt64.valueOf(99), UInt64.ZERO);
 
     // add block 1
     final Bytes32 block1Root = Bytes32.fromHexString("0xdeadbeef");
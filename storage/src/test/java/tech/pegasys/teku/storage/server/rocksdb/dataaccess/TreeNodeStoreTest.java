@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.backing.tree.BranchNode;
+import tech.pegasys.teku.ssz.backing.tree.TreeNode;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.rocksdb.core.MockRocksDbInstance;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor.RocksDbTransaction;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V7SchemaFinalized;
+
+public class TreeNodeStoreTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final V7SchemaFinalized schema = V7SchemaFinalized.INSTANCE;
+  private final MockRocksDbInstance db =
+      MockRocksDbInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+  private final TreeNodeStore store =
+      new TreeNodeStore(db, schema.getColumnFinalizedStateTreeNodes());
+
+  private final BeaconState state = dataStructureUtil.randomBeaconState(16);
+  private final BeaconState nextState =
+      state.updated(mutableState -> mutableState.setSlot(state.getSlot().plus(1)));
+
+  @Test
+  public void loadTreeLazily_shouldRestoreStoredTree() {
+    addReference(state);
+
+    final TreeNode tree = store.loadTreeLazily(state.hashTreeRoot()).orElseThrow();
+    final BeaconState loadedState = BeaconState.getSSZType().createFromBackingNode(tree);
+
+    assertThat(loadedState.hashTreeRoot()).isEqualTo(state.hashTreeRoot());
+    assertThat(loadedState.getValidators().get(3)).isEqualTo(state.getValidators().get(3));
+    assertThat(loadedState.sszSerialize()).isEqualTo(state.sszSerialize());
+    assertThat(loadedState.updated(mutableState -> mutableState.setSlot(nextState.getSlot())))
+        .isEqualTo(nextState);
+  }
+
+  @Test
+  public void loadTreeLazily_shouldNotLoadNodesUntilAccessed() {
+    addReference(state);
+    final TreeNode tree = store.loadTreeLazily(state.hashTreeRoot()).orElseThrow();
+    final BeaconState loadedState = BeaconState.getSSZType().createFromBackingNode(tree);
+    final UInt64 slot = loadedState.getSlot();
+
+    deleteStoredNodes();
+
+    assertThat(slot).isEqualTo(state.getSlot());
+    assertThat(loadedState.hashTreeRoot()).isEqualTo(state.hashTreeRoot());
+    assertThatThrownBy(() -> loadedState.getValidators().get(0))
+        .isInstanceOf(DatabaseStorageException.class);
+  }
+
+  @Test
+  public void loadTreeLazily_shouldReturnEmptyWhenRootIsUnknown() {
+    assertThat(store.loadTreeLazily(dataStructureUtil.randomBytes32())).isEmpty();
+  }
+
+  @Test
+  public void addReference_shouldOnlyStoreChangedNodes() {
+    addReference(state);
+    final int initialNodeCount = getStoredNodes().size();
+
+    addReference(nextState);
+
+    // Only the branches on the path from the root to the slot field change
+    final int addedNodeCount = getStoredNodes().size() - initialNodeCount;
+    assertThat(addedNodeCount).isBetween(1, 5);
+    assertThat(getReferenceCount(state.hashTreeRoot())).isEqualTo(1);
+    assertThat(getReferenceCount(nextState.hashTreeRoot())).isEqualTo(1);
+    // The unchanged half of the state fields is referenced by both state roots
+    assertThat(getReferenceCount(getRightChildRoot(state))).isEqualTo(2);
+  }
+
+  @Test
+  public void addReference_shouldCountReferencesToSameTree() {
+    addReference(state);
+    addReference(state);
+
+    assertThat(getReferenceCount(state.hashTreeRoot())).isEqualTo(2);
+    assertThat(getReferenceCount(getRightChildRoot(state))).isEqualTo(1);
+  }
+
+  @Test
+  public void updater_shouldDeduplicateNodesWithinSingleTransaction() {
+    try (final RocksDbTransaction transaction = db.startTransaction()) {
+      final TreeNodeStore.Updater updater = store.updater(transaction);
+      updater.addReference(state.getBackingNode());
+      updater.addReference(nextState.getBackingNode());
+      updater.flush();
+      transaction.commit();
+    }
+
+    assertThat(getReferenceCount(getRightChildRoot(state))).isEqualTo(2);
+    assertThat(store.loadTreeLazily(state.hashTreeRoot())).isPresent();
+    assertThat(store.loadTreeLazily(nextState.hashTreeRoot())).isPresent();
+  }
+
+  private void addReference(final BeaconState state) {
+    try (final RocksDbTransaction transaction = db.startTransaction()) {
+      final TreeNodeStore.Updater updater = store.updater(transaction);
+      updater.addReference(state.getBackingNode());
+      updater.flush();
+      transaction.commit();
+    }
+  }
+
+  private void deleteStoredNodes() {
+    try (final RocksDbTransaction transaction = db.startTransaction()) {
+      getStoredNodes()
+          .keySet()
+          .forEach(root -> transaction.delete(schema.getColumnFinalizedStateTreeNodes(), root));
+      transaction.commit();
+    }
+  }
+
+  private Bytes32 getRightChildRoot(final BeaconState state) {
+    return ((BranchNode) state.getBackingNode()).right().hashTreeRoot();
+  }
+
+  private long getReferenceCount(final Bytes32 root) {
+    return db.get(schema.getColumnFinalizedStateTreeNodes(), root)
+        .map(TreeNodeRecord::getReferenceCount)
+        .orElse(0L);
+  }
+
+  private Map<Bytes32, TreeNodeRecord> getStoredNodes() {
+    return db.getAll(schema.getColumnFinalizedStateTreeNodes());
+  }
+}
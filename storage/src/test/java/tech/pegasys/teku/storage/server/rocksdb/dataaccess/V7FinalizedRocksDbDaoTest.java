@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.datastructures.state.BeaconState;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.rocksdb.core.MockRocksDbInstance;
+import tech.pegasys.teku.storage.server.rocksdb.core.RocksDbAccessor.RocksDbTransaction;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.RocksDbFinalizedDao.FinalizedUpdater;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V7SchemaFinalized;
+
+public class V7FinalizedRocksDbDaoTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final V7SchemaFinalized schema = V7SchemaFinalized.INSTANCE;
+  private final MockRocksDbInstance db =
+      MockRocksDbInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  private final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+
+  @Test
+  public void getLatestAvailableFinalizedState_shouldLoadStoredStates() {
+    final V7FinalizedRocksDbDao dao = new V7FinalizedRocksDbDao(db, schema, 8);
+    final BeaconState skippedState = stateAtSlot(12);
+    final BeaconState nextState = stateAtSlot(16);
+    try (final FinalizedUpdater updater = dao.finalizedUpdater()) {
+      updater.addFinalizedState(dataStructureUtil.randomBytes32(), state);
+      updater.addFinalizedState(dataStructureUtil.randomBytes32(), skippedState);
+      updater.addFinalizedState(dataStructureUtil.randomBytes32(), nextState);
+      updater.commit();
+    }
+
+    assertThat(db.getAll(schema.getColumnFinalizedStateRootsBySlot()))
+        .containsOnlyKeys(state.getSlot(), nextState.getSlot());
+    assertThat(dao.getLatestAvailableFinalizedState(UInt64.valueOf(7))).isEmpty();
+    assertThat(dao.getLatestAvailableFinalizedState(UInt64.valueOf(12))).contains(state);
+    assertThat(dao.getLatestAvailableFinalizedState(UInt64.valueOf(20))).contains(nextState);
+  }
+
+  @Test
+  public void getLatestAvailableFinalizedState_shouldContinueStorageFrequencyAfterRestart() {
+    try (final FinalizedUpdater updater =
+        new V7FinalizedRocksDbDao(db, schema, 8).finalizedUpdater()) {
+      updater.addFinalizedState(dataStructureUtil.randomBytes32(), state);
+      updater.commit();
+    }
+
+    final V7FinalizedRocksDbDao dao = new V7FinalizedRocksDbDao(db, schema, 8);
+    try (final FinalizedUpdater updater = dao.finalizedUpdater()) {
+      updater.addFinalizedState(dataStructureUtil.randomBytes32(), stateAtSlot(12));
+      updater.commit();
+    }
+
+    assertThat(dao.getLatestAvailableFinalizedState(UInt64.valueOf(12))).contains(state);
+  }
+
+  @Test
+  public void migrateSerializedStates_shouldMoveStatesToTreeStorage() {
+    final BeaconState nextState = stateAtSlot(16);
+    try (final RocksDbTransaction transaction = db.startTransaction()) {
+      transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+      transaction.put(schema.getColumnFinalizedStatesBySlot(), nextState.getSlot(), nextState);
+      transaction.commit();
+    }
+
+    final V7FinalizedRocksDbDao dao = new V7FinalizedRocksDbDao(db, schema, 8);
+    dao.migrateSerializedStates();
+
+    assertThat(db.getAll(schema.getColumnFinalizedStatesBySlot())).isEmpty();
+    assertThat(dao.getLatestAvailableFinalizedState(UInt64.valueOf(12))).contains(state);
+    assertThat(dao.getLatestAvailableFinalizedState(UInt64.valueOf(16))).contains(nextState);
+  }
+
+  private BeaconState stateAtSlot(final long slot) {
+    return state.updated(mutableState -> mutableState.setSlot(UInt64.valueOf(slot)));
+  }
+}
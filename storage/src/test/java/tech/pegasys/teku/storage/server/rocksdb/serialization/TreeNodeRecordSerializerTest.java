@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import tech.pegasys.teku.datastructures.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.rocksdb.dataaccess.TreeNodeRecord;
+
+public class TreeNodeRecordSerializerTest {
+  private final TreeNodeRecordSerializer serializer = new TreeNodeRecordSerializer();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+
+  @ParameterizedTest
+  @CsvSource({"false,false,1", "true,false,2", "false,true,3", "true,true,9223372036854775807"})
+  public void roundTrip(final boolean leftLeaf, final boolean rightLeaf, final long count) {
+    final TreeNodeRecord original =
+        new TreeNodeRecord(
+            dataStructureUtil.randomBytes32(),
+            leftLeaf,
+            dataStructureUtil.randomBytes32(),
+            rightLeaf,
+            count);
+    final byte[] bytes = serializer.serialize(original);
+    final TreeNodeRecord restored = serializer.deserialize(bytes);
+
+    assertThat(restored).isEqualTo(original);
+  }
+}
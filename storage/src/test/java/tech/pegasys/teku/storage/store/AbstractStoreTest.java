@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.storage.store;
 
-import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
@@ -31,6 +30,7 @@ import tech.pegasys.teku.core.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.datastructures.blocks.CheckpointEpochs;
 import tech.pegasys.teku.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.datastructures.state.Checkpoint;
 import tech.pegasys.teku.datastructures.state.CheckpointState;
@@ -150,7 +150,7 @@ public abstract class AbstractStoreTest {
                     genesis.getStateRoot(),
                     Optional.of(new CheckpointEpochs(UInt64.ZERO, UInt64.ZERO)))))
         .storeConfig(pruningOptions)
-        .votes(emptyMap())
+        .votes(new VoteTable())
         .build();
   }
 
@@ -45,4 +45,18 @@ public class InMemoryRocksDbDatabaseFactory {
         storageMode,
         stateStorageFrequency);
   }
+
+  public static Database createV7(
+      MockRocksDbInstance hotDb,
+      MockRocksDbInstance coldDb,
+      final StateStorageMode storageMode,
+      final long stateStorageFrequency) {
+    return RocksDbDatabase.createV7(
+        new StubMetricsSystem(),
+        hotDb,
+        coldDb,
+        V4SchemaHot.INSTANCE,
+        storageMode,
+        stateStorageFrequency);
+  }
 }
@@ -50,6 +50,9 @@ public class FileBackedStorageSystemBuilder {
   public StorageSystem build() {
     final Database database;
     switch (version) {
+      case V7:
+        database = createV7Database();
+        break;
       case V6:
         database = createV6Database();
         break;
@@ -127,24 +130,39 @@ public class FileBackedStorageSystemBuilder {
     return (mode) -> copy().storageMode(mode).build();
   }
 
-  private Database createV6Database() {
-    RocksDbConfiguration hotConfigDefault =
-        v6ArchiveDir.isPresent()
-            ? RocksDbConfiguration.v5HotDefaults()
-            : RocksDbConfiguration.v6SingleDefaults();
-    Optional<RocksDbConfiguration> coldConfig =
-        v6ArchiveDir.map(dir -> RocksDbConfiguration.v5ArchiveDefaults().withDatabaseDir(dir));
+  private Database createV7Database() {
+    return RocksDbDatabase.createV7(
+        new StubMetricsSystem(),
+        getV6HotConfiguration(),
+        getV6ColdConfiguration(),
+        V4SchemaHot.INSTANCE,
+        storageMode,
+        stateStorageFrequency);
+  }
 
+  private Database createV6Database() {
     return RocksDbDatabase.createV6(
         new StubMetricsSystem(),
-        hotConfigDefault.withDatabaseDir(hotDir),
-        coldConfig,
+        getV6HotConfiguration(),
+        getV6ColdConfiguration(),
         V4SchemaHot.INSTANCE,
         V6SchemaFinalized.INSTANCE,
         storageMode,
         stateStorageFrequency);
   }
 
+  private RocksDbConfiguration getV6HotConfiguration() {
+    RocksDbConfiguration hotConfigDefault =
+        v6ArchiveDir.isPresent()
+            ? RocksDbConfiguration.v5HotDefaults()
+            : RocksDbConfiguration.v6SingleDefaults();
+    return hotConfigDefault.withDatabaseDir(hotDir);
+  }
+
+  private Optional<RocksDbConfiguration> getV6ColdConfiguration() {
+    return v6ArchiveDir.map(dir -> RocksDbConfiguration.v5ArchiveDefaults().withDatabaseDir(dir));
+  }
+
   private Database createV5Database() {
     return RocksDbDatabase.createV4(
         new StubMetricsSystem(),
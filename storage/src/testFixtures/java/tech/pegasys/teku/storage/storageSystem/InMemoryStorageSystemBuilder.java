@@ -25,6 +25,7 @@ import tech.pegasys.teku.storage.server.rocksdb.core.MockRocksDbInstance;
 import tech.pegasys.teku.storage.server.rocksdb.schema.V4SchemaFinalized;
 import tech.pegasys.teku.storage.server.rocksdb.schema.V4SchemaHot;
 import tech.pegasys.teku.storage.server.rocksdb.schema.V6SchemaFinalized;
+import tech.pegasys.teku.storage.server.rocksdb.schema.V7SchemaFinalized;
 import tech.pegasys.teku.storage.store.StoreConfig;
 import tech.pegasys.teku.util.config.StateStorageMode;
 
@@ -57,6 +58,9 @@ public class InMemoryStorageSystemBuilder {
   public StorageSystem build() {
     final Database database;
     switch (version) {
+      case V7:
+        database = createV7Database();
+        break;
       case V6:
         database = createV6Database();
         break;
@@ -140,6 +144,21 @@ public class InMemoryStorageSystemBuilder {
         hotDb, coldDb, storageMode, stateStorageFrequency);
   }
 
+  private Database createV7Database() {
+    if (hotDb == null) {
+      hotDb =
+          MockRocksDbInstance.createEmpty(
+              concat(
+                  V4SchemaHot.INSTANCE.getAllColumns(), V7SchemaFinalized.INSTANCE.getAllColumns()),
+              concat(
+                  V4SchemaHot.INSTANCE.getAllVariables(),
+                  V7SchemaFinalized.INSTANCE.getAllVariables()));
+      coldDb = hotDb;
+    }
+    return InMemoryRocksDbDatabaseFactory.createV7(
+        hotDb, coldDb, storageMode, stateStorageFrequency);
+  }
+
   // V5 only differs by the RocksDB configuration which doesn't apply to the in-memory version
   private Database createV5Database() {
     return createV4Database();
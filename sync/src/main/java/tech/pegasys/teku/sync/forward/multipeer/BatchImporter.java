@@ -55,52 +55,32 @@ public class BatchImporter {
 
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
     return asyncRunner.runAsync(
-        () -> {
-          SafeFuture<BlockImportResult> importResult =
-              importBlock(blocks.get(0), source.orElseThrow());
-          for (int i = 1; i < blocks.size(); i++) {
-            final SignedBeaconBlock block = blocks.get(i);
-            importResult =
-                importResult.thenCompose(
-                    previousResult -> {
-                      if (previousResult.isSuccessful()) {
-                        return importBlock(block, source.orElseThrow());
-                      } else {
-                        return SafeFuture.completedFuture(previousResult);
-                      }
-                    });
-          }
-          return importResult.thenApply(
-              lastBlockImportResult -> {
-                if (lastBlockImportResult.isSuccessful()) {
-                  return BatchImportResult.IMPORTED_ALL_BLOCKS;
-                }
-                LOG.debug(
-                    "Failed to import batch {}: {}",
-                    batch,
-                    lastBlockImportResult.getFailureReason(),
-                    lastBlockImportResult.getFailureCause().orElse(null));
-                return BatchImportResult.IMPORT_FAILED;
-              });
-        });
+        () ->
+            blockImporter
+                .importBlocks(blocks)
+                .thenApply(importResult -> handleImportResult(batch, source, importResult)));
   }
 
-  private SafeFuture<BlockImportResult> importBlock(
-      final SignedBeaconBlock block, final SyncSource source) {
-    return blockImporter
-        .importBlock(block)
-        .thenApply(
-            result -> {
-              if (result.getFailureReason()
-                  == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
-                LOG.warn(
-                    "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
-                    source,
-                    result);
-                source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
-              }
-              return result;
-            });
+  private BatchImportResult handleImportResult(
+      final Batch batch, final Optional<SyncSource> source, final BlockImportResult result) {
+    if (result.isSuccessful()) {
+      return BatchImportResult.IMPORTED_ALL_BLOCKS;
+    }
+    if (result.getFailureReason()
+        == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
+      final SyncSource syncSource = source.orElseThrow();
+      LOG.warn(
+          "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
+          syncSource,
+          result);
+      syncSource.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
+    }
+    LOG.debug(
+        "Failed to import batch {}: {}",
+        batch,
+        result.getFailureReason(),
+        result.getFailureCause().orElse(null));
+    return BatchImportResult.IMPORT_FAILED;
   }
 
   public enum BatchImportResult {
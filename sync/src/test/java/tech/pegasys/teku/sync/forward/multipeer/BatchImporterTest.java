@@ -54,18 +54,14 @@ class BatchImporterTest {
   }
 
   @Test
-  void shouldImportBlocksInOrder() {
+  void shouldImportBlocksAsSingleSegment() {
     final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
     final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
     final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult3 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
     final List<SignedBeaconBlock> blocks = new ArrayList<>(List.of(block1, block2, block3));
     when(batch.getBlocks()).thenReturn(blocks);
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
-    when(blockImporter.importBlock(block3)).thenReturn(importResult3);
+    when(blockImporter.importBlocks(List.of(block1, block2, block3))).thenReturn(importResult);
 
     final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
 
@@ -79,11 +75,12 @@ class BatchImporterTest {
 
     asyncRunner.executeQueuedActions();
 
-    blockImportedSuccessfully(block1, importResult1);
-    assertThat(result).isNotDone();
-    blockImportedSuccessfully(block2, importResult2);
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2, block3)));
+    verifyNoMoreInteractions(blockImporter);
     assertThat(result).isNotDone();
-    blockImportedSuccessfully(block3, importResult3);
+
+    importResult.complete(
+        BlockImportResult.successful(new BlockProcessingRecord(null, block3, null)));
     assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
 
     // And check we didn't touch the batch from a different thread
@@ -91,17 +88,12 @@ class BatchImporterTest {
   }
 
   @Test
-  void shouldStopImportingAfterFailure() {
+  void shouldReportFailureWhenSegmentFailsToImport() {
     final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
     final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
-    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult3 = new SafeFuture<>();
-    when(batch.getBlocks()).thenReturn(List.of(block1, block2, block3));
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
-    when(blockImporter.importBlock(block3)).thenReturn(importResult3);
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(blockImporter.importBlocks(List.of(block1, block2))).thenReturn(importResult);
 
     final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
 
@@ -109,17 +101,12 @@ class BatchImporterTest {
     verifyNoInteractions(blockImporter);
 
     asyncRunner.executeQueuedActions();
-
-    blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
 
-    ignoreFuture(verify(blockImporter).importBlock(block2));
-    verifyNoMoreInteractions(blockImporter);
-
-    importResult2.complete(
+    importResult.complete(
         BlockImportResult.failedStateTransition(new Exception("Naughty block!")));
     assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
-    verifyNoMoreInteractions(blockImporter);
+    verifyNoInteractions(syncSource);
   }
 
   @Test
@@ -128,11 +115,9 @@ class BatchImporterTest {
 
     final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
     final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
     when(batch.getBlocks()).thenReturn(List.of(block1, block2));
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
+    when(blockImporter.importBlocks(List.of(block1, block2))).thenReturn(importResult);
 
     final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
 
@@ -140,28 +125,12 @@ class BatchImporterTest {
     verifyNoInteractions(blockImporter);
 
     asyncRunner.executeQueuedActions();
-
-    blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
 
-    ignoreFuture(verify(blockImporter).importBlock(block2));
-    verifyNoMoreInteractions(blockImporter);
-
     // Import bad block
-    importResult2.complete(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
+    importResult.complete(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
     assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
     verify(batch).getSource();
     verify(syncSource).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
-
-    verifyNoMoreInteractions(blockImporter);
-  }
-
-  private void blockImportedSuccessfully(
-      final SignedBeaconBlock block, final SafeFuture<BlockImportResult> importResult1) {
-    ignoreFuture(verify(blockImporter).importBlock(block));
-    verifyNoMoreInteractions(blockImporter);
-
-    importResult1.complete(
-        BlockImportResult.successful(new BlockProcessingRecord(null, block, null)));
   }
 }
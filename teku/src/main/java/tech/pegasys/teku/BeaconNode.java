@@ -73,7 +73,10 @@ public class BeaconNode implements Node {
     this.eventChannels = new EventChannels(subscriberExceptionHandler, metricsSystem);
     final EventBus eventBus = new AsyncEventBus(threadPool, subscriberExceptionHandler);
 
-    asyncRunnerFactory = new AsyncRunnerFactory(new MetricTrackingExecutorFactory(metricsSystem));
+    asyncRunnerFactory =
+        new AsyncRunnerFactory(
+            new MetricTrackingExecutorFactory(metricsSystem),
+            globalConfig.isVirtualThreadsEnabled());
     final ServiceConfig serviceConfig =
         new ServiceConfig(
             asyncRunnerFactory,
@@ -137,6 +137,23 @@ public class BeaconNodeCommand implements Callable<Integer> {
       scope = ScopeType.INHERIT)
   private File configFile;
 
+  @Option(
+      names = {"--Xvirtual-threads-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Run async tasks on virtual threads when supported by the JVM",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean virtualThreadsEnabled = false;
+
+  @Option(
+      names = {"--Xblock-signature-verification-threads"},
+      paramLabel = "<INTEGER>",
+      description = "Number of threads used to verify the signatures in imported blocks",
+      arity = "1",
+      hidden = true)
+  private int blockSignatureVerificationThreads = Runtime.getRuntime().availableProcessors();
+
   @Mixin(name = "Network")
   private NetworkOptions networkOptions;
 
@@ -379,7 +396,10 @@ public class BeaconNodeCommand implements Callable<Integer> {
         .setRestApiEnabled(beaconRestApiOptions.isRestApiEnabled())
         .setRestApiInterface(beaconRestApiOptions.getRestApiInterface())
         .setRestApiHostAllowlist(beaconRestApiOptions.getRestApiHostAllowlist())
-        .setRestApiCorsAllowedOrigins(beaconRestApiOptions.getRestApiCorsAllowedOrigins());
+        .setRestApiCorsAllowedOrigins(beaconRestApiOptions.getRestApiCorsAllowedOrigins())
+        .setRestApiMaxPendingEvents(beaconRestApiOptions.getRestApiMaxPendingEvents())
+        .setVirtualThreadsEnabled(virtualThreadsEnabled)
+        .setBlockSignatureVerificationThreads(blockSignatureVerificationThreads);
 
     String logFile =
         loggingOptions
@@ -21,6 +21,7 @@ import picocli.CommandLine.Option;
 public class BeaconRestApiOptions {
 
   public static final int DEFAULT_REST_API_PORT = 5051;
+  public static final int DEFAULT_REST_API_MAX_PENDING_EVENTS = 10;
 
   @Option(
       names = {"--rest-api-port"},
@@ -68,6 +69,16 @@ public class BeaconRestApiOptions {
       arity = "0..*")
   private final List<String> restApiCorsAllowedOrigins = new ArrayList<>();
 
+  @Option(
+      names = {"--Xrest-api-max-pending-events"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of events waiting to be sent to an event stream client before it is"
+              + " disconnected",
+      arity = "1",
+      hidden = true)
+  private int restApiMaxPendingEvents = DEFAULT_REST_API_MAX_PENDING_EVENTS;
+
   public int getRestApiPort() {
     return restApiPort;
   }
@@ -91,4 +102,8 @@ public class BeaconRestApiOptions {
   public List<String> getRestApiCorsAllowedOrigins() {
     return restApiCorsAllowedOrigins;
   }
+
+  public int getRestApiMaxPendingEvents() {
+    return restApiMaxPendingEvents;
+  }
 }
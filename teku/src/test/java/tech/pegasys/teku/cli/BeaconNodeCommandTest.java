@@ -427,7 +427,10 @@ public class BeaconNodeCommandTest extends AbstractBeaconNodeCommandTest {
         .setRestApiEnabled(false)
         .setRestApiInterface("127.0.0.1")
         .setRestApiHostAllowlist(List.of("127.0.0.1", "localhost"))
-        .setRestApiCorsAllowedOrigins(new ArrayList<>());
+        .setRestApiCorsAllowedOrigins(new ArrayList<>())
+        .setRestApiMaxPendingEvents(10)
+        .setVirtualThreadsEnabled(false)
+        .setBlockSignatureVerificationThreads(Runtime.getRuntime().availableProcessors());
   }
 
   private void assertTekuConfiguration(final TekuConfiguration expected) {
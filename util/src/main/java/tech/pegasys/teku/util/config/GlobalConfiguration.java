@@ -83,6 +83,9 @@ public class GlobalConfiguration implements MetricsConfig {
   private final String restApiInterface;
   private final List<String> restApiHostAllowlist;
   private final List<String> restApiCorsAllowedOrigins;
+  private final int restApiMaxPendingEvents;
+  private final boolean virtualThreadsEnabled;
+  private final int blockSignatureVerificationThreads;
 
   public static GlobalConfigurationBuilder builder() {
     return new GlobalConfigurationBuilder();
@@ -131,7 +134,10 @@ public class GlobalConfiguration implements MetricsConfig {
       final boolean restApiEnabled,
       final String restApiInterface,
       final List<String> restApiHostAllowlist,
-      final List<String> restApiCorsAllowedOrigins) {
+      final List<String> restApiCorsAllowedOrigins,
+      final int restApiMaxPendingEvents,
+      final boolean virtualThreadsEnabled,
+      final int blockSignatureVerificationThreads) {
     this.networkDefinition = networkDefinition;
     this.constants = constants;
     this.startupTargetPeerCount = startupTargetPeerCount;
@@ -175,6 +181,9 @@ public class GlobalConfiguration implements MetricsConfig {
     this.restApiInterface = restApiInterface;
     this.restApiHostAllowlist = restApiHostAllowlist;
     this.restApiCorsAllowedOrigins = restApiCorsAllowedOrigins;
+    this.restApiMaxPendingEvents = restApiMaxPendingEvents;
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    this.blockSignatureVerificationThreads = blockSignatureVerificationThreads;
   }
 
   public NetworkDefinition getNetworkDefinition() {
@@ -362,6 +371,18 @@ public class GlobalConfiguration implements MetricsConfig {
     return restApiCorsAllowedOrigins;
   }
 
+  public int getRestApiMaxPendingEvents() {
+    return restApiMaxPendingEvents;
+  }
+
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  public int getBlockSignatureVerificationThreads() {
+    return blockSignatureVerificationThreads;
+  }
+
   public void validate() throws IllegalArgumentException {
     final int interopNumberOfValidators = getInteropNumberOfValidators();
     if (interopNumberOfValidators < Constants.SLOTS_PER_EPOCH) {
@@ -370,5 +391,11 @@ public class GlobalConfiguration implements MetricsConfig {
               "Invalid configuration. Interop number of validators [%d] must be greater than or equal to [%d]",
               interopNumberOfValidators, Constants.SLOTS_PER_EPOCH));
     }
+    if (blockSignatureVerificationThreads < 1) {
+      throw new InvalidConfigurationException(
+          String.format(
+              "Invalid configuration. Block signature verification threads [%d] must be at least 1",
+              blockSignatureVerificationThreads));
+    }
   }
 }
@@ -68,6 +68,9 @@ public class GlobalConfigurationBuilder {
   private String restApiInterface;
   private List<String> restApiHostAllowlist;
   private List<String> restApiCorsAllowedOrigins;
+  private int restApiMaxPendingEvents;
+  private boolean virtualThreadsEnabled;
+  private int blockSignatureVerificationThreads = Runtime.getRuntime().availableProcessors();
   private NetworkDefinition network;
 
   public GlobalConfigurationBuilder setConstants(final String constants) {
@@ -296,6 +299,22 @@ public class GlobalConfigurationBuilder {
     return this;
   }
 
+  public GlobalConfigurationBuilder setRestApiMaxPendingEvents(final int restApiMaxPendingEvents) {
+    this.restApiMaxPendingEvents = restApiMaxPendingEvents;
+    return this;
+  }
+
+  public GlobalConfigurationBuilder setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
+  public GlobalConfigurationBuilder setBlockSignatureVerificationThreads(
+      final int blockSignatureVerificationThreads) {
+    this.blockSignatureVerificationThreads = blockSignatureVerificationThreads;
+    return this;
+  }
+
   public GlobalConfigurationBuilder setNetwork(final NetworkDefinition network) {
     this.network = network;
     return this;
@@ -362,7 +381,10 @@ public class GlobalConfigurationBuilder {
         restApiEnabled,
         restApiInterface,
         restApiHostAllowlist,
-        restApiCorsAllowedOrigins);
+        restApiCorsAllowedOrigins,
+        restApiMaxPendingEvents,
+        virtualThreadsEnabled,
+        blockSignatureVerificationThreads);
   }
 
   private <T> T getOrDefault(final T explicitValue, final Supplier<T> predefinedNetworkValue) {
@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.util.time.channels;
 
+import tech.pegasys.teku.infrastructure.events.Coalescable;
 import tech.pegasys.teku.infrastructure.events.VoidReturningChannelInterface;
 
 public interface TimeTickChannel extends VoidReturningChannelInterface {
+  @Coalescable
   void onTick();
 }